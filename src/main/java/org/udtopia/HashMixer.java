@@ -0,0 +1,68 @@
+package org.udtopia;
+
+/**
+ * Hash functions for the open-addressing tables of {@link UDTIntMap}, {@link UDTLongMap}, {@link UDTIntSet}, and
+ * {@link UDTLongSet}.
+ * <p>
+ * {@link Long#hashCode(long)} and {@link Integer#hashCode(int)} leave sequential keys in sequential slots, which
+ * cluster into long probe sequences.
+ * Multiplying by the golden ratio (Fibonacci hashing), then folding the high bits into the low bits, spreads them
+ * evenly across a power-of-two table.
+ */
+final class HashMixer
+{
+	/** The largest power-of-two table size that can be allocated. */
+	static final int MAX_TABLE_SIZE = 1 << 30;
+
+	/** The most keys a table can hold, leaving a free slot at which every probe ends. */
+	static final int MAX_KEYS = MAX_TABLE_SIZE - 1;
+
+	// 2^64 and 2^32 divided by the golden ratio, rounded to odd numbers
+	private static final long _LONG_PHI = 0x9E3779B97F4A7C15L;
+	private static final int _INT_PHI = 0x9E3779B9;
+
+	private HashMixer() { }
+
+	/**
+	 * @param key a raw key.
+	 * @return a well-mixed hash of the key, to mask with a power-of-two table size minus one.
+	 */
+	static int mix(final long key)
+	{
+		final long hash = key * _LONG_PHI;
+		final long folded = hash ^ (hash >>> 32);
+		return (int) (folded ^ (folded >>> 16));
+	}
+
+	/**
+	 * @param key a raw key.
+	 * @return a well-mixed hash of the key, to mask with a power-of-two table size minus one.
+	 */
+	static int mix(final int key)
+	{
+		final int hash = key * _INT_PHI;
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * @param expectedSize the number of keys to make room for.
+	 * @return the power-of-two table size that holds {@code expectedSize} keys while at most half full.
+	 */
+	static int tableSize(final int expectedSize)
+	{
+		final long wanted = Math.max(2L, 2L * expectedSize);
+		return (int) Math.min(MAX_TABLE_SIZE, Long.highestOneBit(wanted - 1L) << 1);
+	}
+
+	/**
+	 * Check that a table has room for one more key, before it is added.
+	 * Tables double in size when more than half full, until they reach {@link #MAX_TABLE_SIZE}, then fill up.
+	 *
+	 * @param size the number of keys in the table.
+	 * @throws IllegalStateException if the table is as large as it can be, and has no free slot to spare.
+	 */
+	static void checkRoom(final int size)
+	{
+		if (size >= MAX_KEYS) { throw new IllegalStateException("Cannot hold more than " + MAX_KEYS + " keys"); }
+	}
+}
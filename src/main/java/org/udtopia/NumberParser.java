@@ -0,0 +1,307 @@
+package org.udtopia;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parse decimal numbers from a range of characters or ASCII bytes, without copying them into a {@link String}.
+ * <p>
+ * Short plain numbers, such as the fields of text protocol messages, are parsed in place: an optional sign, up to
+ * {@value #_MAX_LONG_DIGITS} digits, and for {@code double} values, an optional decimal point.
+ * Anything else, including invalid input, is copied into a string for {@link Integer#parseInt(String)},
+ * {@link Long#parseLong(String)}, or {@link Double#parseDouble(String)}, so the results, and the exceptions, are always
+ * the same as theirs.
+ * <p>
+ * Ranges are from {@code start}, inclusive, to {@code end}, exclusive. Parsing a {@link ByteBuffer} reads it at
+ * absolute indexes, and does not change its position.
+ */
+public final @Value class NumberParser
+{
+	// More digits than this may overflow a long, so they are left to Long.parseLong
+	private static final int _MAX_LONG_DIGITS = 18;
+
+	// More digits than this may overflow an int
+	private static final int _MAX_INT_DIGITS = 9;
+
+	// Integers up to 10^15 are exact in a double, so dividing one by an exact power of ten rounds correctly once
+	private static final int _MAX_DOUBLE_DIGITS = 15;
+
+	// Powers of ten that are exact in a double, up to the number of fraction digits the fast path allows
+	private static final double[] _POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+	// Result of the fast path when the input must be left to the String parsers; never a result of 18 digits or fewer
+	private static final long _NOT_PARSED = Long.MIN_VALUE;
+
+	private NumberParser() { }
+
+	/**
+	 * @param chars characters holding a decimal {@code int}.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a decimal {@code int}.
+	 * @throws IndexOutOfBoundsException if the range is outside the characters.
+	 */
+	public static int parseInt(final CharSequence chars, final int start, final int end)
+	{
+		_checkRange(start, end, chars.length());
+		final long value = _parseLong(chars, start, end, _MAX_INT_DIGITS);
+		return value == _NOT_PARSED ? Integer.parseInt(chars.subSequence(start, end).toString()) : (int) value;
+	}
+
+	/**
+	 * @param chars characters holding a decimal {@code int}.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a decimal {@code int}.
+	 * @throws IndexOutOfBoundsException if the range is outside the characters.
+	 */
+	public static int parseInt(final char[] chars, final int start, final int end)
+	{
+		_checkRange(start, end, chars.length);
+		final long value = _parseLong(chars, start, end, _MAX_INT_DIGITS);
+		return value == _NOT_PARSED ? Integer.parseInt(new String(chars, start, end - start)) : (int) value;
+	}
+
+	/**
+	 * @param bytes ASCII bytes holding a decimal {@code int}.
+	 * @param start the index of the first byte.
+	 * @param end the index after the last byte.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a decimal {@code int}.
+	 * @throws IndexOutOfBoundsException if the range is outside the limit of the buffer.
+	 */
+	public static int parseInt(final ByteBuffer bytes, final int start, final int end)
+	{
+		_checkRange(start, end, bytes.limit());
+		final long value = _parseLong(bytes, start, end, _MAX_INT_DIGITS);
+		return value == _NOT_PARSED ? Integer.parseInt(_string(bytes, start, end)) : (int) value;
+	}
+
+	/**
+	 * @param chars characters holding a decimal {@code long}.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a decimal {@code long}.
+	 * @throws IndexOutOfBoundsException if the range is outside the characters.
+	 */
+	public static long parseLong(final CharSequence chars, final int start, final int end)
+	{
+		_checkRange(start, end, chars.length());
+		final long value = _parseLong(chars, start, end, _MAX_LONG_DIGITS);
+		return value == _NOT_PARSED ? Long.parseLong(chars.subSequence(start, end).toString()) : value;
+	}
+
+	/**
+	 * @param chars characters holding a decimal {@code long}.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a decimal {@code long}.
+	 * @throws IndexOutOfBoundsException if the range is outside the characters.
+	 */
+	public static long parseLong(final char[] chars, final int start, final int end)
+	{
+		_checkRange(start, end, chars.length);
+		final long value = _parseLong(chars, start, end, _MAX_LONG_DIGITS);
+		return value == _NOT_PARSED ? Long.parseLong(new String(chars, start, end - start)) : value;
+	}
+
+	/**
+	 * @param bytes ASCII bytes holding a decimal {@code long}.
+	 * @param start the index of the first byte.
+	 * @param end the index after the last byte.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a decimal {@code long}.
+	 * @throws IndexOutOfBoundsException if the range is outside the limit of the buffer.
+	 */
+	public static long parseLong(final ByteBuffer bytes, final int start, final int end)
+	{
+		_checkRange(start, end, bytes.limit());
+		final long value = _parseLong(bytes, start, end, _MAX_LONG_DIGITS);
+		return value == _NOT_PARSED ? Long.parseLong(_string(bytes, start, end)) : value;
+	}
+
+	/**
+	 * @param chars characters holding a {@code double}.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a {@code double}.
+	 * @throws IndexOutOfBoundsException if the range is outside the characters.
+	 */
+	public static double parseDouble(final CharSequence chars, final int start, final int end)
+	{
+		_checkRange(start, end, chars.length());
+		final double value = _parseDouble(chars, start, end);
+		return Double.isNaN(value) ? Double.parseDouble(chars.subSequence(start, end).toString()) : value;
+	}
+
+	/**
+	 * @param chars characters holding a {@code double}.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a {@code double}.
+	 * @throws IndexOutOfBoundsException if the range is outside the characters.
+	 */
+	public static double parseDouble(final char[] chars, final int start, final int end)
+	{
+		_checkRange(start, end, chars.length);
+		final double value = _parseDouble(chars, start, end);
+		return Double.isNaN(value) ? Double.parseDouble(new String(chars, start, end - start)) : value;
+	}
+
+	/**
+	 * @param bytes ASCII bytes holding a {@code double}.
+	 * @param start the index of the first byte.
+	 * @param end the index after the last byte.
+	 * @return the parsed value.
+	 * @throws NumberFormatException if the range does not hold a {@code double}.
+	 * @throws IndexOutOfBoundsException if the range is outside the limit of the buffer.
+	 */
+	public static double parseDouble(final ByteBuffer bytes, final int start, final int end)
+	{
+		_checkRange(start, end, bytes.limit());
+		final double value = _parseDouble(bytes, start, end);
+		return Double.isNaN(value) ? Double.parseDouble(_string(bytes, start, end)) : value;
+	}
+
+	private static void _checkRange(final int start, final int end, final int length)
+	{
+		if (start < 0 || start > end || end > length)
+		{
+			throw new IndexOutOfBoundsException(
+				"Range [" + start + ", " + end + ") out of bounds for length " + length);
+		}
+	}
+
+	// The fast paths below differ only in how they read each character.
+	// They return _NOT_PARSED, or NaN, for anything but a sign and a few digits, and a decimal point for doubles.
+
+	private static long _parseLong(final CharSequence chars, final int start, final int end, final int maxDigits)
+	{
+		final boolean negative = start < end && chars.charAt(start) == '-';
+		final int first = start < end && (negative || chars.charAt(start) == '+') ? start + 1 : start;
+		if (first == end || end - first > maxDigits) { return _NOT_PARSED; }
+		long value = 0L;
+		for (int i = first; i < end; i++)
+		{
+			final int digit = chars.charAt(i) - '0';
+			if (digit < 0 || digit > 9) { return _NOT_PARSED; }
+			value = value * 10L + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	private static long _parseLong(final char[] chars, final int start, final int end, final int maxDigits)
+	{
+		final boolean negative = start < end && chars[start] == '-';
+		final int first = start < end && (negative || chars[start] == '+') ? start + 1 : start;
+		if (first == end || end - first > maxDigits) { return _NOT_PARSED; }
+		long value = 0L;
+		for (int i = first; i < end; i++)
+		{
+			final int digit = chars[i] - '0';
+			if (digit < 0 || digit > 9) { return _NOT_PARSED; }
+			value = value * 10L + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	private static long _parseLong(final ByteBuffer bytes, final int start, final int end, final int maxDigits)
+	{
+		final boolean negative = start < end && bytes.get(start) == '-';
+		final int first = start < end && (negative || bytes.get(start) == '+') ? start + 1 : start;
+		if (first == end || end - first > maxDigits) { return _NOT_PARSED; }
+		long value = 0L;
+		for (int i = first; i < end; i++)
+		{
+			final int digit = bytes.get(i) - '0';
+			if (digit < 0 || digit > 9) { return _NOT_PARSED; }
+			value = value * 10L + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	private static double _parseDouble(final CharSequence chars, final int start, final int end)
+	{
+		final boolean negative = start < end && chars.charAt(start) == '-';
+		final int first = start < end && (negative || chars.charAt(start) == '+') ? start + 1 : start;
+		long mantissa = 0L;
+		int digits = 0;
+		int point = -1;
+		for (int i = first; i < end; i++)
+		{
+			final char c = chars.charAt(i);
+			if (c == '.' && point < 0) { point = i; }
+			else if (c >= '0' && c <= '9' && digits < _MAX_DOUBLE_DIGITS)
+			{
+				mantissa = mantissa * 10L + (c - '0');
+				digits++;
+			}
+			else { return Double.NaN; }
+		}
+		return _toDouble(negative, mantissa, digits, point < 0 ? 0 : end - point - 1);
+	}
+
+	private static double _parseDouble(final char[] chars, final int start, final int end)
+	{
+		final boolean negative = start < end && chars[start] == '-';
+		final int first = start < end && (negative || chars[start] == '+') ? start + 1 : start;
+		long mantissa = 0L;
+		int digits = 0;
+		int point = -1;
+		for (int i = first; i < end; i++)
+		{
+			final char c = chars[i];
+			if (c == '.' && point < 0) { point = i; }
+			else if (c >= '0' && c <= '9' && digits < _MAX_DOUBLE_DIGITS)
+			{
+				mantissa = mantissa * 10L + (c - '0');
+				digits++;
+			}
+			else { return Double.NaN; }
+		}
+		return _toDouble(negative, mantissa, digits, point < 0 ? 0 : end - point - 1);
+	}
+
+	private static double _parseDouble(final ByteBuffer bytes, final int start, final int end)
+	{
+		final boolean negative = start < end && bytes.get(start) == '-';
+		final int first = start < end && (negative || bytes.get(start) == '+') ? start + 1 : start;
+		long mantissa = 0L;
+		int digits = 0;
+		int point = -1;
+		for (int i = first; i < end; i++)
+		{
+			final byte c = bytes.get(i);
+			if (c == '.' && point < 0) { point = i; }
+			else if (c >= '0' && c <= '9' && digits < _MAX_DOUBLE_DIGITS)
+			{
+				mantissa = mantissa * 10L + (c - '0');
+				digits++;
+			}
+			else { return Double.NaN; }
+		}
+		return _toDouble(negative, mantissa, digits, point < 0 ? 0 : end - point - 1);
+	}
+
+	// Both operands are exact, so the division is rounded once, to the nearest double, as Double.parseDouble rounds
+	private static double _toDouble(final boolean negative, final long mantissa, final int digits, final int scale)
+	{
+		if (digits == 0) { return Double.NaN; }
+		final double value = mantissa / _POWERS_OF_TEN[scale];
+		return negative ? -value : value;
+	}
+
+	private static String _string(final ByteBuffer bytes, final int start, final int end)
+	{
+		final byte[] copy = new byte[end - start];
+		for (int i = start; i < end; i++) { copy[i - start] = bytes.get(i); }
+		return new String(copy, StandardCharsets.US_ASCII);
+	}
+}
@@ -1,5 +1,6 @@
 package org.udtopia;
 
+import java.nio.ByteBuffer;
 import java.text.NumberFormat;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -34,6 +35,66 @@ public abstract @Value class UDTDouble<This extends UDTDouble<This>> implements
 		return DoubleRule.applyRulesFor(type, rawValue);
 	}
 
+	/**
+	 * Parse a range of characters to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param chars characters holding a decimal value.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the characters.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTDouble<This>> This parse(
+		final DoubleFunction<This> factory,
+		final CharSequence chars,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseDouble(chars, start, end));
+	}
+
+	/**
+	 * Parse a range of characters to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param chars characters holding a decimal value.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the characters.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTDouble<This>> This parse(
+		final DoubleFunction<This> factory,
+		final char[] chars,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseDouble(chars, start, end));
+	}
+
+	/**
+	 * Parse a range of ASCII bytes to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param bytes ASCII bytes holding a decimal value, read at absolute indexes.
+	 * @param start the index of the first byte.
+	 * @param end the index after the last byte.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the bytes.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTDouble<This>> This parse(
+		final DoubleFunction<This> factory,
+		final ByteBuffer bytes,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseDouble(bytes, start, end));
+	}
+
 	/**
 	 * If the raw value can be exactly represented by an {@code int}, convert it.
 	 *
@@ -117,7 +178,7 @@ public abstract @Value class UDTDouble<This extends UDTDouble<This>> implements
 	 */
 	public final boolean eq(final This that)
 	{
-		Assert.notNull(() -> that, "eq() does not support null");
+		Assert.nonNull(that, "eq() does not support null");
 		return this == that || this.getAsDouble() == that.getAsDouble();
 	}
 
@@ -477,4 +538,12 @@ public abstract @Value class UDTDouble<This extends UDTDouble<This>> implements
 	 * @return an instance of {@link This}, wrapping the rounded result.
 	 */
 	public final This roundDown() { return map(Math::floor); }
+
+	/**
+	 * Start a chain of arithmetic on the raw value, which builds a single instance at the end.
+	 *
+	 * @return a new builder, starting from the raw value.
+	 * @see UDTDoubleBuilder
+	 */
+	public final UDTDoubleBuilder<This> toBuilder() { return new UDTDoubleBuilder<>(_factory, getAsDouble()); }
 }
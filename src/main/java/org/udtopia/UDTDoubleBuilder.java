@@ -0,0 +1,186 @@
+package org.udtopia;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A mutable accumulator for {@link UDTDouble} arithmetic, which computes on a raw {@code double} and builds one
+ * instance.
+ * <p>
+ * Each arithmetic method of {@link UDTDouble} builds a new instance, and applies the rules of the class to its result.
+ * A chain of calls therefore allocates an object, and checks the rules, at every step.
+ * This builder chains the same arithmetic on a raw value, and applies the rules once, when {@link #build()} calls the
+ * factory of the class.
+ * Intermediate results are not checked, so they may stray outside the rules of the class, as long as the final value
+ * does not.
+ *
+ * @param <T> the UDT class to build.
+ */
+public final @Mutable class UDTDoubleBuilder<T extends UDTDouble<T>> implements DoubleSupplier
+{
+	// The single-argument factory of the UDT class
+	private final DoubleFunction<T> _factory;
+
+	// The accumulated raw value
+	private double _raw;
+
+	/** @param factory a method reference to the factory of the UDT class. */
+	public UDTDoubleBuilder(final DoubleFunction<T> factory) { this(factory, 0.0); }
+
+	/**
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @param initialValue the raw value to start from.
+	 */
+	public UDTDoubleBuilder(final DoubleFunction<T> factory, final double initialValue)
+	{
+		_factory = factory;
+		_raw = initialValue;
+	}
+
+	/**
+	 * Apply the rules of the UDT class to the accumulated value, and wrap it.
+	 * The builder can still be used afterwards, to build more values.
+	 *
+	 * @return a new instance of the UDT class.
+	 * @throws org.udtopia.rules.ValidationException if the accumulated value fails validation.
+	 */
+	public T build() { return _factory.apply(_raw); }
+
+	/** @return the accumulated raw value, which has not been checked by the rules of the UDT class. */
+	@Override public double getAsDouble() { return _raw; }
+
+	/**
+	 * @param value the new raw value.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> set(final double value)
+	{
+		_raw = value;
+		return this;
+	}
+
+	/**
+	 * @param value the new value.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> set(final DoubleSupplier value) { return set(value.getAsDouble()); }
+
+	/**
+	 * @param that the number to add.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> add(final double that)
+	{
+		_raw = _raw + that;
+		return this;
+	}
+
+	/**
+	 * @param that the number to add.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> add(final DoubleSupplier that) { return add(that.getAsDouble()); }
+
+	/**
+	 * @param that the number to subtract.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> subtract(final double that)
+	{
+		_raw = _raw - that;
+		return this;
+	}
+
+	/**
+	 * @param that the number to subtract.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> subtract(final DoubleSupplier that) { return subtract(that.getAsDouble()); }
+
+	/**
+	 * Replace the value with a number minus the value.
+	 *
+	 * @param that the number to subtract from.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> subtractFrom(final double that)
+	{
+		_raw = that - _raw;
+		return this;
+	}
+
+	/**
+	 * Replace the value with a number minus the value.
+	 *
+	 * @param that the number to subtract from.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> subtractFrom(final DoubleSupplier that) { return subtractFrom(that.getAsDouble()); }
+
+	/**
+	 * @param that the number to multiply by.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> multiplyBy(final double that)
+	{
+		_raw = _raw * that;
+		return this;
+	}
+
+	/**
+	 * @param that the number to multiply by.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> multiplyBy(final DoubleSupplier that) { return multiplyBy(that.getAsDouble()); }
+
+	/**
+	 * Divide the value by a number.
+	 *
+	 * @param that the number to divide by.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> divideBy(final double that)
+	{
+		_raw /= that;
+		return this;
+	}
+
+	/**
+	 * Divide the value by a number.
+	 *
+	 * @param that the number to divide by.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> divideBy(final DoubleSupplier that) { return divideBy(that.getAsDouble()); }
+
+	/**
+	 * Replace the value with a number divided by the value.
+	 *
+	 * @param that the number to divide.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> divide(final double that)
+	{
+		_raw = that / _raw;
+		return this;
+	}
+
+	/**
+	 * Replace the value with a number divided by the value.
+	 *
+	 * @param that the number to divide.
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> divide(final DoubleSupplier that) { return divide(that.getAsDouble()); }
+
+	/**
+	 * @return this builder.
+	 */
+	public UDTDoubleBuilder<T> negate()
+	{
+		_raw = -_raw;
+		return this;
+	}
+
+	@Override public String toString() { return Double.toString(_raw); }
+}
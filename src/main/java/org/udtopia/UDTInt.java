@@ -1,5 +1,6 @@
 package org.udtopia;
 
+import java.nio.ByteBuffer;
 import java.text.NumberFormat;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
@@ -36,6 +37,66 @@ public abstract @Value class UDTInt<This extends UDTInt<This>> implements UDTNum
 		return IntRule.applyRulesFor(type, rawValue);
 	}
 
+	/**
+	 * Parse a range of characters to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param chars characters holding a decimal value.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the characters.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTInt<This>> This parse(
+		final IntFunction<This> factory,
+		final CharSequence chars,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseInt(chars, start, end));
+	}
+
+	/**
+	 * Parse a range of characters to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param chars characters holding a decimal value.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the characters.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTInt<This>> This parse(
+		final IntFunction<This> factory,
+		final char[] chars,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseInt(chars, start, end));
+	}
+
+	/**
+	 * Parse a range of ASCII bytes to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param bytes ASCII bytes holding a decimal value, read at absolute indexes.
+	 * @param start the index of the first byte.
+	 * @param end the index after the last byte.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the bytes.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTInt<This>> This parse(
+		final IntFunction<This> factory,
+		final ByteBuffer bytes,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseInt(bytes, start, end));
+	}
+
 	/**
 	 * Convert a {@code long} to an {@code int} without throwing.
 	 * This method will <b>change the value</b> to fit within the range of {@code int}, without changing the sign.
@@ -89,7 +150,7 @@ public abstract @Value class UDTInt<This extends UDTInt<This>> implements UDTNum
 	 */
 	public final boolean eq(final This that)
 	{
-		Assert.notNull(() -> that, "eq() does not support null");
+		Assert.nonNull(that, "eq() does not support null");
 		return this == that || this.getAsInt() == that.getAsInt();
 	}
 
@@ -431,4 +492,12 @@ public abstract @Value class UDTInt<This extends UDTInt<This>> implements UDTNum
 	 * @throws ArithmeticException if the value overflows.
 	 */
 	public final This decrement() { return map(Math::decrementExact); }
+
+	/**
+	 * Start a chain of arithmetic on the raw value, which builds a single instance at the end.
+	 *
+	 * @return a new builder, starting from the raw value.
+	 * @see UDTIntBuilder
+	 */
+	public final UDTIntBuilder<This> toBuilder() { return new UDTIntBuilder<>(_factory, getAsInt()); }
 }
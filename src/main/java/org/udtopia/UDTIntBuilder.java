@@ -0,0 +1,222 @@
+package org.udtopia;
+
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+import static java.lang.Math.*;
+
+/**
+ * A mutable accumulator for {@link UDTInt} arithmetic, which computes on a raw {@code int} and builds one instance.
+ * <p>
+ * Each arithmetic method of {@link UDTInt} builds a new instance, and applies the rules of the class to its result.
+ * A chain of calls therefore allocates an object, and checks the rules, at every step.
+ * This builder chains the same arithmetic on a raw value, and applies the rules once, when {@link #build()} calls the
+ * factory of the class.
+ * Intermediate results are not checked, so they may stray outside the rules of the class, as long as the final value
+ * does not.
+ * <p>
+ * Arithmetic throws {@link ArithmeticException} on overflow, as it does in {@link UDTInt}.
+ *
+ * @param <T> the UDT class to build.
+ */
+public final @Mutable class UDTIntBuilder<T extends UDTInt<T>> implements IntSupplier
+{
+	// The single-argument factory of the UDT class
+	private final IntFunction<T> _factory;
+
+	// The accumulated raw value
+	private int _raw;
+
+	/** @param factory a method reference to the factory of the UDT class. */
+	public UDTIntBuilder(final IntFunction<T> factory) { this(factory, 0); }
+
+	/**
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @param initialValue the raw value to start from.
+	 */
+	public UDTIntBuilder(final IntFunction<T> factory, final int initialValue)
+	{
+		_factory = factory;
+		_raw = initialValue;
+	}
+
+	/**
+	 * Apply the rules of the UDT class to the accumulated value, and wrap it.
+	 * The builder can still be used afterwards, to build more values.
+	 *
+	 * @return a new instance of the UDT class.
+	 * @throws org.udtopia.rules.ValidationException if the accumulated value fails validation.
+	 */
+	public T build() { return _factory.apply(_raw); }
+
+	/** @return the accumulated raw value, which has not been checked by the rules of the UDT class. */
+	@Override public int getAsInt() { return _raw; }
+
+	/**
+	 * @param value the new raw value.
+	 * @return this builder.
+	 */
+	public UDTIntBuilder<T> set(final int value)
+	{
+		_raw = value;
+		return this;
+	}
+
+	/**
+	 * @param value the new value.
+	 * @return this builder.
+	 */
+	public UDTIntBuilder<T> set(final IntSupplier value) { return set(value.getAsInt()); }
+
+	/**
+	 * @param that the number to add.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> add(final int that)
+	{
+		_raw = addExact(_raw, that);
+		return this;
+	}
+
+	/**
+	 * @param that the number to add.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> add(final IntSupplier that) { return add(that.getAsInt()); }
+
+	/**
+	 * @param that the number to subtract.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> subtract(final int that)
+	{
+		_raw = subtractExact(_raw, that);
+		return this;
+	}
+
+	/**
+	 * @param that the number to subtract.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> subtract(final IntSupplier that) { return subtract(that.getAsInt()); }
+
+	/**
+	 * Replace the value with a number minus the value.
+	 * Like {@link UDTInt#subtractFrom(int)}, this does not check for overflow.
+	 *
+	 * @param that the number to subtract from.
+	 * @return this builder.
+	 */
+	public UDTIntBuilder<T> subtractFrom(final int that)
+	{
+		_raw = that - _raw;
+		return this;
+	}
+
+	/**
+	 * Replace the value with a number minus the value.
+	 * Like {@link UDTInt#subtractFrom(int)}, this does not check for overflow.
+	 *
+	 * @param that the number to subtract from.
+	 * @return this builder.
+	 */
+	public UDTIntBuilder<T> subtractFrom(final IntSupplier that) { return subtractFrom(that.getAsInt()); }
+
+	/**
+	 * @param that the number to multiply by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> multiplyBy(final int that)
+	{
+		_raw = multiplyExact(_raw, that);
+		return this;
+	}
+
+	/**
+	 * @param that the number to multiply by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> multiplyBy(final IntSupplier that) { return multiplyBy(that.getAsInt()); }
+
+	/**
+	 * Divide the value by a number, rounding toward zero.
+	 *
+	 * @param that the number to divide by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the number is zero.
+	 */
+	public UDTIntBuilder<T> divideBy(final int that)
+	{
+		_raw /= that;
+		return this;
+	}
+
+	/**
+	 * Divide the value by a number, rounding toward zero.
+	 *
+	 * @param that the number to divide by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the number is zero.
+	 */
+	public UDTIntBuilder<T> divideBy(final IntSupplier that) { return divideBy(that.getAsInt()); }
+
+	/**
+	 * Replace the value with a number divided by the value, rounding toward zero.
+	 *
+	 * @param that the number to divide.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value is zero.
+	 */
+	public UDTIntBuilder<T> divide(final int that)
+	{
+		_raw = that / _raw;
+		return this;
+	}
+
+	/**
+	 * Replace the value with a number divided by the value, rounding toward zero.
+	 *
+	 * @param that the number to divide.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value is zero.
+	 */
+	public UDTIntBuilder<T> divide(final IntSupplier that) { return divide(that.getAsInt()); }
+
+	/**
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> negate()
+	{
+		_raw = negateExact(_raw);
+		return this;
+	}
+
+	/**
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> increment()
+	{
+		_raw = incrementExact(_raw);
+		return this;
+	}
+
+	/**
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTIntBuilder<T> decrement()
+	{
+		_raw = decrementExact(_raw);
+		return this;
+	}
+
+	@Override public String toString() { return Integer.toString(_raw); }
+}
@@ -0,0 +1,245 @@
+package org.udtopia;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import org.udtopia.rules.IntRule;
+
+/**
+ * A hash set of {@link UDTInt} values, which stores the raw {@code int} values in an open-addressing table.
+ * <p>
+ * A {@code HashSet<InstrumentId>} allocates a node for each element, as well as the element itself.
+ * This set stores only the raw values, in one array, and compares them as {@link UDTInt#eq} does.
+ * Values are spread across the table by a well-mixed hash, so that sequential IDs do not cluster.
+ * <p>
+ * Raw values passed to {@link #add(int)} are checked by the {@link IntRule}s of the UDT class, just as they would be
+ * by the constructor of the UDT class. Other methods look up raw values as given.
+ *
+ * @param <T> the UDT class of the elements.
+ */
+public final @Mutable class UDTIntSet<T extends UDTInt<T>>
+{
+	private static final int _DEFAULT_EXPECTED_SIZE = 8;
+
+	// The UDT class, whose rules apply to raw values
+	private final Class<T> _type;
+
+	// The single-argument factory of the UDT class
+	private final IntFunction<T> _factory;
+
+	// Raw values, at the first free slot from the mixed hash of each value; zero marks a free slot
+	private int[] _values;
+	private int _mask;
+
+	// Zero has no slot, since it marks free slots
+	private boolean _hasZero;
+
+	private int _size;
+
+	/**
+	 * @param type the UDT class of the elements.
+	 * @param factory a method reference to the factory of the UDT class.
+	 */
+	public UDTIntSet(final Class<T> type, final IntFunction<T> factory)
+	{
+		this(type, factory, _DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * @param type the UDT class of the elements.
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @param expectedSize the number of elements to make room for, without resizing.
+	 */
+	public UDTIntSet(final Class<T> type, final IntFunction<T> factory, final int expectedSize)
+	{
+		_type = type;
+		_factory = factory;
+		_allocate(HashMixer.tableSize(expectedSize));
+	}
+
+	/** @return the UDT class of the elements. */
+	public Class<T> getType() { return _type; }
+
+	/** @return the number of elements. */
+	public int size() { return _size; }
+
+	/** @return {@code true} if there are no elements. */
+	public boolean isEmpty() { return _size == 0; }
+
+	/**
+	 * @param rawValue a raw value.
+	 * @return {@code true} if the set contains the value.
+	 */
+	public boolean contains(final int rawValue)
+	{
+		return rawValue == 0 ? _hasZero : _values[_slot(rawValue)] != 0;
+	}
+
+	/**
+	 * @param value a value.
+	 * @return {@code true} if the set contains the value.
+	 */
+	public boolean contains(final T value) { return contains(value.getAsInt()); }
+
+	/**
+	 * Add a raw value, after applying the rules of the UDT class.
+	 *
+	 * @param rawValue a raw value.
+	 * @return {@code true} if the set did not already contain the value.
+	 * @throws org.udtopia.rules.ValidationException if the value fails validation.
+	 * @throws IllegalStateException if the set is full, with over a billion values.
+	 */
+	public boolean add(final int rawValue) { return _add(IntRule.applyRulesFor(_type, rawValue)); }
+
+	/**
+	 * @param value a value.
+	 * @return {@code true} if the set did not already contain the value.
+	 * @throws IllegalStateException if the set is full, with over a billion values.
+	 */
+	public boolean add(final T value) { return _add(value.getAsInt()); }
+
+	/**
+	 * @param rawValue a raw value.
+	 * @return {@code true} if the set contained the value.
+	 */
+	public boolean remove(final int rawValue)
+	{
+		if (rawValue == 0)
+		{
+			final boolean removed = _hasZero;
+			_size -= removed ? 1 : 0;
+			_hasZero = false;
+			return removed;
+		}
+
+		final int slot = _slot(rawValue);
+		if (_values[slot] == 0) { return false; }
+		_vacate(slot);
+		_size--;
+		return true;
+	}
+
+	/**
+	 * @param value a value.
+	 * @return {@code true} if the set contained the value.
+	 */
+	public boolean remove(final T value) { return remove(value.getAsInt()); }
+
+	/** Remove all elements, keeping the capacity of the table. */
+	public void clear()
+	{
+		Arrays.fill(_values, 0);
+		_hasZero = false;
+		_size = 0;
+	}
+
+	/**
+	 * Pass each element to {@code action}, in no particular order.
+	 * Each call allocates an instance of the UDT class; use {@link #forEachRaw} to avoid it.
+	 *
+	 * @param action receives each element.
+	 */
+	public void forEach(final Consumer<? super T> action)
+	{
+		forEachRaw(rawValue -> action.accept(_factory.apply(rawValue)));
+	}
+
+	/**
+	 * Pass the raw value of each element to {@code action}, in no particular order, without allocating.
+	 *
+	 * @param action receives the raw value of each element.
+	 */
+	public void forEachRaw(final IntConsumer action)
+	{
+		if (_hasZero) { action.accept(0); }
+		for (final int rawValue: _values)
+		{
+			if (rawValue != 0) { action.accept(rawValue); }
+		}
+	}
+
+	/** @return a copy of the raw values, in no particular order. */
+	public int[] toIntArray()
+	{
+		final int[] rawValues = new int[_size];
+
+		// Zero is first, if present, and the new array already holds it
+		int count = _hasZero ? 1 : 0;
+		for (final int rawValue: _values)
+		{
+			if (rawValue != 0) { rawValues[count++] = rawValue; }
+		}
+		return rawValues;
+	}
+
+	@Override public String toString()
+	{
+		final StringJoiner elements = new StringJoiner(", ", "[", "]");
+		forEach(value -> elements.add(value.toString()));
+		return elements.toString();
+	}
+
+	private boolean _add(final int rawValue)
+	{
+		if (rawValue == 0)
+		{
+			final boolean added = !_hasZero;
+			_size += added ? 1 : 0;
+			_hasZero = true;
+			return added;
+		}
+
+		final int slot = _slot(rawValue);
+		if (_values[slot] != 0) { return false; }
+		HashMixer.checkRoom(_size);
+		_values[slot] = rawValue;
+		if (++_size > _values.length >> 1 && _values.length < HashMixer.MAX_TABLE_SIZE)
+		{
+			_rehash(_values.length << 1);
+		}
+		return true;
+	}
+
+	// The slot holding a non-zero raw value, or the free slot where it belongs
+	private int _slot(final int rawValue)
+	{
+		int slot = HashMixer.mix(rawValue) & _mask;
+		while (_values[slot] != rawValue && _values[slot] != 0) { slot = (slot + 1) & _mask; }
+		return slot;
+	}
+
+	// Free a slot, moving back any later values that would otherwise be unreachable past it
+	private void _vacate(final int slot)
+	{
+		int free = slot;
+		for (int next = (slot + 1) & _mask; _values[next] != 0; next = (next + 1) & _mask)
+		{
+			// Values stay put unless the free slot lies cyclically between their home slot and their current slot
+			final int home = HashMixer.mix(_values[next]) & _mask;
+			if (((next - home) & _mask) >= ((next - free) & _mask))
+			{
+				_values[free] = _values[next];
+				free = next;
+			}
+		}
+		_values[free] = 0;
+	}
+
+	private void _rehash(final int tableSize)
+	{
+		final int[] values = _values;
+		_allocate(tableSize);
+		for (final int rawValue: values)
+		{
+			if (rawValue != 0) { _values[_slot(rawValue)] = rawValue; }
+		}
+	}
+
+	private void _allocate(final int tableSize)
+	{
+		_values = new int[tableSize];
+		_mask = tableSize - 1;
+	}
+}
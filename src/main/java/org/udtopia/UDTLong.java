@@ -1,5 +1,6 @@
 package org.udtopia;
 
+import java.nio.ByteBuffer;
 import java.text.NumberFormat;
 import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
@@ -36,6 +37,66 @@ public abstract @Value class UDTLong<This extends UDTLong<This>> implements UDTN
 		return LongRule.applyRulesFor(type, rawValue);
 	}
 
+	/**
+	 * Parse a range of characters to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param chars characters holding a decimal value.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the characters.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTLong<This>> This parse(
+		final LongFunction<This> factory,
+		final CharSequence chars,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseLong(chars, start, end));
+	}
+
+	/**
+	 * Parse a range of characters to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param chars characters holding a decimal value.
+	 * @param start the index of the first character.
+	 * @param end the index after the last character.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the characters.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTLong<This>> This parse(
+		final LongFunction<This> factory,
+		final char[] chars,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseLong(chars, start, end));
+	}
+
+	/**
+	 * Parse a range of ASCII bytes to build a UDT value, without copying them into a string.
+	 *
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param bytes ASCII bytes holding a decimal value, read at absolute indexes.
+	 * @param start the index of the first byte.
+	 * @param end the index after the last byte.
+	 * @param <This> the UDT type to return.
+	 * @return a UDT value derived from the bytes.
+	 * @see NumberParser
+	 */
+	protected static <This extends UDTLong<This>> This parse(
+		final LongFunction<This> factory,
+		final ByteBuffer bytes,
+		final int start,
+		final int end)
+	{
+		return factory.apply(NumberParser.parseLong(bytes, start, end));
+	}
+
 	/**
 	 * If the raw value can be exactly represented by an {@code int}, convert it.
 	 *
@@ -97,7 +158,7 @@ public abstract @Value class UDTLong<This extends UDTLong<This>> implements UDTN
 	 */
 	public final boolean eq(final This that)
 	{
-		Assert.notNull(() -> that, "eq() does not support null");
+		Assert.nonNull(that, "eq() does not support null");
 		return this == that || this.getAsLong() == that.getAsLong();
 	}
 
@@ -442,4 +503,12 @@ public abstract @Value class UDTLong<This extends UDTLong<This>> implements UDTN
 	 * @throws ArithmeticException if the value overflows.
 	 */
 	public final This decrement() { return map(Math::decrementExact); }
+
+	/**
+	 * Start a chain of arithmetic on the raw value, which builds a single instance at the end.
+	 *
+	 * @return a new builder, starting from the raw value.
+	 * @see UDTLongBuilder
+	 */
+	public final UDTLongBuilder<This> toBuilder() { return new UDTLongBuilder<>(_factory, getAsLong()); }
 }
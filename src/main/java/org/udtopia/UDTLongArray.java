@@ -0,0 +1,263 @@
+package org.udtopia;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.LongFunction;
+import javax.annotation.Nullable;
+import org.udtopia.rules.LongRule;
+
+/**
+ * A growable list of {@link UDTLong} values, stored as raw {@code long} values in a single array.
+ * <p>
+ * A {@code List<EpochNanos>} holds a reference to an object for each element, and each object has a header as well as
+ * its raw value. This list holds only the raw values, at 8 bytes per element, so reading, sorting, and searching them
+ * never follows a reference.
+ * {@link #getAsLong(int)} reads a value without allocating; {@link #get(int)} builds a new instance of the UDT class
+ * each time it is called.
+ * <p>
+ * Raw values are checked by the {@link LongRule}s of the UDT class when they are added or set, just as they would be
+ * by the constructor of the UDT class.
+ *
+ * @param <T> the UDT class of the elements.
+ */
+public final @Mutable class UDTLongArray<T extends UDTLong<T>> extends AbstractList<T> implements RandomAccess
+{
+	private static final int _DEFAULT_CAPACITY = 10;
+
+	// The UDT class, whose rules apply to raw values
+	private final Class<T> _type;
+
+	// The single-argument factory of the UDT class
+	private final LongFunction<T> _factory;
+
+	// The raw values, followed by unused capacity
+	private long[] _values;
+	private int _size;
+
+	/**
+	 * @param type the UDT class of the elements.
+	 * @param factory a method reference to the factory of the UDT class.
+	 */
+	public UDTLongArray(final Class<T> type, final LongFunction<T> factory)
+	{
+		this(type, factory, _DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param type the UDT class of the elements.
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @param initialCapacity the number of values to make room for.
+	 * @throws NegativeArraySizeException if {@code initialCapacity} is negative.
+	 */
+	public UDTLongArray(final Class<T> type, final LongFunction<T> factory, final int initialCapacity)
+	{
+		_type = type;
+		_factory = factory;
+		_values = new long[initialCapacity];
+	}
+
+	/** @return the UDT class of the elements. */
+	public Class<T> getType() { return _type; }
+
+	@Override public int size() { return _size; }
+
+	/**
+	 * Read a raw value, without allocating an instance of the UDT class.
+	 *
+	 * @param index the index of the value.
+	 * @return the raw value at {@code index}.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 */
+	public long getAsLong(final int index)
+	{
+		_checkIndex(index);
+		return _values[index];
+	}
+
+	/**
+	 * Build an instance of the UDT class from the raw value at {@code index}.
+	 * Each call allocates a new instance; use {@link #getAsLong(int)} to avoid it.
+	 *
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 */
+	@Override public T get(final int index) { return _factory.apply(getAsLong(index)); }
+
+	/**
+	 * Replace a value with a raw value, after applying the rules of the UDT class.
+	 *
+	 * @param index the index of the value to replace.
+	 * @param rawValue the new raw value.
+	 * @return the raw value previously at {@code index}.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 * @throws org.udtopia.rules.ValidationException if the new value fails validation.
+	 */
+	public long set(final int index, final long rawValue)
+	{
+		final long previous = getAsLong(index);
+		_values[index] = LongRule.applyRulesFor(_type, rawValue);
+		return previous;
+	}
+
+	/**
+	 * Replace a value.
+	 *
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 */
+	@Override public T set(final int index, final T value)
+	{
+		final T previous = get(index);
+		_values[index] = value.getAsLong();
+		return previous;
+	}
+
+	/**
+	 * Append a raw value, after applying the rules of the UDT class.
+	 *
+	 * @param rawValue the raw value to append.
+	 * @return {@code true}, as specified by {@link java.util.Collection#add}.
+	 * @throws org.udtopia.rules.ValidationException if the value fails validation.
+	 */
+	public boolean add(final long rawValue)
+	{
+		final long checked = LongRule.applyRulesFor(_type, rawValue);
+		_ensureCapacity(_size + 1);
+		_values[_size++] = checked;
+		modCount++;
+		return true;
+	}
+
+	/** Append a value. */
+	@Override public boolean add(final T value)
+	{
+		_ensureCapacity(_size + 1);
+		_values[_size++] = value.getAsLong();
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Insert a value, shifting the value at {@code index}, and any after it, to the right.
+	 *
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or greater than {@link #size()}.
+	 */
+	@Override public void add(final int index, final T value)
+	{
+		if (index < 0 || index > _size) { throw new IndexOutOfBoundsException(_outOfBounds(index)); }
+		final long rawValue = value.getAsLong();
+		_ensureCapacity(_size + 1);
+		System.arraycopy(_values, index, _values, index + 1, _size - index);
+		_values[index] = rawValue;
+		_size++;
+		modCount++;
+	}
+
+	/**
+	 * Append raw values, after applying the rules of the UDT class to each of them.
+	 * If any value fails validation, none are appended.
+	 *
+	 * @param rawValues the raw values to append.
+	 * @return {@code true} if any values were appended.
+	 * @throws org.udtopia.rules.ValidationException if any value fails validation.
+	 */
+	public boolean addAll(final long... rawValues)
+	{
+		_ensureCapacity(_size + rawValues.length);
+
+		// Check the values into the unused capacity, so that a failure leaves the size unchanged
+		for (int i = 0; i < rawValues.length; i++) { _values[_size + i] = LongRule.applyRulesFor(_type, rawValues[i]); }
+		_size += rawValues.length;
+		modCount++;
+		return rawValues.length != 0;
+	}
+
+	/**
+	 * Remove a value, shifting any after it to the left.
+	 *
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 */
+	@Override public T remove(final int index)
+	{
+		final T previous = get(index);
+		System.arraycopy(_values, index + 1, _values, index, _size - index - 1);
+		_size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override protected void removeRange(final int fromIndex, final int toIndex)
+	{
+		System.arraycopy(_values, toIndex, _values, fromIndex, _size - toIndex);
+		_size -= toIndex - fromIndex;
+		modCount++;
+	}
+
+	@Override public void clear()
+	{
+		_size = 0;
+		modCount++;
+	}
+
+	/** Sort the values into ascending order, comparing raw values without allocating. */
+	public void sort()
+	{
+		Arrays.sort(_values, 0, _size);
+		modCount++;
+	}
+
+	/**
+	 * Search for a raw value, which must be {@linkplain #sort() sorted} first.
+	 *
+	 * @param rawValue the raw value to search for.
+	 * @return the index of the value, if found; otherwise, {@code (-(insertion point) - 1)}.
+	 * @see Arrays#binarySearch(long[], int, int, long)
+	 */
+	public int binarySearch(final long rawValue) { return Arrays.binarySearch(_values, 0, _size, rawValue); }
+
+	/**
+	 * Search for a value, which must be {@linkplain #sort() sorted} first.
+	 *
+	 * @param value the value to search for.
+	 * @return the index of the value, if found; otherwise, {@code (-(insertion point) - 1)}.
+	 */
+	public int binarySearch(final T value) { return binarySearch(value.getAsLong()); }
+
+	/** @return a copy of the raw values. */
+	public long[] toLongArray() { return Arrays.copyOf(_values, _size); }
+
+	/** Same as {@link java.util.List#hashCode()}, without allocating instances of the UDT class. */
+	@Override public int hashCode()
+	{
+		int hash = 1;
+		for (int i = 0; i < _size; i++) { hash = 31 * hash + Long.hashCode(_values[i]); }
+		return hash;
+	}
+
+	/** Same as {@link java.util.List#equals(Object)}, without allocating when compared with another raw array. */
+	@Override public boolean equals(final @Nullable Object obj)
+	{
+		if (!(obj instanceof UDTLongArray)) { return super.equals(obj); }
+		final UDTLongArray<?> that = (UDTLongArray<?>) obj;
+		if (this._type != that._type || this._size != that._size) { return false; }
+		for (int i = 0; i < _size; i++)
+		{
+			if (this._values[i] != that._values[i]) { return false; }
+		}
+		return true;
+	}
+
+	private void _ensureCapacity(final int minCapacity)
+	{
+		if (minCapacity > _values.length)
+		{
+			_values = Arrays.copyOf(_values, Math.max(minCapacity, _values.length + (_values.length >> 1) + 1));
+		}
+	}
+
+	private void _checkIndex(final int index)
+	{
+		if (index < 0 || index >= _size) { throw new IndexOutOfBoundsException(_outOfBounds(index)); }
+	}
+
+	private String _outOfBounds(final int index) { return "Index: " + index + ", Size: " + _size; }
+}
@@ -0,0 +1,222 @@
+package org.udtopia;
+
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.*;
+
+/**
+ * A mutable accumulator for {@link UDTLong} arithmetic, which computes on a raw {@code long} and builds one instance.
+ * <p>
+ * Each arithmetic method of {@link UDTLong} builds a new instance, and applies the rules of the class to its result.
+ * A chain of calls therefore allocates an object, and checks the rules, at every step.
+ * This builder chains the same arithmetic on a raw value, and applies the rules once, when {@link #build()} calls the
+ * factory of the class.
+ * Intermediate results are not checked, so they may stray outside the rules of the class, as long as the final value
+ * does not.
+ * <p>
+ * Arithmetic throws {@link ArithmeticException} on overflow, as it does in {@link UDTLong}.
+ *
+ * @param <T> the UDT class to build.
+ */
+public final @Mutable class UDTLongBuilder<T extends UDTLong<T>> implements LongSupplier
+{
+	// The single-argument factory of the UDT class
+	private final LongFunction<T> _factory;
+
+	// The accumulated raw value
+	private long _raw;
+
+	/** @param factory a method reference to the factory of the UDT class. */
+	public UDTLongBuilder(final LongFunction<T> factory) { this(factory, 0L); }
+
+	/**
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @param initialValue the raw value to start from.
+	 */
+	public UDTLongBuilder(final LongFunction<T> factory, final long initialValue)
+	{
+		_factory = factory;
+		_raw = initialValue;
+	}
+
+	/**
+	 * Apply the rules of the UDT class to the accumulated value, and wrap it.
+	 * The builder can still be used afterwards, to build more values.
+	 *
+	 * @return a new instance of the UDT class.
+	 * @throws org.udtopia.rules.ValidationException if the accumulated value fails validation.
+	 */
+	public T build() { return _factory.apply(_raw); }
+
+	/** @return the accumulated raw value, which has not been checked by the rules of the UDT class. */
+	@Override public long getAsLong() { return _raw; }
+
+	/**
+	 * @param value the new raw value.
+	 * @return this builder.
+	 */
+	public UDTLongBuilder<T> set(final long value)
+	{
+		_raw = value;
+		return this;
+	}
+
+	/**
+	 * @param value the new value.
+	 * @return this builder.
+	 */
+	public UDTLongBuilder<T> set(final LongSupplier value) { return set(value.getAsLong()); }
+
+	/**
+	 * @param that the number to add.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> add(final long that)
+	{
+		_raw = addExact(_raw, that);
+		return this;
+	}
+
+	/**
+	 * @param that the number to add.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> add(final LongSupplier that) { return add(that.getAsLong()); }
+
+	/**
+	 * @param that the number to subtract.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> subtract(final long that)
+	{
+		_raw = subtractExact(_raw, that);
+		return this;
+	}
+
+	/**
+	 * @param that the number to subtract.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> subtract(final LongSupplier that) { return subtract(that.getAsLong()); }
+
+	/**
+	 * Replace the value with a number minus the value.
+	 * Like {@link UDTLong#subtractFrom(long)}, this does not check for overflow.
+	 *
+	 * @param that the number to subtract from.
+	 * @return this builder.
+	 */
+	public UDTLongBuilder<T> subtractFrom(final long that)
+	{
+		_raw = that - _raw;
+		return this;
+	}
+
+	/**
+	 * Replace the value with a number minus the value.
+	 * Like {@link UDTLong#subtractFrom(long)}, this does not check for overflow.
+	 *
+	 * @param that the number to subtract from.
+	 * @return this builder.
+	 */
+	public UDTLongBuilder<T> subtractFrom(final LongSupplier that) { return subtractFrom(that.getAsLong()); }
+
+	/**
+	 * @param that the number to multiply by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> multiplyBy(final long that)
+	{
+		_raw = multiplyExact(_raw, that);
+		return this;
+	}
+
+	/**
+	 * @param that the number to multiply by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> multiplyBy(final LongSupplier that) { return multiplyBy(that.getAsLong()); }
+
+	/**
+	 * Divide the value by a number, rounding toward zero.
+	 *
+	 * @param that the number to divide by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the number is zero.
+	 */
+	public UDTLongBuilder<T> divideBy(final long that)
+	{
+		_raw /= that;
+		return this;
+	}
+
+	/**
+	 * Divide the value by a number, rounding toward zero.
+	 *
+	 * @param that the number to divide by.
+	 * @return this builder.
+	 * @throws ArithmeticException if the number is zero.
+	 */
+	public UDTLongBuilder<T> divideBy(final LongSupplier that) { return divideBy(that.getAsLong()); }
+
+	/**
+	 * Replace the value with a number divided by the value, rounding toward zero.
+	 *
+	 * @param that the number to divide.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value is zero.
+	 */
+	public UDTLongBuilder<T> divide(final long that)
+	{
+		_raw = that / _raw;
+		return this;
+	}
+
+	/**
+	 * Replace the value with a number divided by the value, rounding toward zero.
+	 *
+	 * @param that the number to divide.
+	 * @return this builder.
+	 * @throws ArithmeticException if the value is zero.
+	 */
+	public UDTLongBuilder<T> divide(final LongSupplier that) { return divide(that.getAsLong()); }
+
+	/**
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> negate()
+	{
+		_raw = negateExact(_raw);
+		return this;
+	}
+
+	/**
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> increment()
+	{
+		_raw = incrementExact(_raw);
+		return this;
+	}
+
+	/**
+	 * @return this builder.
+	 * @throws ArithmeticException if the value overflows.
+	 */
+	public UDTLongBuilder<T> decrement()
+	{
+		_raw = decrementExact(_raw);
+		return this;
+	}
+
+	@Override public String toString() { return Long.toString(_raw); }
+}
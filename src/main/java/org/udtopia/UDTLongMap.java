@@ -0,0 +1,289 @@
+package org.udtopia;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
+import org.udtopia.rules.LongRule;
+
+/**
+ * A hash map keyed by {@link UDTLong} values, which stores the raw {@code long} keys in an open-addressing table.
+ * <p>
+ * A {@code HashMap<AccountId, V>} allocates a node for each entry, as well as the key object.
+ * This map stores the raw keys in one array and the values in another, with no objects per entry, and compares keys
+ * by their raw values, as {@link UDTLong#eq} does.
+ * Keys are spread across the table by a well-mixed hash, so that sequential IDs do not cluster.
+ * <p>
+ * Raw keys passed to {@link #put(long, Object)} are checked by the {@link LongRule}s of the key class, just as they
+ * would be by the constructor of the key class. Other methods look up raw keys as given.
+ * Values may be null, as in {@link java.util.HashMap}.
+ *
+ * @param <K> the UDT class of the keys.
+ * @param <V> the type of the values.
+ */
+public final @Mutable class UDTLongMap<K extends UDTLong<K>, V>
+{
+	/**
+	 * Receives each entry of the map, without allocating an instance of the key class.
+	 *
+	 * @param <V> the type of the values.
+	 */
+	@FunctionalInterface public interface RawEntryConsumer<V>
+	{
+		/**
+		 * @param rawKey the raw key of the entry.
+		 * @param value the value of the entry.
+		 */
+		void accept(long rawKey, V value);
+	}
+
+	private static final int _DEFAULT_EXPECTED_SIZE = 8;
+
+	// The key class, whose rules apply to raw keys
+	private final Class<K> _type;
+
+	// The single-argument factory of the key class
+	private final LongFunction<K> _factory;
+
+	// Raw keys and their values, at the first free slot from the mixed hash of each key; a zero key marks a free slot
+	private long[] _keys;
+	private Object[] _values;
+	private int _mask;
+
+	// The zero key has no slot, since it marks free slots
+	private boolean _hasZeroKey;
+	private V _zeroValue;
+
+	private int _size;
+
+	/**
+	 * @param type the UDT class of the keys.
+	 * @param factory a method reference to the factory of the key class.
+	 */
+	public UDTLongMap(final Class<K> type, final LongFunction<K> factory)
+	{
+		this(type, factory, _DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * @param type the UDT class of the keys.
+	 * @param factory a method reference to the factory of the key class.
+	 * @param expectedSize the number of entries to make room for, without resizing.
+	 */
+	public UDTLongMap(final Class<K> type, final LongFunction<K> factory, final int expectedSize)
+	{
+		_type = type;
+		_factory = factory;
+		_allocate(HashMixer.tableSize(expectedSize));
+	}
+
+	/** @return the UDT class of the keys. */
+	public Class<K> getType() { return _type; }
+
+	/** @return the number of entries. */
+	public int size() { return _size; }
+
+	/** @return {@code true} if there are no entries. */
+	public boolean isEmpty() { return _size == 0; }
+
+	/**
+	 * @param rawKey a raw key.
+	 * @return {@code true} if there is an entry for the key.
+	 */
+	public boolean containsKey(final long rawKey)
+	{
+		return rawKey == 0L ? _hasZeroKey : _keys[_slot(rawKey)] != 0L;
+	}
+
+	/**
+	 * @param key a key.
+	 * @return {@code true} if there is an entry for the key.
+	 */
+	public boolean containsKey(final K key) { return containsKey(key.getAsLong()); }
+
+	/**
+	 * @param rawKey a raw key.
+	 * @return the value for the key, or null if there is no entry for the key.
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(final long rawKey)
+	{
+		return rawKey == 0L ? _zeroValue : (V) _values[_slot(rawKey)];
+	}
+
+	/**
+	 * @param key a key.
+	 * @return the value for the key, or null if there is no entry for the key.
+	 */
+	public V get(final K key) { return get(key.getAsLong()); }
+
+	/**
+	 * Add or replace the entry for a raw key, after applying the rules of the key class.
+	 *
+	 * @param rawKey a raw key.
+	 * @param value the value for the key.
+	 * @return the previous value for the key, or null if there was no entry for the key.
+	 * @throws org.udtopia.rules.ValidationException if the key fails validation.
+	 * @throws IllegalStateException if the map is full, with over a billion entries.
+	 */
+	public V put(final long rawKey, final V value) { return _put(LongRule.applyRulesFor(_type, rawKey), value); }
+
+	/**
+	 * Add or replace the entry for a key.
+	 *
+	 * @param key a key.
+	 * @param value the value for the key.
+	 * @return the previous value for the key, or null if there was no entry for the key.
+	 * @throws IllegalStateException if the map is full, with over a billion entries.
+	 */
+	public V put(final K key, final V value) { return _put(key.getAsLong(), value); }
+
+	/**
+	 * @param rawKey a raw key.
+	 * @return the removed value for the key, or null if there was no entry for the key.
+	 */
+	public V remove(final long rawKey)
+	{
+		if (rawKey == 0L)
+		{
+			final V previous = _zeroValue;
+			_size -= _hasZeroKey ? 1 : 0;
+			_hasZeroKey = false;
+			_zeroValue = null;
+			return previous;
+		}
+
+		final int slot = _slot(rawKey);
+		if (_keys[slot] == 0L) { return null; }
+		@SuppressWarnings("unchecked") final V previous = (V) _values[slot];
+		_vacate(slot);
+		_size--;
+		return previous;
+	}
+
+	/**
+	 * @param key a key.
+	 * @return the removed value for the key, or null if there was no entry for the key.
+	 */
+	public V remove(final K key) { return remove(key.getAsLong()); }
+
+	/** Remove all entries, keeping the capacity of the table. */
+	public void clear()
+	{
+		Arrays.fill(_keys, 0L);
+		Arrays.fill(_values, null);
+		_hasZeroKey = false;
+		_zeroValue = null;
+		_size = 0;
+	}
+
+	/**
+	 * Pass each entry to {@code action}, in no particular order.
+	 * Each call allocates an instance of the key class; use {@link #forEachRaw} to avoid it.
+	 *
+	 * @param action receives the key and value of each entry.
+	 */
+	public void forEach(final BiConsumer<? super K, ? super V> action)
+	{
+		forEachRaw((rawKey, value) -> action.accept(_factory.apply(rawKey), value));
+	}
+
+	/**
+	 * Pass the raw key and value of each entry to {@code action}, in no particular order, without allocating.
+	 *
+	 * @param action receives the raw key and value of each entry.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachRaw(final RawEntryConsumer<? super V> action)
+	{
+		if (_hasZeroKey) { action.accept(0L, _zeroValue); }
+		final long[] keys = _keys;
+		final Object[] values = _values;
+		for (int slot = 0; slot < keys.length; slot++)
+		{
+			if (keys[slot] != 0L) { action.accept(keys[slot], (V) values[slot]); }
+		}
+	}
+
+	@Override public String toString()
+	{
+		final StringJoiner entries = new StringJoiner(", ", "{", "}");
+		forEach((key, value) -> entries.add(key + "=" + value));
+		return entries.toString();
+	}
+
+	private V _put(final long rawKey, final V value)
+	{
+		if (rawKey == 0L)
+		{
+			final V previous = _zeroValue;
+			_size += _hasZeroKey ? 0 : 1;
+			_hasZeroKey = true;
+			_zeroValue = value;
+			return previous;
+		}
+
+		final int slot = _slot(rawKey);
+		if (_keys[slot] == 0L)
+		{
+			HashMixer.checkRoom(_size);
+			_keys[slot] = rawKey;
+			_values[slot] = value;
+			if (++_size > _keys.length >> 1 && _keys.length < HashMixer.MAX_TABLE_SIZE) { _rehash(_keys.length << 1); }
+			return null;
+		}
+		@SuppressWarnings("unchecked") final V previous = (V) _values[slot];
+		_values[slot] = value;
+		return previous;
+	}
+
+	// The slot holding a non-zero raw key, or the free slot where it belongs
+	private int _slot(final long rawKey)
+	{
+		int slot = HashMixer.mix(rawKey) & _mask;
+		while (_keys[slot] != rawKey && _keys[slot] != 0L) { slot = (slot + 1) & _mask; }
+		return slot;
+	}
+
+	// Free a slot, moving back any later keys that would otherwise be unreachable past it
+	private void _vacate(final int slot)
+	{
+		int free = slot;
+		for (int next = (slot + 1) & _mask; _keys[next] != 0L; next = (next + 1) & _mask)
+		{
+			// Keys stay put unless the free slot lies cyclically between their home slot and their current slot
+			final int home = HashMixer.mix(_keys[next]) & _mask;
+			if (((next - home) & _mask) >= ((next - free) & _mask))
+			{
+				_keys[free] = _keys[next];
+				_values[free] = _values[next];
+				free = next;
+			}
+		}
+		_keys[free] = 0L;
+		_values[free] = null;
+	}
+
+	private void _rehash(final int tableSize)
+	{
+		final long[] keys = _keys;
+		final Object[] values = _values;
+		_allocate(tableSize);
+		for (int i = 0; i < keys.length; i++)
+		{
+			if (keys[i] != 0L)
+			{
+				final int slot = _slot(keys[i]);
+				_keys[slot] = keys[i];
+				_values[slot] = values[i];
+			}
+		}
+	}
+
+	private void _allocate(final int tableSize)
+	{
+		_keys = new long[tableSize];
+		_values = new Object[tableSize];
+		_mask = tableSize - 1;
+	}
+}
@@ -32,7 +32,7 @@ public abstract @Value class UDTString<This extends UDTString<This>>
 	 */
 	protected static String applyRules(final Class<?> type, final String rawValue)
 	{
-		Assert.notNull(() -> rawValue, "Raw value must not be null");
+		Assert.nonNull(rawValue, "Raw value must not be null");
 		return StringRule.applyRulesFor(type, rawValue);
 	}
 
@@ -71,7 +71,7 @@ public abstract @Value class UDTString<This extends UDTString<This>>
 	 */
 	public final boolean eq(final This that)
 	{
-		Assert.notNull(() -> that, "eq() does not support null");
+		Assert.nonNull(that, "eq() does not support null");
 		return this == that || this.get().equals(that.get());
 	}
 
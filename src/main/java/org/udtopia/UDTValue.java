@@ -71,7 +71,7 @@ public abstract @Value class UDTValue<Raw, This extends UDTValue<Raw, This>> imp
 	 */
 	public final boolean eq(final This that)
 	{
-		Assert.notNull(() -> that, "eq() does not support null");
+		Assert.nonNull(that, "eq() does not support null");
 		return this == that || this.rawWithoutDefensiveCopy().equals(that.rawWithoutDefensiveCopy());
 	}
 
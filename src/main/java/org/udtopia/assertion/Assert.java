@@ -1,7 +1,12 @@
 package org.udtopia.assertion;
 
 import java.util.function.BooleanSupplier;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.udtopia.Value;
 
 /**
@@ -9,6 +14,17 @@ import org.udtopia.Value;
  *
  * In production code, it converts {@code assert} into a method call with similar performance characteristics.
  * In testing, code coverage tools can exclude this class to avoid reporting spurious missed branches.
+ *
+ * A lambda that captures local variables or {@code this} is a new object at each call, even when assertions are
+ * disabled, unless escape analysis removes it. In hot paths, use the overloads that take the checked operand
+ * explicitly, with a lambda or method reference that captures nothing, so that disabled assertions cost nothing:
+ * <pre>{@code
+ * Assert.nonNull(that, "eq() does not support null");
+ * Assert.not(rawValue, (final long raw) -> raw == Long.MIN_VALUE, "MIN_VALUE is not allowed");
+ * Assert.not(this, Recyclable::isDiscarded, "Detected multiple discards");
+ * }</pre>
+ * Declare the parameter type of a primitive lambda, since an {@code int} operand also matches the {@code long} and
+ * {@code double} overloads.
  */
 public @Value interface Assert
 {
@@ -62,6 +78,123 @@ public @Value interface Assert
 	 */
 	static void notNull(final Supplier<?> object, final String error) { assert object.get() != null : error; }
 
+	/**
+	 * Assert that an object reference is not null, without allocating.
+	 * This is not an overload of {@code notNull}, which would call {@link Supplier#get()} on objects that are
+	 * suppliers, such as UDTs.
+	 *
+	 * @param object an object reference that should not be null.
+	 */
+	static void nonNull(final @Nullable Object object) { assert object != null; }
+
+	/**
+	 * Assert that an object reference is not null, without allocating.
+	 * This is not an overload of {@code notNull}, which would call {@link Supplier#get()} on objects that are
+	 * suppliers, such as UDTs.
+	 *
+	 * @param object an object reference that should not be null.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void nonNull(final @Nullable Object object, final String error) { assert object != null : error; }
+
+	/**
+	 * Assert that the check condition is {@code true} for an operand, without allocating.
+	 *
+	 * @param operand the value to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void that(final int operand, final IntPredicate check, final String error)
+	{
+		assert check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code false} for an operand, without allocating.
+	 *
+	 * @param operand the value to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void not(final int operand, final IntPredicate check, final String error)
+	{
+		assert !check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code true} for an operand, without allocating.
+	 *
+	 * @param operand the value to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void that(final long operand, final LongPredicate check, final String error)
+	{
+		assert check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code false} for an operand, without allocating.
+	 *
+	 * @param operand the value to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void not(final long operand, final LongPredicate check, final String error)
+	{
+		assert !check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code true} for an operand, without allocating.
+	 *
+	 * @param operand the value to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void that(final double operand, final DoublePredicate check, final String error)
+	{
+		assert check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code false} for an operand, without allocating.
+	 *
+	 * @param operand the value to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 */
+	static void not(final double operand, final DoublePredicate check, final String error)
+	{
+		assert !check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code true} for an operand, without allocating.
+	 *
+	 * @param operand the object to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 * @param <T> the type of the operand.
+	 */
+	static <T> void that(final T operand, final Predicate<? super T> check, final String error)
+	{
+		assert check.test(operand) : error;
+	}
+
+	/**
+	 * Assert that the check condition is {@code false} for an operand, without allocating.
+	 *
+	 * @param operand the object to check.
+	 * @param check a lambda or method reference that captures nothing.
+	 * @param error the message to throw in an assertion error, when the check fails.
+	 * @param <T> the type of the operand.
+	 */
+	static <T> void not(final T operand, final Predicate<? super T> check, final String error)
+	{
+		assert !check.test(operand) : error;
+	}
+
 	/**
 	 * Perform a task only if assertions are active.
 	 *
@@ -0,0 +1,174 @@
+package org.udtopia.codec;
+
+import java.nio.ByteBuffer;
+import org.udtopia.Value;
+
+/**
+ * How a codec writes integer raw values to a {@link ByteBuffer}.
+ * <p>
+ * All encodings read and write at the position of the buffer, and advance it.
+ */
+public @Value enum Encoding
+{
+	/** Fixed width: 4 bytes per {@code int}, 8 per {@code long}, in the byte order of the buffer. */
+	FIXED
+	{
+		@Override void writeInt(final ByteBuffer buffer, final int value) { buffer.putInt(value); }
+
+		@Override int readInt(final ByteBuffer buffer) { return buffer.getInt(); }
+
+		@Override void writeLong(final ByteBuffer buffer, final long value) { buffer.putLong(value); }
+
+		@Override long readLong(final ByteBuffer buffer) { return buffer.getLong(); }
+
+		@Override int sizeOfInt(final int value) { return Integer.BYTES; }
+
+		@Override int sizeOfLong(final long value) { return Long.BYTES; }
+	},
+
+	/**
+	 * Unsigned varint: 7 bits per byte, least significant first, with the high bit set on every byte but the last.
+	 * Small non-negative values take 1 byte; negative values take the most: 5 bytes per {@code int}, 10 per
+	 * {@code long}.
+	 */
+	VARINT
+	{
+		@Override void writeInt(final ByteBuffer buffer, final int value) { writeVarint(buffer, value & 0xFFFF_FFFFL); }
+
+		@Override int readInt(final ByteBuffer buffer) { return (int) readVarint(buffer, _MAX_INT_BYTES); }
+
+		@Override void writeLong(final ByteBuffer buffer, final long value) { writeVarint(buffer, value); }
+
+		@Override long readLong(final ByteBuffer buffer) { return readVarint(buffer, _MAX_LONG_BYTES); }
+
+		@Override int sizeOfInt(final int value) { return sizeOfVarint(value & 0xFFFF_FFFFL); }
+
+		@Override int sizeOfLong(final long value) { return sizeOfVarint(value); }
+	},
+
+	/**
+	 * Zigzag varint: the sign is moved to the lowest bit, so that values of small magnitude take 1 byte whether they
+	 * are positive or negative, then the result is written as a {@link #VARINT}.
+	 */
+	ZIGZAG
+	{
+		@Override void writeInt(final ByteBuffer buffer, final int value)
+		{
+			writeVarint(buffer, ((value << 1) ^ (value >> 31)) & 0xFFFF_FFFFL);
+		}
+
+		@Override int readInt(final ByteBuffer buffer)
+		{
+			final int zigzag = (int) readVarint(buffer, _MAX_INT_BYTES);
+			return (zigzag >>> 1) ^ -(zigzag & 1);
+		}
+
+		@Override void writeLong(final ByteBuffer buffer, final long value)
+		{
+			writeVarint(buffer, (value << 1) ^ (value >> 63));
+		}
+
+		@Override long readLong(final ByteBuffer buffer)
+		{
+			final long zigzag = readVarint(buffer, _MAX_LONG_BYTES);
+			return (zigzag >>> 1) ^ -(zigzag & 1L);
+		}
+
+		@Override int sizeOfInt(final int value) { return sizeOfVarint(((value << 1) ^ (value >> 31)) & 0xFFFF_FFFFL); }
+
+		@Override int sizeOfLong(final long value) { return sizeOfVarint((value << 1) ^ (value >> 63)); }
+	};
+
+	// The longest varints of 32 and 64 bits
+	private static final int _MAX_INT_BYTES = 5;
+	private static final int _MAX_LONG_BYTES = 10;
+
+	/**
+	 * @param buffer the buffer to write to.
+	 * @param value the value to write.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	abstract void writeInt(ByteBuffer buffer, int value);
+
+	/**
+	 * @param buffer the buffer to read from.
+	 * @return the value read.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+	 * @throws IllegalArgumentException if a varint is too long.
+	 */
+	abstract int readInt(ByteBuffer buffer);
+
+	/**
+	 * @param buffer the buffer to write to.
+	 * @param value the value to write.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	abstract void writeLong(ByteBuffer buffer, long value);
+
+	/**
+	 * @param buffer the buffer to read from.
+	 * @return the value read.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+	 * @throws IllegalArgumentException if a varint is too long.
+	 */
+	abstract long readLong(ByteBuffer buffer);
+
+	/**
+	 * @param value a value.
+	 * @return the number of bytes it takes.
+	 */
+	abstract int sizeOfInt(int value);
+
+	/**
+	 * @param value a value.
+	 * @return the number of bytes it takes.
+	 */
+	abstract int sizeOfLong(long value);
+
+	/**
+	 * Write an unsigned varint.
+	 *
+	 * @param buffer the buffer to write to.
+	 * @param value the value to write, as unsigned.
+	 */
+	static void writeVarint(final ByteBuffer buffer, final long value)
+	{
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0L)
+		{
+			buffer.put((byte) (remaining | 0x80L));
+			remaining >>>= 7;
+		}
+		buffer.put((byte) remaining);
+	}
+
+	/**
+	 * Read an unsigned varint.
+	 *
+	 * @param buffer the buffer to read from.
+	 * @param maxBytes the most bytes the varint may take.
+	 * @return the value read.
+	 * @throws IllegalArgumentException if the varint takes more than {@code maxBytes}.
+	 */
+	static long readVarint(final ByteBuffer buffer, final int maxBytes)
+	{
+		long value = 0L;
+		for (int shift = 0; shift < maxBytes * 7; shift += 7)
+		{
+			final byte b = buffer.get();
+			value |= (b & 0x7FL) << shift;
+			if (b >= 0) { return value; }
+		}
+		throw new IllegalArgumentException("Varint longer than " + maxBytes + " bytes");
+	}
+
+	/**
+	 * @param value a value, as unsigned.
+	 * @return the number of bytes its varint takes.
+	 */
+	static int sizeOfVarint(final long value)
+	{
+		// One byte for every 7 significant bits, and at least one byte for zero
+		return (63 - Long.numberOfLeadingZeros(value | 1L)) / 7 + 1;
+	}
+}
@@ -0,0 +1,60 @@
+package org.udtopia.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleFunction;
+import org.udtopia.UDTDouble;
+import org.udtopia.Value;
+
+/**
+ * Write and read the raw values of a {@link UDTDouble} class to and from a {@link ByteBuffer}, heap or direct, as
+ * 8 bytes in the byte order of the buffer.
+ * <p>
+ * Values are read at the position of the buffer, and built by the factory of the class, which applies its rules.
+ * Pass a recycling factory to decode {@link org.udtopia.recycle.RecyclableDouble} values without garbage, and a
+ * factory that calls {@code recycleTrusted} to skip the rules for trusted sources.
+ *
+ * @param <T> the UDT class.
+ */
+public final @Value class UDTDoubleCodec<T extends UDTDouble<T>>
+{
+	// Builds decoded values
+	private final DoubleFunction<? extends T> _factory;
+
+	/** @param factory a method reference to the factory of the UDT class. */
+	public UDTDoubleCodec(final DoubleFunction<? extends T> factory) { _factory = factory; }
+
+	/**
+	 * @param buffer the buffer to write to, at its position.
+	 * @param value the value to write.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	public void write(final ByteBuffer buffer, final T value) { buffer.putDouble(value.getAsDouble()); }
+
+	/**
+	 * @param buffer the buffer to write to, at its position.
+	 * @param rawValue the raw value to write, without applying the rules of the class.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	public void writeRaw(final ByteBuffer buffer, final double rawValue) { buffer.putDouble(rawValue); }
+
+	/**
+	 * @param buffer the buffer to read from, at its position.
+	 * @return the value read, built by the factory.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+	 * @throws org.udtopia.rules.ValidationException if the value fails validation.
+	 */
+	public T read(final ByteBuffer buffer) { return _factory.apply(buffer.getDouble()); }
+
+	/**
+	 * @param buffer the buffer to read from, at its position.
+	 * @return the raw value read, without applying the rules of the class.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+	 */
+	public double readRaw(final ByteBuffer buffer) { return buffer.getDouble(); }
+
+	/**
+	 * @param value a value.
+	 * @return the number of bytes it takes.
+	 */
+	public int sizeOf(final T value) { return Double.BYTES; }
+}
@@ -0,0 +1,74 @@
+package org.udtopia.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongFunction;
+import org.udtopia.UDTLong;
+import org.udtopia.Value;
+
+/**
+ * Write and read the raw values of a {@link UDTLong} class to and from a {@link ByteBuffer}, heap or direct, in the
+ * chosen {@link Encoding}.
+ * <p>
+ * Values are read at the position of the buffer, and built by the factory of the class, which applies its rules.
+ * Pass a recycling factory to decode {@link org.udtopia.recycle.RecyclableLong} values without garbage, and a factory
+ * that calls {@code recycleTrusted} to skip the rules for trusted sources.
+ *
+ * @param <T> the UDT class.
+ */
+public final @Value class UDTLongCodec<T extends UDTLong<T>>
+{
+	// Builds decoded values
+	private final LongFunction<? extends T> _factory;
+
+	private final Encoding _encoding;
+
+	/**
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @param encoding how to write the raw values.
+	 */
+	public UDTLongCodec(final LongFunction<? extends T> factory, final Encoding encoding)
+	{
+		_factory = factory;
+		_encoding = encoding;
+	}
+
+	/** @return how the raw values are written. */
+	public Encoding getEncoding() { return _encoding; }
+
+	/**
+	 * @param buffer the buffer to write to, at its position.
+	 * @param value the value to write.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	public void write(final ByteBuffer buffer, final T value) { _encoding.writeLong(buffer, value.getAsLong()); }
+
+	/**
+	 * @param buffer the buffer to write to, at its position.
+	 * @param rawValue the raw value to write, without applying the rules of the class.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	public void writeRaw(final ByteBuffer buffer, final long rawValue) { _encoding.writeLong(buffer, rawValue); }
+
+	/**
+	 * @param buffer the buffer to read from, at its position.
+	 * @return the value read, built by the factory.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+	 * @throws IllegalArgumentException if a varint is too long.
+	 * @throws org.udtopia.rules.ValidationException if the value fails validation.
+	 */
+	public T read(final ByteBuffer buffer) { return _factory.apply(_encoding.readLong(buffer)); }
+
+	/**
+	 * @param buffer the buffer to read from, at its position.
+	 * @return the raw value read, without applying the rules of the class.
+	 * @throws java.nio.BufferUnderflowException if the buffer ends before the value.
+	 * @throws IllegalArgumentException if a varint is too long.
+	 */
+	public long readRaw(final ByteBuffer buffer) { return _encoding.readLong(buffer); }
+
+	/**
+	 * @param value a value.
+	 * @return the number of bytes it takes.
+	 */
+	public int sizeOf(final T value) { return _encoding.sizeOfLong(value.getAsLong()); }
+}
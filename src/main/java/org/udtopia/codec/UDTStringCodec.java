@@ -0,0 +1,138 @@
+package org.udtopia.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import org.udtopia.UDTString;
+import org.udtopia.Value;
+
+/**
+ * Write and read the raw values of a {@link UDTString} class to and from a {@link ByteBuffer}, heap or direct, as
+ * UTF-8 bytes after their length as a {@link Encoding#VARINT varint}.
+ * <p>
+ * Strings are encoded straight into the buffer, without an intermediate byte array; unpaired surrogates are written as
+ * {@code '?'}, as {@link String#getBytes} writes them.
+ * Values are read at the position of the buffer, and built by the factory of the class, which applies its rules.
+ * Reading a string from a direct buffer copies its bytes into a temporary array.
+ *
+ * @param <T> the UDT class.
+ */
+public final @Value class UDTStringCodec<T extends UDTString<T>>
+{
+	// The longest varint of an int length
+	private static final int _MAX_LENGTH_BYTES = 5;
+
+	// Builds decoded values
+	private final Function<? super String, ? extends T> _factory;
+
+	/** @param factory a method reference to the factory of the UDT class. */
+	public UDTStringCodec(final Function<? super String, ? extends T> factory) { _factory = factory; }
+
+	/**
+	 * @param buffer the buffer to write to, at its position.
+	 * @param value the value to write.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	public void write(final ByteBuffer buffer, final T value) { writeRaw(buffer, value.get()); }
+
+	/**
+	 * @param buffer the buffer to write to, at its position.
+	 * @param rawValue the raw value to write, without applying the rules of the class.
+	 * @throws java.nio.BufferOverflowException if the buffer has too little room.
+	 */
+	public void writeRaw(final ByteBuffer buffer, final String rawValue)
+	{
+		Encoding.writeVarint(buffer, _utf8Length(rawValue));
+		final int length = rawValue.length();
+		for (int i = 0; i < length; i++)
+		{
+			final char c = rawValue.charAt(i);
+			if (c < 0x80) { buffer.put((byte) c); }
+			else if (c < 0x800)
+			{
+				buffer.put((byte) (0xC0 | c >> 6));
+				buffer.put((byte) (0x80 | c & 0x3F));
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(rawValue.charAt(i + 1)))
+			{
+				final int codePoint = Character.toCodePoint(c, rawValue.charAt(++i));
+				buffer.put((byte) (0xF0 | codePoint >> 18));
+				buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+				buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+				buffer.put((byte) (0x80 | codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) { buffer.put((byte) '?'); }
+			else
+			{
+				buffer.put((byte) (0xE0 | c >> 12));
+				buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+				buffer.put((byte) (0x80 | c & 0x3F));
+			}
+		}
+	}
+
+	/**
+	 * @param buffer the buffer to read from, at its position.
+	 * @return the value read, built by the factory.
+	 * @throws BufferUnderflowException if the buffer ends before the value.
+	 * @throws IllegalArgumentException if the length is too long a varint.
+	 * @throws org.udtopia.rules.ValidationException if the value fails validation.
+	 */
+	public T read(final ByteBuffer buffer) { return _factory.apply(readRaw(buffer)); }
+
+	/**
+	 * @param buffer the buffer to read from, at its position.
+	 * @return the raw value read, without applying the rules of the class.
+	 * @throws BufferUnderflowException if the buffer ends before the value.
+	 * @throws IllegalArgumentException if the length is too long a varint.
+	 */
+	public String readRaw(final ByteBuffer buffer)
+	{
+		final long length = Encoding.readVarint(buffer, _MAX_LENGTH_BYTES);
+		if (length > buffer.remaining()) { throw new BufferUnderflowException(); }
+		final int size = (int) length;
+		if (buffer.hasArray())
+		{
+			final int position = buffer.position();
+			final String raw =
+				new String(buffer.array(), buffer.arrayOffset() + position, size, StandardCharsets.UTF_8);
+			buffer.position(position + size);
+			return raw;
+		}
+		final byte[] bytes = new byte[size];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param value a value.
+	 * @return the number of bytes it takes.
+	 */
+	public int sizeOf(final T value)
+	{
+		final int length = _utf8Length(value.get());
+		return Encoding.sizeOfVarint(length) + length;
+	}
+
+	// The number of UTF-8 bytes, as written by writeRaw
+	private static int _utf8Length(final String string)
+	{
+		final int length = string.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++)
+		{
+			final char c = string.charAt(i);
+			if (c >= 0x800 && Character.isHighSurrogate(c) && i + 1 < length
+				&& Character.isLowSurrogate(string.charAt(i + 1)))
+			{
+				// 4 bytes for 2 chars
+				bytes += 2;
+				i++;
+			}
+			else if (c >= 0x800 && !Character.isSurrogate(c)) { bytes += 2; }
+			else if (c >= 0x80 && c < 0x800) { bytes++; }
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,353 @@
+package org.udtopia.column;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.udtopia.IO;
+import org.udtopia.Mutable;
+
+import static java.lang.String.*;
+import static java.nio.channels.FileChannel.MapMode.*;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * A file of fixed-width raw values of one UDT class, mapped into memory in segments.
+ * <p>
+ * The file starts with a header of {@value #HEADER_BYTES} bytes, which records the UDT class, the type of its raw
+ * values, a hash of its rule annotations, and the number of values. The values follow, in little-endian byte order.
+ * Each segment of the values is mapped separately, so that a file may hold more than 2 GB of values, and the last
+ * segment is remapped at double the size when it is full. The file may be longer than its values.
+ */
+final @IO @Mutable class ColumnFile implements Closeable
+{
+	/** The number of bytes before the first value. */
+	static final int HEADER_BYTES = 4096;
+
+	/** The number of bytes of values in each mapped segment, by default. */
+	static final int DEFAULT_SEGMENT_BYTES = 1 << 30;
+
+	/** The offset of the hash of the rules in the header. */
+	static final int RULES_HASH_OFFSET = 24;
+
+	// "UDTCOLMN" in ASCII
+	private static final long _MAGIC = 0x5544_5443_4F4C_4D4EL;
+	private static final int _VERSION = 1;
+
+	// The offsets of the other fields of the header
+	private static final int _MAGIC_OFFSET = 0;
+	private static final int _VERSION_OFFSET = 8;
+	private static final int _KIND_OFFSET = 12;
+	private static final int _SIZE_OFFSET = 16;
+	private static final int _TYPE_LENGTH_OFFSET = 32;
+	private static final int _TYPE_OFFSET = 36;
+
+	// The size of the first mapping of the last segment
+	private static final int _MIN_MAPPING_BYTES = 64 * 1024;
+
+	// FNV-1a 64-bit hash parameters
+	private static final long _FNV_OFFSET_BASIS = 0xCBF2_9CE4_8422_2325L;
+	private static final long _FNV_PRIME = 0x0100_0000_01B3L;
+
+	private final Path _path;
+	private final FileChannel _channel;
+	private final MappedByteBuffer _header;
+
+	// Values are 1 << _valueShift bytes, with 1 << _segmentShift of them in each segment
+	private final int _valueShift;
+	private final int _segmentShift;
+	private final long _segmentMask;
+	private final int _segmentBytes;
+
+	// The mapped segments, with all but the last mapped in full
+	private MappedByteBuffer[] _segments = new MappedByteBuffer[0];
+	private long _capacity;
+	private long _size;
+	private boolean _closed;
+
+	/**
+	 * Open a column file, or create it if it does not exist.
+	 *
+	 * @param path the file.
+	 * @param type the UDT class of the values.
+	 * @param kind the JVM descriptor of the raw values: {@code 'I'}, {@code 'J'}, or {@code 'D'}.
+	 * @param valueBytes the size of a raw value, a power of two.
+	 * @param ruleType the type of the rules of the UDT class, to hash.
+	 * @param segmentBytes the number of bytes of values in each mapped segment, a power of two.
+	 * @throws IOException if the file cannot be opened, or holds other values.
+	 */
+	ColumnFile(
+		final Path path,
+		final Class<?> type,
+		final char kind,
+		final int valueBytes,
+		final Class<?> ruleType,
+		final int segmentBytes) throws IOException
+	{
+		_path = path;
+		_valueShift = Integer.numberOfTrailingZeros(valueBytes);
+		_segmentShift = Integer.numberOfTrailingZeros(segmentBytes) - _valueShift;
+		_segmentMask = (1L << _segmentShift) - 1L;
+		_segmentBytes = segmentBytes;
+
+		final byte[] typeName = type.getName().getBytes(StandardCharsets.UTF_8);
+		if (_TYPE_OFFSET + typeName.length > HEADER_BYTES)
+		{
+			throw new IllegalArgumentException("Class name too long for a column file: " + type.getName());
+		}
+		final long rulesHash = hashRules(describeRules(type, ruleType));
+
+		_channel = FileChannel.open(path, CREATE, READ, WRITE);
+		try
+		{
+			final long fileSize = _channel.size();
+			if (fileSize != 0L && fileSize < HEADER_BYTES) { throw _notColumn(); }
+			_header = _channel.map(READ_WRITE, 0L, HEADER_BYTES);
+			_header.order(ByteOrder.LITTLE_ENDIAN);
+			if (fileSize == 0L) { _writeHeader(kind, typeName, rulesHash); }
+			else { _checkHeader(type, kind, typeName, rulesHash, fileSize); }
+			_size = _header.getLong(_SIZE_OFFSET);
+			while (_capacity < _size) { _grow(); }
+		}
+		catch (final IOException | RuntimeException e)
+		{
+			_channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Describe the rule annotations of a class, the same way in every JVM.
+	 * Unlike the {@code toString()} of the rules, this does not depend on the rule classes, nor on whether assertions
+	 * are enabled, so that a column file written by one process can be opened by another.
+	 *
+	 * @param type a UDT class.
+	 * @param ruleType the type of the rules of the UDT class.
+	 * @return the names and values of each annotation on the class with a nested rule of the type, in order.
+	 */
+	static String describeRules(final Class<?> type, final Class<?> ruleType)
+	{
+		final StringBuilder description = new StringBuilder();
+		for (final Annotation annotation: type.getAnnotations())
+		{
+			final Class<? extends Annotation> annotationType = annotation.annotationType();
+			if (Arrays.stream(annotationType.getDeclaredClasses()).noneMatch(ruleType::isAssignableFrom)) { continue; }
+
+			description.append('@').append(annotationType.getName()).append('(');
+			final Method[] members = annotationType.getDeclaredMethods();
+			Arrays.sort(members, Comparator.comparing(Method::getName));
+			for (int i = 0; i < members.length; i++)
+			{
+				if (i > 0) { description.append(", "); }
+				description.append(members[i].getName()).append('=');
+				_describeValue(description, _memberValue(annotation, members[i]));
+			}
+			description.append(')');
+		}
+		return description.toString();
+	}
+
+	private static Object _memberValue(final Annotation annotation, final Method member)
+	{
+		try
+		{
+			member.setAccessible(true);
+			return member.invoke(annotation);
+		}
+		catch (final ReflectiveOperationException | RuntimeException e)
+		{
+			throw new IllegalArgumentException(
+				format("Cannot read %s of @%s", member.getName(), annotation.annotationType().getName()), e);
+		}
+	}
+
+	private static void _describeValue(final StringBuilder description, final Object value)
+	{
+		if (value.getClass().isArray())
+		{
+			description.append('{');
+			for (int i = 0; i < Array.getLength(value); i++)
+			{
+				if (i > 0) { description.append(", "); }
+				_describeValue(description, Array.get(value, i));
+			}
+			description.append('}');
+		}
+		else if (value instanceof Class) { description.append(((Class<?>) value).getName()); }
+		else if (value instanceof Enum) { description.append(((Enum<?>) value).name()); }
+		else { description.append(value); }
+	}
+
+	/**
+	 * @param rules a description of a chain of rules.
+	 * @return a 64-bit FNV-1a hash of the description.
+	 */
+	static long hashRules(final String rules)
+	{
+		long hash = _FNV_OFFSET_BASIS;
+		for (final byte b: rules.getBytes(StandardCharsets.UTF_8))
+		{
+			hash ^= b & 0xFFL;
+			hash *= _FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private void _writeHeader(final char kind, final byte[] typeName, final long rulesHash)
+	{
+		_header.putLong(_MAGIC_OFFSET, _MAGIC);
+		_header.putInt(_VERSION_OFFSET, _VERSION);
+		_header.put(_KIND_OFFSET, (byte) kind);
+		_header.putLong(_SIZE_OFFSET, 0L);
+		_header.putLong(RULES_HASH_OFFSET, rulesHash);
+		_header.putInt(_TYPE_LENGTH_OFFSET, typeName.length);
+		for (int i = 0; i < typeName.length; i++) { _header.put(_TYPE_OFFSET + i, typeName[i]); }
+	}
+
+	private void _checkHeader(
+		final Class<?> type,
+		final char kind,
+		final byte[] typeName,
+		final long rulesHash,
+		final long fileSize) throws IOException
+	{
+		if (_header.getLong(_MAGIC_OFFSET) != _MAGIC || _header.getInt(_VERSION_OFFSET) != _VERSION)
+		{
+			throw _notColumn();
+		}
+		final int typeLength = _header.getInt(_TYPE_LENGTH_OFFSET);
+		if (typeLength < 0 || _TYPE_OFFSET + typeLength > HEADER_BYTES) { throw _notColumn(); }
+		final byte[] storedName = new byte[typeLength];
+		for (int i = 0; i < typeLength; i++) { storedName[i] = _header.get(_TYPE_OFFSET + i); }
+		final char storedKind = (char) _header.get(_KIND_OFFSET);
+		if (storedKind != kind || !Arrays.equals(storedName, typeName))
+		{
+			throw new IOException(format("%s holds %s values of %s, not %s values of %s",
+				_path, _kindName(storedKind), new String(storedName, StandardCharsets.UTF_8),
+				_kindName(kind), type.getName()));
+		}
+		if (_header.getLong(RULES_HASH_OFFSET) != rulesHash)
+		{
+			throw new IOException(format("%s was written with other rules for %s", _path, type.getName()));
+		}
+		final long size = _header.getLong(_SIZE_OFFSET);
+		if (size < 0L || fileSize < HEADER_BYTES + (size << _valueShift))
+		{
+			throw new IOException(format("%s is truncated", _path));
+		}
+	}
+
+	private IOException _notColumn() { return new IOException(format("%s is not a column file", _path)); }
+
+	private static String _kindName(final char kind)
+	{
+		switch (kind)
+		{
+			case 'I': return "int";
+			case 'J': return "long";
+			case 'D': return "double";
+			default: return "'" + kind + "'";
+		}
+	}
+
+	/** @return the number of values. */
+	long size() { return _size; }
+
+	/**
+	 * @param index the index of a value.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 * @throws IllegalStateException if the file is closed.
+	 */
+	void checkIndex(final long index)
+	{
+		if (index < 0L || index >= _size)
+		{
+			_checkOpen();
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+		}
+	}
+
+	/**
+	 * @param index the index of a value, which must be mapped.
+	 * @return the segment holding the value.
+	 */
+	ByteBuffer segment(final long index) { return _segments[(int) (index >>> _segmentShift)]; }
+
+	/**
+	 * @param index the index of a value.
+	 * @return the offset of the value in its {@linkplain #segment(long) segment}.
+	 */
+	int offset(final long index) { return (int) (index & _segmentMask) << _valueShift; }
+
+	/**
+	 * @param index the index of a value, less than {@link #size()}.
+	 * @return the number of values from {@code index} to the end of its segment, or of the column if sooner.
+	 */
+	int runLength(final long index) { return (int) Math.min(_size - index, (_segmentMask & ~index) + 1L); }
+
+	/**
+	 * Make room for one more value, mapping more of the file if needed.
+	 *
+	 * @return the index of the new value, to write.
+	 * @throws IllegalStateException if the file is closed.
+	 * @throws UncheckedIOException if the file cannot be mapped.
+	 */
+	long append()
+	{
+		if (_size == _capacity)
+		{
+			_checkOpen();
+			try { _grow(); }
+			catch (final IOException e) { throw new UncheckedIOException(e); }
+		}
+		_header.putLong(_SIZE_OFFSET, _size + 1L);
+		return _size++;
+	}
+
+	// Double the mapping of the last segment, or map a new segment if the last is mapped in full
+	private void _grow() throws IOException
+	{
+		final int last = _segments.length - 1;
+		final boolean full = last < 0 || _segments[last].capacity() == _segmentBytes;
+		final int segment = full ? last + 1 : last;
+		final int bytes = full ? Math.min(_MIN_MAPPING_BYTES, _segmentBytes) : _segments[last].capacity() * 2;
+		final MappedByteBuffer mapping =
+			_channel.map(READ_WRITE, HEADER_BYTES + ((long) segment << _segmentShift << _valueShift), bytes);
+		mapping.order(ByteOrder.LITTLE_ENDIAN);
+		if (full) { _segments = Arrays.copyOf(_segments, segment + 1); }
+		_segments[segment] = mapping;
+		_capacity = ((long) segment << _segmentShift) + (bytes >> _valueShift);
+	}
+
+	/** Write changes to the storage device. */
+	void force()
+	{
+		_header.force();
+		for (final MappedByteBuffer segment: _segments) { segment.force(); }
+	}
+
+	private void _checkOpen()
+	{
+		if (_closed) { throw new IllegalStateException(format("%s is closed", _path)); }
+	}
+
+	/** Close the file, after which values cannot be read or added. */
+	@Override public void close() throws IOException
+	{
+		_closed = true;
+		_size = 0L;
+		_capacity = 0L;
+		_segments = new MappedByteBuffer[0];
+		_channel.close();
+	}
+}
@@ -0,0 +1,205 @@
+package org.udtopia.column;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import org.udtopia.IO;
+import org.udtopia.Mutable;
+import org.udtopia.UDTInt;
+import org.udtopia.recycle.Recyclable;
+import org.udtopia.rules.IntRule;
+
+/**
+ * An append-only column of {@link UDTInt} values, stored as raw {@code int} values in a memory-mapped file.
+ * <p>
+ * The file records the UDT class and a hash of its rules, and opening it as a column of another class, or after the
+ * rules of the class have changed, fails.
+ * Reading and scanning raw values never allocates, and the operating system pages the file in and out as needed, so a
+ * column may hold more values than fit in the heap.
+ * {@link #get(long)} and {@link #forEach(Consumer)} build instances of the UDT class with its factory; with the
+ * factory of a {@link org.udtopia.recycle.RecyclableInt} class, {@link #forEach(Consumer)} recycles one instance
+ * for every value.
+ * <p>
+ * Raw values are checked by the {@link IntRule}s of the UDT class when they are added, just as they would be by the
+ * constructor of the UDT class.
+ *
+ * @param <T> the UDT class of the values.
+ */
+public final @IO @Mutable class UDTIntColumn<T extends UDTInt<T>> implements Closeable
+{
+	// The UDT class, whose rules apply to raw values
+	private final Class<T> _type;
+
+	// The single-argument factory of the UDT class
+	private final IntFunction<? extends T> _factory;
+
+	private final ColumnFile _file;
+
+	/**
+	 * Open a column file, or create it if it does not exist.
+	 *
+	 * @param path the file.
+	 * @param type the UDT class of the values.
+	 * @param factory a method reference to the factory of the UDT class.
+	 * @throws IOException if the file cannot be opened, holds values of another class, or was written with other
+	 *     rules.
+	 */
+	public UDTIntColumn(final Path path, final Class<T> type, final IntFunction<? extends T> factory)
+		throws IOException
+	{
+		this(path, type, factory, ColumnFile.DEFAULT_SEGMENT_BYTES);
+	}
+
+	/**
+	 * @param segmentBytes the number of bytes of values in each mapped segment, a power of two.
+	 */
+	UDTIntColumn(
+		final Path path,
+		final Class<T> type,
+		final IntFunction<? extends T> factory,
+		final int segmentBytes) throws IOException
+	{
+		_type = type;
+		_factory = factory;
+		_file = new ColumnFile(path, type, 'I', Integer.BYTES, IntRule.class, segmentBytes);
+	}
+
+	/** @return the UDT class of the values. */
+	public Class<T> getType() { return _type; }
+
+	/** @return the number of values. */
+	public long size() { return _file.size(); }
+
+	/**
+	 * Read a raw value, without allocating an instance of the UDT class.
+	 *
+	 * @param index the index of the value.
+	 * @return the raw value at {@code index}.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 * @throws IllegalStateException if the column is closed.
+	 */
+	public int getAsInt(final long index)
+	{
+		_file.checkIndex(index);
+		return _file.segment(index).getInt(_file.offset(index));
+	}
+
+	/**
+	 * Build an instance of the UDT class from the raw value at {@code index}, with its factory.
+	 *
+	 * @param index the index of the value.
+	 * @return the value at {@code index}.
+	 * @throws IndexOutOfBoundsException if {@code index} is negative, or not less than {@link #size()}.
+	 * @throws IllegalStateException if the column is closed.
+	 */
+	public T get(final long index) { return _factory.apply(getAsInt(index)); }
+
+	/**
+	 * Append a raw value, after applying the rules of the UDT class.
+	 *
+	 * @param rawValue the raw value to append.
+	 * @throws org.udtopia.rules.ValidationException if the value fails validation.
+	 * @throws IllegalStateException if the column is closed.
+	 * @throws java.io.UncheckedIOException if the file cannot grow.
+	 */
+	public void add(final int rawValue) { _put(IntRule.applyRulesFor(_type, rawValue)); }
+
+	/**
+	 * Append a value.
+	 *
+	 * @param value the value to append.
+	 * @throws IllegalStateException if the column is closed.
+	 * @throws java.io.UncheckedIOException if the file cannot grow.
+	 */
+	public void add(final T value) { _put(value.getAsInt()); }
+
+	private void _put(final int rawValue)
+	{
+		final long index = _file.append();
+		_file.segment(index).putInt(_file.offset(index), rawValue);
+	}
+
+	/**
+	 * Copy a range of raw values into an array.
+	 *
+	 * @param fromIndex the index of the first value to copy.
+	 * @param dst the array to copy into.
+	 * @param offset the index in {@code dst} of the first value.
+	 * @param length the most values to copy.
+	 * @return the number of values copied: {@code length}, or fewer at the end of the column.
+	 * @throws IndexOutOfBoundsException if {@code fromIndex} is negative or greater than {@link #size()}, or the range
+	 *     of {@code dst} is out of bounds.
+	 */
+	public int read(final long fromIndex, final int[] dst, final int offset, final int length)
+	{
+		if (offset < 0 || length < 0 || offset > dst.length - length)
+		{
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+				") out of bounds for length " + dst.length);
+		}
+		if (fromIndex != size()) { _file.checkIndex(fromIndex); }
+		final int count = (int) Math.min(length, size() - fromIndex);
+		for (int i = 0; i < count; )
+		{
+			final long index = fromIndex + i;
+			final ByteBuffer segment = _file.segment(index);
+			final int run = Math.min(count - i, _file.runLength(index));
+			for (int j = 0, at = _file.offset(index); j < run; j++, at += Integer.BYTES)
+			{
+				dst[offset + i + j] = segment.getInt(at);
+			}
+			i += run;
+		}
+		return count;
+	}
+
+	/**
+	 * Perform an action for each raw value, in order, without allocating.
+	 *
+	 * @param action the action to perform.
+	 */
+	public void forEachRaw(final IntConsumer action)
+	{
+		final long size = size();
+		for (long index = 0L; index < size; )
+		{
+			final ByteBuffer segment = _file.segment(index);
+			final int run = _file.runLength(index);
+			for (int j = 0, at = _file.offset(index); j < run; j++, at += Integer.BYTES)
+			{
+				action.accept(segment.getInt(at));
+			}
+			index += run;
+		}
+	}
+
+	/**
+	 * Perform an action for each value, in order, built by the factory of the UDT class.
+	 * If the value is {@link Recyclable}, it is discarded when the action returns, so the action must not keep it.
+	 *
+	 * @param action the action to perform.
+	 */
+	public void forEach(final Consumer<? super T> action)
+	{
+		forEachRaw(rawValue ->
+		{
+			final T value = _factory.apply(rawValue);
+			action.accept(value);
+			if (value instanceof Recyclable) { ((Recyclable) value).discard(); }
+		});
+	}
+
+	/** Write added values to the storage device, as well as the number of values. */
+	public void force() { _file.force(); }
+
+	/**
+	 * Close the file. Added values are written by the operating system, even without {@link #force()}.
+	 *
+	 * @throws IOException if the file cannot be closed.
+	 */
+	@Override public void close() throws IOException { _file.close(); }
+}
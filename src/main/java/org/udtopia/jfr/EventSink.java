@@ -0,0 +1,36 @@
+package org.udtopia.jfr;
+
+import javax.annotation.Nullable;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Destination of UDTopia's diagnostic events.
+ */
+@ThreadSafe interface EventSink
+{
+	/**
+	 * @param type the class of the new instance.
+	 * @param binSize the size of the recycle bin that missed.
+	 */
+	void recycleMiss(Class<?> type, int binSize);
+
+	/**
+	 * @param target the class declaring the violated rule.
+	 * @param rule the rule that rejected the value, or null if it is not known.
+	 * @param failure the exception thrown by the rule.
+	 */
+	void validationFailure(Class<?> target, @Nullable Object rule, Throwable failure);
+
+	/** Sink that discards all events, when Java Flight Recorder is unavailable. */
+	EventSink NONE = new EventSink()
+	{
+		@Override public void recycleMiss(final Class<?> type, final int binSize) { }
+
+		@Override public void validationFailure(
+			final Class<?> target,
+			final @Nullable Object rule,
+			final Throwable failure)
+		{
+		}
+	};
+}
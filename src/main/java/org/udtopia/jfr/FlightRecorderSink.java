@@ -0,0 +1,48 @@
+package org.udtopia.jfr;
+
+import javax.annotation.Nullable;
+import jdk.jfr.EventType;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Sink that commits events to Java Flight Recorder.
+ * Loaded reflectively by {@link UDTopiaEvents}, only if JFR is available.
+ */
+final @ThreadSafe class FlightRecorderSink implements EventSink
+{
+	private final EventType _recycleMissType = EventType.getEventType(RecycleMissEvent.class);
+	private final EventType _validationFailureType = EventType.getEventType(ValidationFailureEvent.class);
+	private final Throttle _recycleMissThrottle;
+	private final Throttle _validationFailureThrottle;
+
+	FlightRecorderSink(final int maxEventsPerSecond)
+	{
+		_recycleMissThrottle = new Throttle(maxEventsPerSecond);
+		_validationFailureThrottle = new Throttle(maxEventsPerSecond);
+	}
+
+	@Override public void recycleMiss(final Class<?> type, final int binSize)
+	{
+		// Cheap check first, so there is no cost when not recording
+		if (!_recycleMissType.isEnabled() || !_recycleMissThrottle.tryAcquire()) { return; }
+
+		final RecycleMissEvent event = new RecycleMissEvent();
+		event.udtClass = type;
+		event.binSize = binSize;
+		event.suppressed = _recycleMissThrottle.takeSuppressed();
+		event.commit();
+	}
+
+	@Override public void validationFailure(final Class<?> target, final @Nullable Object rule, final Throwable failure)
+	{
+		// The rule is only described when the event is going to be recorded
+		if (!_validationFailureType.isEnabled() || !_validationFailureThrottle.tryAcquire()) { return; }
+
+		final ValidationFailureEvent event = new ValidationFailureEvent();
+		event.udtClass = target;
+		event.rule = UDTopiaEvents.describeRule(rule);
+		event.message = failure.getMessage();
+		event.suppressed = _validationFailureThrottle.takeSuppressed();
+		event.commit();
+	}
+}
@@ -0,0 +1,26 @@
+package org.udtopia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A recycle bin had no discarded instance available, and allocated a new one.
+ */
+@Name("org.udtopia.RecycleMiss")
+@Label("Recycle Miss")
+@Category({"UDTopia", "Recycle Bin"})
+@Description("A recycle bin had no discarded instance available, and allocated a new one")
+@StackTrace(false)
+final class RecycleMissEvent extends Event
+{
+	@Label("UDT Class") Class<?> udtClass;
+
+	@Label("Bin Size") int binSize;
+
+	@Label("Suppressed") @Description("Events not recorded since the previous one, due to throttling")
+	long suppressed;
+}
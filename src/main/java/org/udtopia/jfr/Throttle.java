@@ -0,0 +1,48 @@
+package org.udtopia.jfr;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Limits the rate of events to a maximum number per second, counting those suppressed.
+ * Approximate under contention, but lock-free.
+ */
+final @ThreadSafe @Mutable class Throttle
+{
+	private static final long _NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final int _maxPerSecond;
+	private final LongSupplier _nanoTime;
+	private final AtomicLong _second;
+	private final AtomicInteger _count = new AtomicInteger();
+	private final LongAdder _suppressed = new LongAdder();
+
+	Throttle(final int maxPerSecond, final LongSupplier nanoTime)
+	{
+		_maxPerSecond = maxPerSecond;
+		_nanoTime = nanoTime;
+		_second = new AtomicLong(nanoTime.getAsLong() / _NANOS_PER_SECOND);
+	}
+
+	Throttle(final int maxPerSecond) { this(maxPerSecond, System::nanoTime); }
+
+	/** @return whether an event may be committed now, without exceeding the maximum rate. */
+	boolean tryAcquire()
+	{
+		// Start counting again when a new second begins
+		final long now = _nanoTime.getAsLong() / _NANOS_PER_SECOND;
+		final long second = _second.get();
+		if (now != second && _second.compareAndSet(second, now)) { _count.set(0); }
+
+		if (_count.incrementAndGet() <= _maxPerSecond) { return true; }
+		_suppressed.increment();
+		return false;
+	}
+
+	/** @return the number of events suppressed since the last call, resetting the count to zero. */
+	long takeSuppressed() { return _suppressed.sumThenReset(); }
+}
@@ -0,0 +1,77 @@
+package org.udtopia.jfr;
+
+import javax.annotation.Nullable;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Java Flight Recorder events for recycle bin misses and validation failures, to help correlate them with GC activity.
+ * <p>
+ * The event classes are loaded reflectively, so UDTopia still runs on JVMs without JFR, where the events are simply
+ * discarded.
+ * When JFR is not recording these events, the cost of each one is a single check.
+ * When it is, each event type is throttled to at most {@value #DEFAULT_MAX_EVENTS_PER_SECOND} events per second,
+ * or the value of the system property {@value #MAX_EVENTS_PER_SECOND_PROPERTY}.
+ * Each recorded event includes the number of events suppressed since the previous one.
+ * <p>
+ * UDTopia reports these events itself, so apps do not need to call this class.
+ */
+public final @ThreadSafe class UDTopiaEvents
+{
+	/** System property to set the maximum number of events of each type recorded per second. */
+	public static final String MAX_EVENTS_PER_SECOND_PROPERTY = "udtopia.jfr.maxEventsPerSecond";
+
+	/** Default maximum number of events of each type recorded per second. */
+	public static final int DEFAULT_MAX_EVENTS_PER_SECOND = 100;
+
+	// Referenced by name, so this class can load without JFR
+	static final String FLIGHT_RECORDER_SINK = "org.udtopia.jfr.FlightRecorderSink";
+
+	private static final EventSink _SINK = loadSink(
+		FLIGHT_RECORDER_SINK,
+		Integer.getInteger(MAX_EVENTS_PER_SECOND_PROPERTY, DEFAULT_MAX_EVENTS_PER_SECOND));
+
+	private UDTopiaEvents() { }
+
+	/**
+	 * @param sinkClassName the name of the {@link EventSink} implementation class.
+	 * @param maxEventsPerSecond the maximum number of events of each type to record per second.
+	 * @return an instance of the sink class, or a sink that discards all events if it cannot be loaded.
+	 */
+	static EventSink loadSink(final String sinkClassName, final int maxEventsPerSecond)
+	{
+		try
+		{
+			Class.forName("jdk.jfr.Event");
+			return (EventSink) Class.forName(sinkClassName)
+				.getDeclaredConstructor(int.class)
+				.newInstance(maxEventsPerSecond);
+		}
+		catch (final ReflectiveOperationException | LinkageError | SecurityException e) { return EventSink.NONE; }
+	}
+
+	/**
+	 * Report that a recycle bin allocated a new instance, because no discarded instance was available.
+	 *
+	 * @param type the class of the new instance.
+	 * @param binSize the size of the recycle bin.
+	 */
+	public static void recycleMiss(final Class<?> type, final int binSize) { _SINK.recycleMiss(type, binSize); }
+
+	/**
+	 * Report that a raw value failed validation by a rule.
+	 *
+	 * @param target the class declaring the violated rule.
+	 * @param rule the rule that rejected the value, or null if it is not known.
+	 * @param failure the exception thrown by the rule.
+	 */
+	public static void validationFailure(final Class<?> target, final @Nullable Object rule, final Throwable failure)
+	{
+		_SINK.validationFailure(target, rule, failure);
+	}
+
+	/**
+	 * @param rule the rule that rejected a value, or null if it is not known.
+	 * @return the description of the rule, or "unknown".
+	 */
+	static String describeRule(final @Nullable Object rule) { return rule == null ? "unknown" : rule.toString(); }
+}
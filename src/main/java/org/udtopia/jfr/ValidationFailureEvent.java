@@ -0,0 +1,28 @@
+package org.udtopia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A raw value failed validation by a rule.
+ */
+@Name("org.udtopia.ValidationFailure")
+@Label("Validation Failure")
+@Category({"UDTopia", "Rules"})
+@Description("A raw value failed validation by a rule")
+@StackTrace(false)
+final class ValidationFailureEvent extends Event
+{
+	@Label("UDT Class") Class<?> udtClass;
+
+	@Label("Rule") @Description("The rule that rejected the value") String rule;
+
+	@Label("Message") String message;
+
+	@Label("Suppressed") @Description("Events not recorded since the previous one, due to throttling")
+	long suppressed;
+}
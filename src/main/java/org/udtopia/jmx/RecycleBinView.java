@@ -0,0 +1,57 @@
+package org.udtopia.jmx;
+
+import java.util.Date;
+import org.udtopia.Value;
+import org.udtopia.recycle.RecycleStats;
+
+/**
+ * A snapshot of the stats of one recycle bin, in a form that JMX clients can display.
+ */
+public final @Value class RecycleBinView
+{
+	private final String _className;
+	private final RecycleStats _stats;
+	private final long _instanceBytes;
+
+	RecycleBinView(final Class<?> type, final RecycleStats stats, final long instanceBytes)
+	{
+		_className = type.getName();
+		_stats = stats;
+		_instanceBytes = instanceBytes;
+	}
+
+	/** @return the name of the recycled class. */
+	public String getClassName() { return _className; }
+
+	/** @return the total number of instances the recycle bin can hold. */
+	public int getSize() { return _stats.getSize(); }
+
+	/** @return the number of instances in the recycle bin that are currently discarded, and ready to recycle. */
+	public int getOccupancy() { return _stats.getOccupancy(); }
+
+	/** @return the number of recycles that reused a discarded instance. */
+	public long getHits() { return _stats.getHits(); }
+
+	/** @return the number of recycles that had to allocate a new instance. */
+	public long getMisses() { return _stats.getMisses(); }
+
+	/** @return the proportion of recycles that reused a discarded instance. */
+	public double getHitRate() { return _stats.getHitRate(); }
+
+	/** @return the proportion of recycles that had to allocate a new instance. */
+	public double getMissRate() { return _stats.getRecycles() == 0 ? 0.0 : 1.0 - _stats.getHitRate(); }
+
+	/** @return the number of allocations avoided by recycling. */
+	public long getAllocationsAvoided() { return _stats.getHits(); }
+
+	/** @return an estimate of the shallow size of one instance of the recycled class, in bytes. */
+	public long getInstanceBytes() { return _instanceBytes; }
+
+	/** @return an estimate of the number of bytes of allocation avoided by recycling. */
+	public long getEstimatedBytesSaved() { return _stats.getHits() * _instanceBytes; }
+
+	/** @return when the stats were created or last reset. */
+	public Date getResetTime() { return Date.from(_stats.getResetTime()); }
+
+	@Override public String toString() { return _className + " " + _stats; }
+}
@@ -0,0 +1,24 @@
+package org.udtopia.jmx;
+
+import java.util.List;
+import org.udtopia.recycle.RecycleBin;
+
+/**
+ * Management interface for every {@link RecycleBin} in the app.
+ *
+ * @see UDTopiaMBeans#register()
+ */
+public interface RecycleBinsMXBean
+{
+	/** @return a snapshot of the stats of every recycle bin. */
+	List<RecycleBinView> getRecycleBins();
+
+	/** @return the total number of allocations avoided by recycling, across all recycle bins. */
+	long getAllocationsAvoided();
+
+	/** @return an estimate of the total number of bytes of allocation avoided by recycling, across all recycle bins. */
+	long getEstimatedBytesSaved();
+
+	/** Reset the stats of every recycle bin. */
+	void resetStats();
+}
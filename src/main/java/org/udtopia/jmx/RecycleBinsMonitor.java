@@ -0,0 +1,71 @@
+package org.udtopia.jmx;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import org.udtopia.ThreadSafe;
+import org.udtopia.recycle.RecycleBin;
+
+/**
+ * Implementation of {@link RecycleBinsMXBean}.
+ * Only reads the stats counters of each recycle bin, so it has no effect on the cost of recycling.
+ */
+final @ThreadSafe class RecycleBinsMonitor implements RecycleBinsMXBean
+{
+	// Approximate memory layout of a 64-bit JVM with compressed references
+	private static final long _HEADER_BYTES = 12L;
+	private static final long _REFERENCE_BYTES = 4L;
+	private static final long _ALIGNMENT_BYTES = 8L;
+
+	// Estimated shallow size of each recycled class
+	private static final ClassValue<Long> _INSTANCE_BYTES = new ClassValue<Long>()
+	{
+		@Override protected Long computeValue(final Class<?> type) { return estimateInstanceBytes(type); }
+	};
+
+	/**
+	 * @param type a class.
+	 * @return an estimate of the shallow size of one instance of the class, in bytes.
+	 */
+	static long estimateInstanceBytes(final Class<?> type)
+	{
+		long bytes = _HEADER_BYTES;
+		for (Class<?> c = type; c != null; c = c.getSuperclass())
+		{
+			for (final Field field: c.getDeclaredFields())
+			{
+				if (!Modifier.isStatic(field.getModifiers())) { bytes += _fieldBytes(field.getType()); }
+			}
+		}
+		return (bytes + _ALIGNMENT_BYTES - 1) / _ALIGNMENT_BYTES * _ALIGNMENT_BYTES;
+	}
+
+	private static long _fieldBytes(final Class<?> fieldType)
+	{
+		if (fieldType == long.class || fieldType == double.class) { return 8L; }
+		if (fieldType == int.class || fieldType == float.class) { return 4L; }
+		if (fieldType == short.class || fieldType == char.class) { return 2L; }
+		if (fieldType == byte.class || fieldType == boolean.class) { return 1L; }
+		return _REFERENCE_BYTES;
+	}
+
+	@Override public List<RecycleBinView> getRecycleBins()
+	{
+		final List<RecycleBinView> views = new ArrayList<>();
+		RecycleBin.forEach((type, bin) -> views.add(new RecycleBinView(type, bin.stats(), _INSTANCE_BYTES.get(type))));
+		return views;
+	}
+
+	@Override public long getAllocationsAvoided()
+	{
+		return getRecycleBins().stream().mapToLong(RecycleBinView::getAllocationsAvoided).sum();
+	}
+
+	@Override public long getEstimatedBytesSaved()
+	{
+		return getRecycleBins().stream().mapToLong(RecycleBinView::getEstimatedBytesSaved).sum();
+	}
+
+	@Override public void resetStats() { RecycleBin.forEach((type, bin) -> bin.resetStats()); }
+}
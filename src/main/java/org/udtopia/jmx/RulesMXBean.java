@@ -0,0 +1,18 @@
+package org.udtopia.jmx;
+
+import java.util.List;
+import org.udtopia.rules.RulesInfo;
+
+/**
+ * Management interface for the chains of rules cached for every annotated class.
+ *
+ * @see UDTopiaMBeans#register()
+ */
+public interface RulesMXBean
+{
+	/** @return a description of every chain of rules built so far. */
+	List<RulesView> getRules();
+
+	/** @return the total number of validation failures, across all classes with {@linkplain RulesInfo rules}. */
+	long getValidationFailures();
+}
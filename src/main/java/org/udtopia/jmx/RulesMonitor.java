@@ -0,0 +1,29 @@
+package org.udtopia.jmx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.udtopia.ThreadSafe;
+import org.udtopia.rules.RulesInfo;
+
+/**
+ * Implementation of {@link RulesMXBean}.
+ */
+final @ThreadSafe class RulesMonitor implements RulesMXBean
+{
+	@Override public List<RulesView> getRules()
+	{
+		final List<RulesView> views = new ArrayList<>();
+		RulesInfo.forEach(info -> views.add(new RulesView(info)));
+		return views;
+	}
+
+	@Override public long getValidationFailures()
+	{
+		// A class may have rules of more than one type, but its failures are counted only once
+		final Map<Class<?>, Long> failures = new HashMap<>();
+		RulesInfo.forEach(info -> failures.put(info.getAnnotatedClass(), info.getValidationFailures()));
+		return failures.values().stream().mapToLong(Long::longValue).sum();
+	}
+}
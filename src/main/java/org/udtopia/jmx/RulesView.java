@@ -0,0 +1,31 @@
+package org.udtopia.jmx;
+
+import org.udtopia.Value;
+import org.udtopia.rules.RulesInfo;
+
+/**
+ * A description of the chain of rules for one annotated class, in a form that JMX clients can display.
+ */
+public final @Value class RulesView
+{
+	private final RulesInfo _info;
+
+	RulesView(final RulesInfo info) { _info = info; }
+
+	/** @return the name of the class annotated with the rules. */
+	public String getClassName() { return _info.getAnnotatedClass().getName(); }
+
+	/** @return the simple name of the rule interface: {@code IntRule}, {@code StringRule}, etc. */
+	public String getRuleType() { return _info.getRuleType().getSimpleName(); }
+
+	/** @return the number of rules in the chain. */
+	public int getDepth() { return _info.getDepth(); }
+
+	/** @return a description of the rules in the chain, in the order they are applied. */
+	public String getRules() { return _info.getRules(); }
+
+	/** @return the number of validation failures for the annotated class, so far. */
+	public long getValidationFailures() { return _info.getValidationFailures(); }
+
+	@Override public String toString() { return _info.toString(); }
+}
@@ -0,0 +1,70 @@
+package org.udtopia.jmx;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Opt-in export of UDTopia's recycle bins and rules to the platform MBean server, for monitoring tools such as
+ * JConsole and VisualVM.
+ * Nothing is exported unless the app calls {@link #register()}.
+ */
+public final @ThreadSafe class UDTopiaMBeans
+{
+	/** Object name of the {@link RecycleBinsMXBean}. */
+	public static final String RECYCLE_BINS = "org.udtopia:type=RecycleBins";
+
+	/** Object name of the {@link RulesMXBean}. */
+	public static final String RULES = "org.udtopia:type=Rules";
+
+	private UDTopiaMBeans() { }
+
+	/**
+	 * Register the UDTopia MBeans with the platform MBean server.
+	 * Safe to call more than once.
+	 *
+	 * @throws IllegalStateException if the MBean server rejects the MBeans.
+	 */
+	public static synchronized void register()
+	{
+		_register(RECYCLE_BINS, new StandardMBean(new RecycleBinsMonitor(), RecycleBinsMXBean.class, true));
+		_register(RULES, new StandardMBean(new RulesMonitor(), RulesMXBean.class, true));
+	}
+
+	/**
+	 * Unregister the UDTopia MBeans from the platform MBean server.
+	 * Safe to call more than once.
+	 *
+	 * @throws IllegalStateException if the MBean server rejects the request.
+	 */
+	public static synchronized void unregister()
+	{
+		_unregister(RECYCLE_BINS);
+		_unregister(RULES);
+	}
+
+	private static void _register(final String name, final StandardMBean mbean)
+	{
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try
+		{
+			final ObjectName objectName = new ObjectName(name);
+			if (!server.isRegistered(objectName)) { server.registerMBean(mbean, objectName); }
+		}
+		catch (final JMException e) { throw new IllegalStateException("Cannot register " + name, e); }
+	}
+
+	private static void _unregister(final String name)
+	{
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try
+		{
+			final ObjectName objectName = new ObjectName(name);
+			if (server.isRegistered(objectName)) { server.unregisterMBean(objectName); }
+		}
+		catch (final JMException e) { throw new IllegalStateException("Cannot unregister " + name, e); }
+	}
+}
@@ -0,0 +1,29 @@
+package org.udtopia.pure;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Preconstruct the instances of a {@link PureInt} or {@link PureLong} class for a range of common values, and return
+ * them from the {@code valueOf} factories of the class, as {@link Integer#valueOf(int)} does.
+ * <p>
+ * The instances are built the first time {@code valueOf} is called, when the rules of the class are applied to each
+ * value in the range, once. Values the rules reject are not cached, so {@code valueOf} still throws for them.
+ * Pass the {@code valueOf} factory to the superclass constructor, so that {@code map}, {@code add}, {@code increment},
+ * and the other arithmetic methods return cached instances too.
+ */
+@Target(TYPE) @Retention(RUNTIME)
+public @interface CacheRange
+{
+	/** The largest number of values a range can hold. */
+	int MAX_SIZE = 1 << 20;
+
+	/** @return the lowest cached value. */
+	int min() default -128;
+
+	/** @return the highest cached value. */
+	int max() default 127;
+}
@@ -0,0 +1,225 @@
+package org.udtopia.pure;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+import org.udtopia.UDTLong;
+import org.udtopia.UDTString;
+import org.udtopia.Value;
+
+/**
+ * Bounded cache of the canonical instances of an {@link Interned} class.
+ * <p>
+ * The cache is a set-associative table: each raw value hashes to a set of {@value #WAYS} adjacent slots, and is held
+ * in one of them. Lookups compare the hashes of one set, then the raw value of a matching entry, without locking.
+ * Entries are keyed by the raw value given to the factory, before rules are applied, so that a raw value the rules
+ * change still hits the cache, and is never confused with another raw value that the rules change it to.
+ * When a set is full, a new value replaces the first one found by the CLOCK algorithm that has not been referenced
+ * since the hand last passed it.
+ * Concurrent misses for the same value may each add an instance, so equal values are not always the same instance.
+ *
+ * @param <T> the interned class.
+ */
+final @ThreadSafe @Mutable class InternCache<T>
+{
+	/** The number of slots in each set. */
+	static final int WAYS = 8;
+
+	// 2^32 divided by the golden ratio, to spread hashes of similar values across sets
+	private static final int _PHI = 0x9E3779B9;
+
+	// Disabled cache of classes that are not annotated
+	private static final InternCache<?> _DISABLED = new InternCache<>(0);
+
+	/** Lazy store of the interning cache for every class. */
+	private static final ClassValue<InternCache<?>> _FOR_CLASS = new @ThreadSafe ClassValue<InternCache<?>>()
+	{
+		@Override protected InternCache<?> computeValue(final Class<?> type)
+		{
+			final Interned interned = type.getAnnotation(Interned.class);
+			return interned == null ? _DISABLED : new InternCache<>(interned.maxSize());
+		}
+	};
+
+	// The canonical instances and their raw values, in sets of WAYS adjacent slots
+	private final AtomicReferenceArray<Entry<T>> _slots;
+
+	// The hash of the raw value in each slot, to compare before reading the entry.
+	// A stale hash only causes a miss, since the raw value of the entry is compared too.
+	private final int[] _hashes;
+
+	// CLOCK state: whether each slot has been looked up since the hand passed it, and the hand of each set.
+	// Races only affect which value is evicted, so plain reads and writes are enough.
+	private final boolean[] _referenced;
+	private final int[] _hands;
+
+	// Mask to round a hash down to the first slot of a set
+	private final int _setMask;
+
+	/** A canonical instance, and the raw value it was created from, read together from one slot. */
+	private static final @Value class Entry<T>
+	{
+		// The raw value: a string, or a long if the string is null
+		private final long _longKey;
+		private final @Nullable String _stringKey;
+
+		private final T _instance;
+
+		Entry(final long longKey, final @Nullable String stringKey, final T instance)
+		{
+			_longKey = longKey;
+			_stringKey = stringKey;
+			_instance = instance;
+		}
+	}
+
+	/** @param maxSize the maximum number of instances, rounded up to a power of two of at least {@value #WAYS}. */
+	InternCache(final int maxSize)
+	{
+		final int size = maxSize <= 0 ? 0 : Math.max(WAYS, Integer.highestOneBit(maxSize - 1) << 1);
+		_slots = new AtomicReferenceArray<>(size);
+		_hashes = new int[size];
+		_referenced = new boolean[size];
+		_hands = new int[size / WAYS];
+		_setMask = (size - 1) & -WAYS;
+	}
+
+	/**
+	 * @param type a class that may be annotated with {@link Interned}.
+	 * @param <T> the class.
+	 * @return the interning cache for the class.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> InternCache<T> forClass(final Class<T> type) { return (InternCache<T>) _FOR_CLASS.get(type); }
+
+	/** @return {@code true} if the class is annotated with {@link Interned}. */
+	boolean isEnabled() { return _slots.length() != 0; }
+
+	/** @return the number of instances the cache can hold. */
+	int capacity() { return _slots.length(); }
+
+	/**
+	 * @param rawValue the raw value given to the factory.
+	 * @return the cached instance created from the raw value, or null if there is none.
+	 */
+	@Nullable T find(final long rawValue)
+	{
+		final int hash = Long.hashCode(rawValue);
+		final int set = _set(hash);
+		for (int slot = set; slot < set + WAYS; slot++)
+		{
+			if (_hashes[slot] == hash)
+			{
+				final Entry<T> entry = _slots.get(slot);
+				if (entry != null && entry._stringKey == null && entry._longKey == rawValue)
+				{
+					_reference(slot);
+					return entry._instance;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param rawValue the raw value given to the factory.
+	 * @return the cached instance created from the raw value, or null if there is none.
+	 */
+	@Nullable T find(final String rawValue)
+	{
+		final int hash = rawValue.hashCode();
+		final int set = _set(hash);
+		for (int slot = set; slot < set + WAYS; slot++)
+		{
+			if (_hashes[slot] == hash)
+			{
+				final Entry<T> entry = _slots.get(slot);
+				if (entry != null && rawValue.equals(entry._stringKey))
+				{
+					_reference(slot);
+					return entry._instance;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Add a new instance under the raw value it was created from, unless the cache already holds one.
+	 * If the rules of the class changed the raw value, such as trimming spaces, and the cache holds an instance
+	 * created from the changed value, with the same value, that instance is added instead.
+	 *
+	 * @param created a new instance.
+	 * @param rawValue the raw value given to the factory.
+	 * @return the canonical instance for the raw value.
+	 */
+	T intern(final T created, final long rawValue)
+	{
+		final T cached = find(rawValue);
+		if (cached != null) { return cached; }
+		final long value = ((UDTLong<?>) created).getAsLong();
+		final T canonical = value == rawValue ? null : find(value);
+		final T instance = canonical != null && ((UDTLong<?>) canonical).getAsLong() == value ? canonical : created;
+		return _add(Long.hashCode(rawValue), new Entry<>(rawValue, null, instance));
+	}
+
+	/**
+	 * Add a new instance under the raw value it was created from, unless the cache already holds one.
+	 * If the rules of the class changed the raw value, such as trimming spaces, and the cache holds an instance
+	 * created from the changed value, with the same value, that instance is added instead.
+	 *
+	 * @param created a new instance.
+	 * @param rawValue the raw value given to the factory.
+	 * @return the canonical instance for the raw value.
+	 */
+	T intern(final T created, final String rawValue)
+	{
+		final T cached = find(rawValue);
+		if (cached != null) { return cached; }
+		final String value = ((UDTString<?>) created).get();
+		final T canonical = value.equals(rawValue) ? null : find(value);
+		final T instance = canonical != null && ((UDTString<?>) canonical).get().equals(value) ? canonical : created;
+		return _add(rawValue.hashCode(), new Entry<>(0L, rawValue, instance));
+	}
+
+	// Add to a free slot of the set, if any; otherwise, replace the slot under the CLOCK hand
+	private T _add(final int hash, final Entry<T> entry)
+	{
+		final int set = _set(hash);
+		for (int slot = set; slot < set + WAYS; slot++)
+		{
+			if (_slots.compareAndSet(slot, null, entry))
+			{
+				_hashes[slot] = hash;
+				return entry._instance;
+			}
+		}
+
+		// Give each referenced slot a second chance, until the hand finds one that is not
+		final int setIndex = set / WAYS;
+		int hand = _hands[setIndex];
+		for (int i = 0; i < WAYS && _referenced[set + hand]; i++)
+		{
+			_referenced[set + hand] = false;
+			hand = (hand + 1) % WAYS;
+		}
+		_hashes[set + hand] = hash;
+		_slots.set(set + hand, entry);
+		_hands[setIndex] = (hand + 1) % WAYS;
+		return entry._instance;
+	}
+
+	// Skip the write if already referenced, so that lookups of popular values do not keep invalidating the cache line
+	private void _reference(final int slot)
+	{
+		if (!_referenced[slot]) { _referenced[slot] = true; }
+	}
+
+	// The first slot of the set for a hash
+	private int _set(final int hash)
+	{
+		final int mixed = hash * _PHI;
+		return (mixed ^ (mixed >>> 16)) & _setMask;
+	}
+}
@@ -0,0 +1,27 @@
+package org.udtopia.pure;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Opt in to returning canonical instances from the {@code intern} factories of {@link PureString} and
+ * {@link PureLong}, for classes that are built from a small vocabulary of values, many times over.
+ * <p>
+ * Interned instances are held in a bounded cache for each class.
+ * Instances are cached by the raw value given to {@code intern}, so rules are applied only the first time each raw
+ * value is given, and equal values are usually the same instance, so that {@code eq()} returns on its first check.
+ * When the cache is full, the least recently used values are evicted by the CLOCK algorithm.
+ * Interning is an optimization only: equal values are not guaranteed to be the same instance.
+ */
+@Target(TYPE) @Retention(RUNTIME)
+public @interface Interned
+{
+	/** Default maximum number of interned instances. */
+	int DEFAULT_MAX_SIZE = 1024;
+
+	/** @return the maximum number of interned instances, rounded up to a power of two. */
+	int maxSize() default DEFAULT_MAX_SIZE;
+}
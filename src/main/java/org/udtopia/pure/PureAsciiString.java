@@ -0,0 +1,245 @@
+package org.udtopia.pure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import javax.annotation.Nullable;
+import org.udtopia.UDTComparable;
+import org.udtopia.Value;
+import org.udtopia.assertion.Assert;
+import org.udtopia.rules.StringRule;
+import org.udtopia.rules.ValidationException;
+
+/**
+ * A pure, immutable value type wrapping an ASCII string, stored as bytes rather than as a {@link String}.
+ * <p>
+ * The first {@value #PACKED_LENGTH} characters are packed into two {@code long}s, one byte each, and any more are
+ * stored in a byte array. For a value of up to {@value #PACKED_LENGTH} characters, that is one object of 40 bytes,
+ * instead of the three objects of a {@link PureString}: about 72 bytes for 8 characters.
+ * {@link #hashCode()}, {@link #eq}, and {@link #compareTo(PureAsciiString)} work on the packed {@code long}s, without
+ * looping over the characters, and {@link #length()} and {@link #charAt(int)} without building a string.
+ * {@link #get()} builds a new {@link String} on each call.
+ * <p>
+ * Raw values are checked by the {@link StringRule}s of the subclass, and then must only contain ASCII characters.
+ *
+ * @param <This> self-reference to the subclass type itself.
+ */
+public abstract @Value class PureAsciiString<This extends PureAsciiString<This>>
+	implements UDTComparable<This>, CharSequence, Supplier<String>
+{
+	/** The number of characters packed into {@code long}s. */
+	public static final int PACKED_LENGTH = 2 * Long.BYTES;
+
+	// 2^64 divided by the golden ratio, to mix the packed characters into a hash
+	private static final long _PHI = 0x9E3779B97F4A7C15L;
+
+	// The single-argument factory of the subclass
+	private final Function<? super String, This> _factory;
+
+	// The first 16 characters, the first in the most significant byte of _high, padded with zeros.
+	// Unsigned comparison of the two longs is lexicographic comparison of the characters.
+	private final long _high, _low;
+
+	// The characters after the first 16, or null if none
+	private final @Nullable byte[] _rest;
+
+	private final int _length;
+
+	/**
+	 * @param factory a method reference to the factory of the implementing subclass.
+	 * @param rawValue the raw value this object will represent.
+	 * @throws ValidationException if the value fails validation, or has non-ASCII characters.
+	 */
+	protected PureAsciiString(final Function<? super String, This> factory, final String rawValue)
+	{
+		Assert.nonNull(rawValue, "Raw value must not be null");
+		_factory = factory;
+		final String raw = StringRule.applyRulesFor(getClass(), rawValue);
+		_length = raw.length();
+		_high = _pack(raw, 0);
+		_low = _pack(raw, Long.BYTES);
+		if (_length <= PACKED_LENGTH) { _rest = null; }
+		else
+		{
+			_rest = new byte[_length - PACKED_LENGTH];
+			for (int i = 0; i < _rest.length; i++) { _rest[i] = (byte) _ascii(raw, PACKED_LENGTH + i); }
+		}
+	}
+
+	// Pack up to 8 characters from start, the first in the most significant byte
+	private long _pack(final String raw, final int start)
+	{
+		long packed = 0L;
+		for (int i = 0; i < Long.BYTES && start + i < _length; i++)
+		{
+			packed |= (long) _ascii(raw, start + i) << (Long.SIZE - Byte.SIZE * (i + 1));
+		}
+		return packed;
+	}
+
+	private char _ascii(final String raw, final int index)
+	{
+		final char c = raw.charAt(index);
+		if (c > 0x7F) { throw new ValidationException(getClass(), "Non-ASCII character at index " + index + ": " + c); }
+		return c;
+	}
+
+	/** @return the raw value, as a new string. */
+	@Override public final String get()
+	{
+		final byte[] bytes = new byte[_length];
+		for (int i = 0; i < _length; i++) { bytes[i] = (byte) charAt(i); }
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Wrap the raw value in another type.
+	 *
+	 * @param factory a constructor or factory method reference for the desired type.
+	 * @param <Result> the return type.
+	 * @return the output of the factory.
+	 */
+	public final <Result> Result getAs(final Function<? super String, Result> factory) { return factory.apply(get()); }
+
+	/** @return a hash code of the packed characters, which differs from the hash code of the raw string. */
+	@Override public final int hashCode()
+	{
+		long hash = (_high * _PHI + _low) * _PHI + _length;
+		if (_rest != null) { hash = hash * 31 + Arrays.hashCode(_rest); }
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/** @return true if the raw values are equal, and the objects are the same type. */
+	@SuppressWarnings("unchecked")
+	@Override public final boolean equals(final @Nullable Object obj)
+	{
+		return obj != null && getClass().equals(obj.getClass()) && eq((This) obj);
+	}
+
+	/**
+	 * Compare to a non-null object of the same type.
+	 * This implementation skips the null and type checks, so it may be faster than {@link #equals(Object)}.
+	 *
+	 * @param that a non-null instance of the same type.
+	 * @return true if the objects are equal.
+	 * @throws NullPointerException if {@code that} is null.
+	 */
+	public final boolean eq(final This that)
+	{
+		Assert.nonNull(that, "eq() does not support null");
+		final PureAsciiString<?> other = that;
+		return this._high == other._high && this._low == other._low && this._length == other._length
+			&& Arrays.equals(this._rest, other._rest);
+	}
+
+	/**
+	 * Override this method to provide custom {@link Object#toString} formatting.
+	 * The default returns the raw string value.
+	 */
+	@SuppressWarnings("DesignForExtension")
+	@Override public String toString() { return get(); }
+
+	@Override public final int length() { return _length; }
+
+	/** @return {@code true} if the raw string value is zero-length. */
+	public final boolean isEmpty() { return _length == 0; }
+
+	@Override public final char charAt(final int index)
+	{
+		if (index < 0 || index >= _length) { throw new StringIndexOutOfBoundsException(index); }
+		if (index >= PACKED_LENGTH) { return (char) _rest[index - PACKED_LENGTH]; }
+		final long packed = index < Long.BYTES ? _high : _low;
+		return (char) (packed >>> (Long.SIZE - Byte.SIZE * (index % Long.BYTES + 1)) & 0x7F);
+	}
+
+	@Override public final This subSequence(final int start, final int end)
+	{
+		return map(raw -> raw.substring(start, end));
+	}
+
+	/**
+	 * Build a new value of this type with the raw underlying value converted by {@code mapper}.
+	 *
+	 * @param mapper the mapping function to apply to the raw underlying value.
+	 * @return a new instance of this type.
+	 */
+	public final This map(final UnaryOperator<String> mapper)
+	{
+		final String raw = get();
+		final String mapped = mapper.apply(raw);
+		if (mapped.equals(raw))
+		{
+			@SuppressWarnings("unchecked") final This self = (This) this;
+			return self;
+		}
+		return _factory.apply(mapped);
+	}
+
+	/**
+	 * Convert to another type by applying a mapping function to the raw value and passing to a {@code factory}.
+	 *
+	 * @param mapper the mapping function to apply to the raw underlying value.
+	 * @param factory a constructor/factory of the desired result type.
+	 * @param <Result> the resulting type.
+	 * @return the result of the {@code factory} function.
+	 */
+	public final <Result> Result map(
+		final UnaryOperator<String> mapper,
+		final Function<? super String, ? extends Result> factory)
+	{
+		return factory.apply(mapper.apply(get()));
+	}
+
+	/**
+	 * Test the raw value with {@code condition}.
+	 *
+	 * @param condition a {@link Predicate} that tests the raw value.
+	 * @return {@code true} if the underlying raw value satisfies {@code condition}; {@code false} otherwise.
+	 */
+	public final boolean is(final Predicate<? super String> condition) { return condition.test(get()); }
+
+	/**
+	 * Reverse of {@link #is(Predicate)}.
+	 *
+	 * @param condition a {@link Predicate} that tests the raw value.
+	 * @return {@code false} if the underlying raw value satisfies {@code condition}; {@code true} otherwise.
+	 */
+	public final boolean isNot(final Predicate<? super String> condition) { return !is(condition); }
+
+	/** Compare the raw values, in the same order as {@link String#compareTo}, from the packed characters. */
+	@Override public final int compareTo(final This that)
+	{
+		final PureAsciiString<?> other = that;
+		if (this._high != other._high) { return Long.compareUnsigned(this._high, other._high); }
+		if (this._low != other._low) { return Long.compareUnsigned(this._low, other._low); }
+
+		// The first 16 characters are equal, or padded with zeros
+		if (this._rest != null && other._rest != null)
+		{
+			final int length = Math.min(this._rest.length, other._rest.length);
+			for (int i = 0; i < length; i++)
+			{
+				if (this._rest[i] != other._rest[i]) { return this._rest[i] - other._rest[i]; }
+			}
+		}
+		return this._length - other._length;
+	}
+
+	/**
+	 * @param that a value to compare with.
+	 * @return negative if {@code this} is less than {@code that}, positive if greater, or zero if equal.
+	 */
+	public final int compareTo(final String that)
+	{
+		final int length = Math.min(_length, that.length());
+		for (int i = 0; i < length; i++)
+		{
+			final char c = charAt(i);
+			if (c != that.charAt(i)) { return c - that.charAt(i); }
+		}
+		return _length - that.length();
+	}
+}
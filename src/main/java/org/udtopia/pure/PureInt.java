@@ -39,5 +39,24 @@ public abstract @Value class PureInt<This extends PureInt<This>> extends UDTInt<
 		return factory.apply(Integer.parseInt(string));
 	}
 
+	/**
+	 * Return the preconstructed instance with the specified value, if the class is annotated with {@link CacheRange}
+	 * and the value is in its range; otherwise, call the constructor.
+	 *
+	 * @param type the cached class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the raw value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return a cached or new instance.
+	 */
+	protected static <This extends PureInt<This>> This valueOf(
+		final Class<This> type,
+		final IntFunction<? extends This> constructor,
+		final int rawValue)
+	{
+		final This cached = RangeCache.forClass(type).getInt(rawValue, constructor);
+		return cached == null ? constructor.apply(rawValue) : cached;
+	}
+
 	@Override public final int getAsInt() { return _raw; }
 }
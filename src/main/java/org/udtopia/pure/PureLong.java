@@ -39,5 +39,48 @@ public abstract @Value class PureLong<This extends PureLong<This>> extends UDTLo
 		return factory.apply(Long.parseLong(string));
 	}
 
+	/**
+	 * Return the preconstructed instance with the specified value, if the class is annotated with {@link CacheRange}
+	 * and the value is in its range; otherwise, call the constructor.
+	 *
+	 * @param type the cached class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the raw value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return a cached or new instance.
+	 */
+	protected static <This extends PureLong<This>> This valueOf(
+		final Class<This> type,
+		final LongFunction<? extends This> constructor,
+		final long rawValue)
+	{
+		final This cached = RangeCache.forClass(type).getLong(rawValue, constructor);
+		return cached == null ? constructor.apply(rawValue) : cached;
+	}
+
+	/**
+	 * Return the canonical instance with the specified value, if the class is annotated with {@link Interned}.
+	 * Instances are cached by the raw value given, so rules are applied only the first time each raw value is given.
+	 * If the class is not annotated, this is the same as calling the constructor.
+	 *
+	 * @param type the interned class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the raw value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return an interned or new instance.
+	 */
+	protected static <This extends PureLong<This>> This intern(
+		final Class<This> type,
+		final LongFunction<? extends This> constructor,
+		final long rawValue)
+	{
+		final InternCache<This> cache = InternCache.forClass(type);
+		if (!cache.isEnabled()) { return constructor.apply(rawValue); }
+		final This cached = cache.find(rawValue);
+		if (cached != null) { return cached; }
+		final This created = constructor.apply(rawValue);
+		return cache.intern(created, rawValue);
+	}
+
 	@Override public final long getAsLong() { return _raw; }
 }
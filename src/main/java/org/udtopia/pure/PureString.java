@@ -24,5 +24,29 @@ public abstract @Value class PureString<This extends PureString<This>> extends U
 		_raw = applyRules(getClass(), rawValue);
 	}
 
+	/**
+	 * Return the canonical instance with the specified value, if the class is annotated with {@link Interned}.
+	 * Instances are cached by the raw value given, so rules are applied only the first time each raw value is given.
+	 * If the class is not annotated, this is the same as calling the constructor.
+	 *
+	 * @param type the interned class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the raw value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return an interned or new instance.
+	 */
+	protected static <This extends PureString<This>> This intern(
+		final Class<This> type,
+		final Function<? super String, ? extends This> constructor,
+		final String rawValue)
+	{
+		final InternCache<This> cache = InternCache.forClass(type);
+		if (!cache.isEnabled()) { return constructor.apply(rawValue); }
+		final This cached = cache.find(rawValue);
+		if (cached != null) { return cached; }
+		final This created = constructor.apply(rawValue);
+		return cache.intern(created, rawValue);
+	}
+
 	@Override public final String get() { return _raw; }
 }
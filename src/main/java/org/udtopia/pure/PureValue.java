@@ -29,8 +29,8 @@ public abstract @Value class PureValue<Raw, This extends PureValue<Raw, This>> e
 		final Function<? super Raw, ? extends Raw> defensiveCopier)
 	{
 		super(factory, defensiveCopier);
-		Assert.notNull(() -> rawValue, "Raw value must not be null");
-		Assert.not(() -> rawValue.getClass().isArray(), "Raw value must not be an array");
+		Assert.nonNull(rawValue, "Raw value must not be null");
+		Assert.not(rawValue, raw -> raw.getClass().isArray(), "Raw value must not be an array");
 		_raw = defensiveCopier.apply(rawValue);
 	}
 
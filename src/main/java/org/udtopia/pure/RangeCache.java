@@ -0,0 +1,133 @@
+package org.udtopia.pure;
+
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+import org.udtopia.rules.IntRule;
+import org.udtopia.rules.LongRule;
+import org.udtopia.rules.ValidationResult;
+
+/**
+ * The preconstructed instances of a {@link CacheRange} class, one for each value in the range.
+ * <p>
+ * The instances are built without locking on first use, by the constructor the caller passes.
+ * Threads that race to build them each build a full set, and the last one built is kept.
+ *
+ * @param <T> the cached class.
+ */
+final @ThreadSafe @Mutable class RangeCache<T>
+{
+	// Disabled cache of classes that are not annotated, whose range is empty
+	private static final RangeCache<?> _DISABLED = new RangeCache<>(Object.class, 0, -1);
+
+	/** Lazy store of the range cache for every class. */
+	private static final ClassValue<RangeCache<?>> _FOR_CLASS = new @ThreadSafe ClassValue<RangeCache<?>>()
+	{
+		@Override protected RangeCache<?> computeValue(final Class<?> type)
+		{
+			final CacheRange range = type.getAnnotation(CacheRange.class);
+			if (range == null) { return _DISABLED; }
+			if (range.max() < range.min())
+			{
+				throw new IllegalArgumentException(
+					type.getSimpleName() + ": minimum " + range.min() + " exceeds maximum " + range.max());
+			}
+			if ((long) range.max() - range.min() >= CacheRange.MAX_SIZE)
+			{
+				throw new IllegalArgumentException(type.getSimpleName() + ": range " + range.min() + ".."
+					+ range.max() + " holds more than " + CacheRange.MAX_SIZE + " values");
+			}
+			return new RangeCache<>(type, range.min(), range.max());
+		}
+	};
+
+	// The cached class, whose rules decide which values are cached
+	private final Class<?> _type;
+
+	private final int _min;
+	private final int _max;
+
+	// The instance for each value from _min, or null for values the rules reject; null until first use
+	private volatile Object[] _instances;
+
+	/**
+	 * @param type the cached class.
+	 * @param min the lowest cached value.
+	 * @param max the highest cached value, or {@code min - 1} for an empty range.
+	 */
+	RangeCache(final Class<?> type, final int min, final int max)
+	{
+		_type = type;
+		_min = min;
+		_max = max;
+	}
+
+	/**
+	 * @param type a class that may be annotated with {@link CacheRange}.
+	 * @param <T> the class.
+	 * @return the range cache for the class.
+	 * @throws IllegalArgumentException if the range of the class is reversed or holds too many values.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> RangeCache<T> forClass(final Class<T> type) { return (RangeCache<T>) _FOR_CLASS.get(type); }
+
+	/** @return the number of values in the range. */
+	int size() { return _max - _min + 1; }
+
+	/**
+	 * @param rawValue a raw value.
+	 * @param constructor a method reference to the constructor of the class, to build the instances on first use.
+	 * @return the cached instance for the raw value, or null if it is outside the range or rejected by the rules.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable T getInt(final int rawValue, final IntFunction<? extends T> constructor)
+	{
+		if (rawValue < _min || rawValue > _max) { return null; }
+		Object[] instances = _instances;
+		if (instances == null) { instances = _buildInts(constructor); }
+		return (T) instances[rawValue - _min];
+	}
+
+	/**
+	 * @param rawValue a raw value.
+	 * @param constructor a method reference to the constructor of the class, to build the instances on first use.
+	 * @return the cached instance for the raw value, or null if it is outside the range or rejected by the rules.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable T getLong(final long rawValue, final LongFunction<? extends T> constructor)
+	{
+		if (rawValue < _min || rawValue > _max) { return null; }
+		Object[] instances = _instances;
+		if (instances == null) { instances = _buildLongs(constructor); }
+		return (T) instances[(int) (rawValue - _min)];
+	}
+
+	// Check the rules without exceptions, so that building does not count validation failures
+	private Object[] _buildInts(final IntFunction<? extends T> constructor)
+	{
+		final Object[] instances = new Object[size()];
+		final ValidationResult result = new ValidationResult();
+		for (int i = 0; i < instances.length; i++)
+		{
+			IntRule.tryApplyRulesFor(_type, _min + i, result);
+			if (result.isValid()) { instances[i] = constructor.apply(_min + i); }
+		}
+		_instances = instances;
+		return instances;
+	}
+
+	private Object[] _buildLongs(final LongFunction<? extends T> constructor)
+	{
+		final Object[] instances = new Object[size()];
+		final ValidationResult result = new ValidationResult();
+		for (int i = 0; i < instances.length; i++)
+		{
+			LongRule.tryApplyRulesFor(_type, _min + i, result);
+			if (result.isValid()) { instances[i] = constructor.apply(_min + i); }
+		}
+		_instances = instances;
+		return instances;
+	}
+}
@@ -0,0 +1,36 @@
+package org.udtopia.recycle;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Let the {@linkplain RecycleBin instance pool} grow and shrink between a minimum and maximum size, according to its
+ * observed miss rate.
+ * Both sizes are rounded up to the next power of two.
+ * Takes precedence over {@link RecycleBinSize @RecycleBinSize}.
+ * <p>
+ * Applies to {@link AllocationThreads#SINGLE_THREADED} and {@link AllocationThreads#THREAD_LOCAL} recycle bins,
+ * where each thread's bin adapts independently.
+ * A {@link MultiProducer @MultiProducer}, {@link ReturnOnDiscard @ReturnOnDiscard}, or
+ * {@link LastInFirstOut @LastInFirstOut} recycle bin is fixed at the maximum size.
+ *
+ * @see AdaptiveRecycleBin
+ */
+@Target(TYPE) @Retention(RUNTIME)
+public @interface AdaptiveBinSize
+{
+	/** Default minimum size of the {@linkplain RecycleBin instance pool}. */
+	int DEFAULT_MIN = 16;
+
+	/** Default maximum size of the {@linkplain RecycleBin instance pool}. */
+	int DEFAULT_MAX = 1024;
+
+	/** @return the size of the {@linkplain RecycleBin instance pool} to start with, and never shrink below. */
+	int min() default DEFAULT_MIN;
+
+	/** @return the size of the {@linkplain RecycleBin instance pool} never to grow beyond. */
+	int max() default DEFAULT_MAX;
+}
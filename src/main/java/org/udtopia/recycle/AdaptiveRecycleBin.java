@@ -0,0 +1,152 @@
+package org.udtopia.recycle;
+
+import java.util.function.Supplier;
+import org.udtopia.Mutable;
+
+import static org.udtopia.jfr.UDTopiaEvents.*;
+import static org.udtopia.recycle.RingBufferRecycleBin.*;
+
+/**
+ * Implementation of {@link RecycleBin} with a ring buffer that resizes itself to suit the observed miss rate.
+ * <p>
+ * After each window of recycles (several laps of the ring buffer), the bin reviews its size:
+ * <ul>
+ * <li>If more than 1 in {@value #GROW_MISS_RATIO} recycles in the window missed, it doubles, up to the maximum.</li>
+ * <li>If none missed, and at least three quarters of the instances are discarded, it halves, down to the minimum.</li>
+ * </ul>
+ * Resizing happens on the recycling thread, between recycles, without any locks.
+ * Discarded instances are carried over to the new ring buffer, so resizing costs no hits.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ * @see AdaptiveBinSize
+ */
+public final @Mutable class AdaptiveRecycleBin<R extends Recyclable> implements LocalRecycleBin<R>
+{
+	/** Number of laps of the ring buffer in each window of recycles. */
+	static final int WINDOW_LAPS = 8;
+
+	/** The bin grows when more than 1 in this many recycles in a window are misses. */
+	static final int GROW_MISS_RATIO = 16;
+
+	// Ring buffer array of instances
+	private R[] _bin;
+
+	// The limits of the ring buffer size
+	private final int _minSize, _maxSize;
+
+	// Total count of recycle attempts since the last resize
+	// Overflow is harmless, because the ring buffer size is a power of two
+	private int _count;
+
+	// Recycles remaining, and misses so far, in the current window
+	private int _windowRemaining;
+	private int _windowMisses;
+
+	// Recycle stats
+	private final RecycleCounter _counter;
+
+	AdaptiveRecycleBin(final RingBufferSize minSize, final RingBufferSize maxSize, final RecycleCounter counter)
+	{
+		if (minSize.getAsInt() > maxSize.getAsInt())
+		{
+			throw new IllegalArgumentException("Minimum size " + minSize + " exceeds maximum size " + maxSize);
+		}
+		_minSize = minSize.getAsInt();
+		_maxSize = maxSize.getAsInt();
+		_counter = counter;
+		_bin = _createRingBuffer(_minSize);
+		_windowRemaining = _windowLength(_minSize);
+	}
+
+	AdaptiveRecycleBin(final RingBufferSize minSize, final RingBufferSize maxSize)
+	{
+		this(minSize, maxSize, new RecycleCounter.SingleThreaded());
+	}
+
+	@SuppressWarnings({"unchecked", "SuspiciousArrayCast"})
+	private R[] _createRingBuffer(final int size)
+	{
+		// Fill array with a null object that is unavailable for recycling
+		return (R[]) new RingBufferSize(size).createRingBuffer(Recyclable[]::new, () -> DUMMY);
+	}
+
+	private static int _windowLength(final int size)
+	{
+		return (int) Math.min((long) size * WINDOW_LAPS, Integer.MAX_VALUE);
+	}
+
+	@Override public R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator)
+	{
+		final R[] bin = _bin;
+
+		// Wrap around to 0 when it reaches the end, so it acts as a ring buffer
+		final int head = _count++ & (bin.length - 1);
+
+		// Recycle the oldest instance in the bin
+		R instance = bin[head];
+		if (instance.isDiscarded())
+		{
+			_counter.hit();
+			recycler.recycle(instance);
+		}
+		else
+		{
+			// No instances available for recycling; replace head instance with a new one
+			_counter.miss();
+			_windowMisses++;
+			instance = generator.get();
+			bin[head] = instance;
+			recycleMiss(instance.getClass(), bin.length);
+		}
+
+		if (--_windowRemaining == 0) { _review(); }
+		return instance;
+	}
+
+	// Resize the ring buffer if the window just finished calls for it, then start a new window
+	private void _review()
+	{
+		final int size = _bin.length;
+		final long windowLength = _windowLength(size);
+		if ((long) _windowMisses * GROW_MISS_RATIO > windowLength && size < _maxSize) { _resize(size << 1); }
+		else if (_windowMisses == 0 && size > _minSize && occupancy() * 4L >= size * 3L) { _resize(size >>> 1); }
+
+		_windowMisses = 0;
+		_windowRemaining = _windowLength(_bin.length);
+	}
+
+	private void _resize(final int newSize)
+	{
+		final R[] oldBin = _bin;
+		final R[] newBin = _createRingBuffer(newSize);
+
+		// Carry over discarded instances first, since they are ready to recycle, then any that may be discarded later
+		// Start recycling from the beginning, where the discarded instances are
+		int index = 0;
+		for (final R instance: oldBin)
+		{
+			if (index < newSize && instance.isDiscarded()) { newBin[index++] = instance; }
+		}
+		for (final R instance: oldBin)
+		{
+			if (index < newSize && !instance.isDiscarded()) { newBin[index++] = instance; }
+		}
+		_bin = newBin;
+		_count = 0;
+	}
+
+	@Override public int occupancy()
+	{
+		int occupancy = 0;
+		for (final R instance: _bin) { if (instance.isDiscarded()) { occupancy++; } }
+		return occupancy;
+	}
+
+	@Override public int size() { return _bin.length; }
+
+	@Override public RecycleStats stats() { return _counter.stats(size(), occupancy()); }
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return "Adaptive" + stats(); }
+}
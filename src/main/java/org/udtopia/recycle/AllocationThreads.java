@@ -1,38 +1,90 @@
 package org.udtopia.recycle;
 
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.udtopia.ThreadSafe;
 import org.udtopia.Value;
 
-import static java.lang.ThreadLocal.*;
-
 /**
  * Tuning parameter for how a {@link Recyclable} class will be allocated.
  */
 public enum AllocationThreads
 {
 	/** Only one thread will ever call {@link RecycleBin#recycle}. This gives the best performance. */
-	@Value SINGLE_THREADED(RingBufferRecycleBin::new),
+	@Value SINGLE_THREADED(
+		(binSize, probe) -> new RingBufferRecycleBin<>(binSize, probe, new RecycleCounter.SingleThreaded()),
+		AdaptiveRecycleBin::new),
 
 	/**
 	 * Multiple threads may call {@link RecycleBin#recycle}. This is the safest (and default) option.
 	 * Each thread gets its own pool of objects, so the memory usage increases with thread count.
+	 * Virtual threads share a pool with one stripe for each processor instead, since there may be millions of them.
 	 * Latency is slightly slower than {@link #SINGLE_THREADED}.
 	 */
-	@ThreadSafe THREAD_LOCAL(binSize ->
-	{
-		final ThreadLocal<RecycleBin<Recyclable>> threadLocal = withInitial(() -> new RingBufferRecycleBin<>(binSize));
-		return (recycler, filler) -> threadLocal.get().recycle(recycler, filler);
-	});
+	@ThreadSafe THREAD_LOCAL(
+		ThreadLocalRecycleBin::new,
+		(minSize, maxSize) -> new ThreadLocalRecycleBin<>(
+			counter -> new AdaptiveRecycleBin<>(minSize, maxSize, counter))),
+
+	/**
+	 * Multiple threads may call {@link RecycleBin#recycle}, all sharing one lock-free pool of objects.
+	 * This suits pipelines where instances are created on one thread and discarded on another.
+	 * Latency is slower than {@link #THREAD_LOCAL} when many threads recycle at once, due to contention.
+	 */
+	@ThreadSafe SHARED(
+		(binSize, probe) -> new SharedRecycleBin<>(binSize),
+		(minSize, maxSize) -> new SharedRecycleBin<>(maxSize)),
+
+	/**
+	 * Multiple threads may call {@link RecycleBin#recycle}, sharing one lock-free queue of discarded instances, which
+	 * {@link Recyclable#discard()} adds to.
+	 * This closes the loop in pipelines, where any instance discarded by a consumer can be recycled by a producer.
+	 * Latency is slower than {@link #THREAD_LOCAL}, due to contention on the queue, and on every {@code discard()}.
+	 */
+	@ThreadSafe RETURN_ON_DISCARD(
+		(binSize, probe) -> new ReturnQueueRecycleBin<>(binSize),
+		(minSize, maxSize) -> new ReturnQueueRecycleBin<>(maxSize)),
+
+	/**
+	 * Multiple threads may call {@link RecycleBin#recycle}, each with its own bounded stack of the instances it has
+	 * discarded, which {@link Recyclable#discard()} pushes onto.
+	 * Each recycle reuses the thread's most recently discarded instance, so it hits whenever there is one.
+	 * Latency is similar to {@link #THREAD_LOCAL}, plus a push in every {@code discard()}.
+	 */
+	@ThreadSafe LAST_IN_FIRST_OUT(
+		(binSize, probe) -> new StackRecycleBin<>(binSize),
+		(minSize, maxSize) -> new StackRecycleBin<>(maxSize));
 
-	private final Function<? super RingBufferSize, RecycleBin<?>> _binFactory;
+	private final BiFunction<? super RingBufferSize, Integer, RecycleBin<?>> _binFactory;
+	private final BiFunction<? super RingBufferSize, ? super RingBufferSize, RecycleBin<?>> _adaptiveBinFactory;
 
-	AllocationThreads(final Function<? super RingBufferSize, RecycleBin<?>> binFactory) { _binFactory = binFactory; }
+	AllocationThreads(
+		final BiFunction<? super RingBufferSize, Integer, RecycleBin<?>> binFactory,
+		final BiFunction<? super RingBufferSize, ? super RingBufferSize, RecycleBin<?>> adaptiveBinFactory)
+	{
+		_binFactory = binFactory;
+		_adaptiveBinFactory = adaptiveBinFactory;
+	}
 
 	/** Create a {@link RecycleBin} with the specified level of concurrency protection. */
 	final <R extends Recyclable> RecycleBin<R> recycleBin(final RingBufferSize binSize)
 	{
-		@SuppressWarnings("unchecked") final RecycleBin<R> bin = (RecycleBin<R>) _binFactory.apply(binSize);
+		return recycleBin(binSize, RecycleBinSize.DEFAULT_PROBE);
+	}
+
+	/** Create a {@link RecycleBin} with the specified level of concurrency protection, and probe depth if a ring. */
+	final <R extends Recyclable> RecycleBin<R> recycleBin(final RingBufferSize binSize, final int probe)
+	{
+		@SuppressWarnings("unchecked") final RecycleBin<R> bin = (RecycleBin<R>) _binFactory.apply(binSize, probe);
+		return bin;
+	}
+
+	/** Create an {@linkplain AdaptiveRecycleBin adaptive} {@link RecycleBin}, where the concurrency mode allows. */
+	final <R extends Recyclable> RecycleBin<R> adaptiveRecycleBin(
+		final RingBufferSize minSize,
+		final RingBufferSize maxSize)
+	{
+		@SuppressWarnings("unchecked") final RecycleBin<R> bin =
+			(RecycleBin<R>) _adaptiveBinFactory.apply(minSize, maxSize);
 		return bin;
 	}
 }
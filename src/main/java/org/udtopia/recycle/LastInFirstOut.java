@@ -0,0 +1,27 @@
+package org.udtopia.recycle;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Give each thread a bounded stack of the instances it has {@linkplain Recyclable#discard() discarded}, and recycle
+ * the most recently discarded instance first.
+ * Unlike the default ring buffers, which only check their oldest instance, a recycle hits whenever the thread has any
+ * discarded instance, and the instance it reuses is likely still in the CPU cache.
+ * This suits threads that create and discard their own instances, with some kept for a while.
+ * The size of each stack is set by {@link RecycleBinSize @RecycleBinSize}, or fixed at the maximum size of
+ * {@link AdaptiveBinSize @AdaptiveBinSize}.
+ * Takes precedence over {@link SingleProducer @SingleProducer} and {@link MultiProducer @MultiProducer}, but not
+ * {@link ReturnOnDiscard @ReturnOnDiscard}.
+ * <p>
+ * The {@code Recyclable*} base classes push their instances when discarded. Custom {@link Recyclable} classes
+ * must call {@link RecycleBin#discarded(Recyclable)} at the end of {@link Recyclable#discard()}.
+ *
+ * @see AllocationThreads#LAST_IN_FIRST_OUT
+ * @see StackRecycleBin
+ */
+@Target(TYPE) @Retention(RUNTIME)
+public @interface LastInFirstOut { }
@@ -0,0 +1,17 @@
+package org.udtopia.recycle;
+
+import org.udtopia.Mutable;
+
+/**
+ * A {@link RecycleBin} used by only one thread at a time, whose size and occupancy can be read for stats.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ */
+@Mutable interface LocalRecycleBin<R extends Recyclable> extends RecycleBin<R>
+{
+	/** @return the number of discarded instances in the bin. */
+	int occupancy();
+
+	/** @return the number of instances the bin can hold. */
+	int size();
+}
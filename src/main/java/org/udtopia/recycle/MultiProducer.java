@@ -0,0 +1,19 @@
+package org.udtopia.recycle;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Share one lock-free {@linkplain RecycleBin instance pool} between all threads that call {@link RecycleBin#recycle}.
+ * When instances are typically created on one thread and discarded on another, this option may recycle far more
+ * instances than the default thread-local pools.
+ * If both this and {@link SingleProducer @SingleProducer} are present, {@link SingleProducer @SingleProducer} wins.
+ *
+ * @see AllocationThreads#SHARED
+ * @see SharedRecycleBin
+ */
+@Target(TYPE) @Retention(RUNTIME)
+public @interface MultiProducer { }
@@ -45,7 +45,7 @@ public abstract @Value class RecyclableDouble<This extends RecyclableDouble<This
 
 	@Override public final double getAsDouble()
 	{
-		Assert.not(this::isDiscarded, "Attempted to access raw value of discarded instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Attempted to access raw value of discarded instance!");
 		return _raw;
 	}
 
@@ -56,8 +56,9 @@ public abstract @Value class RecyclableDouble<This extends RecyclableDouble<This
 
 	@Override public final void discard()
 	{
-		Assert.not(this::isDiscarded, "Detected multiple discards on the same instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Detected multiple discards on the same instance!");
 		_raw = Double.NaN;
+		RecycleBin.discarded(this);
 	}
 
 	/**
@@ -75,9 +76,31 @@ public abstract @Value class RecyclableDouble<This extends RecyclableDouble<This
 		final DoubleFunction<? extends This> constructor,
 		final double rawValue)
 	{
-		Assert.not(() -> Double.isNaN(rawValue), "NaN is not allowed for RecyclableDouble subclasses.");
-		return RecycleBin.forClass(type).recycle(
+		Assert.not(rawValue, Double::isNaN, "NaN is not allowed for RecyclableDouble subclasses.");
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
 			(RecyclableDouble<This> discarded) -> discarded._raw = applyRules(type, rawValue),
-			() -> constructor.apply(rawValue));
+			() -> constructor.apply(rawValue)));
+	}
+
+	/**
+	 * Attempt to recycle an instance, with the specified new value from a trusted source, such as a value written by
+	 * a {@link org.udtopia.codec codec} from a valid instance.
+	 * A recycled instance takes the value without applying the rules of the class; a new instance applies them.
+	 *
+	 * @param type the recycled class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the new value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return a new or recycled instance.
+	 */
+	protected static <This extends RecyclableDouble<This>> This recycleTrusted(
+		final Class<This> type,
+		final DoubleFunction<? extends This> constructor,
+		final double rawValue)
+	{
+		Assert.not(rawValue, Double::isNaN, "NaN is not allowed for RecyclableDouble subclasses.");
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
+			(RecyclableDouble<This> discarded) -> discarded._raw = rawValue,
+			() -> constructor.apply(rawValue)));
 	}
 }
@@ -45,7 +45,7 @@ public abstract @Value class RecyclableInt<This extends RecyclableInt<This>> ext
 
 	@Override public final int getAsInt()
 	{
-		Assert.not(this::isDiscarded, "Attempted to access raw value of discarded instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Attempted to access raw value of discarded instance!");
 		return _raw;
 	}
 
@@ -56,8 +56,9 @@ public abstract @Value class RecyclableInt<This extends RecyclableInt<This>> ext
 
 	@Override public final void discard()
 	{
-		Assert.not(this::isDiscarded, "Detected multiple discards on the same instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Detected multiple discards on the same instance!");
 		_raw = Integer.MIN_VALUE;
+		RecycleBin.discarded(this);
 	}
 
 	/**
@@ -75,9 +76,33 @@ public abstract @Value class RecyclableInt<This extends RecyclableInt<This>> ext
 		final IntFunction<? extends This> constructor,
 		final int rawValue)
 	{
-		Assert.not(() -> rawValue == Integer.MIN_VALUE, "MIN_VALUE is not allowed for RecyclableInt subclasses.");
-		return RecycleBin.forClass(type).recycle(
+		Assert.not(rawValue, (final int raw) -> raw == Integer.MIN_VALUE,
+			"MIN_VALUE is not allowed for RecyclableInt subclasses.");
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
 			(RecyclableInt<This> discarded) -> discarded._raw = applyRules(type, rawValue),
-			() -> constructor.apply(rawValue));
+			() -> constructor.apply(rawValue)));
+	}
+
+	/**
+	 * Attempt to recycle an instance, with the specified new value from a trusted source, such as a value written by
+	 * a {@link org.udtopia.codec codec} from a valid instance.
+	 * A recycled instance takes the value without applying the rules of the class; a new instance applies them.
+	 *
+	 * @param type the recycled class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the new value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return a new or recycled instance.
+	 */
+	protected static <This extends RecyclableInt<This>> This recycleTrusted(
+		final Class<This> type,
+		final IntFunction<? extends This> constructor,
+		final int rawValue)
+	{
+		Assert.not(rawValue, (final int raw) -> raw == Integer.MIN_VALUE,
+			"MIN_VALUE is not allowed for RecyclableInt subclasses.");
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
+			(RecyclableInt<This> discarded) -> discarded._raw = rawValue,
+			() -> constructor.apply(rawValue)));
 	}
 }
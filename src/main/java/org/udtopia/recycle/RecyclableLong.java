@@ -45,7 +45,7 @@ public abstract @Value class RecyclableLong<This extends RecyclableLong<This>> e
 
 	@Override public final long getAsLong()
 	{
-		Assert.not(this::isDiscarded, "Attempted to access raw value of discarded instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Attempted to access raw value of discarded instance!");
 		return _raw;
 	}
 
@@ -56,8 +56,9 @@ public abstract @Value class RecyclableLong<This extends RecyclableLong<This>> e
 
 	@Override public final void discard()
 	{
-		Assert.not(this::isDiscarded, "Detected multiple discards on the same instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Detected multiple discards on the same instance!");
 		_raw = Long.MIN_VALUE;
+		RecycleBin.discarded(this);
 	}
 
 	/**
@@ -75,9 +76,33 @@ public abstract @Value class RecyclableLong<This extends RecyclableLong<This>> e
 		final LongFunction<? extends This> constructor,
 		final long rawValue)
 	{
-		Assert.not(() -> rawValue == Long.MIN_VALUE, "MIN_VALUE is not allowed for RecyclableLong classes.");
-		return RecycleBin.forClass(type).recycle(
+		Assert.not(rawValue, (final long raw) -> raw == Long.MIN_VALUE,
+			"MIN_VALUE is not allowed for RecyclableLong classes.");
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
 			(RecyclableLong<This> discarded) -> discarded._raw = applyRules(type, rawValue),
-			() -> constructor.apply(rawValue));
+			() -> constructor.apply(rawValue)));
+	}
+
+	/**
+	 * Attempt to recycle an instance, with the specified new value from a trusted source, such as a value written by
+	 * a {@link org.udtopia.codec codec} from a valid instance.
+	 * A recycled instance takes the value without applying the rules of the class; a new instance applies them.
+	 *
+	 * @param type the recycled class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the new value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return a new or recycled instance.
+	 */
+	protected static <This extends RecyclableLong<This>> This recycleTrusted(
+		final Class<This> type,
+		final LongFunction<? extends This> constructor,
+		final long rawValue)
+	{
+		Assert.not(rawValue, (final long raw) -> raw == Long.MIN_VALUE,
+			"MIN_VALUE is not allowed for RecyclableLong classes.");
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
+			(RecyclableLong<This> discarded) -> discarded._raw = rawValue,
+			() -> constructor.apply(rawValue)));
 	}
 }
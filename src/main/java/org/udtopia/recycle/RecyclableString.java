@@ -31,7 +31,7 @@ public abstract @Value class RecyclableString<This extends RecyclableString<This
 
 	@Override public final String get()
 	{
-		Assert.not(this::isDiscarded, "Attempted to access raw value of discarded instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Attempted to access raw value of discarded instance!");
 		return _raw;
 	}
 
@@ -42,8 +42,9 @@ public abstract @Value class RecyclableString<This extends RecyclableString<This
 
 	@Override public final void discard()
 	{
-		Assert.not(this::isDiscarded, "Detected multiple discards on the same instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Detected multiple discards on the same instance!");
 		_raw = null;
+		RecycleBin.discarded(this);
 	}
 
 	/**
@@ -61,8 +62,29 @@ public abstract @Value class RecyclableString<This extends RecyclableString<This
 		final Function<? super String, ? extends This> constructor,
 		final String rawValue)
 	{
-		return RecycleBin.forClass(type).recycle(
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
 			(RecyclableString<This> discarded) -> discarded._raw = applyRules(type, rawValue),
-			() -> constructor.apply(rawValue));
+			() -> constructor.apply(rawValue)));
+	}
+
+	/**
+	 * Attempt to recycle an instance, with the specified new value from a trusted source, such as a value written by
+	 * a {@link org.udtopia.codec codec} from a valid instance.
+	 * A recycled instance takes the value without applying the rules of the class; a new instance applies them.
+	 *
+	 * @param type the recycled class.
+	 * @param constructor a method reference to the constructor of the class.
+	 * @param rawValue the new value.
+	 * @param <This> self-reference to the subclass type itself.
+	 * @return a new or recycled instance.
+	 */
+	protected static <This extends RecyclableString<This>> This recycleTrusted(
+		final Class<This> type,
+		final Function<? super String, ? extends This> constructor,
+		final String rawValue)
+	{
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
+			(RecyclableString<This> discarded) -> discarded._raw = rawValue,
+			() -> constructor.apply(rawValue)));
 	}
 }
@@ -33,8 +33,8 @@ public abstract @Value class RecyclableValue<Raw, This extends RecyclableValue<R
 		final Function<? super Raw, ? extends Raw> defensiveCopier)
 	{
 		super(factory, defensiveCopier);
-		Assert.notNull(() -> rawValue, "Raw value must not be null");
-		Assert.not(() -> rawValue.getClass().isArray(), "Raw value must not be an array");
+		Assert.nonNull(rawValue, "Raw value must not be null");
+		Assert.not(rawValue, raw -> raw.getClass().isArray(), "Raw value must not be an array");
 		_raw = defensiveCopier.apply(rawValue);
 	}
 
@@ -51,7 +51,7 @@ public abstract @Value class RecyclableValue<Raw, This extends RecyclableValue<R
 
 	@Override protected final Raw rawWithoutDefensiveCopy()
 	{
-		Assert.not(this::isDiscarded, "Attempted to access raw value of discarded instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Attempted to access raw value of discarded instance!");
 		return _raw;
 	}
 
@@ -62,8 +62,9 @@ public abstract @Value class RecyclableValue<Raw, This extends RecyclableValue<R
 
 	@Override public final void discard()
 	{
-		Assert.not(this::isDiscarded, "Detected multiple discards on the same instance!");
+		Assert.not(this, Recyclable::isDiscarded, "Detected multiple discards on the same instance!");
 		_raw = null;
+		RecycleBin.discarded(this);
 	}
 
 	/**
@@ -82,8 +83,8 @@ public abstract @Value class RecyclableValue<Raw, This extends RecyclableValue<R
 		final Function<? super Raw, ? extends This> constructor,
 		final Raw rawValue)
 	{
-		return RecycleBin.forClass(type).recycle(
+		return RecycleScope.track(RecycleBin.forClass(type).recycle(
 			(RecyclableValue<Raw, This> discarded) -> discarded._raw = rawValue,
-			() -> constructor.apply(rawValue));
+			() -> constructor.apply(rawValue)));
 	}
 }
@@ -1,6 +1,7 @@
 package org.udtopia.recycle;
 
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import org.udtopia.Mutable;
 import org.udtopia.ThreadSafe;
@@ -24,6 +25,48 @@ public @Mutable interface RecycleBin<R extends Recyclable>
 	 */
 	R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator);
 
+	/**
+	 * Called when an instance of a {@link ReturnOnDiscard @ReturnOnDiscard} or {@link LastInFirstOut @LastInFirstOut}
+	 * class is discarded, so that the bin can take it back.
+	 * Other recycle bins find discarded instances for themselves, and ignore this call by default.
+	 *
+	 * @param discarded an instance that has just been {@linkplain Recyclable#discard discarded}.
+	 */
+	default void onDiscard(final R discarded) { }
+
+	/**
+	 * Statistics are always collected by the built-in recycle bins, whether or not assertions are enabled.
+	 * Custom implementations return all zeros by default.
+	 *
+	 * @return a snapshot of the usage statistics of this recycle bin.
+	 */
+	default RecycleStats stats() { return RecycleStats.NONE; }
+
+	/** Set the {@linkplain #stats() usage statistics} of this recycle bin back to zero. */
+	default void resetStats() { }
+
+	/**
+	 * Return a discarded instance to the recycle bin of its class, if the class has
+	 * {@link ReturnOnDiscard @ReturnOnDiscard} or {@link LastInFirstOut @LastInFirstOut}.
+	 * The {@code Recyclable*} base classes call this from {@link Recyclable#discard()}; custom {@link Recyclable}
+	 * classes should call it at the end of {@link Recyclable#discard()}.
+	 * Until a class with either annotation has a recycle bin, the cost is a single check; after that, instances of
+	 * other classes pay a lookup of their class, but are not passed to their recycle bin.
+	 *
+	 * @param discarded an instance that has just been {@linkplain Recyclable#discard discarded}.
+	 */
+	static void discarded(final Recyclable discarded) { RecycleBins.discarded(discarded); }
+
+	/**
+	 * Perform an action on every recycle bin created so far by {@link #FOR_CLASS}.
+	 *
+	 * @param action the action to perform on each {@link Recyclable} class and its recycle bin.
+	 */
+	static void forEach(final BiConsumer<? super Class<?>, ? super RecycleBin<?>> action)
+	{
+		RecycleBins.forEach(action);
+	}
+
 	/**
 	 * @param recyclable the {@link Recyclable} class.
 	 * @param <R> the {@link Recyclable} class.
@@ -47,11 +90,20 @@ public @Mutable interface RecycleBin<R extends Recyclable>
 			// Read annotations, or use defaults
 			final Optional<RecycleBinSize> size = Optional.ofNullable(type.getAnnotation(RecycleBinSize.class));
 			final RingBufferSize binSize = new RingBufferSize(size.map(RecycleBinSize::value).orElse(DEFAULT_SIZE));
-			final Optional<SingleProducer> single = Optional.ofNullable(type.getAnnotation(SingleProducer.class));
-			final AllocationThreads allocThreads = single.isPresent() ? SINGLE_THREADED : THREAD_LOCAL;
+			final int probe = size.map(RecycleBinSize::probe).orElse(DEFAULT_PROBE);
+			final AllocationThreads allocThreads = type.isAnnotationPresent(ReturnOnDiscard.class) ? RETURN_ON_DISCARD
+				: type.isAnnotationPresent(LastInFirstOut.class) ? LAST_IN_FIRST_OUT
+				: type.isAnnotationPresent(SingleProducer.class) ? SINGLE_THREADED
+				: type.isAnnotationPresent(MultiProducer.class) ? SHARED : THREAD_LOCAL;
 
 			// Create recycle bin
-			return allocThreads.recycleBin(binSize);
+			final Optional<AdaptiveBinSize> adaptive = Optional.ofNullable(type.getAnnotation(AdaptiveBinSize.class));
+			final RecycleBin<?> bin = adaptive
+				.map(sizes -> allocThreads.adaptiveRecycleBin(
+					new RingBufferSize(sizes.min()),
+					new RingBufferSize(sizes.max())))
+				.orElseGet(() -> allocThreads.recycleBin(binSize, probe));
+			return RecycleBins.register(type, bin);
 		}
 	};
 }
@@ -9,6 +9,10 @@ import static java.lang.annotation.RetentionPolicy.*;
 /**
  * Customize the size of the {@linkplain RecycleBin instance pool}.
  * Without this annotation, the default size is {@value #DEFAULT_SIZE}.
+ * <p>
+ * By default, each recycle only checks the oldest instance in a ring buffer, and allocates if it is still in use.
+ * A {@link #probe() probe} depth greater than 1 also checks the next few instances, which recycles more instances when
+ * some are kept for a long time, at the cost of a few more reads on each miss.
  *
  * @see RingBufferSize
  * @see RingBufferRecycleBin
@@ -19,6 +23,17 @@ public @interface RecycleBinSize
 	/** Default size of the {@linkplain RecycleBin instance pool}. */
 	int DEFAULT_SIZE = 16;
 
+	/** Default number of instances checked by each recycle. */
+	int DEFAULT_PROBE = 1;
+
 	/** @return size of the {@linkplain RecycleBin instance pool}. */
 	int value();
+
+	/**
+	 * Applies to {@link AllocationThreads#SINGLE_THREADED} and {@link AllocationThreads#THREAD_LOCAL} ring buffers,
+	 * but not to {@linkplain AdaptiveBinSize adaptive} ones, which grow instead.
+	 *
+	 * @return the number of instances each recycle checks for a discarded one, from the oldest, up to the size.
+	 */
+	int probe() default DEFAULT_PROBE;
 }
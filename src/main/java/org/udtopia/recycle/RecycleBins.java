@@ -0,0 +1,82 @@
+package org.udtopia.recycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Registry of every {@link RecycleBin} created by {@link RecycleBin#FOR_CLASS}, so they can be inspected together.
+ * The bins themselves stay in {@link RecycleBin#FOR_CLASS}; the registry only holds weak references to their classes,
+ * so that it does not keep classes or their class loaders from being unloaded.
+ */
+final @ThreadSafe @Mutable class RecycleBins
+{
+	// Every class with a recycle bin, as weak keys
+	private static final Set<Class<?>> _TYPES = Collections.newSetFromMap(
+		Collections.synchronizedMap(new WeakHashMap<>()));
+
+	// Whether any class has a recycle bin that takes back discarded instances
+	// Volatile, so that a thread that never recycles still sees the change, rather than hoisting the read from a loop
+	private static volatile boolean _returnOnDiscard;
+
+	// The recycle bin to take back the discarded instances of each class, or null if its bin finds them for itself
+	private static final ClassValue<RecycleBin<?>> _RETURN_TO = new ClassValue<RecycleBin<?>>()
+	{
+		@Override protected RecycleBin<?> computeValue(final Class<?> type)
+		{
+			final RecycleBin<?> bin = RecycleBin.FOR_CLASS.get(type);
+			return _takesBackDiscarded(bin) ? bin : null;
+		}
+	};
+
+	private RecycleBins() { }
+
+	/**
+	 * Register the recycle bin for a class.
+	 *
+	 * @param type the {@link Recyclable} class.
+	 * @param bin the newly created recycle bin.
+	 * @return the recycle bin for the class.
+	 */
+	static RecycleBin<?> register(final Class<?> type, final RecycleBin<?> bin)
+	{
+		if (_takesBackDiscarded(bin)) { _returnOnDiscard = true; }
+		_TYPES.add(type);
+		return bin;
+	}
+
+	// Whether the recycle bin takes back discarded instances, rather than finding them for itself
+	private static boolean _takesBackDiscarded(final RecycleBin<?> bin)
+	{
+		return bin instanceof ReturnQueueRecycleBin || bin instanceof StackRecycleBin;
+	}
+
+	/**
+	 * Return a discarded instance to the recycle bin of its class, if that bin takes back discarded instances.
+	 * Until any class has such a bin, the cost is a single check; after that, instances of other classes pay a lookup
+	 * of their class.
+	 *
+	 * @param discarded an instance that has just been discarded.
+	 */
+	@SuppressWarnings("unchecked")
+	static void discarded(final Recyclable discarded)
+	{
+		if (_returnOnDiscard)
+		{
+			final RecycleBin<Recyclable> bin = (RecycleBin<Recyclable>) _RETURN_TO.get(discarded.getClass());
+			if (bin != null) { bin.onDiscard(discarded); }
+		}
+	}
+
+	static void forEach(final BiConsumer<? super Class<?>, ? super RecycleBin<?>> action)
+	{
+		final List<Class<?>> types;
+		synchronized (_TYPES) { types = new ArrayList<>(_TYPES); }
+		for (final Class<?> type : types) { action.accept(type, RecycleBin.FOR_CLASS.get(type)); }
+	}
+}
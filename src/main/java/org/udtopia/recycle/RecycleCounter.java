@@ -0,0 +1,77 @@
+package org.udtopia.recycle;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Counts recycle hits and misses for a {@link RecycleBin}.
+ * Cheap enough to leave on in production.
+ */
+@Mutable interface RecycleCounter
+{
+	/** Count a successful recycle of a discarded instance. */
+	void hit();
+
+	/** Count an allocation due to failure to recycle. */
+	void miss();
+
+	/**
+	 * @param size the total number of instances the recycle bin can hold.
+	 * @param occupancy the number of discarded instances in the recycle bin.
+	 * @return a snapshot of the counts.
+	 */
+	RecycleStats stats(int size, int occupancy);
+
+	/** Set the counts back to zero. */
+	void reset();
+
+	/** Counter for a recycle bin used by only one thread. */
+	final @Mutable class SingleThreaded implements RecycleCounter
+	{
+		private long _hits;
+		private long _misses;
+		private Instant _resetTime = Instant.now();
+
+		@Override public void hit() { _hits++; }
+
+		@Override public void miss() { _misses++; }
+
+		@Override public RecycleStats stats(final int size, final int occupancy)
+		{
+			return new RecycleStats(size, occupancy, _hits, _misses, _resetTime);
+		}
+
+		@Override public void reset()
+		{
+			_hits = 0;
+			_misses = 0;
+			_resetTime = Instant.now();
+		}
+	}
+
+	/** Counter shared by many threads, striped to avoid contention. */
+	final @ThreadSafe @Mutable class Striped implements RecycleCounter
+	{
+		private final LongAdder _hits = new LongAdder();
+		private final LongAdder _misses = new LongAdder();
+		private volatile Instant _resetTime = Instant.now();
+
+		@Override public void hit() { _hits.increment(); }
+
+		@Override public void miss() { _misses.increment(); }
+
+		@Override public RecycleStats stats(final int size, final int occupancy)
+		{
+			return new RecycleStats(size, occupancy, _hits.sum(), _misses.sum(), _resetTime);
+		}
+
+		@Override public void reset()
+		{
+			_hits.reset();
+			_misses.reset();
+			_resetTime = Instant.now();
+		}
+	}
+}
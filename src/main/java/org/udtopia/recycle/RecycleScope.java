@@ -0,0 +1,198 @@
+package org.udtopia.recycle;
+
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+
+/**
+ * A scope in which every {@link Recyclable} instance recycled by the current thread is discarded together, when the
+ * scope closes, unless it is {@linkplain #keep kept}.
+ * <p>
+ * Open a scope with try-with-resources, around the handling of one request or message:
+ * <pre>{@code
+ * try (RecycleScope scope = RecycleScope.open())
+ * {
+ *   final Price price = Price.of(message.price());
+ *   final Quantity qty = Quantity.of(message.qty());
+ *   return scope.keep(Total.of(price.getAsDouble() * qty.getAsDouble()));
+ * }
+ * }</pre>
+ * The {@code Recyclable*} base classes track the instances they recycle or create in the innermost open scope of the
+ * thread; custom {@link Recyclable} classes may call {@link #track}.
+ * Instances are tracked in an array for each thread. When it is full, instances already discarded are dropped, and it
+ * only doubles if most are still in use. Scope objects are reused, so after the first few scopes, opening, tracking,
+ * and closing allocate nothing, even in a loop that recycles and discards millions of instances in one scope.
+ * <p>
+ * Scopes may be nested, and must be closed in reverse order, on the thread that opened them.
+ * Do not discard a tracked instance yourself, unless only this thread recycles its class: another thread could recycle
+ * it, and the scope would discard it again when it closes.
+ */
+public final @Mutable class RecycleScope implements AutoCloseable
+{
+	/** The number of instances tracked for each thread before its array first grows. */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	// The scopes of each thread that has opened one
+	private static final ThreadLocal<Scopes> _SCOPES = new ThreadLocal<>();
+
+	// Whether any thread has opened a scope, so that tracking costs a single check until then
+	// Not volatile: only the thread that opened a scope needs to see it
+	private static boolean _opened;
+
+	// The scopes of the thread that opened this scope
+	private final Scopes _scopes;
+
+	// The nesting depth of this scope, from 1 for the outermost
+	private final int _depth;
+
+	// The index in the tracked instances of the first instance tracked in this scope
+	private int _start;
+
+	private RecycleScope(final Scopes scopes, final int depth)
+	{
+		_scopes = scopes;
+		_depth = depth;
+	}
+
+	/** The tracked instances and the open scopes of one thread. */
+	private static final @Mutable class Scopes
+	{
+		private Recyclable[] _tracked = new Recyclable[DEFAULT_CAPACITY];
+		private int _count;
+
+		// Scope objects, reused at each depth; the first _depth are open
+		private RecycleScope[] _scopes = new RecycleScope[0];
+		private int _depth;
+
+		RecycleScope open()
+		{
+			if (_depth == _scopes.length)
+			{
+				_scopes = Arrays.copyOf(_scopes, _depth + 1);
+				_scopes[_depth] = new RecycleScope(this, _depth + 1);
+			}
+			final RecycleScope scope = _scopes[_depth++];
+			scope._start = _count;
+			return scope;
+		}
+
+		void track(final Recyclable instance)
+		{
+			if (_count == _tracked.length)
+			{
+				// Grow only if most tracked instances are still in use, so a recycle and discard loop stays in place
+				_compact(instance);
+				if (_count > _tracked.length / 2) { _tracked = Arrays.copyOf(_tracked, _tracked.length * 2); }
+			}
+			_tracked[_count++] = instance;
+		}
+
+		// Drop instances already discarded or kept, moving the start of each open scope down with its instances
+		// A dropped instance that is recycled again is tracked again, so none are lost
+		// Earlier entries of the instance about to be tracked are stale too, since it has been discarded and recycled
+		private void _compact(final Recyclable recycled)
+		{
+			final Recyclable[] tracked = _tracked;
+			int write = 0;
+			int scope = 0;
+			for (int read = 0; read < _count; read++)
+			{
+				while (scope < _depth && _scopes[scope]._start == read) { _scopes[scope++]._start = write; }
+				final Recyclable instance = tracked[read];
+				if (instance != null && instance != recycled && !instance.isDiscarded())
+				{
+					tracked[write++] = instance;
+				}
+			}
+			while (scope < _depth) { _scopes[scope++]._start = write; }
+			Arrays.fill(tracked, write, _count, null);
+			_count = write;
+		}
+	}
+
+	/**
+	 * Open a scope on the current thread, nested in any scope already open.
+	 *
+	 * @return the new scope, to close with try-with-resources.
+	 */
+	public static RecycleScope open()
+	{
+		_opened = true;
+		Scopes scopes = _SCOPES.get();
+		if (scopes == null)
+		{
+			scopes = new Scopes();
+			_SCOPES.set(scopes);
+		}
+		return scopes.open();
+	}
+
+	/**
+	 * Track an instance in the innermost open scope of the current thread, if any, to discard when it closes.
+	 *
+	 * @param instance a new or recycled instance.
+	 * @param <R> the {@link Recyclable} class.
+	 * @return the instance.
+	 */
+	public static <R extends Recyclable> R track(final R instance)
+	{
+		if (_opened)
+		{
+			final @Nullable Scopes scopes = _SCOPES.get();
+			if (scopes != null && scopes._depth > 0) { scopes.track(instance); }
+		}
+		return instance;
+	}
+
+	/**
+	 * Stop tracking an instance, so that it outlives this scope, and any scopes nested in it.
+	 * The caller becomes responsible for discarding it.
+	 *
+	 * @param instance an instance tracked in this scope.
+	 * @param <R> the {@link Recyclable} class.
+	 * @return the instance.
+	 */
+	public <R extends Recyclable> R keep(final R instance)
+	{
+		final Recyclable[] tracked = _scopes._tracked;
+		for (int i = _scopes._count - 1; i >= _start; i--)
+		{
+			if (tracked[i] == instance) { tracked[i] = null; }
+		}
+		return instance;
+	}
+
+	// For JUnit
+	int capacity() { return _scopes._tracked.length; }
+
+	/**
+	 * @return the number of instances tracked in this scope and any scopes nested in it, including kept ones, and
+	 * discarded ones that have not been dropped yet.
+	 */
+	public int size() { return _scopes._count - _start; }
+
+	/**
+	 * Discard every instance tracked in this scope that is not yet discarded, except the {@linkplain #keep kept} ones.
+	 *
+	 * @throws IllegalStateException if this is not the innermost open scope of the current thread.
+	 */
+	@Override public void close()
+	{
+		if (_SCOPES.get() != _scopes || _scopes._depth != _depth)
+		{
+			throw new IllegalStateException(
+				"RecycleScope must be closed in reverse order, on the thread that opened it");
+		}
+
+		// An instance discarded and recycled again within the scope is tracked twice, so check before discarding
+		final Recyclable[] tracked = _scopes._tracked;
+		for (int i = _start; i < _scopes._count; i++)
+		{
+			final Recyclable instance = tracked[i];
+			tracked[i] = null;
+			if (instance != null && !instance.isDiscarded()) { instance.discard(); }
+		}
+		_scopes._count = _start;
+		_scopes._depth--;
+	}
+}
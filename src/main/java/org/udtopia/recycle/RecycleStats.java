@@ -0,0 +1,66 @@
+package org.udtopia.recycle;
+
+import java.time.Instant;
+import org.udtopia.Value;
+
+import static java.lang.String.*;
+
+/**
+ * A snapshot of the usage statistics of a {@link RecycleBin}.
+ * Statistics are always collected, whether or not assertions are enabled.
+ * When read from a thread other than the one recycling, the values may be slightly out of date.
+ *
+ * @see RecycleBin#stats()
+ */
+public final @Value class RecycleStats
+{
+	/** Statistics for a {@link RecycleBin} that does not collect any. */
+	static final RecycleStats NONE = new RecycleStats(0, 0, 0, 0, Instant.EPOCH);
+
+	private final int _size;
+	private final int _occupancy;
+	private final long _hits;
+	private final long _misses;
+	private final Instant _resetTime;
+
+	RecycleStats(final int size, final int occupancy, final long hits, final long misses, final Instant resetTime)
+	{
+		_size = size;
+		_occupancy = occupancy;
+		_hits = hits;
+		_misses = misses;
+		_resetTime = resetTime;
+	}
+
+	/** @return the total number of instances the recycle bin can hold. */
+	public int getSize() { return _size; }
+
+	/** @return the number of instances in the recycle bin that are currently discarded, and ready to recycle. */
+	public int getOccupancy() { return _occupancy; }
+
+	/** @return the number of calls to {@link RecycleBin#recycle} that reused a discarded instance. */
+	public long getHits() { return _hits; }
+
+	/** @return the number of calls to {@link RecycleBin#recycle} that had to allocate a new instance. */
+	public long getMisses() { return _misses; }
+
+	/** @return the total number of calls to {@link RecycleBin#recycle}. */
+	public long getRecycles() { return _hits + _misses; }
+
+	/** @return the proportion of {@linkplain #getRecycles() recycles} that were {@linkplain #getHits() hits}. */
+	public double getHitRate()
+	{
+		final long recycles = getRecycles();
+		return recycles == 0 ? 0.0 : (double) _hits / recycles;
+	}
+
+	/** @return when the statistics were created or last {@linkplain RecycleBin#resetStats() reset}. */
+	public Instant getResetTime() { return _resetTime; }
+
+	@Override public String toString()
+	{
+		return format(
+			"RecycleBin[%,d]: %,d / %,d (%.1f%%) recycled, %,d available, since %s",
+			_size, _hits, getRecycles(), getHitRate() * 100.0, _occupancy, _resetTime);
+	}
+}
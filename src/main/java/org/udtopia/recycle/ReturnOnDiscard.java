@@ -0,0 +1,25 @@
+package org.udtopia.recycle;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * Return each instance to the {@linkplain RecycleBin instance pool} when it is {@linkplain Recyclable#discard()
+ * discarded}, through a bounded lock-free queue, so that any thread may recycle it next.
+ * When instances are created on one thread and discarded on another, as in a producer/consumer pipeline, the
+ * producer recycles every instance the consumer discards, as long as the queue has room.
+ * The size of the queue is set by {@link RecycleBinSize @RecycleBinSize}, or fixed at the maximum size of
+ * {@link AdaptiveBinSize @AdaptiveBinSize}.
+ * Takes precedence over {@link SingleProducer @SingleProducer} and {@link MultiProducer @MultiProducer}.
+ * <p>
+ * The {@code Recyclable*} base classes return their instances when discarded. Custom {@link Recyclable} classes
+ * must call {@link RecycleBin#discarded(Recyclable)} at the end of {@link Recyclable#discard()}.
+ *
+ * @see AllocationThreads#RETURN_ON_DISCARD
+ * @see ReturnQueueRecycleBin
+ */
+@Target(TYPE) @Retention(RUNTIME)
+public @interface ReturnOnDiscard { }
@@ -0,0 +1,143 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+import static org.udtopia.jfr.UDTopiaEvents.*;
+
+/**
+ * Lock-free implementation of {@link RecycleBin}, with a bounded queue of discarded instances.
+ * Instances are {@linkplain #onDiscard added} to the queue when they are discarded, on any thread, and taken from it
+ * when recycled, on any thread, so every discarded instance is recycled while the queue has room for it.
+ * When the queue is full, discarded instances go to GC.
+ * <p>
+ * Each slot of the queue has a sequence number, which tells threads whether the slot is ready to fill or to empty.
+ * A thread claims a slot by compare-and-set on the tail or head position, so each instance is added and taken once.
+ * A thread that loses the race for a slot, whether or not the other thread has finished with it, retries from the
+ * current position.
+ * An instance discarded twice is added twice; once it has been recycled, the stale copy is skipped when taken, so
+ * that it is never given to a second owner.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ * @see ReturnOnDiscard
+ */
+final @ThreadSafe @Mutable class ReturnQueueRecycleBin<R extends Recyclable> implements RecycleBin<R>
+{
+	// The queue of discarded instances, with null in empty slots
+	private final AtomicReferenceArray<R> _queue;
+
+	// The position in the queue that each slot is ready for: to fill if equal, to empty if one more
+	private final AtomicLongArray _sequences;
+
+	// The size of the queue
+	private final RingBufferSize _binSize;
+
+	// The position of the next instance to take, and of the next slot to fill
+	private final AtomicLong _head = new AtomicLong();
+	private final AtomicLong _tail = new AtomicLong();
+
+	// Recycle stats
+	private final RecycleCounter _counter = new RecycleCounter.Striped();
+
+	ReturnQueueRecycleBin(final RingBufferSize size)
+	{
+		_binSize = size;
+		_queue = new AtomicReferenceArray<>(size.getAsInt());
+		_sequences = new AtomicLongArray(size.getAsInt());
+		for (int i = 0; i < size.getAsInt(); i++) { _sequences.set(i, i); }
+	}
+
+	@Override public R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator)
+	{
+		// An instance discarded twice is added twice, and may have been recycled since the first time
+		for (R discarded = poll(_head.get()); discarded != null; discarded = poll(_head.get()))
+		{
+			if (discarded.isDiscarded())
+			{
+				_counter.hit();
+				recycler.recycle(discarded);
+				return discarded;
+			}
+		}
+
+		// No instances available for recycling; the new instance joins the queue when discarded
+		_counter.miss();
+		final R instance = generator.get();
+		recycleMiss(instance.getClass(), _queue.length());
+		return instance;
+	}
+
+	/** Add a discarded instance to the queue, unless it is full. */
+	@Override public void onDiscard(final R discarded)
+	{
+		if (discarded.isDiscarded()) { offer(discarded, _tail.get()); }
+	}
+
+	/**
+	 * Add a discarded instance to the queue, unless it is full, claiming slots from a tail position that another
+	 * thread may since have claimed, as tests do to lose the race deterministically.
+	 */
+	void offer(final R discarded, final long tail)
+	{
+		long position = tail;
+		while (true)
+		{
+			final int slot = _binSize.wrap((int) position);
+
+			// The slot still holds an instance from the previous lap
+			if (_sequences.get(slot) < position) { return; }
+
+			// Otherwise the slot is ready to fill, unless another thread has claimed it, which moved the tail on
+			if (_tail.compareAndSet(position, position + 1L))
+			{
+				_queue.set(slot, discarded);
+				_sequences.set(slot, position + 1L);
+				return;
+			}
+			position = _tail.get();
+		}
+	}
+
+	/**
+	 * Take the oldest discarded instance from the queue, claiming slots from a head position that another thread may
+	 * since have claimed, as tests do to lose the race deterministically.
+	 *
+	 * @return the instance, or null if the queue is empty.
+	 */
+	@Nullable R poll(final long head)
+	{
+		long position = head;
+		while (true)
+		{
+			final int slot = _binSize.wrap((int) position);
+
+			// The slot has not been filled since the previous lap
+			if (_sequences.get(slot) < position + 1L) { return null; }
+
+			// Otherwise the slot is ready to empty, unless another thread has claimed it, which moved the head on
+			if (_head.compareAndSet(position, position + 1L))
+			{
+				final R discarded = _queue.get(slot);
+				_queue.set(slot, null);
+				_sequences.set(slot, position + _queue.length());
+				return discarded;
+			}
+			position = _head.get();
+		}
+	}
+
+	@Override public RecycleStats stats()
+	{
+		final long occupancy = _tail.get() - _head.get();
+		return _counter.stats(_queue.length(), (int) Math.max(0L, Math.min(occupancy, _queue.length())));
+	}
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return "ReturnQueue" + stats(); }
+}
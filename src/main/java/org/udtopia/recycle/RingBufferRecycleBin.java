@@ -3,16 +3,19 @@ package org.udtopia.recycle;
 import java.util.function.Supplier;
 import org.udtopia.Mutable;
 import org.udtopia.Value;
-import org.udtopia.assertion.Assert;
 
-import static java.lang.String.*;
+import static org.udtopia.jfr.UDTopiaEvents.*;
 
 /**
  * High-performance implementation of {@link RecycleBin} that prioritizes latency/throughput over garbage reduction.
+ * <p>
+ * Each recycle checks the oldest instance in the ring buffer, and then up to {@code probe - 1} more, in order.
+ * A discarded instance found by probing swaps places with the oldest, so the recycled instance is checked last again.
+ * If none of them are discarded, a new instance replaces the oldest, which will go to GC when discarded.
  *
  * @param <R> the {@link Recyclable} class to be pooled.
  */
-public final @Mutable class RingBufferRecycleBin<R extends Recyclable> implements RecycleBin<R>
+public final @Mutable class RingBufferRecycleBin<R extends Recyclable> implements LocalRecycleBin<R>
 {
 	// Ring buffer array of instances
 	private final R[] _bin;
@@ -20,19 +23,35 @@ public final @Mutable class RingBufferRecycleBin<R extends Recyclable> implement
 	// The size of the ring buffer
 	private final RingBufferSize _binSize;
 
+	// The number of instances each recycle checks, from 1 to the size
+	private final int _probe;
+
 	// Total count of recycle attempts
+	// Overflow is harmless, because the ring buffer size is a power of two
 	private int _count;
 
-	// Count of allocations due to failure to recycle
-	private int _misses;
+	// Recycle stats
+	private final RecycleCounter _counter;
 
-	@SuppressWarnings({"unchecked", "SuspiciousArrayCast"}) RingBufferRecycleBin(final RingBufferSize size)
+	@SuppressWarnings({"unchecked", "SuspiciousArrayCast"})
+	RingBufferRecycleBin(final RingBufferSize size, final int probe, final RecycleCounter counter)
 	{
+		if (probe < 1) { throw new IllegalArgumentException("Probe depth " + probe + " is less than 1"); }
+
 		// Fill array with a null object that is unavailable for recycling
 		_bin = (R[]) size.createRingBuffer(Recyclable[]::new, () -> DUMMY);
 		_binSize = size;
+		_probe = Math.min(probe, size.getAsInt());
+		_counter = counter;
+	}
+
+	RingBufferRecycleBin(final RingBufferSize size, final RecycleCounter counter)
+	{
+		this(size, RecycleBinSize.DEFAULT_PROBE, counter);
 	}
 
+	RingBufferRecycleBin(final RingBufferSize size) { this(size, new RecycleCounter.SingleThreaded()); }
+
 	// For JUnit
 	RingBufferRecycleBin(final RingBufferSize size, final int startingHead)
 	{
@@ -54,45 +73,65 @@ public final @Mutable class RingBufferRecycleBin<R extends Recyclable> implement
 
 		// Increment head index
 		// Wrap around to 0 when it reaches the end, so it acts as a ring buffer
-		final int head = _getAndAdvanceHeadIndex();
+		final int head = _binSize.wrap(_count++);
 
 		// Recycle the oldest instance in the bin
 		R instance = bin[head];
-		if (instance.isDiscarded()) { recycler.recycle(instance); }
+		if (instance.isDiscarded())
+		{
+			_counter.hit();
+			recycler.recycle(instance);
+		}
+		else if (_probe > 1 && _probeFrom(head))
+		{
+			// Probing swapped a discarded instance into the head slot
+			instance = bin[head];
+			_counter.hit();
+			recycler.recycle(instance);
+		}
 		else
 		{
 			// No instances available for recycling; replace head instance with a new one
 			// The replaced instance will go to GC eventually
-			Assert.debug(() -> _misses++);
+			_counter.miss();
 			instance = generator.get();
 			bin[head] = instance;
+			recycleMiss(instance.getClass(), bin.length);
 		}
 
 		return instance;
 	}
 
-	private int _getAndAdvanceHeadIndex()
+	// Look for a discarded instance in the slots after the head, and swap it into the head slot
+	private boolean _probeFrom(final int head)
 	{
-		final int head = _binSize.wrap(_count);
-		if (_count == Integer.MAX_VALUE)
+		final R[] bin = _bin;
+		for (int i = 1; i < _probe; i++)
 		{
-			_count = head;
-			_misses = 0;
+			final int slot = _binSize.wrap(head + i);
+			final R instance = bin[slot];
+			if (instance.isDiscarded())
+			{
+				bin[slot] = bin[head];
+				bin[head] = instance;
+				return true;
+			}
 		}
-		_count++;
-		return head;
+		return false;
 	}
 
-	@Override public String toString()
+	@Override public int occupancy()
 	{
-		final int binSize = _binSize.getAsInt();
-		if (Assert.isEnabled())
-		{
-			final int count = _count;
-			final int hits = count - _misses;
-			final double hitRate = count == 0 ? 0.0 : hits * 100.0 / count;
-			return format("RecycleBin[%,d]: %,d / %,d (%.1f%%) recycled", binSize, hits, count, hitRate);
-		}
-		return format("RecycleBin[%,d]: Enable assertions (-ea) to see recycle stats", binSize);
+		int occupancy = 0;
+		for (final R instance: _bin) { if (instance.isDiscarded()) { occupancy++; } }
+		return occupancy;
 	}
+
+	@Override public int size() { return _bin.length; }
+
+	@Override public RecycleStats stats() { return _counter.stats(size(), occupancy()); }
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return stats().toString(); }
 }
@@ -0,0 +1,84 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+import static org.udtopia.jfr.UDTopiaEvents.*;
+import static org.udtopia.recycle.RingBufferRecycleBin.*;
+
+/**
+ * Lock-free implementation of {@link RecycleBin}, with one ring buffer shared by all threads.
+ * Each slot is claimed by compare-and-set before its instance is recycled, so no two threads can receive the same
+ * instance.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ */
+public final @ThreadSafe @Mutable class SharedRecycleBin<R extends Recyclable> implements RecycleBin<R>
+{
+	// Ring buffer array of instances
+	// A slot holds DUMMY while a thread has claimed its instance for recycling
+	private final AtomicReferenceArray<Recyclable> _bin;
+
+	// The size of the ring buffer
+	private final RingBufferSize _binSize;
+
+	// Total count of recycle attempts, by all threads
+	// Overflow is harmless, because the ring buffer size is a power of two
+	private final AtomicInteger _count = new AtomicInteger();
+
+	// Recycle stats
+	private final RecycleCounter _counter = new RecycleCounter.Striped();
+
+	SharedRecycleBin(final RingBufferSize size)
+	{
+		_bin = new AtomicReferenceArray<>(size.createRingBuffer(Recyclable[]::new, () -> DUMMY));
+		_binSize = size;
+	}
+
+	@Override public R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator)
+	{
+		final AtomicReferenceArray<Recyclable> bin = _bin;
+		final int head = _binSize.wrap(_count.getAndIncrement());
+
+		// Try to claim the oldest instance in the bin
+		final Recyclable oldest = bin.get(head);
+		if (oldest.isDiscarded() && bin.compareAndSet(head, oldest, DUMMY))
+		{
+			// Check again, in case another thread recycled and returned the same instance before we claimed it
+			@SuppressWarnings("unchecked") final R instance = (R) oldest;
+			final boolean stillDiscarded = instance.isDiscarded();
+			if (stillDiscarded) { recycler.recycle(instance); }
+
+			// Return the instance to the bin, unless another thread has already replaced it
+			bin.compareAndSet(head, DUMMY, instance);
+			if (stillDiscarded)
+			{
+				_counter.hit();
+				return instance;
+			}
+		}
+
+		// No instances available for recycling; replace head instance with a new one
+		// If another thread got there first, the new instance simply won't be pooled
+		_counter.miss();
+		final R instance = generator.get();
+		bin.compareAndSet(head, oldest, instance);
+		recycleMiss(instance.getClass(), bin.length());
+		return instance;
+	}
+
+	@Override public RecycleStats stats()
+	{
+		final AtomicReferenceArray<Recyclable> bin = _bin;
+		int occupancy = 0;
+		for (int i = 0; i < bin.length(); i++) { if (bin.get(i).isDiscarded()) { occupancy++; } }
+		return _counter.stats(bin.length(), occupancy);
+	}
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return "Shared" + stats(); }
+}
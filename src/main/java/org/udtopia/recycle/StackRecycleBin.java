@@ -0,0 +1,130 @@
+package org.udtopia.recycle;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+import static org.udtopia.jfr.UDTopiaEvents.*;
+
+/**
+ * Implementation of {@link RecycleBin} that gives each thread a bounded stack of the instances it has discarded.
+ * Instances are {@linkplain #onDiscard pushed} onto the stack of the discarding thread, and each recycle pops the
+ * instance that thread discarded most recently, so a recycle hits whenever the thread has any discarded instance,
+ * and the instance it reuses is likely still in the CPU cache.
+ * When a thread's stack is full, the instances it discards go to GC.
+ * <p>
+ * Each stack is only used by its own thread, so pushing and popping need no locks.
+ * An instance discarded on one thread is only recycled by that thread, so this suits threads that create and discard
+ * their own instances; pipelines are better served by {@link ReturnOnDiscard @ReturnOnDiscard}.
+ * All threads share one set of striped stats counters.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ * @see LastInFirstOut
+ */
+final @ThreadSafe @Mutable class StackRecycleBin<R extends Recyclable> implements RecycleBin<R>
+{
+	// Recycle stats, shared by all threads
+	private final RecycleCounter _counter = new RecycleCounter.Striped();
+
+	// Every thread's stack, for stats only
+	// Weak references, so that the stacks of dead threads can go to GC
+	private final Set<WeakReference<Stack>> _stacks = ConcurrentHashMap.newKeySet();
+
+	// The references to stacks that went to GC, removed from the set when the next stack is added
+	private final ReferenceQueue<Stack> _collectedStacks = new ReferenceQueue<>();
+
+	private final ThreadLocal<Stack> _threadLocal;
+
+	/** The discarded instances of one thread, most recently discarded on top. */
+	private static final @Mutable class Stack
+	{
+		// Discarded instances, with null above the top
+		private final Recyclable[] _instances;
+
+		// The number of instances on the stack
+		private int _top;
+
+		Stack(final int size) { _instances = new Recyclable[size]; }
+
+		void push(final Recyclable discarded)
+		{
+			if (_top < _instances.length) { _instances[_top++] = discarded; }
+		}
+
+		// The most recently discarded instance that is still discarded, or null if there is none
+		@Nullable Recyclable pop()
+		{
+			final Recyclable[] instances = _instances;
+			while (_top > 0)
+			{
+				final Recyclable instance = instances[--_top];
+				instances[_top] = null;
+
+				// An instance discarded twice is pushed twice, and may have been recycled since the first time
+				if (instance.isDiscarded()) { return instance; }
+			}
+			return null;
+		}
+	}
+
+	/** @param size the number of instances each thread's stack can hold. */
+	StackRecycleBin(final RingBufferSize size)
+	{
+		_threadLocal = ThreadLocal.withInitial(() ->
+		{
+			final Stack stack = new Stack(size.getAsInt());
+			for (Reference<?> cleared = _collectedStacks.poll(); cleared != null; cleared = _collectedStacks.poll())
+			{
+				_stacks.remove(cleared);
+			}
+			_stacks.add(new WeakReference<>(stack, _collectedStacks));
+			return stack;
+		});
+	}
+
+	@Override public R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator)
+	{
+		@SuppressWarnings("unchecked") final R discarded = (R) _threadLocal.get().pop();
+		if (discarded != null)
+		{
+			_counter.hit();
+			recycler.recycle(discarded);
+			return discarded;
+		}
+
+		// No instances available for recycling; the new instance joins the stack of the thread that discards it
+		_counter.miss();
+		final R instance = generator.get();
+		recycleMiss(instance.getClass(), _threadLocal.get()._instances.length);
+		return instance;
+	}
+
+	/** Push a discarded instance onto the stack of the current thread, unless it is full. */
+	@Override public void onDiscard(final R discarded) { _threadLocal.get().push(discarded); }
+
+	@Override public RecycleStats stats()
+	{
+		int size = 0;
+		int occupancy = 0;
+		for (final WeakReference<Stack> reference : _stacks)
+		{
+			final Stack stack = reference.get();
+			if (stack != null)
+			{
+				size += stack._instances.length;
+				occupancy += stack._top;
+			}
+		}
+		return _counter.stats(size, occupancy);
+	}
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return "Stack" + stats(); }
+}
@@ -0,0 +1,111 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+import static org.udtopia.jfr.UDTopiaEvents.*;
+
+/**
+ * Implementation of {@link RecycleBin} with a fixed number of stripes, each with its own {@link RingBufferRecycleBin}
+ * or {@link AdaptiveRecycleBin}, shared by any number of threads.
+ * <p>
+ * Each thread recycles from the stripe picked by a hash of its ID, or the next stripe if that one is busy.
+ * A thread locks a stripe by compare-and-set for the length of one recycle, so no two threads use a stripe at once,
+ * even if a virtual thread moves to another carrier thread part way through.
+ * If both stripes are busy, the thread allocates a new instance without pooling it.
+ * Memory usage depends only on the number of stripes, not on the number of threads, which suits virtual threads.
+ * All stripes share one set of striped stats counters.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ */
+final @ThreadSafe @Mutable class StripedRecycleBin<R extends Recyclable> implements RecycleBin<R>
+{
+	// 2^64 divided by the golden ratio, to spread consecutive thread IDs across the stripes
+	private static final long _PHI = 0x9E3779B97F4A7C15L;
+
+	// The locks of the stripes are 16 ints (64 bytes) apart, so that each is on its own cache line
+	private static final int _LOCK_SPACING = 16;
+
+	// Recycle stats, shared by all stripes
+	private final RecycleCounter _counter;
+
+	private final LocalRecycleBin<R>[] _stripes;
+
+	// 1 while a thread is recycling from the stripe, otherwise 0
+	private final AtomicIntegerArray _locks;
+
+	/**
+	 * @param stripeCount the number of stripes, rounded up to a power of two.
+	 * @param ringFactory creates the recycle bin for each stripe, given the shared stats counter.
+	 * @param counter the stats counter.
+	 */
+	@SuppressWarnings({"unchecked", "SuspiciousArrayCast"})
+	StripedRecycleBin(
+		final RingBufferSize stripeCount,
+		final Function<? super RecycleCounter, ? extends LocalRecycleBin<R>> ringFactory,
+		final RecycleCounter counter)
+	{
+		_counter = counter;
+		_stripes = (LocalRecycleBin<R>[]) stripeCount.createRingBuffer(LocalRecycleBin[]::new,
+			() -> ringFactory.apply(counter));
+		_locks = new AtomicIntegerArray(_stripes.length * _LOCK_SPACING);
+	}
+
+	StripedRecycleBin(final RingBufferSize stripeCount, final RingBufferSize binSize)
+	{
+		this(stripeCount, counter -> new RingBufferRecycleBin<>(binSize, counter), new RecycleCounter.Striped());
+	}
+
+	/** @return one stripe for each processor, so that each carrier thread of virtual threads may have its own. */
+	static RingBufferSize defaultStripeCount()
+	{
+		return new RingBufferSize(Runtime.getRuntime().availableProcessors());
+	}
+
+	@SuppressWarnings("deprecation") // Thread.getId() is deprecated from Java 19, but threadId() is not in Java 8
+	@Override public R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator)
+	{
+		final int mask = _stripes.length - 1;
+		final int first = (int) (Thread.currentThread().getId() * _PHI >>> Integer.SIZE) & mask;
+		for (int stripe = first; stripe <= first + 1; stripe++)
+		{
+			final int lock = (stripe & mask) * _LOCK_SPACING;
+			if (_locks.compareAndSet(lock, 0, 1))
+			{
+				try { return _stripes[stripe & mask].recycle(recycler, generator); }
+				finally { _locks.set(lock, 0); }
+			}
+		}
+
+		// Both stripes are busy; allocate a new instance, which will go to GC when discarded
+		_counter.miss();
+		final R instance = generator.get();
+		recycleMiss(instance.getClass(), _stripes[first].size());
+		return instance;
+	}
+
+	/** @return the total number of instances all stripes can hold. */
+	int size()
+	{
+		int size = 0;
+		for (final LocalRecycleBin<R> stripe: _stripes) { size += stripe.size(); }
+		return size;
+	}
+
+	/** @return the total number of discarded instances in all stripes. */
+	int occupancy()
+	{
+		int occupancy = 0;
+		for (final LocalRecycleBin<R> stripe: _stripes) { occupancy += stripe.occupancy(); }
+		return occupancy;
+	}
+
+	@Override public RecycleStats stats() { return _counter.stats(size(), occupancy()); }
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return "Striped" + stats(); }
+}
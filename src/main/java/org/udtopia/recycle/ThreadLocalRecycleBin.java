@@ -0,0 +1,151 @@
+package org.udtopia.recycle;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+import org.udtopia.ThreadSafe;
+
+/**
+ * Implementation of {@link RecycleBin} that gives each thread its own {@link RingBufferRecycleBin} or
+ * {@link AdaptiveRecycleBin}.
+ * <p>
+ * Virtual threads (from Java 21) are too many and too short-lived for a ring buffer each, which would rarely be
+ * reused, so they share a {@link StripedRecycleBin} with one stripe for each processor instead.
+ * On older JVMs, every thread is a platform thread, with its own ring buffer.
+ * All threads share one set of striped stats counters.
+ *
+ * @param <R> the {@link Recyclable} class to be pooled.
+ */
+final @ThreadSafe @Mutable class ThreadLocalRecycleBin<R extends Recyclable> implements RecycleBin<R>
+{
+	// Thread.isVirtual(), or null before Java 21
+	private static final @Nullable MethodHandle _IS_VIRTUAL = _findIsVirtual();
+
+	// Recycle stats, shared by all threads
+	private final RecycleCounter _counter = new RecycleCounter.Striped();
+
+	// Every thread's ring buffer, for stats only
+	// Weak references, so that the ring buffers of dead threads can go to GC
+	private final Set<WeakReference<LocalRecycleBin<R>>> _rings = ConcurrentHashMap.newKeySet();
+
+	// The references to ring buffers that went to GC, removed from the set when the next ring buffer is added
+	private final ReferenceQueue<LocalRecycleBin<R>> _collectedRings = new ReferenceQueue<>();
+
+	private final ThreadLocal<LocalRecycleBin<R>> _threadLocal;
+
+	private final Function<? super RecycleCounter, ? extends LocalRecycleBin<R>> _ringFactory;
+	private final boolean _stripeVirtualThreads;
+
+	// The recycle bin shared by virtual threads, created when the first one recycles
+	private volatile @Nullable StripedRecycleBin<R> _virtualBin;
+
+	/**
+	 * @param ringFactory creates the recycle bin for each thread, given the shared stats counter.
+	 */
+	ThreadLocalRecycleBin(final Function<? super RecycleCounter, ? extends LocalRecycleBin<R>> ringFactory)
+	{
+		this(ringFactory, true);
+	}
+
+	/**
+	 * @param ringFactory creates the recycle bin for each thread, given the shared stats counter.
+	 * @param stripeVirtualThreads whether virtual threads share a striped recycle bin, rather than a ring each.
+	 */
+	ThreadLocalRecycleBin(
+		final Function<? super RecycleCounter, ? extends LocalRecycleBin<R>> ringFactory,
+		final boolean stripeVirtualThreads)
+	{
+		_threadLocal = ThreadLocal.withInitial(() ->
+		{
+			final LocalRecycleBin<R> ring = ringFactory.apply(_counter);
+			for (Reference<?> collected = _collectedRings.poll(); collected != null; collected = _collectedRings.poll())
+			{
+				_rings.remove(collected);
+			}
+			_rings.add(new WeakReference<>(ring, _collectedRings));
+			return ring;
+		});
+		_ringFactory = ringFactory;
+		_stripeVirtualThreads = stripeVirtualThreads;
+	}
+
+	ThreadLocalRecycleBin(final RingBufferSize binSize) { this(binSize, RecycleBinSize.DEFAULT_PROBE); }
+
+	ThreadLocalRecycleBin(final RingBufferSize binSize, final int probe)
+	{
+		this(counter -> new RingBufferRecycleBin<>(binSize, probe, counter));
+	}
+
+	private static @Nullable MethodHandle _findIsVirtual()
+	{
+		try
+		{
+			return MethodHandles.publicLookup()
+				.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+		}
+		catch (final ReflectiveOperationException | SecurityException e) { return null; }
+	}
+
+	/**
+	 * @param thread a thread.
+	 * @return {@code true} if the thread is a virtual thread; always {@code false} before Java 21.
+	 */
+	static boolean isVirtual(final Thread thread)
+	{
+		if (_IS_VIRTUAL == null) { return false; }
+		try { return (boolean) _IS_VIRTUAL.invokeExact(thread); }
+		catch (final RuntimeException | Error e) { throw e; }
+		catch (final Throwable e) { throw new IllegalStateException(e); }
+	}
+
+	@Override public R recycle(final Recycler<? super R> recycler, final Supplier<? extends R> generator)
+	{
+		if (_stripeVirtualThreads && isVirtual(Thread.currentThread()))
+		{
+			final StripedRecycleBin<R> virtualBin = _virtualBin;
+			return (virtualBin == null ? _createVirtualBin() : virtualBin).recycle(recycler, generator);
+		}
+		return _threadLocal.get().recycle(recycler, generator);
+	}
+
+	private synchronized StripedRecycleBin<R> _createVirtualBin()
+	{
+		StripedRecycleBin<R> virtualBin = _virtualBin;
+		if (virtualBin == null)
+		{
+			virtualBin = new StripedRecycleBin<>(StripedRecycleBin.defaultStripeCount(), _ringFactory, _counter);
+			_virtualBin = virtualBin;
+		}
+		return virtualBin;
+	}
+
+	@Override public RecycleStats stats()
+	{
+		final StripedRecycleBin<R> virtualBin = _virtualBin;
+		int size = virtualBin == null ? 0 : virtualBin.size();
+		int occupancy = virtualBin == null ? 0 : virtualBin.occupancy();
+		for (final WeakReference<LocalRecycleBin<R>> reference : _rings)
+		{
+			final LocalRecycleBin<R> ring = reference.get();
+			if (ring != null)
+			{
+				size += ring.size();
+				occupancy += ring.occupancy();
+			}
+		}
+		return _counter.stats(size, occupancy);
+	}
+
+	@Override public void resetStats() { _counter.reset(); }
+
+	@Override public String toString() { return stats().toString(); }
+}
@@ -21,6 +21,12 @@ public @Value enum ApplyRuleWhen
 
 	ApplyRuleWhen(final Predicate<? super Class<?>> condition) { _condition = condition; }
 
+	/**
+	 * @param annotatedClass the class annotated with the rule.
+	 * @return {@code true} if the rule should be applied; {@code false} if it should be skipped.
+	 */
+	boolean appliesTo(final Class<?> annotatedClass) { return _condition.test(annotatedClass); }
+
 	/**
 	 * Decide whether to apply the rule for the given annotation to the given class it annotates, based on the
 	 * presence and value of an {@code ApplyRuleWhen} parameter.
@@ -40,7 +46,7 @@ public @Value enum ApplyRuleWhen
 				{
 					// Apply condition
 					final ApplyRuleWhen applyRulesWhen = (ApplyRuleWhen) annotationParameter.invoke(annotation);
-					return applyRulesWhen._condition.test(annotatedClass);
+					return applyRulesWhen.appliesTo(annotatedClass);
 				}
 				catch (final IllegalAccessException | InvocationTargetException ignored)
 				{
@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.String.*;
@@ -44,12 +45,49 @@ public @interface Ceiling
 			_doubleCeiling = ceiling;
 		}
 
+		/** @return an equivalent {@link Clamp}, for {@linkplain RuleFusion fusion} with other rules. */
+		Clamp clamp()
+		{
+			return new Clamp(
+				Integer.MIN_VALUE, _intCeiling,
+				Long.MIN_VALUE, _longCeiling,
+				Double.NEGATIVE_INFINITY, _doubleCeiling,
+				toString());
+		}
+
 		@Override public int normalize(final int value) { return Math.min(value, _intCeiling); }
 
 		@Override public long normalize(final long value) { return Math.min(value, _longCeiling); }
 
 		@Override public double normalize(final double value) { return Math.min(value, _doubleCeiling); }
 
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = Math.min(values[i], _intCeiling); }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = Math.min(values[i], _longCeiling); }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final double[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = Math.min(values[i], _doubleCeiling); }
+		}
+
 		@Override public String toString() { return format("@%s(%s)", Ceiling.class.getSimpleName(), _doubleCeiling); }
 	}
 }
@@ -0,0 +1,88 @@
+package org.udtopia.rules;
+
+import org.udtopia.Value;
+
+/**
+ * An immutable set of characters, for the {@link Chars} and {@link NotChars} rules.
+ * <p>
+ * A set of consecutive characters, such as printable ASCII or the digits, is checked with one comparison per
+ * character, without reading memory. Other sets are looked up in a table of {@code boolean}s that only extends as far
+ * as the largest character in the set: 128 bytes, two cache lines, for a set of ASCII characters. A table of every
+ * character would take 64 KB, and crowd other data out of the CPU cache.
+ */
+final @Value class CharSet
+{
+	// The smallest character in the set, and the distance to the largest
+	private final int _min, _span;
+
+	// Whether each character up to the largest in the set is in the set, or null if the set is consecutive
+	private final boolean[] _table;
+
+	/** @param chars the characters in the set. */
+	CharSet(final String chars)
+	{
+		final boolean[] table = new boolean[chars.chars().max().orElse(-1) + 1];
+		for (int i = 0; i < chars.length(); i++) { table[chars.charAt(i)] = true; }
+
+		final int min = chars.chars().min().orElse(0);
+		int count = 0;
+		for (final boolean contained: table) { if (contained) { count++; } }
+		_min = min;
+		_span = table.length - 1 - min;
+		_table = count != 0 && count == table.length - min ? null : table;
+	}
+
+	/**
+	 * @param c a character.
+	 * @return {@code true} if the set contains the character.
+	 */
+	boolean contains(final char c)
+	{
+		return _table == null ? _inRange(c, _min, _span) : c < _table.length && _table[c];
+	}
+
+	// Whether min <= c <= min + span, in one comparison: below min, c - min wraps to more than 65535 - min >= span
+	private static boolean _inRange(final char c, final int min, final int span) { return (char) (c - min) <= span; }
+
+	/**
+	 * @param value a string.
+	 * @return {@code true} if the set contains every character of the string.
+	 */
+	boolean containsAll(final String value)
+	{
+		final boolean[] table = _table;
+		if (table == null)
+		{
+			final int min = _min, span = _span;
+			for (int i = 0; i < value.length(); i++) { if (!_inRange(value.charAt(i), min, span)) { return false; } }
+			return true;
+		}
+		for (int i = 0; i < value.length(); i++)
+		{
+			final char c = value.charAt(i);
+			if (c >= table.length || !table[c]) { return false; }
+		}
+		return true;
+	}
+
+	/**
+	 * @param value a string.
+	 * @return {@code true} if the set contains any character of the string.
+	 */
+	boolean containsAny(final String value)
+	{
+		final boolean[] table = _table;
+		if (table == null)
+		{
+			final int min = _min, span = _span;
+			for (int i = 0; i < value.length(); i++) { if (_inRange(value.charAt(i), min, span)) { return true; } }
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++)
+		{
+			final char c = value.charAt(i);
+			if (c < table.length && table[c]) { return true; }
+		}
+		return false;
+	}
+}
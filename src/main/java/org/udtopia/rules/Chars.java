@@ -43,25 +43,26 @@ public @interface Chars
 		 */
 		public Rule(final Chars annotation) { this(annotation.value()); }
 
-		private final boolean[] _validCharMap;
+		private final CharSet _validChars;
 		private final String _allowedCharacters;
 
 		Rule(final String allowedCharacters)
 		{
 			_allowedCharacters = allowedCharacters;
-			_validCharMap = new boolean[Character.MAX_VALUE + 1];
-			allowedCharacters.chars().forEach(charIndex -> _validCharMap[charIndex] = true);
+			_validChars = new CharSet(allowedCharacters);
+		}
+
+		@Override public boolean isValid(final Class<?> target, final String value)
+		{
+			return _validChars.containsAll(value);
 		}
 
 		@Override public void validate(final Class<?> target, final String value)
 		{
-			for (final char c: value.toCharArray())
+			if (!isValid(target, value))
 			{
-				if (!_validCharMap[c])
-				{
-					throw new ValidationException(
-						target, "\"" + value + "\" contains invalid characters (valid = " + _allowedCharacters + ")");
-				}
+				throw new ValidationException(
+					target, "\"" + value + "\" contains invalid characters (valid = " + _allowedCharacters + ")");
 			}
 		}
 
@@ -0,0 +1,98 @@
+package org.udtopia.rules;
+
+import java.util.BitSet;
+import org.udtopia.Value;
+
+/**
+ * A {@linkplain RuleFusion fusion} of adjacent {@link Floor} and {@link Ceiling} rules into a single clamp.
+ * Any sequence of floors and ceilings is equivalent to one floor followed by one ceiling.
+ */
+final @Value class Clamp implements IntNormalizer, LongNormalizer, DoubleNormalizer
+{
+	private final int _intFloor, _intCeiling;
+	private final long _longFloor, _longCeiling;
+	private final double _doubleFloor, _doubleCeiling;
+
+	// Description of the original rules, in order
+	private final String _rules;
+
+	@SuppressWarnings("ConstructorWithTooManyParameters")
+	Clamp(
+		final int intFloor, final int intCeiling,
+		final long longFloor, final long longCeiling,
+		final double doubleFloor, final double doubleCeiling,
+		final String rules)
+	{
+		_intFloor = intFloor;
+		_intCeiling = intCeiling;
+		_longFloor = longFloor;
+		_longCeiling = longCeiling;
+		_doubleFloor = doubleFloor;
+		_doubleCeiling = doubleCeiling;
+		_rules = rules;
+	}
+
+	/** @return the equivalent {@link Clamp} of a {@link Floor}, {@link Ceiling}, or {@link Clamp} rule, or null. */
+	static Clamp of(final Object rule)
+	{
+		if (rule instanceof Floor.Rule) { return ((Floor.Rule) rule).clamp(); }
+		if (rule instanceof Ceiling.Rule) { return ((Ceiling.Rule) rule).clamp(); }
+		if (rule instanceof Clamp) { return (Clamp) rule; }
+		return null;
+	}
+
+	/**
+	 * @param next the clamp to apply after this one.
+	 * @return a single clamp equivalent to applying this one, then the next one.
+	 */
+	Clamp then(final Clamp next)
+	{
+		// Flooring a clamped value raises both limits; ceiling it lowers only the upper limit
+		return new Clamp(
+			Math.max(_intFloor, next._intFloor),
+			Math.min(Math.max(_intCeiling, next._intFloor), next._intCeiling),
+			Math.max(_longFloor, next._longFloor),
+			Math.min(Math.max(_longCeiling, next._longFloor), next._longCeiling),
+			Math.max(_doubleFloor, next._doubleFloor),
+			Math.min(Math.max(_doubleCeiling, next._doubleFloor), next._doubleCeiling),
+			_rules + " -> " + next._rules);
+	}
+
+	@Override public int normalize(final int value) { return Math.min(Math.max(value, _intFloor), _intCeiling); }
+
+	@Override public long normalize(final long value) { return Math.min(Math.max(value, _longFloor), _longCeiling); }
+
+	@Override public double normalize(final double value)
+	{
+		return Math.min(Math.max(value, _doubleFloor), _doubleCeiling);
+	}
+
+	@Override public void applyToAll(
+		final Class<?> target,
+		final int[] values,
+		final int length,
+		final BitSet failures)
+	{
+		for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+	}
+
+	@Override public void applyToAll(
+		final Class<?> target,
+		final long[] values,
+		final int length,
+		final BitSet failures)
+	{
+		for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+	}
+
+	@Override public void applyToAll(
+		final Class<?> target,
+		final double[] values,
+		final int length,
+		final BitSet failures)
+	{
+		for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+	}
+
+	@Override public String toString() { return _rules; }
+}
@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.udtopia.Value;
 
 /**
@@ -9,6 +10,16 @@ public @Value interface DoubleNormalizer extends DoubleRule
 {
 	@Override default double applyTo(final Class<?> target, final double value) { return normalize(value); }
 
+	/** Normalize every value, because normalization cannot fail. */
+	@Override default void applyToAll(
+		final Class<?> target,
+		final double[] values,
+		final int length,
+		final BitSet failures)
+	{
+		for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+	}
+
 	/**
 	 * Apply this rule to normalize the raw value.
 	 *
@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.String.*;
@@ -44,12 +45,49 @@ public @interface Floor
 			_doubleFloor = floor;
 		}
 
+		/** @return an equivalent {@link Clamp}, for {@linkplain RuleFusion fusion} with other rules. */
+		Clamp clamp()
+		{
+			return new Clamp(
+				_intFloor, Integer.MAX_VALUE,
+				_longFloor, Long.MAX_VALUE,
+				_doubleFloor, Double.POSITIVE_INFINITY,
+				toString());
+		}
+
 		@Override public int normalize(final int value) { return Math.max(value, _intFloor); }
 
 		@Override public long normalize(final long value) { return Math.max(value, _longFloor); }
 
 		@Override public double normalize(final double value) { return Math.max(value, _doubleFloor); }
 
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = Math.max(values[i], _intFloor); }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = Math.max(values[i], _longFloor); }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final double[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = Math.max(values[i], _doubleFloor); }
+		}
+
 		@Override public String toString() { return format("@%s(%s)", Floor.class.getSimpleName(), _doubleFloor); }
 	}
 }
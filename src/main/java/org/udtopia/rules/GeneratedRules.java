@@ -0,0 +1,214 @@
+package org.udtopia.rules;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.udtopia.ThreadSafe;
+import org.udtopia.Value;
+
+import static java.nio.charset.StandardCharsets.*;
+
+/**
+ * Base class of the rules generated at compile time by {@link org.udtopia.rules.processor.RulesProcessor}.
+ * <p>
+ * For each class annotated with built-in rules, the processor generates a subclass named after the binary name of
+ * the annotated class, plus {@value #CLASS_NAME_SUFFIX}.
+ * The processor also lists the binary name of each annotated class in the resource {@value #INDEX_RESOURCE}.
+ * {@link RulesCache} uses the generated class of each listed class to build the chain of rules without reading
+ * annotations reflectively, which makes the first construction of each UDT class faster.
+ * Classes that are not listed fall back to reflection, without trying to load a generated class.
+ */
+public abstract @Value class GeneratedRules
+{
+	/** Suffix of the name of a generated rules class, after the binary name of the annotated class. */
+	public static final String CLASS_NAME_SUFFIX = "_Rules";
+
+	/** Resource listing the binary names of the classes with generated rules, one per line. */
+	public static final String INDEX_RESOURCE = "META-INF/udtopia/generated-rules";
+
+	// The classes listed in the indexes visible to each class loader, read once per class loader
+	// Weak keys, so that the cache does not keep class loaders from being unloaded
+	private static final Map<ClassLoader, Set<String>> _INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+	// Generated rules for each annotated class, if any
+	private static final ClassValue<Optional<GeneratedRules>> _FOR_CLASS =
+		new @ThreadSafe ClassValue<Optional<GeneratedRules>>()
+		{
+			@Override protected Optional<GeneratedRules> computeValue(final Class<?> annotatedClass)
+			{
+				final ClassLoader loader = annotatedClass.getClassLoader();
+				if (loader == null || !_INDEXES.computeIfAbsent(loader, GeneratedRules::_readIndexes)
+					.contains(annotatedClass.getName()))
+				{
+					return Optional.empty();
+				}
+				try
+				{
+					final Class<?> generatedClass = Class.forName(
+						annotatedClass.getName() + CLASS_NAME_SUFFIX,
+						true,
+						loader);
+					if (!GeneratedRules.class.isAssignableFrom(generatedClass)) { return Optional.empty(); }
+					return Optional.of((GeneratedRules) generatedClass.getConstructor().newInstance());
+				}
+				catch (final ReflectiveOperationException | LinkageError e) { return Optional.empty(); }
+			}
+		};
+
+	// The classes listed in every index visible to the class loader; an unreadable index lists none
+	private static Set<String> _readIndexes(final ClassLoader loader)
+	{
+		final Set<String> listed = new HashSet<>();
+		try
+		{
+			final Enumeration<URL> indexes = loader.getResources(INDEX_RESOURCE);
+			while (indexes.hasMoreElements())
+			{
+				try (BufferedReader index = new BufferedReader(
+					new InputStreamReader(indexes.nextElement().openStream(), UTF_8)))
+				{
+					index.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(listed::add);
+				}
+			}
+		}
+		catch (final IOException ignored) { }
+		return listed;
+	}
+
+	/**
+	 * @param annotatedClass a class that may be annotated with rules.
+	 * @return the generated rules for the class, if any.
+	 */
+	static Optional<GeneratedRules> forClass(final Class<?> annotatedClass) { return _FOR_CLASS.get(annotatedClass); }
+
+	/** For generated subclasses only. */
+	protected GeneratedRules() { }
+
+	/**
+	 * Add new instances of the rules declared on the annotated class, in the same order as reflection would find them,
+	 * skipping any whose {@link ApplyRuleWhen} condition does not apply.
+	 *
+	 * @param annotatedClass the class annotated with the rules.
+	 * @param rules the list to which to add the rules.
+	 */
+	protected abstract void addRules(Class<?> annotatedClass, List<Object> rules);
+
+	/**
+	 * @param when the condition declared on the rule annotation.
+	 * @param annotatedClass the class annotated with the rule.
+	 * @return {@code true} if the rule should be applied; {@code false} if it should be skipped.
+	 */
+	protected static boolean applies(final ApplyRuleWhen when, final Class<?> annotatedClass)
+	{
+		return when.appliesTo(annotatedClass);
+	}
+
+	/**
+	 * @param ceiling the {@link Ceiling#value()}.
+	 * @return a new {@link Ceiling} rule.
+	 */
+	protected static Ceiling.Rule ceiling(final double ceiling) { return new Ceiling.Rule(ceiling); }
+
+	/**
+	 * @param allowedCharacters the {@link Chars#value()}.
+	 * @return a new {@link Chars} rule.
+	 */
+	protected static Chars.Rule chars(final String allowedCharacters) { return new Chars.Rule(allowedCharacters); }
+
+	/**
+	 * @param floor the {@link Floor#value()}.
+	 * @return a new {@link Floor} rule.
+	 */
+	protected static Floor.Rule floor(final double floor) { return new Floor.Rule(floor); }
+
+	/**
+	 * @param bound the {@link GreaterThan#value()}.
+	 * @return a new {@link GreaterThan} rule.
+	 */
+	protected static GreaterThan.Rule greaterThan(final double bound) { return new GreaterThan.Rule(bound); }
+
+	/**
+	 * @param bound the {@link LessThan#value()}.
+	 * @return a new {@link LessThan} rule.
+	 */
+	protected static LessThan.Rule lessThan(final double bound) { return new LessThan.Rule(bound); }
+
+	/**
+	 * @param locale the {@link LowerCase#locale()}.
+	 * @return a new {@link LowerCase} rule.
+	 */
+	protected static LowerCase.Rule lowerCase(final String locale) { return new LowerCase.Rule(locale); }
+
+	/**
+	 * @param regex the {@link Matching#value()}.
+	 * @return a new {@link Matching} rule.
+	 */
+	protected static Matching.Rule matching(final String regex) { return new Matching.Rule(regex); }
+
+	/**
+	 * @param max the {@link Max#value()}.
+	 * @return a new {@link Max} rule.
+	 */
+	protected static Max.Rule max(final double max) { return new Max.Rule(max); }
+
+	/**
+	 * @param min the {@link Min#value()}.
+	 * @return a new {@link Min} rule.
+	 */
+	protected static Min.Rule min(final double min) { return new Min.Rule(min); }
+
+	/**
+	 * @param increment the {@link MultipleOf#value()}.
+	 * @return a new {@link MultipleOf} rule.
+	 */
+	protected static MultipleOf.Rule multipleOf(final long increment) { return new MultipleOf.Rule(increment); }
+
+	/**
+	 * @param disallowedCharacters the {@link NotChars#value()}.
+	 * @return a new {@link NotChars} rule.
+	 */
+	protected static NotChars.Rule notChars(final String disallowedCharacters)
+	{
+		return new NotChars.Rule(disallowedCharacters);
+	}
+
+	/**
+	 * @param regex the {@link NotMatching#value()}.
+	 * @return a new {@link NotMatching} rule.
+	 */
+	protected static NotMatching.Rule notMatching(final String regex) { return new NotMatching.Rule(regex); }
+
+	/**
+	 * @param pattern the {@link Replace#pattern()}.
+	 * @param replacement the {@link Replace#with()}.
+	 * @return a new {@link Replace} rule.
+	 */
+	protected static Replace.Rule replace(final String pattern, final String replacement)
+	{
+		return new Replace.Rule(pattern, replacement);
+	}
+
+	/**
+	 * @param increment the {@link Round#toNearest()}.
+	 * @return a new {@link Round} rule.
+	 */
+	protected static Round.Rule round(final double increment) { return new Round.Rule(increment); }
+
+	/** @return a new {@link Trim} rule. */
+	protected static Trim.Rule trim() { return new Trim.Rule(); }
+
+	/**
+	 * @param locale the {@link UpperCase#locale()}.
+	 * @return a new {@link UpperCase} rule.
+	 */
+	protected static UpperCase.Rule upperCase(final String locale) { return new UpperCase.Rule(locale); }
+}
@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.udtopia.Value;
 
 /**
@@ -9,6 +10,16 @@ public @Value interface IntNormalizer extends IntRule
 {
 	@Override default int applyTo(final Class<?> target, final int value) { return normalize(value); }
 
+	/** Normalize every value, because normalization cannot fail. */
+	@Override default void applyToAll(
+		final Class<?> target,
+		final int[] values,
+		final int length,
+		final BitSet failures)
+	{
+		for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+	}
+
 	/**
 	 * Apply this rule to normalize the raw value.
 	 *
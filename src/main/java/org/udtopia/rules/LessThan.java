@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.annotation.ElementType.*;
@@ -41,20 +42,58 @@ public @interface LessThan
 
 		Rule(final double bound) { _bound = bound; }
 
+		/** @return the highest value this rule accepts, or NaN if none. */
+		double highest() { return _bound == Double.NEGATIVE_INFINITY ? Double.NaN : Math.nextDown(_bound); }
+
 		@Override public void validate(final Class<?> target, final int value) { _check(target, value); }
 
 		@Override public void validate(final Class<?> target, final long value) { _check(target, value); }
 
 		@Override public void validate(final Class<?> target, final double value) { _check(target, value); }
 
+		@Override public boolean isValid(final Class<?> target, final int value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final long value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final double value) { return !_fails(value); }
+
 		private void _check(final Class<?> target, final double value)
 		{
-			if (value >= _bound)
+			if (_fails(value))
 			{
 				throw new ValidationException(target, value + " >= " + _bound);
 			}
 		}
 
+		private boolean _fails(final double value) { return value >= _bound; }
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] >= _bound) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] >= _bound) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final double[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] >= _bound) { failures.set(i); } }
+		}
+
 		@Override public String toString() { return "@" + LessThan.class.getSimpleName() + "(" + _bound + ")"; }
 	}
 }
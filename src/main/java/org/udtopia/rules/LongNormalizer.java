@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.udtopia.Value;
 
 /**
@@ -9,6 +10,16 @@ public @Value interface LongNormalizer extends LongRule
 {
 	@Override default long applyTo(final Class<?> target, final long value) { return normalize(value); }
 
+	/** Normalize every value, because normalization cannot fail. */
+	@Override default void applyToAll(
+		final Class<?> target,
+		final long[] values,
+		final int length,
+		final BitSet failures)
+	{
+		for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+	}
+
 	/**
 	 * Apply this rule to normalize the raw value.
 	 *
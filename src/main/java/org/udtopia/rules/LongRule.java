@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.udtopia.Value;
 
 /**
@@ -27,7 +28,92 @@ public @Value interface LongRule
 	 */
 	static long applyRulesFor(final Class<?> annotatedClass, final long value)
 	{
-		return RULES.get(annotatedClass).applyTo(annotatedClass, value);
+		final LongRule rules = RULES.get(annotatedClass);
+		try { return rules.applyTo(annotatedClass, value); }
+		catch (final ValidationException e) { throw e.rejectedBy(rules).record(annotatedClass); }
+	}
+
+	/**
+	 * Apply this rule to the first {@code length} raw values of an array, in place.
+	 * Instead of throwing {@link ValidationException}, mark the index of each value that fails validation.
+	 * Values already marked as failures may be skipped.
+	 * <p>
+	 * The default implementation applies {@link #applyTo(Class, long)} to each value in turn.
+	 * Built-in rules override it with a tight loop, which the JIT compiler can optimize.
+	 *
+	 * @param target The class annotated with this rule.
+	 * @param values The raw values to which to apply this rule.
+	 * @param length The number of values to which to apply this rule.
+	 * @param failures The indices of the values that have failed validation so far.
+	 */
+	default void applyToAll(final Class<?> target, final long[] values, final int length, final BitSet failures)
+	{
+		for (int i = failures.nextClearBit(0); i < length; i = failures.nextClearBit(i + 1))
+		{
+			try { values[i] = applyTo(target, values[i]); }
+			catch (final ValidationException e) { failures.set(i); }
+		}
+	}
+
+	/**
+	 * Apply all the rules declared on an annotated class to an array of raw values.
+	 * Values that fail validation do not stop the rest from being checked; their indices are returned instead.
+	 * The destination may be the same array as the source, to apply the rules in place.
+	 *
+	 * @param annotatedClass the class annotated with rules.
+	 * @param src the values to normalize and/or validate.
+	 * @param dst the array to receive the normalized values, at the same indices as the source.
+	 *     Values at the indices of failures are unspecified.
+	 * @return the indices of the values that failed validation; empty if all values are valid.
+	 * @throws IllegalArgumentException if the destination is shorter than the source.
+	 */
+	static BitSet applyRulesFor(final Class<?> annotatedClass, final long[] src, final long[] dst)
+	{
+		if (dst.length < src.length)
+		{
+			throw new IllegalArgumentException("Destination length " + dst.length + " < source length " + src.length);
+		}
+		if (dst != src) { System.arraycopy(src, 0, dst, 0, src.length); }
+		final BitSet failures = new BitSet();
+		RULES.get(annotatedClass).applyToAll(annotatedClass, dst, src.length, failures);
+		return failures;
+	}
+
+	/**
+	 * Applies this rule to the raw value, without throwing {@link ValidationException}.
+	 * If the value fails validation, record the failure in the result instead.
+	 * <p>
+	 * The default implementation catches the exception thrown by {@link #applyTo(Class, long)}.
+	 * Built-in rules override it to avoid building exceptions.
+	 *
+	 * @param target The class annotated with this rule.
+	 * @param value The raw value to which to apply this rule.
+	 * @param result The result in which to record any failure.
+	 * @return The resulting value, if valid; otherwise, the value that failed.
+	 */
+	default long tryApplyTo(final Class<?> target, final long value, final ValidationResult result)
+	{
+		try { return applyTo(target, value); }
+		catch (final ValidationException e)
+		{
+			result.rejectLong(target, this, value);
+			return value;
+		}
+	}
+
+	/**
+	 * Apply all the rules declared on an annotated class to a raw value, without throwing {@link ValidationException}.
+	 * This is cheaper than catching the exception, when invalid values are expected, such as from untrusted input.
+	 *
+	 * @param annotatedClass the class annotated with rules.
+	 * @param value the value to normalize and/or validate.
+	 * @param result reset, then set to the outcome of validation.
+	 * @return the normalized value, if {@linkplain ValidationResult#isValid() valid}.
+	 */
+	static long tryApplyRulesFor(final Class<?> annotatedClass, final long value, final ValidationResult result)
+	{
+		result.reset();
+		return RULES.get(annotatedClass).tryApplyTo(annotatedClass, value, result);
 	}
 
 	/** Rule that does nothing. */
@@ -58,8 +144,28 @@ public @Value interface LongRule
 
 		@Override public long applyTo(final Class<?> target, final long value)
 		{
-			final long resultOfRule1 = _rule1.applyTo(target, value);
-			return _rule2.applyTo(target, resultOfRule1);
+			// Note which rule of the chain failed, for monitoring
+			final long resultOfRule1;
+			try { resultOfRule1 = _rule1.applyTo(target, value); }
+			catch (final ValidationException e) { throw e.rejectedBy(_rule1); }
+			try { return _rule2.applyTo(target, resultOfRule1); }
+			catch (final ValidationException e) { throw e.rejectedBy(_rule2); }
+		}
+
+		@Override public long tryApplyTo(final Class<?> target, final long value, final ValidationResult result)
+		{
+			final long resultOfRule1 = _rule1.tryApplyTo(target, value, result);
+			return result.isValid() ? _rule2.tryApplyTo(target, resultOfRule1, result) : resultOfRule1;
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			_rule1.applyToAll(target, values, length, failures);
+			_rule2.applyToAll(target, values, length, failures);
 		}
 
 		@Override public String toString() { return _rule1 + " -> " + _rule2; }
@@ -42,9 +42,14 @@ public @interface Matching
 
 		Rule(final String regex) { _pattern = Pattern.compile(regex); }
 
+		@Override public boolean isValid(final Class<?> target, final String value)
+		{
+			return _pattern.matcher(value).matches();
+		}
+
 		@Override public void validate(final Class<?> target, final String value)
 		{
-			if (!_pattern.matcher(value).matches())
+			if (!isValid(target, value))
 			{
 				throw new ValidationException(target, "\"" + value + "\" does not match pattern: " + _pattern);
 			}
@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.annotation.ElementType.*;
@@ -43,17 +44,22 @@ public @interface Max
 
 		Rule(final double max) { _max = max; }
 
+		/** @return the highest value this rule accepts. */
+		double highest() { return _max; }
+
 		@Override public void validate(final Class<?> target, final int value) { _check(target, value); }
 
 		@Override public void validate(final Class<?> target, final long value) { _check(target, value); }
 
 		@Override public void validate(final Class<?> target, final double value) { _check(target, value); }
 
+		@Override public boolean isValid(final Class<?> target, final String value) { return !(value.length() > _max); }
+
 		@Override public void validate(final Class<?> target, final String value)
 		{
-			final int length = value.length();
-			if (length > _max)
+			if (!isValid(target, value))
 			{
+				final int length = value.length();
 				final String valueInError;
 				final int valueInErrorMaxLength = (int) _max + STRING_LENGTH_THRESHOLD;
 				if (length <= valueInErrorMaxLength) { valueInError = value; }
@@ -70,9 +76,44 @@ public @interface Max
 			}
 		}
 
+		@Override public boolean isValid(final Class<?> target, final int value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final long value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final double value) { return !_fails(value); }
+
 		private void _check(final Class<?> target, final double value)
 		{
-			if (value > _max) { throw new ValidationException(target, value + " > " + _max); }
+			if (_fails(value)) { throw new ValidationException(target, value + " > " + _max); }
+		}
+
+		private boolean _fails(final double value) { return value > _max; }
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] > _max) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] > _max) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final double[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] > _max) { failures.set(i); } }
 		}
 
 		@Override public String toString() { return "@" + Max.class.getSimpleName() + "(" + _max + ")"; }
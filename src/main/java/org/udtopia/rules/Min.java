@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.annotation.ElementType.*;
@@ -41,23 +42,63 @@ public @interface Min
 
 		Rule(final double min) { _min = min; }
 
+		/** @return the lowest value this rule accepts. */
+		double lowest() { return _min; }
+
 		@Override public void validate(final Class<?> target, final int value) { _check(target, value); }
 
 		@Override public void validate(final Class<?> target, final long value) { _check(target, value); }
 
 		@Override public void validate(final Class<?> target, final double value) { _check(target, value); }
 
+		@Override public boolean isValid(final Class<?> target, final String value) { return !(value.length() < _min); }
+
 		@Override public void validate(final Class<?> target, final String value)
 		{
-			if (value.length() < _min)
+			if (!isValid(target, value))
 			{
 				throw new ValidationException(target, "length < " + _min + ": \"" + value + "\"");
 			}
 		}
 
+		@Override public boolean isValid(final Class<?> target, final int value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final long value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final double value) { return !_fails(value); }
+
 		private void _check(final Class<?> target, final double value)
 		{
-			if (value < _min) { throw new ValidationException(target, value + " < " + _min); }
+			if (_fails(value)) { throw new ValidationException(target, value + " < " + _min); }
+		}
+
+		private boolean _fails(final double value) { return value < _min; }
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] < _min) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] < _min) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final double[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] < _min) { failures.set(i); } }
 		}
 
 		@Override public String toString() { return "@" + Min.class.getSimpleName() + "(" + _min + ")"; }
@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.annotation.ElementType.*;
@@ -47,14 +48,38 @@ public @interface MultipleOf
 
 		@Override public void validate(final Class<?> target, final long value) { _check(target, value); }
 
+		@Override public boolean isValid(final Class<?> target, final int value) { return !_fails(value); }
+
+		@Override public boolean isValid(final Class<?> target, final long value) { return !_fails(value); }
+
 		private void _check(final Class<?> target, final long value)
 		{
-			if (value % _increment != 0.0)
+			if (_fails(value))
 			{
 				throw new ValidationException(target, value + " is not a multiple of " + _increment);
 			}
 		}
 
+		private boolean _fails(final long value) { return value % _increment != 0.0; }
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] % _increment != 0L) { failures.set(i); } }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { if (values[i] % _increment != 0L) { failures.set(i); } }
+		}
+
 		@Override public String toString() { return "@" + MultipleOf.class.getSimpleName() + "(" + _increment + ")"; }
 	}
 }
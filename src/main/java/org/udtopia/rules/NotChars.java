@@ -37,26 +37,27 @@ public @interface NotChars
 		 */
 		public Rule(final NotChars annotation) { this(annotation.value()); }
 
-		private final boolean[] _invalidCharMap;
+		private final CharSet _invalidChars;
 		private final String _disallowedCharacters;
 
 		Rule(final String disallowedCharacters)
 		{
 			_disallowedCharacters = disallowedCharacters;
-			_invalidCharMap = new boolean[Character.MAX_VALUE + 1];
-			disallowedCharacters.chars().forEach(charIndex -> _invalidCharMap[charIndex] = true);
+			_invalidChars = new CharSet(disallowedCharacters);
+		}
+
+		@Override public boolean isValid(final Class<?> target, final String value)
+		{
+			return !_invalidChars.containsAny(value);
 		}
 
 		@Override public void validate(final Class<?> target, final String value)
 		{
-			for (final char c: value.toCharArray())
+			if (!isValid(target, value))
 			{
-				if (_invalidCharMap[c])
-				{
-					throw new ValidationException(
-						target,
-						"\"" + value + "\" contains invalid characters (invalid = " + _disallowedCharacters + ")");
-				}
+				throw new ValidationException(
+					target,
+					"\"" + value + "\" contains invalid characters (invalid = " + _disallowedCharacters + ")");
 			}
 		}
 
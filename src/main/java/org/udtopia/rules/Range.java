@@ -0,0 +1,146 @@
+package org.udtopia.rules;
+
+import java.util.BitSet;
+import org.udtopia.Value;
+
+/**
+ * A {@linkplain RuleFusion fusion} of adjacent {@link Min}, {@link Max}, {@link GreaterThan}, and {@link LessThan}
+ * rules into a single range check.
+ * Values inside the range pass straight through.
+ * Any other value goes through the original rules, so that failures are reported exactly as without fusion.
+ */
+final @Value class Range implements IntRule, LongRule, DoubleRule
+{
+	// The range of values accepted by all the original rules
+	// NaN means no value is accepted without checking the original rules
+	private final double _lowest, _highest;
+
+	// The original rules, in order
+	private final IntRule _intRules;
+	private final LongRule _longRules;
+	private final DoubleRule _doubleRules;
+
+	Range(final Object rule1, final Object rule2)
+	{
+		_lowest = Math.max(lowest(rule1), lowest(rule2));
+		_highest = Math.min(highest(rule1), highest(rule2));
+		_intRules = IntRule.Chain.together((IntRule) rule1, (IntRule) rule2);
+		_longRules = LongRule.Chain.together((LongRule) rule1, (LongRule) rule2);
+		_doubleRules = DoubleRule.Chain.together((DoubleRule) rule1, (DoubleRule) rule2);
+	}
+
+	/** @return whether the rule can be fused into a {@link Range}. */
+	static boolean isBound(final Object rule)
+	{
+		return rule instanceof Min.Rule
+			|| rule instanceof Max.Rule
+			|| rule instanceof GreaterThan.Rule
+			|| rule instanceof LessThan.Rule
+			|| rule instanceof Range;
+	}
+
+	private static double lowest(final Object rule)
+	{
+		if (rule instanceof Min.Rule) { return ((Min.Rule) rule).lowest(); }
+		if (rule instanceof GreaterThan.Rule) { return ((GreaterThan.Rule) rule).lowest(); }
+		if (rule instanceof Range) { return ((Range) rule)._lowest; }
+		return Double.NEGATIVE_INFINITY;
+	}
+
+	private static double highest(final Object rule)
+	{
+		if (rule instanceof Max.Rule) { return ((Max.Rule) rule).highest(); }
+		if (rule instanceof LessThan.Rule) { return ((LessThan.Rule) rule).highest(); }
+		if (rule instanceof Range) { return ((Range) rule)._highest; }
+		return Double.POSITIVE_INFINITY;
+	}
+
+	@Override public int applyTo(final Class<?> target, final int value)
+	{
+		if (value >= _lowest && value <= _highest) { return value; }
+		return _intRules.applyTo(target, value);
+	}
+
+	@Override public long applyTo(final Class<?> target, final long value)
+	{
+		if (value >= _lowest && value <= _highest) { return value; }
+		return _longRules.applyTo(target, value);
+	}
+
+	@Override public double applyTo(final Class<?> target, final double value)
+	{
+		if (value >= _lowest && value <= _highest) { return value; }
+		return _doubleRules.applyTo(target, value);
+	}
+
+	@Override public int tryApplyTo(final Class<?> target, final int value, final ValidationResult result)
+	{
+		if (value >= _lowest && value <= _highest) { return value; }
+		return _intRules.tryApplyTo(target, value, result);
+	}
+
+	@Override public long tryApplyTo(final Class<?> target, final long value, final ValidationResult result)
+	{
+		if (value >= _lowest && value <= _highest) { return value; }
+		return _longRules.tryApplyTo(target, value, result);
+	}
+
+	@Override public double tryApplyTo(final Class<?> target, final double value, final ValidationResult result)
+	{
+		if (value >= _lowest && value <= _highest) { return value; }
+		return _doubleRules.tryApplyTo(target, value, result);
+	}
+
+	@Override public void applyToAll(
+		final Class<?> target,
+		final int[] values,
+		final int length,
+		final BitSet failures)
+	{
+		// Check the original rules only if any value is outside the range
+		for (int i = 0; i < length; i++)
+		{
+			if (!(values[i] >= _lowest && values[i] <= _highest))
+			{
+				_intRules.applyToAll(target, values, length, failures);
+				return;
+			}
+		}
+	}
+
+	@Override public void applyToAll(
+		final Class<?> target,
+		final long[] values,
+		final int length,
+		final BitSet failures)
+	{
+		// Check the original rules only if any value is outside the range
+		for (int i = 0; i < length; i++)
+		{
+			if (!(values[i] >= _lowest && values[i] <= _highest))
+			{
+				_longRules.applyToAll(target, values, length, failures);
+				return;
+			}
+		}
+	}
+
+	@Override public void applyToAll(
+		final Class<?> target,
+		final double[] values,
+		final int length,
+		final BitSet failures)
+	{
+		// Check the original rules only if any value is outside the range
+		for (int i = 0; i < length; i++)
+		{
+			if (!(values[i] >= _lowest && values[i] <= _highest))
+			{
+				_doubleRules.applyToAll(target, values, length, failures);
+				return;
+			}
+		}
+	}
+
+	@Override public String toString() { return _doubleRules.toString(); }
+}
@@ -4,6 +4,7 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.BitSet;
 import org.udtopia.Value;
 
 import static java.lang.String.*;
@@ -56,6 +57,33 @@ public @interface Round
 			return Math.round(value / _increment) * _increment;
 		}
 
+		@Override public void applyToAll(
+			final Class<?> target,
+			final int[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final long[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+		}
+
+		@Override public void applyToAll(
+			final Class<?> target,
+			final double[] values,
+			final int length,
+			final BitSet failures)
+		{
+			for (int i = 0; i < length; i++) { values[i] = normalize(values[i]); }
+		}
+
 		@Override public String toString()
 		{
 			return format("@%s(toNearest = %s)", Round.class.getSimpleName(), _increment);
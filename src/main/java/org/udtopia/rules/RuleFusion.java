@@ -0,0 +1,40 @@
+package org.udtopia.rules;
+
+/**
+ * Optional optimization that fuses adjacent rules into a single, equivalent rule, to shorten the chain of rules for
+ * each annotated class.
+ * Enable with the system property {@value #PROPERTY}{@code =true}.
+ * <ul>
+ * <li>{@link Min}, {@link Max}, {@link GreaterThan}, and {@link LessThan} fuse into one {@link Range} check.</li>
+ * <li>{@link Floor} and {@link Ceiling} fuse into one {@link Clamp}.</li>
+ * <li>{@link Trim} and {@link LowerCase} or {@link UpperCase} fuse into one pass over the string.</li>
+ * </ul>
+ * Fused rules have the same results, exceptions, and {@code toString} as the original rules.
+ */
+final class RuleFusion
+{
+	/** System property to enable rule fusion. */
+	static final String PROPERTY = "udtopia.rules.fuse";
+
+	/** Whether rule fusion is enabled. */
+	static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+	private RuleFusion() { }
+
+	/**
+	 * @param rule1 a rule.
+	 * @param rule2 the rule applied after {@code rule1}.
+	 * @return a single rule equivalent to applying {@code rule1}, then {@code rule2}; or null if they cannot be fused.
+	 */
+	static Object fuse(final Object rule1, final Object rule2)
+	{
+		if (Range.isBound(rule1) && Range.isBound(rule2)) { return new Range(rule1, rule2); }
+
+		final Clamp clamp1 = Clamp.of(rule1);
+		final Clamp clamp2 = Clamp.of(rule2);
+		if (clamp1 != null && clamp2 != null) { return clamp1.then(clamp2); }
+
+		if (TrimCase.canFuse(rule1, rule2)) { return new TrimCase((StringRule) rule1, (StringRule) rule2); }
+		return null;
+	}
+}
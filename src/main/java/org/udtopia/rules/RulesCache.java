@@ -2,12 +2,20 @@ package org.udtopia.rules;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import org.udtopia.Mutable;
 import org.udtopia.ThreadSafe;
+import org.udtopia.Value;
 
 import static java.text.MessageFormat.*;
 import static java.util.Arrays.*;
+import static java.util.stream.Collectors.*;
 import static org.udtopia.rules.ApplyRuleWhen.*;
 
 /**
@@ -20,17 +28,89 @@ final @ThreadSafe @Mutable class RulesCache<RuleType> extends ClassValue<RuleTyp
 	private final Class<RuleType> _ruleType;
 	private final RuleType _nullRule;
 	private final BinaryOperator<RuleType> _ruleCombiner;
+	private final boolean _fuseRules;
 
-	RulesCache(final Class<RuleType> ruleType, final RuleType nullRule, final BinaryOperator<RuleType> ruleCombiner)
+	// The chain of rules and its description for each class, built once
+	private final ClassValue<Rules<RuleType>> _rules = new ClassValue<Rules<RuleType>>()
+	{
+		@Override protected Rules<RuleType> computeValue(final Class<?> annotatedClass)
+		{
+			return _buildRules(annotatedClass);
+		}
+	};
+
+	// Every class whose rules were built so far, for monitoring only
+	// Weak keys, so that monitoring does not keep classes or their class loaders from being unloaded
+	private final Set<Class<?>> _annotatedClasses = Collections.newSetFromMap(
+		Collections.synchronizedMap(new WeakHashMap<>()));
+
+	/** A chain of rules, with its description. */
+	private static final @Value class Rules<RuleType>
+	{
+		private final RuleType _chain;
+		private final RulesInfo _info;
+
+		Rules(final RuleType chain, final RulesInfo info)
+		{
+			_chain = chain;
+			_info = info;
+		}
+	}
+
+	RulesCache(
+		final Class<RuleType> ruleType,
+		final RuleType nullRule,
+		final BinaryOperator<RuleType> ruleCombiner,
+		final boolean fuseRules)
 	{
 		_ruleType = ruleType;
 		_nullRule = nullRule;
 		_ruleCombiner = ruleCombiner;
+		_fuseRules = fuseRules;
 	}
 
-	/** Build a chain of rules from the annotations declared on the given class. */
-	@SuppressWarnings("unchecked")
+	RulesCache(final Class<RuleType> ruleType, final RuleType nullRule, final BinaryOperator<RuleType> ruleCombiner)
+	{
+		this(ruleType, nullRule, ruleCombiner, RuleFusion.ENABLED);
+	}
+
+	/** Get the chain of rules for the given class, built if needed. */
 	@Override protected RuleType computeValue(final Class<?> annotatedClass)
+	{
+		return _rules.get(annotatedClass)._chain;
+	}
+
+	/**
+	 * Build a chain of rules for the given class, from its {@linkplain GeneratedRules generated rules} if any, or else
+	 * from the annotations declared on the class.
+	 */
+	private Rules<RuleType> _buildRules(final Class<?> annotatedClass)
+	{
+		final List<RuleType> rules = GeneratedRules.forClass(annotatedClass)
+			.map(generated -> _generatedRules(generated, annotatedClass))
+			.orElseGet(() -> _reflectRules(annotatedClass));
+
+		// Link all the rules together in a chain
+		final RuleType chain = (_fuseRules ? fuse(rules) : rules).stream().reduce(_nullRule, _ruleCombiner);
+		final String description = rules.isEmpty() ? "" : chain.toString();
+		_annotatedClasses.add(annotatedClass);
+		return new Rules<>(chain, new RulesInfo(annotatedClass, _ruleType, rules.size(), description));
+	}
+
+	// Rules generated at compile time, of the rule type
+	private List<RuleType> _generatedRules(final GeneratedRules generated, final Class<?> annotatedClass)
+	{
+		final List<Object> rules = new ArrayList<>();
+		try { generated.addRules(annotatedClass, rules); }
+
+		// Fall back to reflection, which reports errors in more detail
+		catch (final RuntimeException ignored) { return _reflectRules(annotatedClass); }
+		return rules.stream().filter(_ruleType::isInstance).map(_ruleType::cast).collect(toList());
+	}
+
+	// Rules built by reflection from the annotations declared on the class
+	@SuppressWarnings("unchecked")
+	private List<RuleType> _reflectRules(final Class<?> annotatedClass)
 	{
 		// Get the annotations declared on the class
 		return stream(annotatedClass.getAnnotations())
@@ -45,9 +125,40 @@ final @ThreadSafe @Mutable class RulesCache<RuleType> extends ClassValue<RuleTyp
 
 				// Create a rule instance from the annotation details
 				.map(ruleClass -> _buildRule(annotation, ruleClass)))
+			.collect(toList());
+	}
+
+	/**
+	 * @param annotatedClass a class, which may be annotated with rules.
+	 * @return the description of the chain of rules for the class, built if needed.
+	 */
+	RulesInfo info(final Class<?> annotatedClass) { return _rules.get(annotatedClass)._info; }
+
+	/** Perform an action for the description of each chain of rules computed so far. */
+	void forEachInfo(final Consumer<? super RulesInfo> action)
+	{
+		final List<Class<?>> annotatedClasses;
+		synchronized (_annotatedClasses) { annotatedClasses = new ArrayList<>(_annotatedClasses); }
+		for (final Class<?> annotatedClass : annotatedClasses) { action.accept(info(annotatedClass)); }
+	}
 
-			// Link all the rules together in a chain
-			.reduce(_nullRule, _ruleCombiner);
+	/**
+	 * @param rules a list of rules, in order.
+	 * @return an equivalent list of rules, with adjacent rules {@linkplain RuleFusion fused} where possible.
+	 */
+	List<RuleType> fuse(final List<RuleType> rules)
+	{
+		final List<RuleType> fused = new ArrayList<>(rules.size());
+		for (final RuleType rule: rules)
+		{
+			final int last = fused.size() - 1;
+			final Object fusion = last < 0 ? null : RuleFusion.fuse(fused.get(last), rule);
+
+			// Only fuse into a rule of the same type, e.g. Min & Max for strings apply to length, so do not fuse
+			if (_ruleType.isInstance(fusion)) { fused.set(last, _ruleType.cast(fusion)); }
+			else { fused.add(rule); }
+		}
+		return fused;
 	}
 
 	private RuleType _buildRule(final Annotation annotation, final Class<? extends RuleType> ruleClass)
@@ -0,0 +1,63 @@
+package org.udtopia.rules;
+
+import java.util.function.Consumer;
+import org.udtopia.Value;
+
+import static java.lang.String.*;
+
+/**
+ * A description of the chain of rules cached for an annotated class, for monitoring.
+ *
+ * @see #forEach(Consumer)
+ */
+public final @Value class RulesInfo
+{
+	private final Class<?> _annotatedClass;
+	private final Class<?> _ruleType;
+	private final int _depth;
+	private final String _rules;
+
+	RulesInfo(final Class<?> annotatedClass, final Class<?> ruleType, final int depth, final String rules)
+	{
+		_annotatedClass = annotatedClass;
+		_ruleType = ruleType;
+		_depth = depth;
+		_rules = rules;
+	}
+
+	/**
+	 * Perform an action for every chain of rules that has been built so far, by {@link IntRule}, {@link LongRule},
+	 * {@link DoubleRule}, or {@link StringRule}.
+	 * Classes with no rules are included, with a {@linkplain #getDepth() depth} of zero.
+	 *
+	 * @param action the action to perform.
+	 */
+	public static void forEach(final Consumer<? super RulesInfo> action)
+	{
+		IntRule.RULES.forEachInfo(action);
+		LongRule.RULES.forEachInfo(action);
+		DoubleRule.RULES.forEachInfo(action);
+		StringRule.RULES.forEachInfo(action);
+	}
+
+	/** @return the class annotated with the rules. */
+	public Class<?> getAnnotatedClass() { return _annotatedClass; }
+
+	/** @return {@link IntRule}, {@link LongRule}, {@link DoubleRule}, or {@link StringRule}. */
+	public Class<?> getRuleType() { return _ruleType; }
+
+	/** @return the number of rules in the chain. */
+	public int getDepth() { return _depth; }
+
+	/** @return a description of the rules in the chain, in the order they are applied. */
+	public String getRules() { return _rules; }
+
+	/** @return the number of {@link ValidationException}s thrown for the annotated class, so far. */
+	public long getValidationFailures() { return ValidationException.FAILURES.get(_annotatedClass).sum(); }
+
+	@Override public String toString()
+	{
+		return format("%s<%s>[%d]: %s (%,d failures)",
+			_annotatedClass.getSimpleName(), _ruleType.getSimpleName(), _depth, _rules, getValidationFailures());
+	}
+}
@@ -27,7 +27,46 @@ public @Value interface StringRule
 	 */
 	static String applyRulesFor(final Class<?> annotatedClass, final String value)
 	{
-		return RULES.get(annotatedClass).applyTo(annotatedClass, value);
+		final StringRule rules = RULES.get(annotatedClass);
+		try { return rules.applyTo(annotatedClass, value); }
+		catch (final ValidationException e) { throw e.rejectedBy(rules).record(annotatedClass); }
+	}
+
+	/**
+	 * Applies this rule to the raw value, without throwing {@link ValidationException}.
+	 * If the value fails validation, record the failure in the result instead.
+	 * <p>
+	 * The default implementation catches the exception thrown by {@link #applyTo(Class, String)}.
+	 * Built-in rules override it to avoid building exceptions.
+	 *
+	 * @param target The class annotated with this rule.
+	 * @param value The raw value to which to apply this rule.
+	 * @param result The result in which to record any failure.
+	 * @return The resulting value, if valid; otherwise, the value that failed.
+	 */
+	default String tryApplyTo(final Class<?> target, final String value, final ValidationResult result)
+	{
+		try { return applyTo(target, value); }
+		catch (final ValidationException e)
+		{
+			result.rejectString(target, this, value);
+			return value;
+		}
+	}
+
+	/**
+	 * Apply all the rules declared on an annotated class to a raw value, without throwing {@link ValidationException}.
+	 * This is cheaper than catching the exception, when invalid values are expected, such as from untrusted input.
+	 *
+	 * @param annotatedClass the class annotated with rules.
+	 * @param value the value to normalize and/or validate.
+	 * @param result reset, then set to the outcome of validation.
+	 * @return the normalized value, if {@linkplain ValidationResult#isValid() valid}.
+	 */
+	static String tryApplyRulesFor(final Class<?> annotatedClass, final String value, final ValidationResult result)
+	{
+		result.reset();
+		return RULES.get(annotatedClass).tryApplyTo(annotatedClass, value, result);
 	}
 
 	/** Rule that does nothing. */
@@ -58,8 +97,18 @@ public @Value interface StringRule
 
 		@Override public String applyTo(final Class<?> target, final String value)
 		{
-			final String resultOfRule1 = _rule1.applyTo(target, value);
-			return _rule2.applyTo(target, resultOfRule1);
+			// Note which rule of the chain failed, for monitoring
+			final String resultOfRule1;
+			try { resultOfRule1 = _rule1.applyTo(target, value); }
+			catch (final ValidationException e) { throw e.rejectedBy(_rule1); }
+			try { return _rule2.applyTo(target, resultOfRule1); }
+			catch (final ValidationException e) { throw e.rejectedBy(_rule2); }
+		}
+
+		@Override public String tryApplyTo(final Class<?> target, final String value, final ValidationResult result)
+		{
+			final String resultOfRule1 = _rule1.tryApplyTo(target, value, result);
+			return result.isValid() ? _rule2.tryApplyTo(target, resultOfRule1, result) : resultOfRule1;
 		}
 
 		@Override public String toString() { return _rule1 + " -> " + _rule2; }
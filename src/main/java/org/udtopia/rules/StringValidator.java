@@ -13,6 +13,31 @@ public @Value interface StringValidator extends StringRule
 		return value;
 	}
 
+	@Override default String tryApplyTo(final Class<?> target, final String value, final ValidationResult result)
+	{
+		if (!isValid(target, value)) { result.rejectString(target, this, value); }
+		return value;
+	}
+
+	/**
+	 * Check the raw value, without throwing {@link ValidationException}.
+	 * The default implementation catches the exception thrown by {@link #validate(Class, String)}.
+	 * Override it to avoid building the exception.
+	 *
+	 * @param target the class annotated with this rule.
+	 * @param value the value to validate.
+	 * @return {@code true} if the value is valid; {@code false} if {@link #validate(Class, String)} would throw.
+	 */
+	default boolean isValid(final Class<?> target, final String value)
+	{
+		try
+		{
+			validate(target, value);
+			return true;
+		}
+		catch (final ValidationException e) { return false; }
+	}
+
 	/**
 	 * Apply this rule to validate the raw value.
 	 *
@@ -0,0 +1,80 @@
+package org.udtopia.rules;
+
+import java.util.Collection;
+import java.util.Locale;
+import org.udtopia.Value;
+
+import static java.util.Arrays.*;
+
+/**
+ * A {@linkplain RuleFusion fusion} of adjacent {@link Trim} and {@link LowerCase} or {@link UpperCase} rules, in either
+ * order, into a single pass over the string.
+ * Strings containing non-ASCII characters, or in locales with special case rules for ASCII letters, go through the
+ * original rules instead.
+ */
+final @Value class TrimCase implements StringNormalizer
+{
+	// Languages where case conversion of ASCII letters differs from the root locale (e.g. dotless i)
+	private static final Collection<String> _SPECIAL_CASE_LANGUAGES = asList("tr", "az", "lt");
+
+	private final boolean _upperCase;
+	private final boolean _asciiSafe;
+
+	// The original rules, in order
+	private final StringRule _rules;
+
+	TrimCase(final StringRule rule1, final StringRule rule2)
+	{
+		final Object caseRule = rule1 instanceof Trim.Rule ? rule2 : rule1;
+		_upperCase = caseRule instanceof UpperCase.Rule;
+		final Locale locale = _upperCase ? ((UpperCase.Rule) caseRule).locale() : ((LowerCase.Rule) caseRule).locale();
+		_asciiSafe = !_SPECIAL_CASE_LANGUAGES.contains(locale.getLanguage());
+		_rules = StringRule.Chain.together(rule1, rule2);
+	}
+
+	/** @return whether the two rules can be fused into a {@link TrimCase}. */
+	static boolean canFuse(final Object rule1, final Object rule2)
+	{
+		return rule1 instanceof Trim.Rule && _isCaseRule(rule2) || _isCaseRule(rule1) && rule2 instanceof Trim.Rule;
+	}
+
+	private static boolean _isCaseRule(final Object rule)
+	{
+		return rule instanceof LowerCase.Rule || rule instanceof UpperCase.Rule;
+	}
+
+	@Override public String normalize(final String value)
+	{
+		// Normalizers ignore the target class, so any will do for the original rules
+		if (!_asciiSafe) { return _rules.applyTo(TrimCase.class, value); }
+
+		// Find the trimmed range, as String.trim() does
+		int start = 0;
+		int end = value.length();
+		while (start < end && value.charAt(start) <= ' ') { start++; }
+		while (end > start && value.charAt(end - 1) <= ' ') { end--; }
+
+		// Check for characters to convert
+		boolean convert = false;
+		for (int i = start; i < end; i++)
+		{
+			final char c = value.charAt(i);
+			if (c >= 0x80) { return _rules.applyTo(TrimCase.class, value); }
+			convert |= _upperCase ? c >= 'a' && c <= 'z' : c >= 'A' && c <= 'Z';
+		}
+		if (!convert) { return value.substring(start, end); }
+
+		// Convert the trimmed range in one pass
+		final char[] converted = new char[end - start];
+		final int caseShift = _upperCase ? 'A' - 'a' : 'a' - 'A';
+		final char from = _upperCase ? 'a' : 'A';
+		for (int i = start; i < end; i++)
+		{
+			final char c = value.charAt(i);
+			converted[i - start] = c >= from && c <= from + 25 ? (char) (c + caseShift) : c;
+		}
+		return new String(converted);
+	}
+
+	@Override public String toString() { return _rules.toString(); }
+}
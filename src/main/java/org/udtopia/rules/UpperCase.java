@@ -40,6 +40,9 @@ public @interface UpperCase
 			_locale = locale.isEmpty() ? Locale.getDefault() : Locale.forLanguageTag(locale);
 		}
 
+		/** @return the locale to use for case conversion. */
+		Locale locale() { return _locale; }
+
 		@Override public String normalize(final String value)
 		{
 			return value.toUpperCase(_locale);
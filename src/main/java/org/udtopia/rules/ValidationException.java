@@ -1,5 +1,9 @@
 package org.udtopia.rules;
 
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+import org.udtopia.jfr.UDTopiaEvents;
+
 /**
  * Invalid raw value.
  */
@@ -7,12 +11,64 @@ public class ValidationException extends RuntimeException
 {
 	private static final long serialVersionUID = -8889969252399252944L;
 
+	/** System property to build validation exceptions without a stack trace, which is much cheaper. */
+	public static final String STACKLESS_PROPERTY = "udtopia.rules.stacklessExceptions";
+
+	// Whether to fill in the stack trace of each validation exception
+	private static final boolean _WRITABLE_STACK_TRACE = !Boolean.getBoolean(STACKLESS_PROPERTY);
+
+	// Count of validation failures thrown by the rules of each class, for monitoring only
+	static final ClassValue<LongAdder> FAILURES = new ClassValue<LongAdder>()
+	{
+		@Override protected LongAdder computeValue(final Class<?> type) { return new LongAdder(); }
+	};
+
+	// The rule that threw this exception, once known; not serialized, since rules need not be serializable
+	private transient @Nullable Object _rule;
+
 	/**
+	 * Create a validation exception, with a stack trace unless the system property {@value #STACKLESS_PROPERTY} is
+	 * {@code true}.
+	 *
 	 * @param target the class declaring the violated rule.
 	 * @param failureReason a helpful description of the error.
 	 */
 	public ValidationException(final Class<?> target, final String failureReason)
 	{
-		super(target.getSimpleName() + ": " + failureReason);
+		this(target, failureReason, _WRITABLE_STACK_TRACE);
+	}
+
+	ValidationException(final Class<?> target, final String failureReason, final boolean writableStackTrace)
+	{
+		super(target.getSimpleName() + ": " + failureReason, null, true, writableStackTrace);
+	}
+
+	/**
+	 * Note the rule that threw this exception, unless a rule nested more deeply has already been noted.
+	 *
+	 * @param rule a rule, or chain of rules, that this exception was thrown through.
+	 * @return this exception, to be rethrown.
+	 */
+	ValidationException rejectedBy(final Object rule)
+	{
+		if (_rule == null) { _rule = rule; }
+		return this;
+	}
+
+	// For JUnit
+	@Nullable Object rule() { return _rule; }
+
+	/**
+	 * Count this failure and report it to {@link UDTopiaEvents}, as it leaves the rules of a class.
+	 * Exceptions built only for their message, such as by {@link ValidationResult#getMessage()}, are not counted.
+	 *
+	 * @param annotatedClass the class whose rules rejected a value.
+	 * @return this exception, to be rethrown.
+	 */
+	ValidationException record(final Class<?> annotatedClass)
+	{
+		FAILURES.get(annotatedClass).increment();
+		UDTopiaEvents.validationFailure(annotatedClass, _rule, this);
+		return this;
 	}
 }
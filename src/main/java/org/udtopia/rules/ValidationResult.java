@@ -0,0 +1,117 @@
+package org.udtopia.rules;
+
+import javax.annotation.Nullable;
+import org.udtopia.Mutable;
+
+/**
+ * Reusable holder for the outcome of applying rules without throwing {@link ValidationException}.
+ * <p>
+ * A rejected value costs no more than recording the rule that rejected it.
+ * The error message is built only if {@link #getMessage()} is called, by applying the rule again.
+ *
+ * @see IntRule#tryApplyRulesFor(Class, int, ValidationResult)
+ * @see LongRule#tryApplyRulesFor(Class, long, ValidationResult)
+ * @see DoubleRule#tryApplyRulesFor(Class, double, ValidationResult)
+ * @see StringRule#tryApplyRulesFor(Class, String, ValidationResult)
+ */
+public final @Mutable class ValidationResult
+{
+	private Class<?> _target;
+
+	// The rule that rejected the value, as the type it was applied as; all null if the value is valid
+	private IntRule _intRule;
+	private LongRule _longRule;
+	private DoubleRule _doubleRule;
+	private StringRule _stringRule;
+
+	// The value the rule rejected
+	private long _longValue;
+	private double _doubleValue;
+	private String _stringValue;
+
+	/** Create a valid result. */
+	public ValidationResult() { }
+
+	/** Clear any failure, so that the result is valid. */
+	public void reset()
+	{
+		_target = null;
+		_intRule = null;
+		_longRule = null;
+		_doubleRule = null;
+		_stringRule = null;
+		_stringValue = null;
+	}
+
+	/** @return {@code true} if no rule has rejected a value since the last {@linkplain #reset() reset}. */
+	public boolean isValid() { return _target == null; }
+
+	/** @return the class annotated with the rule that rejected the value, or null if the value is valid. */
+	public @Nullable Class<?> getTarget() { return _target; }
+
+	/**
+	 * Describe why the value was rejected, in the same words as the {@link ValidationException} that applying the rules
+	 * would have thrown.
+	 * The message is built by applying the failing rule to the rejected value again, so this call costs as much as the
+	 * exception the caller avoided, but the failure is not counted again in the {@linkplain RulesInfo stats}.
+	 *
+	 * @return a description of the failure, or null if the value is valid.
+	 */
+	public @Nullable String getMessage()
+	{
+		if (isValid()) { return null; }
+		try
+		{
+			if (_intRule != null) { _intRule.applyTo(_target, (int) _longValue); }
+			else if (_longRule != null) { _longRule.applyTo(_target, _longValue); }
+			else if (_doubleRule != null) { _doubleRule.applyTo(_target, _doubleValue); }
+			else { _stringRule.applyTo(_target, _stringValue); }
+		}
+		catch (final ValidationException e) { return e.getMessage(); }
+
+		// A rule that rejects a value only some of the time
+		return _target.getSimpleName() + ": rejected by " + _rule();
+	}
+
+	private Object _rule()
+	{
+		if (_intRule != null) { return _intRule; }
+		if (_longRule != null) { return _longRule; }
+		if (_doubleRule != null) { return _doubleRule; }
+		return _stringRule;
+	}
+
+	/** Record that the rule rejected the value. */
+	void rejectInt(final Class<?> target, final IntRule rule, final int value)
+	{
+		_target = target;
+		_intRule = rule;
+		_longValue = value;
+	}
+
+	/** Record that the rule rejected the value. */
+	void rejectLong(final Class<?> target, final LongRule rule, final long value)
+	{
+		_target = target;
+		_longRule = rule;
+		_longValue = value;
+	}
+
+	/** Record that the rule rejected the value. */
+	void rejectDouble(final Class<?> target, final DoubleRule rule, final double value)
+	{
+		_target = target;
+		_doubleRule = rule;
+		_doubleValue = value;
+	}
+
+	/** Record that the rule rejected the value. */
+	void rejectString(final Class<?> target, final StringRule rule, final String value)
+	{
+		_target = target;
+		_stringRule = rule;
+		_stringValue = value;
+	}
+
+	@Override public String toString() { return isValid() ? "valid" : "invalid: " + _rule(); }
+}
@@ -0,0 +1,273 @@
+package org.udtopia.rules.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import org.udtopia.Mutable;
+import org.udtopia.rules.ApplyRuleWhen;
+import org.udtopia.rules.Ceiling;
+import org.udtopia.rules.Chars;
+import org.udtopia.rules.DoubleRule;
+import org.udtopia.rules.Floor;
+import org.udtopia.rules.GeneratedRules;
+import org.udtopia.rules.GreaterThan;
+import org.udtopia.rules.IntRule;
+import org.udtopia.rules.LessThan;
+import org.udtopia.rules.LongRule;
+import org.udtopia.rules.LowerCase;
+import org.udtopia.rules.Matching;
+import org.udtopia.rules.Max;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.MultipleOf;
+import org.udtopia.rules.NotChars;
+import org.udtopia.rules.NotMatching;
+import org.udtopia.rules.Replace;
+import org.udtopia.rules.Round;
+import org.udtopia.rules.StringRule;
+import org.udtopia.rules.Trim;
+import org.udtopia.rules.UpperCase;
+
+import static java.util.stream.Collectors.*;
+
+/**
+ * Annotation processor that generates the {@linkplain GeneratedRules rules} of each class annotated with built-in
+ * rules, such as {@link Min}, {@link Max}, {@link Chars}, and {@link Matching}.
+ * <p>
+ * Generated rules save the cost of reading rule annotations reflectively, the first time each UDT class is
+ * constructed.
+ * The annotated classes are listed in the resource {@value GeneratedRules#INDEX_RESOURCE}, so that classes compiled
+ * without the processor are not looked up at run time.
+ * Classes annotated with any custom rule are skipped, and fall back to reflection.
+ * <p>
+ * The processor is opt-in: it only runs when named with {@code javac -processor}, or the equivalent build setting.
+ * It only supports the built-in rule annotations, so it is not run on rounds that have none.
+ */
+public final @Mutable class RulesProcessor extends AbstractProcessor
+{
+	// Method of GeneratedRules that builds each built-in rule, from the values of the annotation
+	private static final Map<String, Function<Map<String, String>, String>> _BUILT_IN_RULES = new HashMap<>();
+
+	static
+	{
+		_builtIn(Ceiling.class, values -> "ceiling(" + values.get("value") + ")");
+		_builtIn(Chars.class, values -> "chars(" + values.get("value") + ")");
+		_builtIn(Floor.class, values -> "floor(" + values.get("value") + ")");
+		_builtIn(GreaterThan.class, values -> "greaterThan(" + values.get("value") + ")");
+		_builtIn(LessThan.class, values -> "lessThan(" + values.get("value") + ")");
+		_builtIn(LowerCase.class, values -> "lowerCase(" + values.get("locale") + ")");
+		_builtIn(Matching.class, values -> "matching(" + values.get("value") + ")");
+		_builtIn(Max.class, values -> "max(" + values.get("value") + ")");
+		_builtIn(Min.class, values -> "min(" + values.get("value") + ")");
+		_builtIn(MultipleOf.class, values -> "multipleOf(" + values.get("value") + ")");
+		_builtIn(NotChars.class, values -> "notChars(" + values.get("value") + ")");
+		_builtIn(NotMatching.class, values -> "notMatching(" + values.get("value") + ")");
+		_builtIn(Replace.class, values -> "replace(" + values.get("pattern") + ", " + values.get("with") + ")");
+		_builtIn(Round.class, values -> "round(" + values.get("toNearest") + ")");
+		_builtIn(Trim.class, values -> "trim()");
+		_builtIn(UpperCase.class, values -> "upperCase(" + values.get("locale") + ")");
+	}
+
+	// Binary names of the classes whose rules were generated, for the index
+	private final List<String> _generated = new ArrayList<>();
+
+	private static void _builtIn(final Class<?> annotationType, final Function<Map<String, String>, String> factory)
+	{
+		_BUILT_IN_RULES.put(annotationType.getCanonicalName(), factory);
+	}
+
+	@Override public Set<String> getSupportedAnnotationTypes() { return _BUILT_IN_RULES.keySet(); }
+
+	@Override public SourceVersion getSupportedSourceVersion() { return SourceVersion.latestSupported(); }
+
+	@Override public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round)
+	{
+		for (final TypeElement type: _classes(ElementFilter.typesIn(round.getRootElements())))
+		{
+			final List<String> rules = _rules(type);
+			if (rules == null || rules.isEmpty()) { continue; }
+			final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+			if (_write(type, binaryName, rules)) { _generated.add(binaryName); }
+		}
+		if (round.processingOver() && !_generated.isEmpty()) { _writeIndex(); }
+
+		// Do not claim any annotations, so that other processors can see them too
+		return false;
+	}
+
+	// Concrete classes, including member classes, that might be instantiated as UDTs
+	private static List<TypeElement> _classes(final Collection<TypeElement> types)
+	{
+		final List<TypeElement> classes = new ArrayList<>();
+		for (final TypeElement type: types)
+		{
+			if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT))
+			{
+				classes.add(type);
+			}
+			classes.addAll(_classes(ElementFilter.typesIn(type.getEnclosedElements())));
+		}
+		return classes;
+	}
+
+	// Statements that add the rules of the class, in the order that reflection would find them
+	// Null if the class has any custom rules, which can only be found by reflection
+	private List<String> _rules(final TypeElement type)
+	{
+		final List<String> rules = new ArrayList<>();
+		for (final AnnotationMirror annotation: _annotations(type).values())
+		{
+			final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			final String name = annotationType.getQualifiedName().toString();
+			final Function<Map<String, String>, String> factory = _BUILT_IN_RULES.get(name);
+			if (factory == null)
+			{
+				if (_isCustomRule(annotationType)) { return null; }
+				continue;
+			}
+
+			// Read the annotation values, including defaults, as Java literals
+			final Map<String, String> values = new HashMap<>();
+			String when = null;
+			final Map<? extends ExecutableElement, ? extends AnnotationValue> elementValues =
+				processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+			for (final ExecutableElement element: elementValues.keySet())
+			{
+				final String key = element.getSimpleName().toString();
+				final Object constant = elementValues.get(element).getValue();
+				if (constant instanceof Element)
+				{
+					// Conditional application of rules, such as `when=ASSERTS_ENABLED`
+					final String condition = ((Element) constant).getSimpleName().toString();
+					if (!condition.equals(ApplyRuleWhen.ALWAYS.name())) { when = condition; }
+				}
+				else { values.put(key, processingEnv.getElementUtils().getConstantExpression(constant)); }
+			}
+
+			final String add = "rules.add(" + factory.apply(values) + ");";
+			rules.add(when == null ? add : "if (applies(" + ApplyRuleWhen.class.getSimpleName() + "." + when +
+				", annotatedClass)) { " + add + " }");
+		}
+		return rules;
+	}
+
+	// Annotations present on the class, including inherited ones, in the same order as Class.getAnnotations()
+	private Map<String, AnnotationMirror> _annotations(final TypeElement type)
+	{
+		final Map<String, AnnotationMirror> annotations = new LinkedHashMap<>();
+		final TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() == TypeKind.DECLARED)
+		{
+			final TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+			_annotations(superElement).forEach((name, annotation) ->
+			{
+				if (annotation.getAnnotationType().asElement().getAnnotation(Inherited.class) != null)
+				{
+					annotations.put(name, annotation);
+				}
+			});
+		}
+
+		// Declared annotations replace inherited ones of the same type, in the position of the inherited one
+		for (final AnnotationMirror annotation: type.getAnnotationMirrors())
+		{
+			final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			annotations.put(annotationType.getQualifiedName().toString(), annotation);
+		}
+		return annotations;
+	}
+
+	// Whether the annotation declares a nested implementation of a rule interface
+	private boolean _isCustomRule(final TypeElement annotationType)
+	{
+		final Elements elements = processingEnv.getElementUtils();
+		final Types types = processingEnv.getTypeUtils();
+		final List<TypeMirror> ruleTypes = new ArrayList<>();
+		for (final Class<?> ruleType: Arrays.asList(IntRule.class, LongRule.class, DoubleRule.class, StringRule.class))
+		{
+			ruleTypes.add(types.erasure(elements.getTypeElement(ruleType.getCanonicalName()).asType()));
+		}
+		return ElementFilter.typesIn(annotationType.getEnclosedElements()).stream()
+			.anyMatch(nested -> ruleTypes.stream()
+				.anyMatch(ruleType -> types.isAssignable(types.erasure(nested.asType()), ruleType)));
+	}
+
+	// Whether the rules class was written
+	private boolean _write(final TypeElement type, final String binaryName, final List<String> rules)
+	{
+		final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		final String className = binaryName.substring(binaryName.lastIndexOf('.') + 1) +
+			GeneratedRules.CLASS_NAME_SUFFIX;
+		final Filer filer = processingEnv.getFiler();
+		try (Writer source = filer.createSourceFile(binaryName + GeneratedRules.CLASS_NAME_SUFFIX, type).openWriter())
+		{
+			if (!packageName.isEmpty()) { source.write("package " + packageName + ";\n\n"); }
+			source.write("import java.util.List;\n");
+			source.write("import " + ApplyRuleWhen.class.getName() + ";\n");
+			source.write("import " + GeneratedRules.class.getName() + ";\n\n");
+			source.write("/** Rules of {@link " + type.getQualifiedName() + "}, generated by " +
+				getClass().getSimpleName() + ". */\n");
+			source.write("public final class " + className + " extends " + GeneratedRules.class.getSimpleName() + "\n");
+			source.write("{\n");
+			source.write("\t@Override protected void addRules(");
+			source.write("final Class<?> annotatedClass, final List<Object> rules)\n");
+			source.write("\t{\n");
+			source.write(rules.stream().map(rule -> "\t\t" + rule + "\n").collect(joining()));
+			source.write("\t}\n");
+			source.write("}\n");
+			return true;
+		}
+		catch (final IOException e)
+		{
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.WARNING,
+				"Cannot generate rules, so they will be found by reflection: " + e,
+				type);
+			return false;
+		}
+	}
+
+	// List the classes with generated rules, which are only looked up at run time if listed
+	private void _writeIndex()
+	{
+		final Filer filer = processingEnv.getFiler();
+		try (Writer index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", GeneratedRules.INDEX_RESOURCE)
+			.openWriter())
+		{
+			for (final String binaryName: _generated) { index.write(binaryName + "\n"); }
+		}
+		catch (final IOException e)
+		{
+			processingEnv.getMessager().printMessage(
+				Diagnostic.Kind.WARNING,
+				"Cannot list generated rules, so all rules will be found by reflection: " + e);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package org.udtopia;
+
+import java.util.function.IntUnaryOperator;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class HashMixerTest
+{
+	private static final int _KEY_COUNT = 1024;
+
+	// The longest run of occupied slots after inserting sequential keys 1..n, by linear probing from their hashes
+	private static int _longestRun(final IntUnaryOperator hash)
+	{
+		final int mask = HashMixer.tableSize(_KEY_COUNT) - 1;
+		final boolean[] used = new boolean[mask + 1];
+		for (int key = 1; key <= _KEY_COUNT; key++)
+		{
+			int slot = hash.applyAsInt(key) & mask;
+			while (used[slot]) { slot = (slot + 1) & mask; }
+			used[slot] = true;
+		}
+		int longestRun = 0;
+		int run = 0;
+		for (final boolean slotUsed: used)
+		{
+			run = slotUsed ? run + 1 : 0;
+			longestRun = Math.max(longestRun, run);
+		}
+		return longestRun;
+	}
+
+	@Test public void shouldNotClusterSequentialKeys()
+	{
+		// Without mixing, the keys fill a single run, for lookups to probe through
+		assertThat(_longestRun(key -> Long.hashCode(key)), is(_KEY_COUNT));
+		assertThat(_longestRun(key -> HashMixer.mix((long) key)), is(lessThan(32)));
+		assertThat(_longestRun(HashMixer::mix), is(lessThan(32)));
+	}
+
+	@Test public void shouldSizeTableToBeAtMostHalfFull()
+	{
+		assertThat(HashMixer.tableSize(-1), is(2));
+		assertThat(HashMixer.tableSize(0), is(2));
+		assertThat(HashMixer.tableSize(1), is(2));
+		assertThat(HashMixer.tableSize(2), is(4));
+		assertThat(HashMixer.tableSize(3), is(8));
+		assertThat(HashMixer.tableSize(1000), is(2048));
+		assertThat(HashMixer.tableSize(Integer.MAX_VALUE), is(HashMixer.MAX_TABLE_SIZE));
+	}
+
+	@Test public void shouldCheckRoomForAnotherKey()
+	{
+		HashMixer.checkRoom(HashMixer.MAX_KEYS - 1);
+		String errMsg = null;
+		try { HashMixer.checkRoom(HashMixer.MAX_KEYS); }
+		catch (final IllegalStateException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Cannot hold more than 1073741823 keys"));
+	}
+}
@@ -0,0 +1,166 @@
+package org.udtopia;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class NumberParserTest
+{
+	private static final String[] _INTS = {
+		"0", "-0", "+0", "1", "-1", "+7", "123456789", "-123456789", "0001", "2147483647", "-2147483648",
+		"1234567890"};
+
+	private static final String[] _LONGS = {
+		"0", "-1", "123456789012345678", "-123456789012345678", "9223372036854775807", "-9223372036854775808",
+		"00000000000000000001"};
+
+	private static final String[] _DOUBLES = {
+		"0", "-0", "-0.0", "1", "1.", ".5", "-.5", "+2.5", "100.25", "0.1", "0.3", "123456789.012345",
+		"1.7976931348623157E308", "4.9E-324", "1e10", "1234567890123456789", "0.12345678901234567", "NaN",
+		"-Infinity", " 1.5 ", "1.5d"};
+
+	private static final String[] _INVALID = {"", "-", "+", ".", "-.", "a", "1a", "1-", "--1", "1..2", " 1"};
+
+	// Embed a number in a larger buffer, to parse it as a range
+	private static String _embed(final String number) { return "x=" + number + ";"; }
+
+	private static ByteBuffer _bytes(final String text, final boolean direct)
+	{
+		final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+		final ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(bytes.length) : ByteBuffer.allocate(bytes.length);
+		buffer.put(bytes);
+		buffer.flip();
+		return buffer;
+	}
+
+	@Test public void shouldParseIntsLikeInteger()
+	{
+		for (final String number: _INTS)
+		{
+			final String text = _embed(number);
+			final int end = text.length() - 1;
+			assertThat(number, NumberParser.parseInt(text, 2, end), is(Integer.parseInt(number)));
+			assertThat(number, NumberParser.parseInt(text.toCharArray(), 2, end), is(Integer.parseInt(number)));
+			assertThat(number, NumberParser.parseInt(_bytes(text, false), 2, end), is(Integer.parseInt(number)));
+			assertThat(number, NumberParser.parseInt(_bytes(text, true), 2, end), is(Integer.parseInt(number)));
+		}
+	}
+
+	@Test public void shouldParseLongsLikeLong()
+	{
+		for (final String number: _LONGS)
+		{
+			final String text = _embed(number);
+			final int end = text.length() - 1;
+			assertThat(number, NumberParser.parseLong(text, 2, end), is(Long.parseLong(number)));
+			assertThat(number, NumberParser.parseLong(text.toCharArray(), 2, end), is(Long.parseLong(number)));
+			assertThat(number, NumberParser.parseLong(_bytes(text, false), 2, end), is(Long.parseLong(number)));
+			assertThat(number, NumberParser.parseLong(_bytes(text, true), 2, end), is(Long.parseLong(number)));
+		}
+	}
+
+	@Test public void shouldParseDoublesLikeDouble()
+	{
+		for (final String number: _DOUBLES)
+		{
+			final String text = _embed(number);
+			final int end = text.length() - 1;
+			final double expected = Double.parseDouble(number);
+			assertThat(number, NumberParser.parseDouble(text, 2, end), is(expected));
+			assertThat(number, NumberParser.parseDouble(text.toCharArray(), 2, end), is(expected));
+			assertThat(number, NumberParser.parseDouble(_bytes(text, false), 2, end), is(expected));
+			assertThat(number, NumberParser.parseDouble(_bytes(text, true), 2, end), is(expected));
+		}
+	}
+
+	@Test public void shouldKeepSignOfNegativeZero()
+	{
+		assertThat(Double.doubleToRawLongBits(NumberParser.parseDouble("-0.0", 0, 4)), is(Long.MIN_VALUE));
+	}
+
+	@Test public void shouldRoundRandomDoublesLikeDouble()
+	{
+		final Random random = new Random(42L);
+		for (int i = 0; i < 100_000; i++)
+		{
+			final long mantissa = random.nextLong() % 1_000_000_000_000_000L;
+			final String digits = Long.toString(Math.abs(mantissa));
+			final int point = random.nextInt(digits.length() + 1);
+			final String sign = mantissa < 0 ? "-" : "";
+			final String number = sign + digits.substring(0, point) + "." + digits.substring(point);
+			assertThat(number, NumberParser.parseDouble(number, 0, number.length()), is(Double.parseDouble(number)));
+		}
+	}
+
+	private static String _error(final Runnable parse)
+	{
+		String errMsg = null;
+		try { parse.run(); }
+		catch (final NumberFormatException e) { errMsg = e.getMessage(); }
+		return errMsg;
+	}
+
+	@Test public void shouldThrowLikeStringParsers()
+	{
+		for (final String number: _INVALID)
+		{
+			final String text = _embed(number);
+			final int end = text.length() - 1;
+			final char[] chars = text.toCharArray();
+			final ByteBuffer bytes = _bytes(text, true);
+
+			final String intError = _error(() -> Integer.parseInt(number));
+			assertThat(intError, is(notNullValue()));
+			assertThat(_error(() -> NumberParser.parseInt(text, 2, end)), is(intError));
+			assertThat(_error(() -> NumberParser.parseInt(chars, 2, end)), is(intError));
+			assertThat(_error(() -> NumberParser.parseInt(bytes, 2, end)), is(intError));
+
+			final String longError = _error(() -> Long.parseLong(number));
+			assertThat(_error(() -> NumberParser.parseLong(text, 2, end)), is(longError));
+			assertThat(_error(() -> NumberParser.parseLong(chars, 2, end)), is(longError));
+			assertThat(_error(() -> NumberParser.parseLong(bytes, 2, end)), is(longError));
+
+			final String doubleError = _error(() -> Double.parseDouble(number));
+			assertThat(_error(() -> NumberParser.parseDouble(text, 2, end)), is(doubleError));
+			assertThat(_error(() -> NumberParser.parseDouble(chars, 2, end)), is(doubleError));
+			assertThat(_error(() -> NumberParser.parseDouble(bytes, 2, end)), is(doubleError));
+		}
+	}
+
+	@Test public void shouldThrowOnOverflow()
+	{
+		assertThat(_error(() -> NumberParser.parseInt("2147483648", 0, 10)), is("For input string: \"2147483648\""));
+		assertThat(_error(() -> NumberParser.parseLong("9223372036854775808", 0, 19)),
+			is("For input string: \"9223372036854775808\""));
+	}
+
+	@Test public void shouldNotMoveBufferPosition()
+	{
+		final ByteBuffer bytes = _bytes("12345", false);
+		bytes.position(1);
+		assertThat(NumberParser.parseInt(bytes, 0, 5), is(12345));
+		assertThat(bytes.position(), is(1));
+	}
+
+	@Test public void shouldCheckRange()
+	{
+		final String[] errMsgs = new String[4];
+		try { NumberParser.parseInt("123", -1, 2); }
+		catch (final IndexOutOfBoundsException e) { errMsgs[0] = e.getMessage(); }
+		try { NumberParser.parseLong(new char[3], 2, 1); }
+		catch (final IndexOutOfBoundsException e) { errMsgs[1] = e.getMessage(); }
+		try { NumberParser.parseDouble(ByteBuffer.allocate(3), 0, 4); }
+		catch (final IndexOutOfBoundsException e) { errMsgs[2] = e.getMessage(); }
+		try { NumberParser.parseDouble("1", 0, 2); }
+		catch (final IndexOutOfBoundsException e) { errMsgs[3] = e.getMessage(); }
+		assertThat(errMsgs, is(new String[] {
+			"Range [-1, 2) out of bounds for length 3",
+			"Range [2, 1) out of bounds for length 3",
+			"Range [0, 4) out of bounds for length 3",
+			"Range [0, 2) out of bounds for length 1"}));
+	}
+}
@@ -0,0 +1,104 @@
+package org.udtopia;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.pure.PureDouble;
+import org.udtopia.pure.PureLong;
+
+/**
+ * Compare parsing the price and quantity fields of ASCII messages through {@code parse(String)}, which copies each
+ * field into a string, with parsing them in place with {@link NumberParser}.
+ */
+public class ParseBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _MESSAGES = 1024;
+
+	static final @Value class Price extends PureDouble<Price>
+	{
+		Price(final double raw) { super(Price::new, raw); }
+
+		static Price parse(final String string) { return parse(Price::new, string); }
+
+		static Price parse(final ByteBuffer bytes, final int start, final int end)
+		{
+			return parse(Price::new, bytes, start, end);
+		}
+	}
+
+	static final @Value class Quantity extends PureLong<Quantity>
+	{
+		Quantity(final long raw) { super(Quantity::new, raw); }
+
+		static Quantity parse(final String string) { return parse(Quantity::new, string); }
+
+		static Quantity parse(final ByteBuffer bytes, final int start, final int end)
+		{
+			return parse(Quantity::new, bytes, start, end);
+		}
+	}
+
+	// Messages of a fixed layout "44=ppp.pp|38=qqqq|", in a heap and a direct buffer
+	private static final int _LENGTH = 18;
+	private static final int _PRICE_START = 3;
+	private static final int _PRICE_END = 9;
+	private static final int _QUANTITY_START = 13;
+	private static final int _QUANTITY_END = 17;
+
+	private ByteBuffer _heap;
+	private ByteBuffer _direct;
+	private int _next;
+
+	@Setup public void generateMessages()
+	{
+		final StringBuilder messages = new StringBuilder();
+		for (int i = 0; i < _MESSAGES; i++)
+		{
+			final double price = 100.0 + RAND.nextInt(10_000) / 100.0;
+			messages.append(String.format(Locale.ROOT, "44=%06.2f|38=%04d|", price, RAND.nextInt(10_000)));
+		}
+		final byte[] bytes = messages.toString().getBytes(StandardCharsets.US_ASCII);
+		_heap = ByteBuffer.wrap(bytes);
+		_direct = ByteBuffer.allocateDirect(bytes.length);
+		_direct.put(bytes);
+	}
+
+	private int _nextMessage()
+	{
+		_next = (_next + 1) % _MESSAGES;
+		return _next * _LENGTH;
+	}
+
+	private static String _field(final ByteBuffer heap, final int start, final int end)
+	{
+		return new String(heap.array(), start, end - start, StandardCharsets.US_ASCII);
+	}
+
+	@Benchmark public double parseString()
+	{
+		final int message = _nextMessage();
+		final Price price = Price.parse(_field(_heap, message + _PRICE_START, message + _PRICE_END));
+		final Quantity quantity = Quantity.parse(_field(_heap, message + _QUANTITY_START, message + _QUANTITY_END));
+		return price.getAsDouble() * quantity.getAsLong();
+	}
+
+	@Benchmark public double parseHeapBuffer()
+	{
+		final int message = _nextMessage();
+		final Price price = Price.parse(_heap, message + _PRICE_START, message + _PRICE_END);
+		final Quantity quantity = Quantity.parse(_heap, message + _QUANTITY_START, message + _QUANTITY_END);
+		return price.getAsDouble() * quantity.getAsLong();
+	}
+
+	@Benchmark public double parseDirectBuffer()
+	{
+		final int message = _nextMessage();
+		final Price price = Price.parse(_direct, message + _PRICE_START, message + _PRICE_END);
+		final Quantity quantity = Quantity.parse(_direct, message + _QUANTITY_START, message + _QUANTITY_END);
+		return price.getAsDouble() * quantity.getAsLong();
+	}
+}
@@ -0,0 +1,85 @@
+package org.udtopia;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.example.EpochNanos;
+
+/**
+ * Compare a {@code List<EpochNanos>} with a {@link UDTLongArray} of the same values.
+ * The {@code build} benchmarks show the memory each one takes, in the {@code gc.alloc.rate.norm} result of the GC
+ * profiler.
+ */
+public class UDTArrayBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	@Param({"1000000"}) int size;
+
+	private long[] _raws;
+	private List<EpochNanos> _sortedList;
+	private UDTLongArray<EpochNanos> _sortedArray;
+
+	@Setup public void generateValues()
+	{
+		_raws = RAND.longs(size, 0, Long.MAX_VALUE).toArray();
+		_sortedList = buildList();
+		Collections.sort(_sortedList);
+		_sortedArray = buildArray();
+		_sortedArray.sort();
+	}
+
+	@Benchmark public List<EpochNanos> buildList()
+	{
+		final List<EpochNanos> list = new ArrayList<>(_raws.length);
+		for (final long raw: _raws) { list.add(new EpochNanos(raw)); }
+		return list;
+	}
+
+	@Benchmark public UDTLongArray<EpochNanos> buildArray()
+	{
+		final UDTLongArray<EpochNanos> array = new UDTLongArray<>(EpochNanos.class, EpochNanos::new, _raws.length);
+		for (final long raw: _raws) { array.add(raw); }
+		return array;
+	}
+
+	@Benchmark public long sumList()
+	{
+		long sum = 0L;
+		for (final EpochNanos value: _sortedList) { sum += value.getAsLong(); }
+		return sum;
+	}
+
+	@Benchmark public long sumArray()
+	{
+		final UDTLongArray<EpochNanos> array = _sortedArray;
+		long sum = 0L;
+		for (int i = 0; i < array.size(); i++) { sum += array.getAsLong(i); }
+		return sum;
+	}
+
+	@Benchmark public List<EpochNanos> sortList()
+	{
+		final List<EpochNanos> list = buildList();
+		Collections.sort(list);
+		return list;
+	}
+
+	@Benchmark public UDTLongArray<EpochNanos> sortArray()
+	{
+		final UDTLongArray<EpochNanos> array = new UDTLongArray<>(EpochNanos.class, EpochNanos::new, _raws.length);
+		array.addAll(_raws);
+		array.sort();
+		return array;
+	}
+
+	@Benchmark public int searchList()
+	{
+		return Collections.binarySearch(_sortedList, new EpochNanos(_raws[RAND.nextInt(size)]));
+	}
+
+	@Benchmark public int searchArray() { return _sortedArray.binarySearch(_raws[RAND.nextInt(size)]); }
+}
@@ -0,0 +1,157 @@
+package org.udtopia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.udtopia.pure.PureDouble;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTDoubleArrayTest
+{
+	@Min(0)
+	static final @Value class Kelvin extends PureDouble<Kelvin>
+	{
+		Kelvin(final double rawValue) { super(Kelvin::new, rawValue); }
+	}
+
+	static final @Value class Change extends PureDouble<Change>
+	{
+		Change(final double rawValue) { super(Change::new, rawValue); }
+	}
+
+	private final UDTDoubleArray<Kelvin> _array = new UDTDoubleArray<>(Kelvin.class, Kelvin::new, 2);
+
+	@Test public void shouldStoreRawValues()
+	{
+		_array.add(3.0);
+		_array.add(new Kelvin(1.0));
+		_array.add(2.0);
+		assertThat(_array.getType(), is(Kelvin.class));
+		assertThat(_array.size(), is(3));
+		assertThat(_array.getAsDouble(0), is(3.0));
+		assertThat(_array.get(1), is(new Kelvin(1.0)));
+		assertThat(_array.toDoubleArray(), is(new double[] {3.0, 1.0, 2.0}));
+		assertThat(_array, contains(new Kelvin(3.0), new Kelvin(1.0), new Kelvin(2.0)));
+		assertThat(_array.toString(), is("[3.0, 1.0, 2.0]"));
+	}
+
+	@Test public void shouldApplyRulesToRawValues()
+	{
+		_array.add(1.0);
+		String errMsg = null;
+		try { _array.add(-1.0); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Kelvin: -1.0 < 0.0"));
+		errMsg = null;
+		try { _array.set(0, -2.0); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Kelvin: -2.0 < 0.0"));
+		assertThat(_array.toDoubleArray(), is(new double[] {1.0}));
+	}
+
+	@Test public void shouldReplaceValues()
+	{
+		_array.addAll(1.0, 2.0);
+		assertThat(_array.set(0, 5.0), is(1.0));
+		assertThat(_array.set(1, new Kelvin(6.0)), is(new Kelvin(2.0)));
+		assertThat(_array.toDoubleArray(), is(new double[] {5.0, 6.0}));
+	}
+
+	@Test public void shouldAddAllOrNothing()
+	{
+		assertThat(_array.addAll(), is(false));
+		assertThat(_array.addAll(1.0, 2.0, 3.0, 4.0, 5.0), is(true));
+		String errMsg = null;
+		try { _array.addAll(6.0, -7.0, -8.0); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Kelvin: -7.0 < 0.0"));
+		assertThat(_array.toDoubleArray(), is(new double[] {1.0, 2.0, 3.0, 4.0, 5.0}));
+	}
+
+	@Test public void shouldInsertAndRemoveValues()
+	{
+		_array.addAll(1.0, 2.0, 3.0, 4.0);
+		_array.add(0, new Kelvin(0.0));
+		_array.add(5, new Kelvin(5.0));
+		assertThat(_array.remove(2), is(new Kelvin(2.0)));
+		_array.subList(0, 2).clear();
+		assertThat(_array.toDoubleArray(), is(new double[] {3.0, 4.0, 5.0}));
+		_array.clear();
+		assertThat(_array.isEmpty(), is(true));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotGetPastEnd()
+	{
+		_array.add(1.0);
+		_array.getAsDouble(1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotGetBeforeStart()
+	{
+		_array.add(1.0);
+		_array.getAsDouble(-1);
+	}
+
+	@Test public void shouldReportIndexBeforeStart()
+	{
+		_array.add(1.0);
+		String errMsg = null;
+		try { _array.getAsDouble(-1); }
+		catch (final IndexOutOfBoundsException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Index: -1, Size: 1"));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotInsertPastEnd()
+	{
+		_array.add(1, new Kelvin(1.0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotInsertBeforeStart()
+	{
+		_array.add(-1, new Kelvin(1.0));
+	}
+
+	@Test public void shouldSortAndSearch()
+	{
+		_array.addAll(5.0, 3.0, 9.0, 1.0);
+		_array.sort();
+		assertThat(_array.toDoubleArray(), is(new double[] {1.0, 3.0, 5.0, 9.0}));
+		assertThat(_array.binarySearch(5.0), is(2));
+		assertThat(_array.binarySearch(new Kelvin(9.0)), is(3));
+		assertThat(_array.binarySearch(4.0), is(-3));
+	}
+
+	@Test public void shouldEqualListsOfSameValues()
+	{
+		_array.addAll(1.0, 2.0);
+		final List<Kelvin> list = new ArrayList<>(Arrays.asList(new Kelvin(1.0), new Kelvin(2.0)));
+		assertThat(_array, is(equalTo((Object) list)));
+		assertThat(_array.hashCode(), is(list.hashCode()));
+
+		final UDTDoubleArray<Kelvin> same = new UDTDoubleArray<>(Kelvin.class, Kelvin::new);
+		same.addAll(1.0, 2.0);
+		assertThat(_array, is(equalTo(same)));
+		assertThat(_array.hashCode(), is(same.hashCode()));
+	}
+
+	@Test public void shouldNotEqualDifferentValues()
+	{
+		_array.addAll(1.0, 2.0);
+		final UDTDoubleArray<Kelvin> shorter = new UDTDoubleArray<>(Kelvin.class, Kelvin::new);
+		shorter.add(1.0);
+		assertThat(_array, is(not(equalTo(shorter))));
+
+		final UDTDoubleArray<Kelvin> different = new UDTDoubleArray<>(Kelvin.class, Kelvin::new);
+		different.addAll(1.0, 3.0);
+		assertThat(_array, is(not(equalTo(different))));
+
+		final UDTDoubleArray<Change> otherType = new UDTDoubleArray<>(Change.class, Change::new);
+		otherType.addAll(1.0, 2.0);
+		assertThat(_array, is(not(equalTo((Object) otherType))));
+	}
+}
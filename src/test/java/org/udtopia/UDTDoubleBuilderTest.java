@@ -0,0 +1,73 @@
+package org.udtopia;
+
+import org.junit.Test;
+import org.udtopia.pure.PureDouble;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTDoubleBuilderTest
+{
+	@Min(0)
+	static final @Value class Kelvin extends PureDouble<Kelvin>
+	{
+		Kelvin(final double rawValue) { super(Kelvin::new, rawValue); }
+	}
+
+	private final UDTDoubleBuilder<Kelvin> _builder = new UDTDoubleBuilder<>(Kelvin::new);
+
+	@Test public void shouldStartFromZero()
+	{
+		assertThat(_builder.getAsDouble(), is(0.0));
+		assertThat(_builder.build(), is(new Kelvin(0.0)));
+	}
+
+	@Test public void shouldStartFromValue()
+	{
+		final UDTDoubleBuilder<Kelvin> builder = new Kelvin(7.5).toBuilder();
+		assertThat(builder.getAsDouble(), is(7.5));
+		assertThat(builder.toString(), is("7.5"));
+		assertThat(builder.build(), is(new Kelvin(7.5)));
+	}
+
+	@Test public void shouldChainArithmetic()
+	{
+		final Kelvin two = new Kelvin(2.0);
+		_builder.set(10.0).add(5.0).add(two).subtract(3.0).subtract(two).multiplyBy(4.0).multiplyBy(two);
+		assertThat(_builder.getAsDouble(), is(96.0));
+		_builder.divideBy(4.0).divideBy(two);
+		assertThat(_builder.getAsDouble(), is(12.0));
+		_builder.subtractFrom(20.0).subtractFrom(two);
+		assertThat(_builder.getAsDouble(), is(-6.0));
+		_builder.negate().divide(6.0).divide(two);
+		assertThat(_builder.getAsDouble(), is(2.0));
+		_builder.set(two);
+		assertThat(_builder.build(), is(new Kelvin(2.0)));
+	}
+
+	@Test public void shouldApplyRulesOnlyWhenBuilt()
+	{
+		_builder.subtract(5.0).add(8.0);
+		assertThat(_builder.build(), is(new Kelvin(3.0)));
+
+		String errMsg = null;
+		try { _builder.negate().build(); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Kelvin: -3.0 < 0.0"));
+	}
+
+	@Test public void shouldBuildAgain()
+	{
+		final Kelvin first = _builder.add(1.0).build();
+		final Kelvin second = _builder.add(1.0).build();
+		assertThat(first, is(new Kelvin(1.0)));
+		assertThat(second, is(new Kelvin(2.0)));
+	}
+
+	@Test public void shouldDivideByZero()
+	{
+		assertThat(_builder.set(1.0).divideBy(0.0).getAsDouble(), is(Double.POSITIVE_INFINITY));
+	}
+}
@@ -0,0 +1,157 @@
+package org.udtopia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.udtopia.pure.PureInt;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTIntArrayTest
+{
+	@Min(0)
+	static final @Value class Count extends PureInt<Count>
+	{
+		Count(final int rawValue) { super(Count::new, rawValue); }
+	}
+
+	static final @Value class Offset extends PureInt<Offset>
+	{
+		Offset(final int rawValue) { super(Offset::new, rawValue); }
+	}
+
+	private final UDTIntArray<Count> _array = new UDTIntArray<>(Count.class, Count::new, 2);
+
+	@Test public void shouldStoreRawValues()
+	{
+		_array.add(3);
+		_array.add(new Count(1));
+		_array.add(2);
+		assertThat(_array.getType(), is(Count.class));
+		assertThat(_array.size(), is(3));
+		assertThat(_array.getAsInt(0), is(3));
+		assertThat(_array.get(1), is(new Count(1)));
+		assertThat(_array.toIntArray(), is(new int[] {3, 1, 2}));
+		assertThat(_array, contains(new Count(3), new Count(1), new Count(2)));
+		assertThat(_array.toString(), is("[3, 1, 2]"));
+	}
+
+	@Test public void shouldApplyRulesToRawValues()
+	{
+		_array.add(1);
+		String errMsg = null;
+		try { _array.add(-1); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Count: -1.0 < 0.0"));
+		errMsg = null;
+		try { _array.set(0, -2); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Count: -2.0 < 0.0"));
+		assertThat(_array.toIntArray(), is(new int[] {1}));
+	}
+
+	@Test public void shouldReplaceValues()
+	{
+		_array.addAll(1, 2);
+		assertThat(_array.set(0, 5), is(1));
+		assertThat(_array.set(1, new Count(6)), is(new Count(2)));
+		assertThat(_array.toIntArray(), is(new int[] {5, 6}));
+	}
+
+	@Test public void shouldAddAllOrNothing()
+	{
+		assertThat(_array.addAll(), is(false));
+		assertThat(_array.addAll(1, 2, 3, 4, 5), is(true));
+		String errMsg = null;
+		try { _array.addAll(6, -7, -8); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Count: -7.0 < 0.0"));
+		assertThat(_array.toIntArray(), is(new int[] {1, 2, 3, 4, 5}));
+	}
+
+	@Test public void shouldInsertAndRemoveValues()
+	{
+		_array.addAll(1, 2, 3, 4);
+		_array.add(0, new Count(0));
+		_array.add(5, new Count(5));
+		assertThat(_array.remove(2), is(new Count(2)));
+		_array.subList(0, 2).clear();
+		assertThat(_array.toIntArray(), is(new int[] {3, 4, 5}));
+		_array.clear();
+		assertThat(_array.isEmpty(), is(true));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotGetPastEnd()
+	{
+		_array.add(1);
+		_array.getAsInt(1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotGetBeforeStart()
+	{
+		_array.add(1);
+		_array.getAsInt(-1);
+	}
+
+	@Test public void shouldReportIndexBeforeStart()
+	{
+		_array.add(1);
+		String errMsg = null;
+		try { _array.getAsInt(-1); }
+		catch (final IndexOutOfBoundsException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Index: -1, Size: 1"));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotInsertPastEnd()
+	{
+		_array.add(1, new Count(1));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotInsertBeforeStart()
+	{
+		_array.add(-1, new Count(1));
+	}
+
+	@Test public void shouldSortAndSearch()
+	{
+		_array.addAll(5, 3, 9, 1);
+		_array.sort();
+		assertThat(_array.toIntArray(), is(new int[] {1, 3, 5, 9}));
+		assertThat(_array.binarySearch(5), is(2));
+		assertThat(_array.binarySearch(new Count(9)), is(3));
+		assertThat(_array.binarySearch(4), is(-3));
+	}
+
+	@Test public void shouldEqualListsOfSameValues()
+	{
+		_array.addAll(1, 2);
+		final List<Count> list = new ArrayList<>(Arrays.asList(new Count(1), new Count(2)));
+		assertThat(_array, is(equalTo((Object) list)));
+		assertThat(_array.hashCode(), is(list.hashCode()));
+
+		final UDTIntArray<Count> same = new UDTIntArray<>(Count.class, Count::new);
+		same.addAll(1, 2);
+		assertThat(_array, is(equalTo(same)));
+		assertThat(_array.hashCode(), is(same.hashCode()));
+	}
+
+	@Test public void shouldNotEqualDifferentValues()
+	{
+		_array.addAll(1, 2);
+		final UDTIntArray<Count> shorter = new UDTIntArray<>(Count.class, Count::new);
+		shorter.add(1);
+		assertThat(_array, is(not(equalTo(shorter))));
+
+		final UDTIntArray<Count> different = new UDTIntArray<>(Count.class, Count::new);
+		different.addAll(1, 3);
+		assertThat(_array, is(not(equalTo(different))));
+
+		final UDTIntArray<Offset> otherType = new UDTIntArray<>(Offset.class, Offset::new);
+		otherType.addAll(1, 2);
+		assertThat(_array, is(not(equalTo((Object) otherType))));
+	}
+}
@@ -0,0 +1,103 @@
+package org.udtopia;
+
+import org.junit.Test;
+import org.udtopia.pure.PureInt;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static java.lang.Integer.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTIntBuilderTest
+{
+	@Min(0)
+	static final @Value class Count extends PureInt<Count>
+	{
+		Count(final int rawValue) { super(Count::new, rawValue); }
+	}
+
+	private final UDTIntBuilder<Count> _builder = new UDTIntBuilder<>(Count::new);
+
+	@Test public void shouldStartFromZero()
+	{
+		assertThat(_builder.getAsInt(), is(0));
+		assertThat(_builder.build(), is(new Count(0)));
+	}
+
+	@Test public void shouldStartFromValue()
+	{
+		final UDTIntBuilder<Count> builder = new Count(7).toBuilder();
+		assertThat(builder.getAsInt(), is(7));
+		assertThat(builder.toString(), is("7"));
+		assertThat(builder.build(), is(new Count(7)));
+	}
+
+	@Test public void shouldChainArithmetic()
+	{
+		final Count two = new Count(2);
+		_builder.set(10).add(5).add(two).subtract(3).subtract(two).multiplyBy(4).multiplyBy(two);
+		assertThat(_builder.getAsInt(), is(96));
+		_builder.divideBy(3).divideBy(two);
+		assertThat(_builder.getAsInt(), is(16));
+		_builder.subtractFrom(20).subtractFrom(two);
+		assertThat(_builder.getAsInt(), is(-2));
+		_builder.negate().divide(21).divide(two);
+		assertThat(_builder.getAsInt(), is(0));
+		_builder.set(two).increment().increment().decrement();
+		assertThat(_builder.build(), is(new Count(3)));
+	}
+
+	@Test public void shouldApplyRulesOnlyWhenBuilt()
+	{
+		_builder.subtract(5).add(8);
+		assertThat(_builder.build(), is(new Count(3)));
+
+		String errMsg = null;
+		try { _builder.negate().build(); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Count: -3.0 < 0.0"));
+	}
+
+	@Test public void shouldBuildAgain()
+	{
+		final Count first = _builder.add(1).build();
+		final Count second = _builder.add(1).build();
+		assertThat(first, is(new Count(1)));
+		assertThat(second, is(new Count(2)));
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapAddOverflow() { _builder.set(MAX_VALUE).add(1); }
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapSubtractOverflow()
+	{
+		_builder.set(MIN_VALUE).subtract(1);
+	}
+
+	@Test public void shouldWrapSubtractFromOverflowLikeUDT()
+	{
+		assertThat(_builder.set(1).subtractFrom(MIN_VALUE).getAsInt(), is(MAX_VALUE));
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapMultiplyOverflow()
+	{
+		_builder.set(MAX_VALUE).multiplyBy(2);
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapNegateOverflow()
+	{
+		_builder.set(MIN_VALUE).negate();
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapIncrementOverflow()
+	{
+		_builder.set(MAX_VALUE).increment();
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapDecrementOverflow()
+	{
+		_builder.set(MIN_VALUE).decrement();
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapDivideByZero() { _builder.set(1).divideBy(0); }
+}
@@ -0,0 +1,116 @@
+package org.udtopia;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import org.udtopia.pure.PureInt;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTIntMapTest
+{
+	@Min(0)
+	static final @Value class InstrumentId extends PureInt<InstrumentId>
+	{
+		InstrumentId(final int rawValue) { super(InstrumentId::new, rawValue); }
+	}
+
+	private final UDTIntMap<InstrumentId, String> _map = new UDTIntMap<>(InstrumentId.class, InstrumentId::new, 2);
+
+	@Test public void shouldPutAndGetByRawKey()
+	{
+		assertThat(_map.getType(), is(InstrumentId.class));
+		assertThat(_map.isEmpty(), is(true));
+		assertThat(_map.put(1, "a"), is(nullValue()));
+		assertThat(_map.put(1, "b"), is("a"));
+		assertThat(_map.get(1), is("b"));
+		assertThat(_map.get(2), is(nullValue()));
+		assertThat(_map.containsKey(1), is(true));
+		assertThat(_map.containsKey(2), is(false));
+		assertThat(_map.size(), is(1));
+	}
+
+	@Test public void shouldPutAndGetByKey()
+	{
+		assertThat(_map.put(new InstrumentId(7), "a"), is(nullValue()));
+		assertThat(_map.get(new InstrumentId(7)), is("a"));
+		assertThat(_map.containsKey(new InstrumentId(7)), is(true));
+		assertThat(_map.remove(new InstrumentId(7)), is("a"));
+		assertThat(_map.containsKey(new InstrumentId(7)), is(false));
+	}
+
+	@Test public void shouldStoreZeroKey()
+	{
+		assertThat(_map.containsKey(0), is(false));
+		assertThat(_map.remove(0), is(nullValue()));
+		assertThat(_map.put(0, "a"), is(nullValue()));
+		assertThat(_map.put(0, "b"), is("a"));
+		assertThat(_map.get(0), is("b"));
+		assertThat(_map.containsKey(0), is(true));
+		assertThat(_map.size(), is(1));
+		assertThat(_map.remove(0), is("b"));
+		assertThat(_map.isEmpty(), is(true));
+	}
+
+	@Test public void shouldStoreNullValues()
+	{
+		_map.put(3, null);
+		assertThat(_map.containsKey(3), is(true));
+		assertThat(_map.get(3), is(nullValue()));
+		assertThat(_map.remove(3), is(nullValue()));
+		assertThat(_map.isEmpty(), is(true));
+	}
+
+	@Test public void shouldApplyRulesToRawKeys()
+	{
+		String errMsg = null;
+		try { _map.put(-1, "a"); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("InstrumentId: -1.0 < 0.0"));
+		assertThat(_map.isEmpty(), is(true));
+	}
+
+	@Test public void shouldIterateEntries()
+	{
+		_map.put(0, "zero");
+		_map.put(5, "five");
+		final Map<InstrumentId, String> entries = new HashMap<>();
+		_map.forEach(entries::put);
+		final Map<InstrumentId, String> expected = new HashMap<>();
+		expected.put(new InstrumentId(0), "zero");
+		expected.put(new InstrumentId(5), "five");
+		assertThat(entries, is(equalTo(expected)));
+		assertThat(_map.toString(), anyOf(is("{0=zero, 5=five}"), is("{5=five, 0=zero}")));
+
+		_map.clear();
+		assertThat(_map.isEmpty(), is(true));
+		assertThat(_map.get(5), is(nullValue()));
+		assertThat(_map.containsKey(0), is(false));
+		assertThat(_map.toString(), is("{}"));
+	}
+
+	@Test public void shouldMatchHashMap()
+	{
+		final Random random = new Random(42);
+		final Map<Integer, String> reference = new HashMap<>();
+		for (int i = 0; i < 100_000; i++)
+		{
+			final int rawKey = random.nextInt(64);
+			final String value = Integer.toString(i);
+			switch (random.nextInt(4))
+			{
+				case 0: assertThat(_map.remove(rawKey), is(reference.remove(rawKey))); break;
+				case 1: assertThat(_map.get(rawKey), is(reference.get(rawKey))); break;
+				default: assertThat(_map.put(rawKey, value), is(reference.put(rawKey, value))); break;
+			}
+			assertThat(_map.size(), is(reference.size()));
+		}
+		final Map<Integer, String> entries = new HashMap<>();
+		_map.forEachRaw(entries::put);
+		assertThat(entries, is(equalTo(reference)));
+	}
+}
@@ -0,0 +1,104 @@
+package org.udtopia;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import org.udtopia.pure.PureInt;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTIntSetTest
+{
+	@Min(0)
+	static final @Value class InstrumentId extends PureInt<InstrumentId>
+	{
+		InstrumentId(final int rawValue) { super(InstrumentId::new, rawValue); }
+	}
+
+	private final UDTIntSet<InstrumentId> _set = new UDTIntSet<>(InstrumentId.class, InstrumentId::new, 2);
+
+	@Test public void shouldAddAndContainRawValues()
+	{
+		assertThat(_set.getType(), is(InstrumentId.class));
+		assertThat(_set.isEmpty(), is(true));
+		assertThat(_set.add(1), is(true));
+		assertThat(_set.add(1), is(false));
+		assertThat(_set.contains(1), is(true));
+		assertThat(_set.contains(2), is(false));
+		assertThat(_set.size(), is(1));
+	}
+
+	@Test public void shouldAddAndContainValues()
+	{
+		assertThat(_set.add(new InstrumentId(7)), is(true));
+		assertThat(_set.contains(new InstrumentId(7)), is(true));
+		assertThat(_set.remove(new InstrumentId(7)), is(true));
+		assertThat(_set.contains(new InstrumentId(7)), is(false));
+		assertThat(_set.remove(new InstrumentId(7)), is(false));
+	}
+
+	@Test public void shouldStoreZero()
+	{
+		assertThat(_set.contains(0), is(false));
+		assertThat(_set.remove(0), is(false));
+		assertThat(_set.add(0), is(true));
+		assertThat(_set.add(0), is(false));
+		assertThat(_set.contains(0), is(true));
+		assertThat(_set.size(), is(1));
+		assertThat(_set.remove(0), is(true));
+		assertThat(_set.isEmpty(), is(true));
+	}
+
+	@Test public void shouldApplyRulesToRawValues()
+	{
+		String errMsg = null;
+		try { _set.add(-1); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("InstrumentId: -1.0 < 0.0"));
+		assertThat(_set.isEmpty(), is(true));
+	}
+
+	@Test public void shouldIterateValues()
+	{
+		_set.add(0);
+		_set.add(5);
+		final Set<InstrumentId> values = new HashSet<>();
+		_set.forEach(values::add);
+		assertThat(values, containsInAnyOrder(new InstrumentId(0), new InstrumentId(5)));
+		assertThat(_set.toString(), anyOf(is("[0, 5]"), is("[5, 0]")));
+		final int[] rawValues = _set.toIntArray();
+		Arrays.sort(rawValues);
+		assertThat(rawValues, is(new int[] {0, 5}));
+
+		_set.clear();
+		assertThat(_set.isEmpty(), is(true));
+		assertThat(_set.contains(5), is(false));
+		assertThat(_set.contains(0), is(false));
+		assertThat(_set.toString(), is("[]"));
+	}
+
+	@Test public void shouldMatchHashSet()
+	{
+		final Random random = new Random(42);
+		final Set<Integer> reference = new HashSet<>();
+		for (int i = 0; i < 100_000; i++)
+		{
+			final int rawValue = random.nextInt(64);
+			switch (random.nextInt(4))
+			{
+				case 0: assertThat(_set.remove(rawValue), is(reference.remove(rawValue))); break;
+				case 1: assertThat(_set.contains(rawValue), is(reference.contains(rawValue))); break;
+				default: assertThat(_set.add(rawValue), is(reference.add(rawValue))); break;
+			}
+			assertThat(_set.size(), is(reference.size()));
+		}
+		final Set<Integer> values = new HashSet<>();
+		_set.forEachRaw(values::add);
+		assertThat(values, is(equalTo(reference)));
+	}
+}
@@ -0,0 +1,157 @@
+package org.udtopia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.udtopia.pure.PureLong;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTLongArrayTest
+{
+	@Min(0)
+	static final @Value class Nanos extends PureLong<Nanos>
+	{
+		Nanos(final long rawValue) { super(Nanos::new, rawValue); }
+	}
+
+	static final @Value class Delta extends PureLong<Delta>
+	{
+		Delta(final long rawValue) { super(Delta::new, rawValue); }
+	}
+
+	private final UDTLongArray<Nanos> _array = new UDTLongArray<>(Nanos.class, Nanos::new, 2);
+
+	@Test public void shouldStoreRawValues()
+	{
+		_array.add(3L);
+		_array.add(new Nanos(1L));
+		_array.add(2L);
+		assertThat(_array.getType(), is(Nanos.class));
+		assertThat(_array.size(), is(3));
+		assertThat(_array.getAsLong(0), is(3L));
+		assertThat(_array.get(1), is(new Nanos(1L)));
+		assertThat(_array.toLongArray(), is(new long[] {3L, 1L, 2L}));
+		assertThat(_array, contains(new Nanos(3L), new Nanos(1L), new Nanos(2L)));
+		assertThat(_array.toString(), is("[3, 1, 2]"));
+	}
+
+	@Test public void shouldApplyRulesToRawValues()
+	{
+		_array.add(1L);
+		String errMsg = null;
+		try { _array.add(-1L); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Nanos: -1.0 < 0.0"));
+		errMsg = null;
+		try { _array.set(0, -2L); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Nanos: -2.0 < 0.0"));
+		assertThat(_array.toLongArray(), is(new long[] {1L}));
+	}
+
+	@Test public void shouldReplaceValues()
+	{
+		_array.addAll(1L, 2L);
+		assertThat(_array.set(0, 5L), is(1L));
+		assertThat(_array.set(1, new Nanos(6L)), is(new Nanos(2L)));
+		assertThat(_array.toLongArray(), is(new long[] {5L, 6L}));
+	}
+
+	@Test public void shouldAddAllOrNothing()
+	{
+		assertThat(_array.addAll(), is(false));
+		assertThat(_array.addAll(1L, 2L, 3L, 4L, 5L), is(true));
+		String errMsg = null;
+		try { _array.addAll(6L, -7L, -8L); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Nanos: -7.0 < 0.0"));
+		assertThat(_array.toLongArray(), is(new long[] {1L, 2L, 3L, 4L, 5L}));
+	}
+
+	@Test public void shouldInsertAndRemoveValues()
+	{
+		_array.addAll(1L, 2L, 3L, 4L);
+		_array.add(0, new Nanos(0L));
+		_array.add(5, new Nanos(5L));
+		assertThat(_array.remove(2), is(new Nanos(2L)));
+		_array.subList(0, 2).clear();
+		assertThat(_array.toLongArray(), is(new long[] {3L, 4L, 5L}));
+		_array.clear();
+		assertThat(_array.isEmpty(), is(true));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotGetPastEnd()
+	{
+		_array.add(1L);
+		_array.getAsLong(1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotGetBeforeStart()
+	{
+		_array.add(1L);
+		_array.getAsLong(-1);
+	}
+
+	@Test public void shouldReportIndexBeforeStart()
+	{
+		_array.add(1L);
+		String errMsg = null;
+		try { _array.getAsLong(-1); }
+		catch (final IndexOutOfBoundsException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Index: -1, Size: 1"));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotInsertPastEnd()
+	{
+		_array.add(1, new Nanos(1L));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldNotInsertBeforeStart()
+	{
+		_array.add(-1, new Nanos(1L));
+	}
+
+	@Test public void shouldSortAndSearch()
+	{
+		_array.addAll(5L, 3L, 9L, 1L);
+		_array.sort();
+		assertThat(_array.toLongArray(), is(new long[] {1L, 3L, 5L, 9L}));
+		assertThat(_array.binarySearch(5L), is(2));
+		assertThat(_array.binarySearch(new Nanos(9L)), is(3));
+		assertThat(_array.binarySearch(4L), is(-3));
+	}
+
+	@Test public void shouldEqualListsOfSameValues()
+	{
+		_array.addAll(1L, 2L);
+		final List<Nanos> list = new ArrayList<>(Arrays.asList(new Nanos(1L), new Nanos(2L)));
+		assertThat(_array, is(equalTo((Object) list)));
+		assertThat(_array.hashCode(), is(list.hashCode()));
+
+		final UDTLongArray<Nanos> same = new UDTLongArray<>(Nanos.class, Nanos::new);
+		same.addAll(1L, 2L);
+		assertThat(_array, is(equalTo(same)));
+		assertThat(_array.hashCode(), is(same.hashCode()));
+	}
+
+	@Test public void shouldNotEqualDifferentValues()
+	{
+		_array.addAll(1L, 2L);
+		final UDTLongArray<Nanos> shorter = new UDTLongArray<>(Nanos.class, Nanos::new);
+		shorter.add(1L);
+		assertThat(_array, is(not(equalTo(shorter))));
+
+		final UDTLongArray<Nanos> different = new UDTLongArray<>(Nanos.class, Nanos::new);
+		different.addAll(1L, 3L);
+		assertThat(_array, is(not(equalTo(different))));
+
+		final UDTLongArray<Delta> otherType = new UDTLongArray<>(Delta.class, Delta::new);
+		otherType.addAll(1L, 2L);
+		assertThat(_array, is(not(equalTo((Object) otherType))));
+	}
+}
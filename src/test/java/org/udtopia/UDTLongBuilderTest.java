@@ -0,0 +1,103 @@
+package org.udtopia;
+
+import org.junit.Test;
+import org.udtopia.pure.PureLong;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static java.lang.Long.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTLongBuilderTest
+{
+	@Min(0)
+	static final @Value class Nanos extends PureLong<Nanos>
+	{
+		Nanos(final long rawValue) { super(Nanos::new, rawValue); }
+	}
+
+	private final UDTLongBuilder<Nanos> _builder = new UDTLongBuilder<>(Nanos::new);
+
+	@Test public void shouldStartFromZero()
+	{
+		assertThat(_builder.getAsLong(), is(0L));
+		assertThat(_builder.build(), is(new Nanos(0L)));
+	}
+
+	@Test public void shouldStartFromValue()
+	{
+		final UDTLongBuilder<Nanos> builder = new Nanos(7L).toBuilder();
+		assertThat(builder.getAsLong(), is(7L));
+		assertThat(builder.toString(), is("7"));
+		assertThat(builder.build(), is(new Nanos(7L)));
+	}
+
+	@Test public void shouldChainArithmetic()
+	{
+		final Nanos two = new Nanos(2L);
+		_builder.set(10L).add(5L).add(two).subtract(3L).subtract(two).multiplyBy(4L).multiplyBy(two);
+		assertThat(_builder.getAsLong(), is(96L));
+		_builder.divideBy(3L).divideBy(two);
+		assertThat(_builder.getAsLong(), is(16L));
+		_builder.subtractFrom(20L).subtractFrom(two);
+		assertThat(_builder.getAsLong(), is(-2L));
+		_builder.negate().divide(21L).divide(two);
+		assertThat(_builder.getAsLong(), is(0L));
+		_builder.set(two).increment().increment().decrement();
+		assertThat(_builder.build(), is(new Nanos(3L)));
+	}
+
+	@Test public void shouldApplyRulesOnlyWhenBuilt()
+	{
+		_builder.subtract(5L).add(8L);
+		assertThat(_builder.build(), is(new Nanos(3L)));
+
+		String errMsg = null;
+		try { _builder.negate().build(); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Nanos: -3.0 < 0.0"));
+	}
+
+	@Test public void shouldBuildAgain()
+	{
+		final Nanos first = _builder.add(1L).build();
+		final Nanos second = _builder.add(1L).build();
+		assertThat(first, is(new Nanos(1L)));
+		assertThat(second, is(new Nanos(2L)));
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapAddOverflow() { _builder.set(MAX_VALUE).add(1L); }
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapSubtractOverflow()
+	{
+		_builder.set(MIN_VALUE).subtract(1L);
+	}
+
+	@Test public void shouldWrapSubtractFromOverflowLikeUDT()
+	{
+		assertThat(_builder.set(1L).subtractFrom(MIN_VALUE).getAsLong(), is(MAX_VALUE));
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapMultiplyOverflow()
+	{
+		_builder.set(MAX_VALUE).multiplyBy(2L);
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapNegateOverflow()
+	{
+		_builder.set(MIN_VALUE).negate();
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapIncrementOverflow()
+	{
+		_builder.set(MAX_VALUE).increment();
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapDecrementOverflow()
+	{
+		_builder.set(MIN_VALUE).decrement();
+	}
+
+	@Test(expected = ArithmeticException.class) public void shouldTrapDivideByZero() { _builder.set(1L).divideBy(0L); }
+}
@@ -0,0 +1,116 @@
+package org.udtopia;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import org.udtopia.pure.PureLong;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTLongMapTest
+{
+	@Min(0)
+	static final @Value class AccountId extends PureLong<AccountId>
+	{
+		AccountId(final long rawValue) { super(AccountId::new, rawValue); }
+	}
+
+	private final UDTLongMap<AccountId, String> _map = new UDTLongMap<>(AccountId.class, AccountId::new, 2);
+
+	@Test public void shouldPutAndGetByRawKey()
+	{
+		assertThat(_map.getType(), is(AccountId.class));
+		assertThat(_map.isEmpty(), is(true));
+		assertThat(_map.put(1L, "a"), is(nullValue()));
+		assertThat(_map.put(1L, "b"), is("a"));
+		assertThat(_map.get(1L), is("b"));
+		assertThat(_map.get(2L), is(nullValue()));
+		assertThat(_map.containsKey(1L), is(true));
+		assertThat(_map.containsKey(2L), is(false));
+		assertThat(_map.size(), is(1));
+	}
+
+	@Test public void shouldPutAndGetByKey()
+	{
+		assertThat(_map.put(new AccountId(7L), "a"), is(nullValue()));
+		assertThat(_map.get(new AccountId(7L)), is("a"));
+		assertThat(_map.containsKey(new AccountId(7L)), is(true));
+		assertThat(_map.remove(new AccountId(7L)), is("a"));
+		assertThat(_map.containsKey(new AccountId(7L)), is(false));
+	}
+
+	@Test public void shouldStoreZeroKey()
+	{
+		assertThat(_map.containsKey(0L), is(false));
+		assertThat(_map.remove(0L), is(nullValue()));
+		assertThat(_map.put(0L, "a"), is(nullValue()));
+		assertThat(_map.put(0L, "b"), is("a"));
+		assertThat(_map.get(0L), is("b"));
+		assertThat(_map.containsKey(0L), is(true));
+		assertThat(_map.size(), is(1));
+		assertThat(_map.remove(0L), is("b"));
+		assertThat(_map.isEmpty(), is(true));
+	}
+
+	@Test public void shouldStoreNullValues()
+	{
+		_map.put(3L, null);
+		assertThat(_map.containsKey(3L), is(true));
+		assertThat(_map.get(3L), is(nullValue()));
+		assertThat(_map.remove(3L), is(nullValue()));
+		assertThat(_map.isEmpty(), is(true));
+	}
+
+	@Test public void shouldApplyRulesToRawKeys()
+	{
+		String errMsg = null;
+		try { _map.put(-1L, "a"); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("AccountId: -1.0 < 0.0"));
+		assertThat(_map.isEmpty(), is(true));
+	}
+
+	@Test public void shouldIterateEntries()
+	{
+		_map.put(0L, "zero");
+		_map.put(5L, "five");
+		final Map<AccountId, String> entries = new HashMap<>();
+		_map.forEach(entries::put);
+		final Map<AccountId, String> expected = new HashMap<>();
+		expected.put(new AccountId(0L), "zero");
+		expected.put(new AccountId(5L), "five");
+		assertThat(entries, is(equalTo(expected)));
+		assertThat(_map.toString(), anyOf(is("{0=zero, 5=five}"), is("{5=five, 0=zero}")));
+
+		_map.clear();
+		assertThat(_map.isEmpty(), is(true));
+		assertThat(_map.get(5L), is(nullValue()));
+		assertThat(_map.containsKey(0L), is(false));
+		assertThat(_map.toString(), is("{}"));
+	}
+
+	@Test public void shouldMatchHashMap()
+	{
+		final Random random = new Random(42);
+		final Map<Long, String> reference = new HashMap<>();
+		for (int i = 0; i < 100_000; i++)
+		{
+			final long rawKey = random.nextInt(64);
+			final String value = Integer.toString(i);
+			switch (random.nextInt(4))
+			{
+				case 0: assertThat(_map.remove(rawKey), is(reference.remove(rawKey))); break;
+				case 1: assertThat(_map.get(rawKey), is(reference.get(rawKey))); break;
+				default: assertThat(_map.put(rawKey, value), is(reference.put(rawKey, value))); break;
+			}
+			assertThat(_map.size(), is(reference.size()));
+		}
+		final Map<Long, String> entries = new HashMap<>();
+		_map.forEachRaw(entries::put);
+		assertThat(entries, is(equalTo(reference)));
+	}
+}
@@ -0,0 +1,104 @@
+package org.udtopia;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import org.udtopia.pure.PureLong;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTLongSetTest
+{
+	@Min(0)
+	static final @Value class AccountId extends PureLong<AccountId>
+	{
+		AccountId(final long rawValue) { super(AccountId::new, rawValue); }
+	}
+
+	private final UDTLongSet<AccountId> _set = new UDTLongSet<>(AccountId.class, AccountId::new, 2);
+
+	@Test public void shouldAddAndContainRawValues()
+	{
+		assertThat(_set.getType(), is(AccountId.class));
+		assertThat(_set.isEmpty(), is(true));
+		assertThat(_set.add(1L), is(true));
+		assertThat(_set.add(1L), is(false));
+		assertThat(_set.contains(1L), is(true));
+		assertThat(_set.contains(2L), is(false));
+		assertThat(_set.size(), is(1));
+	}
+
+	@Test public void shouldAddAndContainValues()
+	{
+		assertThat(_set.add(new AccountId(7L)), is(true));
+		assertThat(_set.contains(new AccountId(7L)), is(true));
+		assertThat(_set.remove(new AccountId(7L)), is(true));
+		assertThat(_set.contains(new AccountId(7L)), is(false));
+		assertThat(_set.remove(new AccountId(7L)), is(false));
+	}
+
+	@Test public void shouldStoreZero()
+	{
+		assertThat(_set.contains(0L), is(false));
+		assertThat(_set.remove(0L), is(false));
+		assertThat(_set.add(0L), is(true));
+		assertThat(_set.add(0L), is(false));
+		assertThat(_set.contains(0L), is(true));
+		assertThat(_set.size(), is(1));
+		assertThat(_set.remove(0L), is(true));
+		assertThat(_set.isEmpty(), is(true));
+	}
+
+	@Test public void shouldApplyRulesToRawValues()
+	{
+		String errMsg = null;
+		try { _set.add(-1L); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("AccountId: -1.0 < 0.0"));
+		assertThat(_set.isEmpty(), is(true));
+	}
+
+	@Test public void shouldIterateValues()
+	{
+		_set.add(0L);
+		_set.add(5L);
+		final Set<AccountId> values = new HashSet<>();
+		_set.forEach(values::add);
+		assertThat(values, containsInAnyOrder(new AccountId(0L), new AccountId(5L)));
+		assertThat(_set.toString(), anyOf(is("[0, 5]"), is("[5, 0]")));
+		final long[] rawValues = _set.toLongArray();
+		Arrays.sort(rawValues);
+		assertThat(rawValues, is(new long[] {0L, 5L}));
+
+		_set.clear();
+		assertThat(_set.isEmpty(), is(true));
+		assertThat(_set.contains(5L), is(false));
+		assertThat(_set.contains(0L), is(false));
+		assertThat(_set.toString(), is("[]"));
+	}
+
+	@Test public void shouldMatchHashSet()
+	{
+		final Random random = new Random(42);
+		final Set<Long> reference = new HashSet<>();
+		for (int i = 0; i < 100_000; i++)
+		{
+			final long rawValue = random.nextInt(64);
+			switch (random.nextInt(4))
+			{
+				case 0: assertThat(_set.remove(rawValue), is(reference.remove(rawValue))); break;
+				case 1: assertThat(_set.contains(rawValue), is(reference.contains(rawValue))); break;
+				default: assertThat(_set.add(rawValue), is(reference.add(rawValue))); break;
+			}
+			assertThat(_set.size(), is(reference.size()));
+		}
+		final Set<Long> values = new HashSet<>();
+		_set.forEachRaw(values::add);
+		assertThat(values, is(equalTo(reference)));
+	}
+}
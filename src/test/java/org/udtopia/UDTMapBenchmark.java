@@ -0,0 +1,65 @@
+package org.udtopia;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.pure.PureLong;
+
+/**
+ * Compare a {@code HashMap<AccountId, V>} with a {@link UDTLongMap} of the same entries, keyed by sequential IDs.
+ */
+public class UDTMapBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	static final @Value class AccountId extends PureLong<AccountId>
+	{
+		AccountId(final long rawValue) { super(AccountId::new, rawValue); }
+	}
+
+	@Param({"1000", "100000", "10000000"}) int size;
+
+	private AccountId[] _keys;
+	private Map<AccountId, String> _hashMap;
+	private UDTLongMap<AccountId, String> _udtMap;
+	private long _sum;
+
+	@Setup public void buildMaps()
+	{
+		_keys = new AccountId[size];
+		_hashMap = new HashMap<>();
+		_udtMap = new UDTLongMap<>(AccountId.class, AccountId::new);
+		for (int i = 0; i < size; i++)
+		{
+			_keys[i] = new AccountId(i + 1L);
+			_hashMap.put(_keys[i], "value");
+			_udtMap.put(_keys[i], "value");
+		}
+	}
+
+	private AccountId _randomKey() { return _keys[RAND.nextInt(size)]; }
+
+	@Benchmark public String getHashMap() { return _hashMap.get(_randomKey()); }
+
+	@Benchmark public String getUDTMap() { return _udtMap.get(_randomKey()); }
+
+	@Benchmark public String putHashMap() { return _hashMap.put(_randomKey(), "value"); }
+
+	@Benchmark public String putUDTMap() { return _udtMap.put(_randomKey(), "value"); }
+
+	@Benchmark public long iterateHashMap()
+	{
+		_sum = 0L;
+		_hashMap.forEach((key, value) -> _sum += key.getAsLong());
+		return _sum;
+	}
+
+	@Benchmark public long iterateUDTMap()
+	{
+		_sum = 0L;
+		_udtMap.forEachRaw((rawKey, value) -> _sum += rawKey);
+		return _sum;
+	}
+}
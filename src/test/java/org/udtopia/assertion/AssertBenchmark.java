@@ -5,6 +5,12 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Setup;
 import org.udtopia.BaseBenchmark;
 
+/**
+ * Compare the cost of assertions in a constructor, and of assertions alone.
+ * Run with {@code -jvmArgs -da -prof gc} to check that disabled assertions do not allocate, and add
+ * {@code -XX:-DoEscapeAnalysis} to see the capturing lambda of {@link #capturingAssert()} that escape analysis
+ * otherwise removes.
+ */
 public class AssertBenchmark extends BaseBenchmark
 {
 	public static void main(final String[] args) { runBenchmark(args); }
@@ -54,4 +60,18 @@ public class AssertBenchmark extends BaseBenchmark
 	@Benchmark public Object withUDTopiaAssert() { return new WithUDTopiaAssert(_result.toString() + _randomVal); }
 
 	@Benchmark public Object withNoAssert() { return new WithNoAssert(_result.toString() + _randomVal); }
+
+	@Benchmark public Object capturingAssert()
+	{
+		Assert.notNull(() -> _randomVal, "val must not be null");
+		return _randomVal;
+	}
+
+	@Benchmark public Object operandAssert()
+	{
+		Assert.nonNull(_randomVal, "val must not be null");
+		return _randomVal;
+	}
+
+	@Benchmark public Object noAssert() { return _randomVal; }
 }
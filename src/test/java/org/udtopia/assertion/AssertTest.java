@@ -1,10 +1,13 @@
 package org.udtopia.assertion;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
-import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.mockito.Mockito.*;
 
@@ -62,4 +65,69 @@ public class AssertTest
 		Assert.debug(task);
 		verify(task, times(1)).run();
 	}
+
+	@Test(expected = AssertionError.class) public void shouldAssertNonNull() { Assert.nonNull(null); }
+
+	@Test public void shouldAssertNonNullWithMessage()
+	{
+		String errMsg = null;
+		try { Assert.nonNull(null, "123"); }
+		catch (final AssertionError e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("123"));
+	}
+
+	@SuppressWarnings("JUnitTestMethodWithNoAssertions")
+	@Test public void shouldNotAssertNonNull()
+	{
+		Assert.nonNull("");
+		Assert.nonNull("", "123");
+	}
+
+	@Test public void shouldNotCallSupplierToAssertNonNull()
+	{
+		final Supplier<?> supplier = mock(Supplier.class);
+		Assert.nonNull(supplier, "123");
+		verifyNoInteractions(supplier);
+	}
+
+	@Test public void shouldAssertOperandTrue()
+	{
+		final List<String> errors = new ArrayList<>();
+		try { Assert.that(1, (final int n) -> n < 0, "int"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		try { Assert.that(1L, (final long n) -> n < 0L, "long"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		try { Assert.that(1.0, (final double n) -> n < 0.0, "double"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		try { Assert.that("1", String::isEmpty, "object"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		assertThat(errors, contains("int", "long", "double", "object"));
+	}
+
+	@Test public void shouldAssertOperandFalse()
+	{
+		final List<String> errors = new ArrayList<>();
+		try { Assert.not(1, (final int n) -> n > 0, "int"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		try { Assert.not(1L, (final long n) -> n > 0L, "long"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		try { Assert.not(1.0, (final double n) -> n > 0.0, "double"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		try { Assert.not("", String::isEmpty, "object"); }
+		catch (final AssertionError e) { errors.add(e.getMessage()); }
+		assertThat(errors, contains("int", "long", "double", "object"));
+	}
+
+	@SuppressWarnings("JUnitTestMethodWithNoAssertions")
+	@Test public void shouldNotAssertOperand()
+	{
+		Assert.that(1, (final int n) -> n > 0, "int");
+		Assert.not(1, (final int n) -> n < 0, "int");
+		Assert.that(1L, (final long n) -> n > 0L, "long");
+		Assert.not(1L, (final long n) -> n < 0L, "long");
+		Assert.that(1.0, (final double n) -> n > 0.0, "double");
+		Assert.not(1.0, (final double n) -> n < 0.0, "double");
+		Assert.that("", String::isEmpty, "object");
+		Assert.not("1", String::isEmpty, "object");
+	}
 }
@@ -0,0 +1,108 @@
+package org.udtopia.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.codec.Encoding.*;
+
+public class EncodingTest
+{
+	private static final int[] _INTS = {Integer.MIN_VALUE, -300, -64, -1, 0, 1, 63, 127, 128, 300, Integer.MAX_VALUE};
+
+	private static final long[] _LONGS = {Long.MIN_VALUE, -1L << 40, -300L, -1L, 0L, 1L, 127L, 128L, 1L << 40,
+		Long.MAX_VALUE};
+
+	private final ByteBuffer _buffer = ByteBuffer.allocate(16);
+
+	private byte[] _written()
+	{
+		final byte[] bytes = new byte[_buffer.position()];
+		_buffer.flip();
+		_buffer.get(bytes);
+		_buffer.clear();
+		return bytes;
+	}
+
+	@Test public void shouldRoundTripInts()
+	{
+		for (final Encoding encoding: values())
+		{
+			for (final int n: _INTS)
+			{
+				encoding.writeInt(_buffer, n);
+				assertThat(_buffer.position(), is(encoding.sizeOfInt(n)));
+				_buffer.flip();
+				assertThat(encoding.readInt(_buffer), is(n));
+				assertThat(_buffer.hasRemaining(), is(false));
+				_buffer.clear();
+			}
+		}
+	}
+
+	@Test public void shouldRoundTripLongs()
+	{
+		for (final Encoding encoding: values())
+		{
+			for (final long n: _LONGS)
+			{
+				encoding.writeLong(_buffer, n);
+				assertThat(_buffer.position(), is(encoding.sizeOfLong(n)));
+				_buffer.flip();
+				assertThat(encoding.readLong(_buffer), is(n));
+				assertThat(_buffer.hasRemaining(), is(false));
+				_buffer.clear();
+			}
+		}
+	}
+
+	@Test public void shouldWriteVarintLeastSignificantFirst()
+	{
+		VARINT.writeInt(_buffer, 300);
+		assertThat(_written(), is(new byte[] {(byte) 0xAC, 0x02}));
+		VARINT.writeInt(_buffer, 1);
+		assertThat(_written(), is(new byte[] {0x01}));
+	}
+
+	@Test public void shouldWriteZigzagSignInLowestBit()
+	{
+		ZIGZAG.writeInt(_buffer, -1);
+		assertThat(_written(), is(new byte[] {0x01}));
+		ZIGZAG.writeInt(_buffer, 1);
+		assertThat(_written(), is(new byte[] {0x02}));
+		ZIGZAG.writeLong(_buffer, -64L);
+		assertThat(_written(), is(new byte[] {0x7F}));
+	}
+
+	@Test public void shouldSizeValues()
+	{
+		assertThat(FIXED.sizeOfInt(0), is(4));
+		assertThat(FIXED.sizeOfLong(0L), is(8));
+		assertThat(VARINT.sizeOfInt(0), is(1));
+		assertThat(VARINT.sizeOfInt(128), is(2));
+		assertThat(VARINT.sizeOfInt(-1), is(5));
+		assertThat(VARINT.sizeOfLong(-1L), is(10));
+		assertThat(ZIGZAG.sizeOfInt(-1), is(1));
+		assertThat(ZIGZAG.sizeOfInt(Integer.MIN_VALUE), is(5));
+		assertThat(ZIGZAG.sizeOfLong(Long.MIN_VALUE), is(10));
+	}
+
+	@Test public void shouldRejectLongVarint()
+	{
+		for (int i = 0; i < 6; i++) { _buffer.put((byte) 0x80); }
+		_buffer.flip();
+		String errMsg = null;
+		try { VARINT.readInt(_buffer); }
+		catch (final IllegalArgumentException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Varint longer than 5 bytes"));
+	}
+
+	@Test(expected = BufferUnderflowException.class) public void shouldTrapTruncatedVarint()
+	{
+		_buffer.put((byte) 0x80);
+		_buffer.flip();
+		ZIGZAG.readLong(_buffer);
+	}
+}
@@ -0,0 +1,75 @@
+package org.udtopia.codec;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.pure.PureDouble;
+import org.udtopia.recycle.RecyclableDouble;
+import org.udtopia.recycle.RecycleBinSize;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTDoubleCodecTest
+{
+	@Min(0)
+	static final @Value class Price extends PureDouble<Price>
+	{
+		Price(final double rawValue) { super(Price::new, rawValue); }
+	}
+
+	@RecycleBinSize(1)
+	static final @Value class Ratio extends RecyclableDouble<Ratio>
+	{
+		private Ratio(final double rawValue) { super(Ratio::of, rawValue); }
+
+		static Ratio of(final double rawValue) { return recycle(Ratio.class, Ratio::new, rawValue); }
+	}
+
+	private final ByteBuffer _buffer = ByteBuffer.allocateDirect(64);
+
+	@Test public void shouldRoundTripValues()
+	{
+		final UDTDoubleCodec<Price> codec = new UDTDoubleCodec<>(Price::new);
+		codec.write(_buffer, new Price(101.25));
+		codec.write(_buffer, new Price(Double.MAX_VALUE));
+		assertThat(_buffer.position(), is(2 * codec.sizeOf(new Price(0.0))));
+		_buffer.flip();
+		assertThat(codec.read(_buffer), is(new Price(101.25)));
+		assertThat(codec.read(_buffer), is(new Price(Double.MAX_VALUE)));
+	}
+
+	@Test public void shouldValidateDecodedValues()
+	{
+		final UDTDoubleCodec<Price> codec = new UDTDoubleCodec<>(Price::new);
+		codec.writeRaw(_buffer, -0.5);
+		_buffer.flip();
+		String errMsg = null;
+		try { codec.read(_buffer); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Price: -0.5 < 0.0"));
+	}
+
+	@Test public void shouldRecycleDecodedValues()
+	{
+		final UDTDoubleCodec<Ratio> codec = new UDTDoubleCodec<>(Ratio::of);
+		codec.writeRaw(_buffer, 0.25);
+		codec.writeRaw(_buffer, 0.75);
+		_buffer.flip();
+		final Ratio first = codec.read(_buffer);
+		first.discard();
+		final Ratio second = codec.read(_buffer);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(second.getAsDouble(), is(0.75));
+	}
+
+	@Test public void shouldReadRawValues()
+	{
+		final UDTDoubleCodec<Price> codec = new UDTDoubleCodec<>(Price::new);
+		codec.writeRaw(_buffer, -0.5);
+		_buffer.flip();
+		assertThat(codec.readRaw(_buffer), is(-0.5));
+	}
+}
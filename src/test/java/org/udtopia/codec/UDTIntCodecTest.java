@@ -0,0 +1,82 @@
+package org.udtopia.codec;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.pure.PureInt;
+import org.udtopia.recycle.RecyclableInt;
+import org.udtopia.recycle.RecycleBinSize;
+import org.udtopia.rules.Max;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.codec.Encoding.*;
+
+public class UDTIntCodecTest
+{
+	@Max(1000)
+	static final @Value class Delta extends PureInt<Delta>
+	{
+		Delta(final int rawValue) { super(Delta::new, rawValue); }
+	}
+
+	@RecycleBinSize(1)
+	static final @Value class Port extends RecyclableInt<Port>
+	{
+		private Port(final int rawValue) { super(Port::of, rawValue); }
+
+		static Port of(final int rawValue) { return recycle(Port.class, Port::new, rawValue); }
+	}
+
+	private final ByteBuffer _buffer = ByteBuffer.allocate(64);
+
+	@Test public void shouldRoundTripValues()
+	{
+		for (final Encoding encoding: Encoding.values())
+		{
+			final UDTIntCodec<Delta> codec = new UDTIntCodec<>(Delta::new, encoding);
+			assertThat(codec.getEncoding(), is(encoding));
+			codec.write(_buffer, new Delta(-2));
+			codec.write(_buffer, new Delta(Integer.MIN_VALUE + 1));
+			assertThat(_buffer.position(),
+				is(codec.sizeOf(new Delta(-2)) + codec.sizeOf(new Delta(Integer.MIN_VALUE + 1))));
+			_buffer.flip();
+			assertThat(codec.read(_buffer), is(new Delta(-2)));
+			assertThat(codec.read(_buffer), is(new Delta(Integer.MIN_VALUE + 1)));
+			_buffer.clear();
+		}
+	}
+
+	@Test public void shouldWriteCompactZigzag()
+	{
+		new UDTIntCodec<>(Delta::new, ZIGZAG).write(_buffer, new Delta(-2));
+		assertThat(_buffer.position(), is(1));
+	}
+
+	@Test public void shouldValidateDecodedValues()
+	{
+		final UDTIntCodec<Delta> codec = new UDTIntCodec<>(Delta::new, FIXED);
+		codec.writeRaw(_buffer, 2000);
+		_buffer.flip();
+		assertThat(codec.sizeOf(new Delta(0)), is(4));
+		String errMsg = null;
+		try { codec.read(_buffer); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Delta: 2000.0 > 1000.0"));
+	}
+
+	@Test public void shouldRecycleDecodedValues()
+	{
+		final UDTIntCodec<Port> codec = new UDTIntCodec<>(Port::of, VARINT);
+		codec.writeRaw(_buffer, 80);
+		codec.writeRaw(_buffer, 443);
+		_buffer.flip();
+		final Port first = codec.read(_buffer);
+		first.discard();
+		final Port second = codec.read(_buffer);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(codec.readRaw(ByteBuffer.wrap(new byte[] {0x05})), is(5));
+		assertThat(second.getAsInt(), is(443));
+	}
+}
@@ -0,0 +1,102 @@
+package org.udtopia.codec;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.pure.PureLong;
+import org.udtopia.recycle.RecyclableLong;
+import org.udtopia.recycle.RecycleBinSize;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.codec.Encoding.*;
+
+public class UDTLongCodecTest
+{
+	@Min(0)
+	static final @Value class Offset extends PureLong<Offset>
+	{
+		Offset(final long rawValue) { super(Offset::new, rawValue); }
+	}
+
+	@RecycleBinSize(1) @Min(0)
+	static final @Value class Sequence extends RecyclableLong<Sequence>
+	{
+		private Sequence(final long rawValue) { super(Sequence::of, rawValue); }
+
+		static Sequence of(final long rawValue) { return recycle(Sequence.class, Sequence::new, rawValue); }
+
+		static Sequence trusted(final long rawValue)
+		{
+			return recycleTrusted(Sequence.class, Sequence::new, rawValue);
+		}
+	}
+
+	private final ByteBuffer _buffer = ByteBuffer.allocateDirect(64);
+
+	@Test public void shouldRoundTripValues()
+	{
+		for (final Encoding encoding: Encoding.values())
+		{
+			final UDTLongCodec<Offset> codec = new UDTLongCodec<>(Offset::new, encoding);
+			assertThat(codec.getEncoding(), is(encoding));
+			codec.write(_buffer, new Offset(5L));
+			codec.write(_buffer, new Offset(1L << 40));
+			assertThat(_buffer.position(), is(codec.sizeOf(new Offset(5L)) + codec.sizeOf(new Offset(1L << 40))));
+			_buffer.flip();
+			assertThat(codec.read(_buffer), is(new Offset(5L)));
+			assertThat(codec.read(_buffer), is(new Offset(1L << 40)));
+			_buffer.clear();
+		}
+	}
+
+	@Test public void shouldWriteCompactVarint()
+	{
+		new UDTLongCodec<>(Offset::new, VARINT).write(_buffer, new Offset(100L));
+		assertThat(_buffer.position(), is(1));
+	}
+
+	@Test public void shouldValidateDecodedValues()
+	{
+		final UDTLongCodec<Offset> codec = new UDTLongCodec<>(Offset::new, ZIGZAG);
+		codec.writeRaw(_buffer, -3L);
+		_buffer.flip();
+		String errMsg = null;
+		try { codec.read(_buffer); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Offset: -3.0 < 0.0"));
+	}
+
+	@Test public void shouldReadRawValues()
+	{
+		final UDTLongCodec<Offset> codec = new UDTLongCodec<>(Offset::new, ZIGZAG);
+		codec.writeRaw(_buffer, -3L);
+		_buffer.flip();
+		assertThat(codec.readRaw(_buffer), is(-3L));
+	}
+
+	@Test public void shouldRecycleDecodedValues()
+	{
+		final UDTLongCodec<Sequence> codec = new UDTLongCodec<>(Sequence::of, VARINT);
+		codec.write(_buffer, Sequence.of(1L));
+		codec.write(_buffer, Sequence.of(2L));
+		_buffer.flip();
+		final Sequence first = codec.read(_buffer);
+		first.discard();
+		final Sequence second = codec.read(_buffer);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(second.getAsLong(), is(2L));
+	}
+
+	@Test public void shouldSkipRulesForTrustedSource()
+	{
+		final UDTLongCodec<Sequence> codec = new UDTLongCodec<>(Sequence::trusted, ZIGZAG);
+		codec.writeRaw(_buffer, 1L);
+		codec.writeRaw(_buffer, -1L);
+		_buffer.flip();
+		codec.read(_buffer).discard();
+		assertThat(codec.read(_buffer).getAsLong(), is(-1L));
+	}
+}
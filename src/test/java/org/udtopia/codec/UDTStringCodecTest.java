@@ -0,0 +1,103 @@
+package org.udtopia.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.pure.PureString;
+import org.udtopia.recycle.RecyclableString;
+import org.udtopia.recycle.RecycleBinSize;
+import org.udtopia.rules.Max;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTStringCodecTest
+{
+	private static final String[] _STRINGS = {"", "abc", "café", "€100", "😀 smile",
+		"lone \uD800 high", "lone \uDC00 low", "end \uD800"};
+
+	@Max(8)
+	static final @Value class Name extends PureString<Name>
+	{
+		Name(final String rawValue) { super(Name::new, rawValue); }
+	}
+
+	@RecycleBinSize(1)
+	static final @Value class Tag extends RecyclableString<Tag>
+	{
+		private Tag(final String rawValue) { super(Tag::of, rawValue); }
+
+		static Tag of(final String rawValue) { return recycle(Tag.class, Tag::new, rawValue); }
+	}
+
+	private final UDTStringCodec<Tag> _codec = new UDTStringCodec<>(Tag::of);
+
+	@Test public void shouldWriteLikeGetBytes()
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(64);
+		for (final String s: _STRINGS)
+		{
+			final byte[] expected = s.getBytes(StandardCharsets.UTF_8);
+			_codec.writeRaw(buffer, s);
+			assertThat(buffer.position(), is(_codec.sizeOf(Tag.of(s))));
+			buffer.flip();
+			assertThat((int) buffer.get(), is(expected.length));
+			final byte[] written = new byte[buffer.remaining()];
+			buffer.get(written);
+			assertThat(written, is(expected));
+			buffer.clear();
+		}
+	}
+
+	@Test public void shouldRoundTripHeapAndDirectBuffers()
+	{
+		for (final ByteBuffer buffer: new ByteBuffer[] {ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256)})
+		{
+			// Offset into the backing array
+			buffer.put((byte) 0);
+			final ByteBuffer slice = buffer.slice();
+			for (final String s: _STRINGS) { _codec.write(slice, Tag.of(s)); }
+			slice.flip();
+			for (final String s: _STRINGS)
+			{
+				assertThat(_codec.read(slice).get(), is(new String(s.getBytes(StandardCharsets.UTF_8),
+					StandardCharsets.UTF_8)));
+			}
+			assertThat(slice.hasRemaining(), is(false));
+		}
+	}
+
+	@Test public void shouldValidateDecodedValues()
+	{
+		final UDTStringCodec<Name> codec = new UDTStringCodec<>(Name::new);
+		final ByteBuffer buffer = ByteBuffer.allocate(64);
+		codec.writeRaw(buffer, "much too long");
+		buffer.flip();
+		String errMsg = null;
+		try { codec.read(buffer); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, startsWith("Name: "));
+	}
+
+	@Test public void shouldRecycleDecodedValues()
+	{
+		final ByteBuffer buffer = ByteBuffer.allocate(64);
+		_codec.writeRaw(buffer, "x");
+		_codec.writeRaw(buffer, "y");
+		buffer.flip();
+		final Tag first = _codec.read(buffer);
+		first.discard();
+		final Tag second = _codec.read(buffer);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(second.get(), is("y"));
+	}
+
+	@Test(expected = BufferUnderflowException.class) public void shouldTrapTruncatedString()
+	{
+		final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {5, 'a', 'b'});
+		_codec.readRaw(buffer);
+	}
+}
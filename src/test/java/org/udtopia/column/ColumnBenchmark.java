@@ -0,0 +1,125 @@
+package org.udtopia.column;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+import org.udtopia.pure.PureLong;
+import org.udtopia.recycle.RecyclableLong;
+import org.udtopia.rules.Min;
+
+/**
+ * Compare scanning {@value #_VALUES} timestamps from a {@link UDTLongColumn}, as raw values, copied into an array,
+ * or as recycled UDT views, with deserialising each of them from a file with a {@link DataInputStream}.
+ */
+public class ColumnBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _VALUES = 1 << 20;
+
+	@Min(0)
+	static final @Value class EpochNanos extends PureLong<EpochNanos>
+	{
+		EpochNanos(final long rawValue) { super(EpochNanos::new, rawValue); }
+	}
+
+	@Min(0)
+	static final @Value class RecycledNanos extends RecyclableLong<RecycledNanos>
+	{
+		private RecycledNanos(final long rawValue) { super(RecycledNanos::of, rawValue); }
+
+		static RecycledNanos of(final long rawValue)
+		{
+			return recycle(RecycledNanos.class, RecycledNanos::new, rawValue);
+		}
+	}
+
+	private Path _directory;
+	private Path _streamFile;
+	private UDTLongColumn<EpochNanos> _column;
+	private UDTLongColumn<RecycledNanos> _recycledColumn;
+	private final long[] _chunk = new long[1024];
+
+	// Accumulate in a field, with actions built once, so that scans do not allocate
+	private long _total;
+	private final LongConsumer _addRaw = raw -> _total += raw;
+	private final Consumer<RecycledNanos> _addValue = value -> _total += value.getAsLong();
+
+	@Setup public void writeFiles() throws IOException
+	{
+		_directory = Files.createTempDirectory("column");
+		_streamFile = _directory.resolve("nanos.bin");
+		_column = new UDTLongColumn<>(_directory.resolve("nanos.col"), EpochNanos.class, EpochNanos::new);
+		_recycledColumn =
+			new UDTLongColumn<>(_directory.resolve("recycled.col"), RecycledNanos.class, RecycledNanos::of);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(_streamFile))))
+		{
+			long nanos = System.nanoTime();
+			for (int i = 0; i < _VALUES; i++)
+			{
+				nanos += RAND.nextInt(1000);
+				_column.add(nanos);
+				_recycledColumn.add(nanos);
+				out.writeLong(nanos);
+			}
+		}
+	}
+
+	@TearDown public void deleteFiles() throws IOException
+	{
+		_column.close();
+		_recycledColumn.close();
+		try (Stream<Path> files = Files.list(_directory))
+		{
+			for (final Path file: (Iterable<Path>) files::iterator) { Files.delete(file); }
+		}
+		Files.delete(_directory);
+	}
+
+	@Benchmark public long scanRaw()
+	{
+		_total = 0L;
+		_column.forEachRaw(_addRaw);
+		return _total;
+	}
+
+	@Benchmark public long scanChunks()
+	{
+		long total = 0L;
+		for (long index = 0L; index < _column.size(); index += _chunk.length)
+		{
+			final int count = _column.read(index, _chunk, 0, _chunk.length);
+			for (int i = 0; i < count; i++) { total += _chunk[i]; }
+		}
+		return total;
+	}
+
+	@Benchmark public long scanRecycled()
+	{
+		_total = 0L;
+		_recycledColumn.forEach(_addValue);
+		return _total;
+	}
+
+	@Benchmark public long deserialise() throws IOException
+	{
+		long total = 0L;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(_streamFile))))
+		{
+			for (int i = 0; i < _VALUES; i++) { total += new EpochNanos(in.readLong()).getAsLong(); }
+		}
+		return total;
+	}
+}
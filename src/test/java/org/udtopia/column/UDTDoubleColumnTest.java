@@ -0,0 +1,66 @@
+package org.udtopia.column;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.udtopia.Value;
+import org.udtopia.pure.PureDouble;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTDoubleColumnTest
+{
+	@Min(0)
+	static final @Value class Price extends PureDouble<Price>
+	{
+		Price(final double rawValue) { super(Price::new, rawValue); }
+	}
+
+	@Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+	private UDTDoubleColumn<Price> _open() throws IOException
+	{
+		final Path path = folder.getRoot().toPath().resolve("price.col");
+		return new UDTDoubleColumn<>(path, Price.class, Price::new, 64);
+	}
+
+	@Test public void shouldStoreValues() throws IOException
+	{
+		try (UDTDoubleColumn<Price> column = _open())
+		{
+			for (int i = 0; i < 100; i++) { column.add(i / 4.0); }
+			column.add(new Price(101.25));
+			assertThat(column.getType(), is(Price.class));
+			assertThat(column.size(), is(101L));
+			assertThat(column.getAsDouble(50L), is(12.5));
+			assertThat(column.get(100L), is(new Price(101.25)));
+		}
+		try (UDTDoubleColumn<Price> column = _open())
+		{
+			final double[] dst = new double[3];
+			assertThat(column.read(98L, dst, 0, 3), is(3));
+			assertThat(dst[2], is(101.25));
+			final double[] sum = {0.0};
+			column.forEachRaw(raw -> sum[0] += raw);
+			column.forEach(value -> sum[0] += value.getAsDouble());
+			assertThat(sum[0], is(2.0 * (4950.0 / 4.0 + 101.25)));
+		}
+	}
+
+	@Test public void shouldApplyRules() throws IOException
+	{
+		try (UDTDoubleColumn<Price> column = _open())
+		{
+			String errMsg = null;
+			try { column.add(-0.5); }
+			catch (final ValidationException e) { errMsg = e.getMessage(); }
+			assertThat(errMsg, is("Price: -0.5 < 0.0"));
+			assertThat(column.size(), is(0L));
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package org.udtopia.column;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.udtopia.Value;
+import org.udtopia.pure.PureInt;
+import org.udtopia.rules.Max;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class UDTIntColumnTest
+{
+	@Max(1_000_000)
+	static final @Value class Quantity extends PureInt<Quantity>
+	{
+		Quantity(final int rawValue) { super(Quantity::new, rawValue); }
+	}
+
+	@Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+	private UDTIntColumn<Quantity> _open() throws IOException
+	{
+		final Path path = folder.getRoot().toPath().resolve("quantity.col");
+		return new UDTIntColumn<>(path, Quantity.class, Quantity::new, 64);
+	}
+
+	@Test public void shouldStoreValues() throws IOException
+	{
+		try (UDTIntColumn<Quantity> column = _open())
+		{
+			for (int i = 0; i < 100; i++) { column.add(i); }
+			column.add(new Quantity(-1));
+			assertThat(column.getType(), is(Quantity.class));
+			assertThat(column.size(), is(101L));
+			assertThat(column.getAsInt(50L), is(50));
+			assertThat(column.get(100L), is(new Quantity(-1)));
+		}
+		try (UDTIntColumn<Quantity> column = _open())
+		{
+			final int[] dst = new int[200];
+			assertThat(column.read(90L, dst, 0, 200), is(11));
+			assertThat(dst[10], is(-1));
+			final long[] sum = {0L};
+			column.forEachRaw(raw -> sum[0] += raw);
+			column.forEach(value -> sum[0] += value.getAsInt());
+			assertThat(sum[0], is(2L * (4950L - 1L)));
+		}
+	}
+
+	@Test public void shouldApplyRules() throws IOException
+	{
+		try (UDTIntColumn<Quantity> column = _open())
+		{
+			String errMsg = null;
+			try { column.add(2_000_000); }
+			catch (final ValidationException e) { errMsg = e.getMessage(); }
+			assertThat(errMsg, is("Quantity: 2000000.0 > 1000000.0"));
+			assertThat(column.size(), is(0L));
+		}
+	}
+}
@@ -0,0 +1,286 @@
+package org.udtopia.column;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.udtopia.Value;
+import org.udtopia.pure.PureDouble;
+import org.udtopia.pure.PureLong;
+import org.udtopia.recycle.RecyclableLong;
+import org.udtopia.recycle.RecycleBinSize;
+import org.udtopia.rules.LongRule;
+import org.udtopia.rules.LongValidator;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.rules.ApplyRuleWhen.*;
+
+public class UDTLongColumnTest
+{
+	@Min(0)
+	static final @Value class EpochNanos extends PureLong<EpochNanos>
+	{
+		EpochNanos(final long rawValue) { super(EpochNanos::new, rawValue); }
+	}
+
+	static final @Value class Sequence extends PureLong<Sequence>
+	{
+		Sequence(final long rawValue) { super(Sequence::new, rawValue); }
+	}
+
+	static final @Value class Price extends PureDouble<Price>
+	{
+		Price(final double rawValue) { super(Price::new, rawValue); }
+	}
+
+	@RecycleBinSize(1)
+	static final @Value class Offset extends RecyclableLong<Offset>
+	{
+		private Offset(final long rawValue) { super(Offset::of, rawValue); }
+
+		static Offset of(final long rawValue) { return recycle(Offset.class, Offset::new, rawValue); }
+	}
+
+	// A custom rule, whose rule class does not override toString()
+	@Target(TYPE) @Retention(RUNTIME)
+	@interface Even
+	{
+		final class Rule implements LongValidator
+		{
+			public Rule(final Even annotation) { }
+
+			@Override public void validate(final Class<?> target, final long value)
+			{
+				if (value % 2L != 0L) { throw new ValidationException(target, value + " is odd"); }
+			}
+		}
+	}
+
+	@Even @Min(value = 0, when = ASSERTS_ENABLED)
+	static final @Value class EvenNanos extends PureLong<EvenNanos>
+	{
+		EvenNanos(final long rawValue) { super(EvenNanos::new, rawValue); }
+	}
+
+	@Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+	// 8 values in each segment, so that tests cross segments
+	private static final int _SEGMENT_BYTES = 64;
+
+	private Path _path() throws IOException { return folder.getRoot().toPath().resolve("nanos.col"); }
+
+	private UDTLongColumn<EpochNanos> _open() throws IOException
+	{
+		return new UDTLongColumn<>(_path(), EpochNanos.class, EpochNanos::new, _SEGMENT_BYTES);
+	}
+
+	@Test public void shouldAppendAndReadValues() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			assertThat(column.getType(), is(EpochNanos.class));
+			assertThat(column.size(), is(0L));
+			column.add(5L);
+			column.add(new EpochNanos(7L));
+			assertThat(column.size(), is(2L));
+			assertThat(column.getAsLong(0L), is(5L));
+			assertThat(column.get(1L), is(new EpochNanos(7L)));
+		}
+	}
+
+	@Test public void shouldCrossSegments() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			for (long i = 0L; i < 100_000L; i++) { column.add(i * 3L); }
+			assertThat(column.size(), is(100_000L));
+			for (long i = 0L; i < 100_000L; i += 997L) { assertThat(column.getAsLong(i), is(i * 3L)); }
+		}
+	}
+
+	@Test public void shouldMapLargeSegments() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = new UDTLongColumn<>(_path(), EpochNanos.class, EpochNanos::new))
+		{
+			for (long i = 0L; i < 100_000L; i++) { column.add(i); }
+			assertThat(column.getAsLong(99_999L), is(99_999L));
+		}
+	}
+
+	@Test public void shouldReopenValues() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			for (long i = 0L; i < 20L; i++) { column.add(i); }
+			column.force();
+		}
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			assertThat(column.size(), is(20L));
+			assertThat(column.getAsLong(19L), is(19L));
+			column.add(20L);
+		}
+		try (UDTLongColumn<EpochNanos> column =
+			new UDTLongColumn<>(_path(), EpochNanos.class, EpochNanos::new))
+		{
+			assertThat(column.size(), is(21L));
+			assertThat(column.getAsLong(20L), is(20L));
+		}
+	}
+
+	@Test public void shouldApplyRules() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			String errMsg = null;
+			try { column.add(-1L); }
+			catch (final ValidationException e) { errMsg = e.getMessage(); }
+			assertThat(errMsg, is("EpochNanos: -1.0 < 0.0"));
+			assertThat(column.size(), is(0L));
+		}
+	}
+
+	@Test public void shouldScanValues() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			for (long i = 1L; i <= 20L; i++) { column.add(i); }
+			final long[] sum = {0L};
+			column.forEachRaw(raw -> sum[0] += raw);
+			assertThat(sum[0], is(210L));
+
+			final List<EpochNanos> values = new ArrayList<>();
+			column.forEach(values::add);
+			assertThat(values, hasSize(20));
+			assertThat(values.get(19), is(new EpochNanos(20L)));
+		}
+	}
+
+	@Test public void shouldReadRanges() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			for (long i = 0L; i < 20L; i++) { column.add(i); }
+			final long[] dst = new long[12];
+			assertThat(column.read(5L, dst, 1, 10), is(10));
+			assertThat(dst[1], is(5L));
+			assertThat(dst[10], is(14L));
+			assertThat(column.read(15L, dst, 0, 12), is(5));
+			assertThat(dst[4], is(19L));
+			assertThat(column.read(20L, dst, 0, 12), is(0));
+		}
+	}
+
+	@Test public void shouldRecycleScannedValues() throws IOException
+	{
+		try (UDTLongColumn<Offset> column = new UDTLongColumn<>(_path(), Offset.class, Offset::of, _SEGMENT_BYTES))
+		{
+			for (long i = 0L; i < 20L; i++) { column.add(i); }
+			final List<Offset> values = new ArrayList<>();
+			column.forEach(value ->
+			{
+				assertThat(value.isDiscarded(), is(false));
+				values.add(value);
+			});
+			assertThat(values.get(19), is(sameInstance(values.get(0))));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class) public void shouldTrapIndexOutOfBounds() throws IOException
+	{
+		try (UDTLongColumn<EpochNanos> column = _open())
+		{
+			column.add(1L);
+			column.getAsLong(1L);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class) public void shouldTrapClosedColumn() throws IOException
+	{
+		final UDTLongColumn<EpochNanos> column = _open();
+		column.add(1L);
+		column.close();
+		column.getAsLong(0L);
+	}
+
+	private String _openError(final IOExceptionThrower open)
+	{
+		String errMsg = null;
+		try { open.run(); }
+		catch (final IOException e) { errMsg = e.getMessage(); }
+		return errMsg;
+	}
+
+	private interface IOExceptionThrower
+	{
+		void run() throws IOException;
+	}
+
+	@Test public void shouldRejectOtherClass() throws IOException
+	{
+		_open().close();
+		assertThat(_openError(() -> new UDTLongColumn<>(_path(), Sequence.class, Sequence::new).close()),
+			is(_path() + " holds long values of " + EpochNanos.class.getName() + ", not long values of " +
+				Sequence.class.getName()));
+		assertThat(_openError(() -> new UDTDoubleColumn<>(_path(), Price.class, Price::new).close()),
+			is(_path() + " holds long values of " + EpochNanos.class.getName() + ", not double values of " +
+				Price.class.getName()));
+	}
+
+	@Test public void shouldRejectOtherRules() throws IOException
+	{
+		_open().close();
+		try (RandomAccessFile file = new RandomAccessFile(_path().toFile(), "rw"))
+		{
+			file.seek(ColumnFile.RULES_HASH_OFFSET);
+			file.writeLong(ColumnFile.hashRules(""));
+		}
+		assertThat(_openError(() -> _open().close()),
+			is(_path() + " was written with other rules for " + EpochNanos.class.getName()));
+	}
+
+	@Test public void shouldRejectOtherFiles() throws IOException
+	{
+		Files.write(_path(), "not a column".getBytes());
+		assertThat(_openError(() -> _open().close()), is(_path() + " is not a column file"));
+		assertThat(Files.size(_path()), is(12L));
+	}
+
+	@Test public void shouldReopenColumnWithCustomRule() throws IOException
+	{
+		try (UDTLongColumn<EvenNanos> column = new UDTLongColumn<>(_path(), EvenNanos.class, EvenNanos::new))
+		{
+			column.add(2L);
+		}
+		try (UDTLongColumn<EvenNanos> column = new UDTLongColumn<>(_path(), EvenNanos.class, EvenNanos::new))
+		{
+			assertThat(column.getAsLong(0L), is(2L));
+		}
+	}
+
+	@Test public void shouldDescribeRulesTheSameInEveryJvm()
+	{
+		// No identity hash codes, and conditional rules are included whether or not assertions are enabled
+		assertThat(ColumnFile.describeRules(EvenNanos.class, LongRule.class),
+			is("@" + Even.class.getName() + "()@" + Min.class.getName() + "(value=0.0, when=ASSERTS_ENABLED)"));
+		assertThat(ColumnFile.describeRules(Sequence.class, LongRule.class), is(""));
+	}
+
+	@Test public void shouldHashRules()
+	{
+		assertThat(ColumnFile.hashRules(""), is(0xCBF2_9CE4_8422_2325L));
+		assertThat(ColumnFile.hashRules("@Min(0.0)"), is(not(ColumnFile.hashRules("@Min(1.0)"))));
+	}
+}
@@ -0,0 +1,87 @@
+package org.udtopia.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.recycle.RecyclableInt;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class FlightRecorderSinkTest
+{
+	@Min(0) static final @Value class Score extends RecyclableInt<Score>
+	{
+		private Score(final int raw) { super(Score::of, raw); }
+
+		static Score of(final int raw) { return recycle(Score.class, Score::new, raw); }
+	}
+
+	private static List<RecordedEvent> _record(final String eventName, final Runnable action) throws IOException
+	{
+		final Path file = Files.createTempFile("udtopia", ".jfr");
+		try (Recording recording = new Recording())
+		{
+			recording.enable(eventName);
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+				.filter(event -> event.getEventType().getName().equals(eventName))
+				.collect(Collectors.toList());
+		}
+		finally { Files.delete(file); }
+	}
+
+	@Test public void shouldRecordRecycleMiss() throws IOException
+	{
+		final List<RecordedEvent> events = _record("org.udtopia.RecycleMiss", () -> Score.of(1));
+		assertThat(events, is(not(empty())));
+		final RecordedEvent event = events.get(0);
+		assertThat(event.getClass("udtClass").getName(), is(Score.class.getName()));
+		assertThat(event.getInt("binSize"), is(16));
+		assertThat(event.getLong("suppressed"), is(0L));
+	}
+
+	@Test public void shouldRecordValidationFailure() throws IOException
+	{
+		final List<RecordedEvent> events = _record("org.udtopia.ValidationFailure", () ->
+		{
+			try { Score.of(-1); }
+			catch (final ValidationException expected) { }
+		});
+		assertThat(events, hasSize(1));
+		final RecordedEvent event = events.get(0);
+		assertThat(event.getClass("udtClass").getName(), is(Score.class.getName()));
+		assertThat(event.getString("rule"), is("@Min(0.0)"));
+		assertThat(event.getString("message"), is("Score: -1.0 < 0.0"));
+	}
+
+	@Test public void shouldThrottleEvents() throws IOException
+	{
+		final FlightRecorderSink sink = new FlightRecorderSink(1);
+		final List<RecordedEvent> events = _record("org.udtopia.RecycleMiss", () ->
+		{
+			for (int i = 0; i < 3; i++) { sink.recycleMiss(Score.class, 4); }
+		});
+		final long recorded = events.stream().filter(event -> event.getInt("binSize") == 4).count();
+		assertThat(recorded, is(lessThanOrEqualTo(2L)));
+	}
+
+	@Test public void shouldIgnoreEventsWhenNotRecording()
+	{
+		final FlightRecorderSink sink = new FlightRecorderSink(1);
+		sink.recycleMiss(Score.class, 4);
+		sink.validationFailure(Score.class, null, new RuntimeException());
+	}
+}
@@ -0,0 +1,44 @@
+package org.udtopia.jfr;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class ThrottleTest
+{
+	private long _nanoTime = 5_000_000_000L;
+
+	private final Throttle _throttle = new Throttle(2, () -> _nanoTime);
+
+	@Test public void shouldAllowEventsUpToMaximumPerSecond()
+	{
+		assertThat(_throttle.tryAcquire(), is(true));
+		assertThat(_throttle.tryAcquire(), is(true));
+		assertThat(_throttle.tryAcquire(), is(false));
+	}
+
+	@Test public void shouldCountSuppressedEvents()
+	{
+		for (int i = 0; i < 5; i++) { _throttle.tryAcquire(); }
+		assertThat(_throttle.takeSuppressed(), is(3L));
+		assertThat(_throttle.takeSuppressed(), is(0L));
+	}
+
+	@Test public void shouldAllowMoreEventsInNextSecond()
+	{
+		_throttle.tryAcquire();
+		_throttle.tryAcquire();
+		_nanoTime += 999_999_999L;
+		assertThat(_throttle.tryAcquire(), is(false));
+		_nanoTime += 1L;
+		assertThat(_throttle.tryAcquire(), is(true));
+		assertThat(_throttle.tryAcquire(), is(true));
+		assertThat(_throttle.tryAcquire(), is(false));
+	}
+
+	@Test public void shouldUseSystemClockByDefault()
+	{
+		assertThat(new Throttle(1).tryAcquire(), is(true));
+	}
+}
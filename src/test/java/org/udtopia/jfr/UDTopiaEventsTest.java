@@ -0,0 +1,42 @@
+package org.udtopia.jfr;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.jfr.UDTopiaEvents.*;
+
+public class UDTopiaEventsTest
+{
+	@Test public void shouldNameFlightRecorderSinkClass()
+	{
+		assertThat(FLIGHT_RECORDER_SINK, is(FlightRecorderSink.class.getName()));
+	}
+
+	@Test public void shouldLoadFlightRecorderSinkWhenAvailable()
+	{
+		assertThat(loadSink(FLIGHT_RECORDER_SINK, 1), is(instanceOf(FlightRecorderSink.class)));
+	}
+
+	@Test public void shouldDiscardEventsWhenSinkUnavailable()
+	{
+		final EventSink sink = loadSink("org.udtopia.jfr.Missing", 1);
+		assertThat(sink, is(sameInstance(EventSink.NONE)));
+		sink.recycleMiss(String.class, 16);
+		sink.validationFailure(String.class, "rule", new RuntimeException());
+	}
+
+	@Test public void shouldDescribeRuleByItsToString()
+	{
+		final Object rule = new Object() { @Override public String toString() { return "@Min(0)"; } };
+		assertThat(describeRule(rule), is("@Min(0)"));
+	}
+
+	@Test public void shouldDescribeUnknownRule() { assertThat(describeRule(null), is("unknown")); }
+
+	@Test public void shouldReportEventsWithoutRecording()
+	{
+		recycleMiss(String.class, 16);
+		validationFailure(String.class, "rule", new RuntimeException());
+	}
+}
@@ -0,0 +1,51 @@
+package org.udtopia.jmx;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.jmx.RecycleBinsMonitor.*;
+
+public class RecycleBinsMonitorTest
+{
+	static class Empty { }
+
+	static class OneLong
+	{
+		long _value;
+	}
+
+	static class AllTypes
+	{
+		static long _ignored;
+		long _long;
+		double _double;
+		int _int;
+		float _float;
+		short _short;
+		char _char;
+		byte _byte;
+		boolean _boolean;
+		Object _reference;
+	}
+
+	static class Subclass extends OneLong
+	{
+		int _extra;
+	}
+
+	@Test public void shouldEstimateObjectHeaderOnly() { assertThat(estimateInstanceBytes(Empty.class), is(16L)); }
+
+	@Test public void shouldAlignInstanceSize() { assertThat(estimateInstanceBytes(OneLong.class), is(24L)); }
+
+	@Test public void shouldCountEveryFieldTypeExceptStatic()
+	{
+		// 12 header + 8 + 8 + 4 + 4 + 2 + 2 + 1 + 1 + 4 reference = 46, aligned to 48
+		assertThat(estimateInstanceBytes(AllTypes.class), is(48L));
+	}
+
+	@Test public void shouldIncludeSuperclassFields()
+	{
+		assertThat(estimateInstanceBytes(Subclass.class), is(24L));
+	}
+}
@@ -0,0 +1,116 @@
+package org.udtopia.jmx;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.recycle.RecyclableLong;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.jmx.UDTopiaMBeans.*;
+
+public class UDTopiaMBeansTest
+{
+	@Min(0) static final @Value class Quota extends RecyclableLong<Quota>
+	{
+		private Quota(final long raw) { super(Quota::of, raw); }
+
+		static Quota of(final long raw) { return recycle(Quota.class, Quota::new, raw); }
+	}
+
+	private final MBeanServer _server = ManagementFactory.getPlatformMBeanServer();
+
+	@Before public void registerMBeans() { register(); }
+
+	@After public void unregisterMBeans() { unregister(); }
+
+	private Object _attribute(final String mbean, final String attribute) throws JMException
+	{
+		return _server.getAttribute(new ObjectName(mbean), attribute);
+	}
+
+	private CompositeData _row(final String mbean, final String attribute, final Class<?> type) throws JMException
+	{
+		return Stream.of((CompositeData[]) _attribute(mbean, attribute))
+			.filter(row -> row.get("className").equals(type.getName()))
+			.findFirst()
+			.orElseThrow(AssertionError::new);
+	}
+
+	@Test public void shouldRegisterAndUnregister() throws JMException
+	{
+		assertThat(_server.isRegistered(new ObjectName(RECYCLE_BINS)), is(true));
+		assertThat(_server.isRegistered(new ObjectName(RULES)), is(true));
+		unregister();
+		assertThat(_server.isRegistered(new ObjectName(RECYCLE_BINS)), is(false));
+		assertThat(_server.isRegistered(new ObjectName(RULES)), is(false));
+	}
+
+	@Test public void shouldAllowRepeatedRegistration() throws JMException
+	{
+		register();
+		assertThat(_server.isRegistered(new ObjectName(RECYCLE_BINS)), is(true));
+		unregister();
+		unregister();
+		assertThat(_server.isRegistered(new ObjectName(RECYCLE_BINS)), is(false));
+	}
+
+	@Test public void shouldExposeRecycleBinStats() throws JMException
+	{
+		_server.invoke(new ObjectName(RECYCLE_BINS), "resetStats", null, null);
+		// Once around the ring fills it with discarded instances, and the second time around they are recycled
+		for (int i = 0; i < 32; i++) { Quota.of(i).discard(); }
+
+		final CompositeData row = _row(RECYCLE_BINS, "RecycleBins", Quota.class);
+		final long hits = (Long) row.get("hits");
+		assertThat(row.get("size"), is(16));
+		assertThat(hits, is(greaterThanOrEqualTo(16L)));
+		assertThat(hits + (Long) row.get("misses"), is(32L));
+		assertThat(row.get("hitRate"), is(hits / 32.0));
+		assertThat(row.get("missRate"), is(1.0 - hits / 32.0));
+		assertThat(row.get("allocationsAvoided"), is(hits));
+		assertThat(row.get("estimatedBytesSaved"), is(hits * (Long) row.get("instanceBytes")));
+		assertThat(row.get("resetTime"), is(instanceOf(Date.class)));
+		assertThat((Long) _attribute(RECYCLE_BINS, "AllocationsAvoided"), is(greaterThanOrEqualTo(1L)));
+		assertThat((Long) _attribute(RECYCLE_BINS, "EstimatedBytesSaved"), is(greaterThan(0L)));
+	}
+
+	@Test public void shouldResetRecycleBinStats() throws JMException
+	{
+		Quota.of(3);
+		_server.invoke(new ObjectName(RECYCLE_BINS), "resetStats", null, null);
+
+		final CompositeData row = _row(RECYCLE_BINS, "RecycleBins", Quota.class);
+		assertThat(row.get("hits"), is(0L));
+		assertThat(row.get("misses"), is(0L));
+		assertThat(row.get("missRate"), is(0.0));
+	}
+
+	@Test public void shouldExposeRulesAndValidationFailures() throws JMException
+	{
+		final long failuresBefore = (Long) _attribute(RULES, "ValidationFailures");
+		try
+		{
+			Quota.of(-1);
+			throw new AssertionError();
+		}
+		catch (final ValidationException expected) { }
+
+		final CompositeData row = _row(RULES, "Rules", Quota.class);
+		assertThat(row.get("ruleType"), is("LongRule"));
+		assertThat(row.get("depth"), is(1));
+		assertThat(row.get("rules"), is("@Min(0.0)"));
+		assertThat((Long) row.get("validationFailures"), is(greaterThanOrEqualTo(1L)));
+		assertThat(_attribute(RULES, "ValidationFailures"), is(failuresBefore + 1L));
+	}
+}
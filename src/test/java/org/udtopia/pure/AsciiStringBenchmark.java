@@ -0,0 +1,78 @@
+package org.udtopia.pure;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+import org.udtopia.rules.Chars;
+
+import static org.udtopia.rules.Chars.*;
+
+/**
+ * Compare sorting and looking up {@value #_SYMBOLS} symbols of up to 8 characters, as {@link PureString} and as
+ * {@link PureAsciiString}.
+ * The lookups use other instances than the keys of the map, so that they compare raw values.
+ */
+public class AsciiStringBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _SYMBOLS = 10_000;
+
+	@Chars(LETTERS + NUMERALS)
+	static final @Value class Symbol extends PureString<Symbol>
+	{
+		Symbol(final String rawValue) { super(Symbol::new, rawValue); }
+	}
+
+	@Chars(LETTERS + NUMERALS)
+	static final @Value class AsciiSymbol extends PureAsciiString<AsciiSymbol>
+	{
+		AsciiSymbol(final String rawValue) { super(AsciiSymbol::new, rawValue); }
+	}
+
+	private Symbol[] _symbols;
+	private Symbol[] _symbolLookups;
+	private AsciiSymbol[] _asciiSymbols;
+	private AsciiSymbol[] _asciiLookups;
+	private final Map<Symbol, Integer> _symbolMap = new HashMap<>();
+	private final Map<AsciiSymbol, Integer> _asciiMap = new HashMap<>();
+
+	@Setup public void generateSymbols()
+	{
+		// Symbols that share prefixes, as in option and futures symbols
+		final String[] raw = RAND.ints(_SYMBOLS, 0, 36 * 36 * 36 * 36)
+			.mapToObj(n -> "XYZ" + Integer.toString(n + 36 * 36 * 36, 36).toUpperCase())
+			.toArray(String[]::new);
+		_symbols = Arrays.stream(raw).map(Symbol::new).toArray(Symbol[]::new);
+		_symbolLookups = Arrays.stream(raw).map(s -> new Symbol(new String(s))).toArray(Symbol[]::new);
+		_asciiSymbols = Arrays.stream(raw).map(AsciiSymbol::new).toArray(AsciiSymbol[]::new);
+		_asciiLookups = Arrays.stream(raw).map(AsciiSymbol::new).toArray(AsciiSymbol[]::new);
+		for (int i = 0; i < _SYMBOLS; i++)
+		{
+			_symbolMap.put(_symbols[i], i);
+			_asciiMap.put(_asciiSymbols[i], i);
+		}
+	}
+
+	@Benchmark public Symbol[] sortStrings()
+	{
+		final Symbol[] sorted = _symbols.clone();
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	@Benchmark public AsciiSymbol[] sortAscii()
+	{
+		final AsciiSymbol[] sorted = _asciiSymbols.clone();
+		Arrays.sort(sorted);
+		return sorted;
+	}
+
+	@Benchmark public Integer lookupString() { return _symbolMap.get(_symbolLookups[RAND.nextInt(_SYMBOLS)]); }
+
+	@Benchmark public Integer lookupAscii() { return _asciiMap.get(_asciiLookups[RAND.nextInt(_SYMBOLS)]); }
+}
@@ -0,0 +1,48 @@
+package org.udtopia.pure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+import org.udtopia.rules.Min;
+
+/**
+ * Compare counting up with {@code increment()}, with and without {@link CacheRange}.
+ * The GC profiler shows the difference in allocation rate.
+ */
+public class CacheRangeBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _COUNT = 1000;
+
+	@Min(0)
+	static final @Value class DayCount extends PureInt<DayCount>
+	{
+		DayCount(final int rawValue) { super(DayCount::new, rawValue); }
+	}
+
+	@CacheRange(min = -128, max = 1023) @Min(0)
+	static final @Value class CachedDayCount extends PureInt<CachedDayCount>
+	{
+		private CachedDayCount(final int rawValue) { super(CachedDayCount::of, rawValue); }
+
+		static CachedDayCount of(final int rawValue)
+		{
+			return valueOf(CachedDayCount.class, CachedDayCount::new, rawValue);
+		}
+	}
+
+	@Benchmark public DayCount countDays()
+	{
+		DayCount days = new DayCount(0);
+		for (int i = 0; i < _COUNT; i++) { days = days.increment(); }
+		return days;
+	}
+
+	@Benchmark public CachedDayCount countCachedDays()
+	{
+		CachedDayCount days = CachedDayCount.of(0);
+		for (int i = 0; i < _COUNT; i++) { days = days.increment(); }
+		return days;
+	}
+}
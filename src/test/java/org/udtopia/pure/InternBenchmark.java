@@ -0,0 +1,83 @@
+package org.udtopia.pure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+import org.udtopia.rules.Chars;
+import org.udtopia.rules.Max;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.Trim;
+import org.udtopia.rules.UpperCase;
+
+/**
+ * Compare constructing values from a vocabulary of {@value #_VOCABULARY_SIZE} raw values, with and without
+ * {@link Interned}. The GC profiler shows the difference in allocation rate.
+ */
+public class InternBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _VOCABULARY_SIZE = 20_000;
+
+	@Trim @UpperCase @Chars("ABCDEFGHIJKLMNOPQRSTUVWXYZ.") @Max(8)
+	static final @Value class Symbol extends PureString<Symbol>
+	{
+		Symbol(final String rawValue) { super(Symbol::new, rawValue); }
+	}
+
+	@Interned(maxSize = 32_768) @Trim @UpperCase @Chars("ABCDEFGHIJKLMNOPQRSTUVWXYZ.") @Max(8)
+	static final @Value class InternedSymbol extends PureString<InternedSymbol>
+	{
+		private InternedSymbol(final String rawValue) { super(InternedSymbol::of, rawValue); }
+
+		static InternedSymbol of(final String rawValue)
+		{
+			return intern(InternedSymbol.class, InternedSymbol::new, rawValue);
+		}
+	}
+
+	@Min(1)
+	static final @Value class AccountId extends PureLong<AccountId>
+	{
+		AccountId(final long rawValue) { super(AccountId::new, rawValue); }
+	}
+
+	@Interned(maxSize = 32_768) @Min(1)
+	static final @Value class InternedAccountId extends PureLong<InternedAccountId>
+	{
+		private InternedAccountId(final long rawValue) { super(InternedAccountId::of, rawValue); }
+
+		static InternedAccountId of(final long rawValue)
+		{
+			return intern(InternedAccountId.class, InternedAccountId::new, rawValue);
+		}
+	}
+
+	private String[] _symbols;
+
+	@Setup public void generateVocabulary()
+	{
+		// Four-letter symbols, with their letters as the digits of a base 26 number
+		_symbols = RAND.ints(_VOCABULARY_SIZE, 0, 26 * 26 * 26 * 26)
+			.mapToObj(n -> Integer.toString(n + 26 * 26 * 26, 26).chars()
+				.map(digit -> 'A' + Character.digit(digit, 26))
+				.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+				.toString())
+			.toArray(String[]::new);
+	}
+
+	@Benchmark public Symbol newSymbol() { return new Symbol(_symbols[RAND.nextInt(_VOCABULARY_SIZE)]); }
+
+	@Benchmark public InternedSymbol internedSymbol()
+	{
+		return InternedSymbol.of(_symbols[RAND.nextInt(_VOCABULARY_SIZE)]);
+	}
+
+	@Benchmark public AccountId newAccountId() { return new AccountId(RAND.nextInt(_VOCABULARY_SIZE) + 1L); }
+
+	@Benchmark public InternedAccountId internedAccountId()
+	{
+		return InternedAccountId.of(RAND.nextInt(_VOCABULARY_SIZE) + 1L);
+	}
+}
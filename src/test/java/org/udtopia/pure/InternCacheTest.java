@@ -0,0 +1,101 @@
+package org.udtopia.pure;
+
+import org.junit.Test;
+import org.udtopia.Value;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.pure.InternCache.*;
+
+public class InternCacheTest
+{
+	static final @Value class Id extends PureLong<Id>
+	{
+		Id(final long rawValue) { super(Id::new, rawValue); }
+	}
+
+	static final @Value class Code extends PureString<Code>
+	{
+		Code(final String rawValue) { super(Code::new, rawValue); }
+	}
+
+	@Interned(maxSize = 100)
+	static final class Annotated { }
+
+	// A cache of a single set, so that every value competes for the same slots
+	private final InternCache<Id> _oneSet = new InternCache<>(WAYS);
+
+	@Test public void shouldRoundUpCapacity()
+	{
+		assertThat(new InternCache<>(1).capacity(), is(WAYS));
+		assertThat(new InternCache<>(WAYS + 1).capacity(), is(WAYS * 2));
+		assertThat(new InternCache<>(1024).capacity(), is(1024));
+		assertThat(forClass(Annotated.class).capacity(), is(128));
+		assertThat(forClass(Annotated.class).isEnabled(), is(true));
+	}
+
+	@Test public void shouldBeDisabledUnlessAnnotated()
+	{
+		assertThat(forClass(Id.class).isEnabled(), is(false));
+		assertThat(new InternCache<>(0).isEnabled(), is(false));
+		assertThat(new InternCache<>(-1).isEnabled(), is(false));
+	}
+
+	@Test public void shouldFindInternedLongs()
+	{
+		final InternCache<Id> cache = new InternCache<>(64);
+		assertThat(cache.find(1L), is(nullValue()));
+		final Id id = new Id(1L);
+		assertThat(cache.intern(id, 1L), is(sameInstance(id)));
+		assertThat(cache.find(1L), is(sameInstance(id)));
+		assertThat(cache.find(1L), is(sameInstance(id)));
+		assertThat(cache.intern(new Id(1L), 1L), is(sameInstance(id)));
+
+		// Same hash, different value
+		assertThat(cache.find(1L << 32), is(nullValue()));
+		assertThat(cache.find(0L), is(nullValue()));
+	}
+
+	@Test public void shouldFindInternedStrings()
+	{
+		final InternCache<Code> cache = new InternCache<>(64);
+		assertThat(cache.find("a"), is(nullValue()));
+		final Code code = new Code("a");
+		assertThat(cache.intern(code, "a"), is(sameInstance(code)));
+		assertThat(cache.find("a"), is(sameInstance(code)));
+		assertThat(cache.intern(new Code("a"), "a"), is(sameInstance(code)));
+	}
+
+	private void _fillSet()
+	{
+		for (long i = 0L; i < WAYS; i++) { _oneSet.intern(new Id(i), i); }
+	}
+
+	@Test public void shouldEvictUnreferencedValue()
+	{
+		_fillSet();
+		_oneSet.intern(new Id(WAYS), WAYS);
+		assertThat(_oneSet.find(0L), is(nullValue()));
+		for (long i = 1L; i <= WAYS; i++) { assertThat(_oneSet.find(i), is(notNullValue())); }
+	}
+
+	@Test public void shouldGiveReferencedValuesSecondChance()
+	{
+		_fillSet();
+		_oneSet.find(0L);
+		_oneSet.find(1L);
+		_oneSet.intern(new Id(WAYS), WAYS);
+		assertThat(_oneSet.find(0L), is(notNullValue()));
+		assertThat(_oneSet.find(1L), is(notNullValue()));
+		assertThat(_oneSet.find(2L), is(nullValue()));
+	}
+
+	@Test public void shouldEvictUnderHandWhenAllReferenced()
+	{
+		_fillSet();
+		for (long i = 0L; i < WAYS; i++) { _oneSet.find(i); }
+		_oneSet.intern(new Id(WAYS), WAYS);
+		assertThat(_oneSet.find(0L), is(nullValue()));
+		assertThat(_oneSet.find(WAYS), is(notNullValue()));
+	}
+}
@@ -0,0 +1,132 @@
+package org.udtopia.pure;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.rules.Chars;
+import org.udtopia.rules.Trim;
+import org.udtopia.rules.UpperCase;
+import org.udtopia.rules.ValidationException;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.rules.Chars.*;
+
+public class PureAsciiStringTest
+{
+	private static final String[] _VALUES = {
+		"", "\0", "\0\0", "A", "A\0", "AB", "ABC", "Z", "a", "~", "\u007F",
+		"ABCDEFG", "ABCDEFGH", "ABCDEFGHI", "ABCDEFGH\0", "ABCDEFGHIJKLMNOP", "ABCDEFGHIJKLMNO\0", "ABCDEFGHIJKLMNOPQ",
+		"ABCDEFGHIJKLMNOP\0", "ABCDEFGHIJKLMNOPQR", "ABCDEFGHIJKLMNOPQS", "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789"};
+
+	static final @Value class Code extends PureAsciiString<Code>
+	{
+		Code(final String rawValue) { super(Code::new, rawValue); }
+	}
+
+	static final @Value class Code2 extends PureAsciiString<Code2>
+	{
+		Code2(final String rawValue) { super(Code2::new, rawValue); }
+	}
+
+	@Trim @UpperCase @Chars(LETTERS + NUMERALS)
+	static final @Value class Symbol extends PureAsciiString<Symbol>
+	{
+		Symbol(final String rawValue) { super(Symbol::new, rawValue); }
+	}
+
+	@Test public void shouldReturnRawValue()
+	{
+		for (final String s: _VALUES)
+		{
+			final Code code = new Code(s);
+			assertThat(code.get(), is(s));
+			assertThat(code.toString(), is(s));
+			assertThat(code.length(), is(s.length()));
+			assertThat(code.isEmpty(), is(s.isEmpty()));
+			for (int i = 0; i < s.length(); i++) { assertThat(code.charAt(i), is(s.charAt(i))); }
+		}
+	}
+
+	@Test public void shouldCompareLikeStrings()
+	{
+		for (final String s: _VALUES)
+		{
+			for (final String t: _VALUES)
+			{
+				final int expected = Integer.signum(s.compareTo(t));
+				assertThat(s + " <=> " + t, Integer.signum(new Code(s).compareTo(new Code(t))), is(expected));
+				assertThat(s + " <=> " + t, Integer.signum(new Code(s).compareTo(t)), is(expected));
+				assertThat(s + " == " + t, new Code(s).eq(new Code(t)), is(s.equals(t)));
+				assertThat(s + " == " + t, new Code(s).equals(new Code(t)), is(s.equals(t)));
+			}
+		}
+	}
+
+	@Test public void shouldHashEqualValuesEqually()
+	{
+		final Set<Integer> hashes = new HashSet<>();
+		for (final String s: _VALUES)
+		{
+			assertThat(new Code(s).hashCode(), is(new Code(s).hashCode()));
+			hashes.add(new Code(s).hashCode());
+		}
+		assertThat(hashes, hasSize(_VALUES.length));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	@Test public void shouldBeUnequalToNullAndDifferentClass()
+	{
+		assertThat(new Code("a").equals(null), is(false));
+		assertThat(new Code("a").equals(new Code2("a")), is(false));
+		assertThat(new Code("a").equals("a"), is(false));
+	}
+
+	@Test public void shouldApplyRules()
+	{
+		assertThat(new Symbol("  ibm ").get(), is("IBM"));
+
+		String errMsg = null;
+		try { new Symbol("BRK.B"); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is(notNullValue()));
+	}
+
+	@Test public void shouldRejectNonAscii()
+	{
+		String errMsg = null;
+		try { new Code("café"); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Code: Non-ASCII character at index 3: é"));
+
+		errMsg = null;
+		try { new Code("ABCDEFGHIJKLMNOPQRS€"); }
+		catch (final ValidationException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Code: Non-ASCII character at index 19: €"));
+	}
+
+	@Test(expected = AssertionError.class) public void shouldTrapNullRawValue()
+	{
+		new Code(null);
+	}
+
+	@Test(expected = StringIndexOutOfBoundsException.class) public void shouldTrapIndexOutOfBounds()
+	{
+		new Code("ABCDEFGH").charAt(8);
+	}
+
+	@Test public void shouldMapValues()
+	{
+		final Code code = new Code("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+		assertThat(code.subSequence(2, 18), is(new Code("CDEFGHIJKLMNOPQR")));
+		assertThat(code.map(String::toUpperCase), is(sameInstance(code)));
+		assertThat(code.map(String::toLowerCase).get(), is("abcdefghijklmnopqrstuvwxyz"));
+		assertThat(code.map(raw -> raw.substring(25), Code2::new), is(new Code2("Z")));
+		assertThat(code.getAs(String::length), is(26));
+		assertThat(code.is(raw -> raw.startsWith("ABC")), is(true));
+		assertThat(code.isNot(raw -> raw.startsWith("ABC")), is(false));
+		assertThat(new Code("A").max(new Code("B")), is(new Code("B")));
+		assertThat(new Code("A").isLessThan(new Code("AA")), is(true));
+	}
+}
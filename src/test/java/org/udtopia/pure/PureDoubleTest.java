@@ -1,5 +1,7 @@
 package org.udtopia.pure;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import org.junit.Test;
@@ -20,6 +22,21 @@ public class PureDoubleTest
 		Height(final double rawValue) { super(Height::new, rawValue); }
 
 		static Height parse(final String str) { return parse(Height::new, str); }
+
+		static Height parse(final CharSequence chars, final int start, final int end)
+		{
+			return parse(Height::new, chars, start, end);
+		}
+
+		static Height parse(final char[] chars, final int start, final int end)
+		{
+			return parse(Height::new, chars, start, end);
+		}
+
+		static Height parse(final ByteBuffer bytes, final int start, final int end)
+		{
+			return parse(Height::new, bytes, start, end);
+		}
 	}
 
 	@Test public void shouldReturnRawValue()
@@ -800,4 +817,14 @@ public class PureDoubleTest
 		final Height y = new Height(12.0001);
 		assertThat(y.roundUp(), is(new Height(13.0)));
 	}
+
+	@Test public void shouldParseRanges()
+	{
+		final String field = "44=1.75\u0001";
+		final ByteBuffer bytes = ByteBuffer.wrap(field.getBytes(StandardCharsets.US_ASCII));
+		final int end = field.length() - 1;
+		assertThat(Height.parse(field, 3, end), is(new Height(1.75)));
+		assertThat(Height.parse(field.toCharArray(), 3, end), is(new Height(1.75)));
+		assertThat(Height.parse(bytes, 3, end), is(new Height(1.75)));
+	}
 }
@@ -1,9 +1,13 @@
 package org.udtopia.pure;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import org.junit.Test;
 import org.udtopia.UDTInt;
 import org.udtopia.Value;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.ValidationException;
 
 import static java.lang.Integer.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -18,6 +22,31 @@ public class PureIntTest
 		Count(final int rawValue) { super(Count::new, rawValue); }
 
 		static Count parse(final String str) { return parse(Count::new, str); }
+
+		static Count parse(final CharSequence chars, final int start, final int end)
+		{
+			return parse(Count::new, chars, start, end);
+		}
+
+		static Count parse(final char[] chars, final int start, final int end)
+		{
+			return parse(Count::new, chars, start, end);
+		}
+
+		static Count parse(final ByteBuffer bytes, final int start, final int end)
+		{
+			return parse(Count::new, bytes, start, end);
+		}
+
+		static Count of(final int rawValue) { return valueOf(Count.class, Count::new, rawValue); }
+	}
+
+	@CacheRange(min = -10, max = 100) @Min(0)
+	static final @Value class DayCount extends PureInt<DayCount>
+	{
+		private DayCount(final int rawValue) { super(DayCount::of, rawValue); }
+
+		static DayCount of(final int rawValue) { return valueOf(DayCount.class, DayCount::new, rawValue); }
 	}
 
 	@Test public void shouldReturnIntegerLimits()
@@ -688,4 +717,41 @@ public class PureIntTest
 	{
 		new Count(MIN_VALUE).decrement();
 	}
+
+	@Test public void shouldReturnCachedInstanceInRange()
+	{
+		assertThat(DayCount.of(0), is(sameInstance(DayCount.of(0))));
+		assertThat(DayCount.of(100), is(sameInstance(DayCount.of(100))));
+		assertThat(DayCount.of(101), is(not(sameInstance(DayCount.of(101)))));
+		assertThat(DayCount.of(101), is(DayCount.of(101)));
+	}
+
+	@Test public void shouldReturnCachedInstanceFromArithmetic()
+	{
+		final DayCount days = DayCount.of(5);
+		assertThat(days.increment(), is(sameInstance(DayCount.of(6))));
+		assertThat(days.add(3).subtract(2), is(sameInstance(DayCount.of(6))));
+		assertThat(days.multiplyBy(20), is(sameInstance(DayCount.of(100))));
+	}
+
+	@Test(expected = ValidationException.class) public void shouldApplyRulesToValuesNotCached()
+	{
+		DayCount.of(-1);
+	}
+
+	@Test public void shouldNotCacheUnlessAnnotated()
+	{
+		assertThat(Count.of(5), is(not(sameInstance(Count.of(5)))));
+		assertThat(Count.of(5), is(Count.of(5)));
+	}
+
+	@Test public void shouldParseRanges()
+	{
+		final String field = "44=12345\u0001";
+		final ByteBuffer bytes = ByteBuffer.wrap(field.getBytes(StandardCharsets.US_ASCII));
+		final int end = field.length() - 1;
+		assertThat(Count.parse(field, 3, end), is(new Count(12345)));
+		assertThat(Count.parse(field.toCharArray(), 3, end), is(new Count(12345)));
+		assertThat(Count.parse(bytes, 3, end), is(new Count(12345)));
+	}
 }
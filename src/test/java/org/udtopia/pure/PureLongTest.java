@@ -1,8 +1,13 @@
 package org.udtopia.pure;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import org.junit.Test;
 import org.udtopia.Value;
+import org.udtopia.rules.Floor;
+import org.udtopia.rules.Max;
+import org.udtopia.rules.ValidationException;
 
 import static java.lang.Long.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -17,6 +22,56 @@ public class PureLongTest
 		Count(final long rawValue) { super(Count::new, rawValue); }
 
 		static Count parse(final String str) { return parse(Count::new, str); }
+
+		static Count parse(final CharSequence chars, final int start, final int end)
+		{
+			return parse(Count::new, chars, start, end);
+		}
+
+		static Count parse(final char[] chars, final int start, final int end)
+		{
+			return parse(Count::new, chars, start, end);
+		}
+
+		static Count parse(final ByteBuffer bytes, final int start, final int end)
+		{
+			return parse(Count::new, bytes, start, end);
+		}
+
+		static Count of(final long rawValue) { return intern(Count.class, Count::new, rawValue); }
+
+		static Count valueOf(final long rawValue) { return valueOf(Count.class, Count::new, rawValue); }
+	}
+
+	@CacheRange(max = 1023) @Floor(0)
+	static final @Value class RetryCount extends PureLong<RetryCount>
+	{
+		private RetryCount(final long rawValue) { super(RetryCount::of, rawValue); }
+
+		static RetryCount of(final long rawValue) { return valueOf(RetryCount.class, RetryCount::new, rawValue); }
+	}
+
+	@Interned @Floor(0) @Max(1000)
+	static final @Value class AccountId extends PureLong<AccountId>
+	{
+		private AccountId(final long rawValue) { super(AccountId::of, rawValue); }
+
+		static AccountId of(final long rawValue) { return intern(AccountId.class, AccountId::new, rawValue); }
+	}
+
+	@Interned @Floor(0)
+	static final @Value class Balance extends PureLong<Balance>
+	{
+		// The number of instances constructed, each of which applies the rules
+		static int built;
+
+		private Balance(final long rawValue)
+		{
+			super(Balance::of, rawValue);
+			built++;
+		}
+
+		static Balance of(final long rawValue) { return intern(Balance.class, Balance::new, rawValue); }
 	}
 
 	@Test public void shouldReturnRawValue()
@@ -711,4 +766,73 @@ public class PureLongTest
 	{
 		new Count(MIN_VALUE).decrement();
 	}
+
+	@Test public void shouldReturnCanonicalInstanceWhenInterned()
+	{
+		final AccountId id = AccountId.of(123L);
+		assertThat(AccountId.of(123L), is(sameInstance(id)));
+		assertThat(id.add(1L).subtract(1L), is(sameInstance(id)));
+		assertThat(AccountId.of(124L), is(not(sameInstance(id))));
+	}
+
+	@Test public void shouldInternNormalizedValue()
+	{
+		final AccountId zero = AccountId.of(0L);
+		assertThat(AccountId.of(-5L), is(sameInstance(zero)));
+	}
+
+	@Test public void shouldApplyRulesOnlyOnceForEachRawValue()
+	{
+		final int before = Balance.built;
+		final Balance balance = Balance.of(-7L);
+		assertThat(Balance.of(-7L), is(sameInstance(balance)));
+		assertThat(balance.getAsLong(), is(0L));
+		assertThat(Balance.built - before, is(1));
+	}
+
+	@Test(expected = ValidationException.class) public void shouldApplyRulesWhenNotInterned()
+	{
+		AccountId.of(1001L);
+	}
+
+	@Test public void shouldNotInternUnlessAnnotated()
+	{
+		assertThat(Count.of(5L), is(not(sameInstance(Count.of(5L)))));
+		assertThat(Count.of(5L), is(Count.of(5L)));
+	}
+
+	@Test public void shouldReturnCachedInstanceInRange()
+	{
+		assertThat(RetryCount.of(0L), is(sameInstance(RetryCount.of(0L))));
+		assertThat(RetryCount.of(1023L), is(sameInstance(RetryCount.of(1023L))));
+		assertThat(RetryCount.of(1024L), is(not(sameInstance(RetryCount.of(1024L)))));
+		assertThat(RetryCount.of(MIN_VALUE).getAsLong(), is(0L));
+		assertThat(RetryCount.of(-129L).getAsLong(), is(0L));
+	}
+
+	@Test public void shouldCacheNormalizedValue()
+	{
+		assertThat(RetryCount.of(-5L).getAsLong(), is(0L));
+		assertThat(RetryCount.of(-5L), is(sameInstance(RetryCount.of(-5L))));
+	}
+
+	@Test public void shouldReturnCachedInstanceFromArithmetic()
+	{
+		assertThat(RetryCount.of(2L).increment(), is(sameInstance(RetryCount.of(3L))));
+	}
+
+	@Test public void shouldNotCacheUnlessAnnotated()
+	{
+		assertThat(Count.valueOf(5L), is(not(sameInstance(Count.valueOf(5L)))));
+	}
+
+	@Test public void shouldParseRanges()
+	{
+		final String field = "44=123456789012\u0001";
+		final ByteBuffer bytes = ByteBuffer.wrap(field.getBytes(StandardCharsets.US_ASCII));
+		final int end = field.length() - 1;
+		assertThat(Count.parse(field, 3, end), is(new Count(123456789012L)));
+		assertThat(Count.parse(field.toCharArray(), 3, end), is(new Count(123456789012L)));
+		assertThat(Count.parse(bytes, 3, end), is(new Count(123456789012L)));
+	}
 }
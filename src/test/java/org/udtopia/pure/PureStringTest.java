@@ -4,6 +4,8 @@ import java.util.Iterator;
 import java.util.stream.BaseStream;
 import org.junit.Test;
 import org.udtopia.Value;
+import org.udtopia.rules.Replace;
+import org.udtopia.rules.Trim;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -13,6 +15,40 @@ public class PureStringTest
 	static final @Value class UserId extends PureString<UserId>
 	{
 		UserId(final String rawValue) { super(UserId::new, rawValue); }
+
+		static UserId of(final String rawValue) { return intern(UserId.class, UserId::new, rawValue); }
+	}
+
+	@Interned(maxSize = 32) @Trim
+	static final @Value class Symbol extends PureString<Symbol>
+	{
+		private Symbol(final String rawValue) { super(Symbol::of, rawValue); }
+
+		static Symbol of(final String rawValue) { return intern(Symbol.class, Symbol::new, rawValue); }
+	}
+
+	@Interned(maxSize = 32) @Trim
+	static final @Value class Ticker extends PureString<Ticker>
+	{
+		// The number of instances constructed, each of which applies the rules
+		static int built;
+
+		private Ticker(final String rawValue)
+		{
+			super(Ticker::of, rawValue);
+			built++;
+		}
+
+		static Ticker of(final String rawValue) { return intern(Ticker.class, Ticker::new, rawValue); }
+	}
+
+	// Not idempotent: each application doubles every x
+	@Interned(maxSize = 32) @Replace(pattern = "x", with = "xx")
+	static final @Value class Doubled extends PureString<Doubled>
+	{
+		private Doubled(final String rawValue) { super(Doubled::of, rawValue); }
+
+		static Doubled of(final String rawValue) { return intern(Doubled.class, Doubled::new, rawValue); }
 	}
 
 	@Test(expected = AssertionError.class) public void shouldTrapNullUnderlyingValue()
@@ -324,4 +360,39 @@ public class PureStringTest
 		assertThat(x.isNot(String::isEmpty), is(true));
 		assertThat(y.isNot(String::isEmpty), is(false));
 	}
+
+	@Test public void shouldReturnCanonicalInstanceWhenInterned()
+	{
+		final Symbol symbol = Symbol.of("AAPL");
+		assertThat(Symbol.of("AAPL"), is(sameInstance(symbol)));
+		assertThat(symbol.map(String::toLowerCase).map(String::toUpperCase), is(sameInstance(symbol)));
+		assertThat(Symbol.of("MSFT"), is(not(sameInstance(symbol))));
+	}
+
+	@Test public void shouldInternNormalizedValue()
+	{
+		final Symbol ibm = Symbol.of("IBM");
+		assertThat(Symbol.of(" IBM "), is(sameInstance(ibm)));
+	}
+
+	@Test public void shouldApplyRulesOnlyOnceForEachRawValue()
+	{
+		final int before = Ticker.built;
+		final Ticker ticker = Ticker.of(" GOOG ");
+		assertThat(Ticker.of(" GOOG "), is(sameInstance(ticker)));
+		assertThat(Ticker.built - before, is(1));
+	}
+
+	@Test public void shouldKeyCacheByRawValueBeforeRules()
+	{
+		assertThat(Doubled.of("x").get(), is("xx"));
+		assertThat(Doubled.of("xx").get(), is("xxxx"));
+		assertThat(Doubled.of("x").get(), is("xx"));
+	}
+
+	@Test public void shouldNotInternUnlessAnnotated()
+	{
+		assertThat(UserId.of("a"), is(not(sameInstance(UserId.of("a")))));
+		assertThat(UserId.of("a"), is(UserId.of("a")));
+	}
 }
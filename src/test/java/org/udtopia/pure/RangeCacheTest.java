@@ -0,0 +1,84 @@
+package org.udtopia.pure;
+
+import org.junit.Test;
+import org.udtopia.Value;
+import org.udtopia.rules.Max;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class RangeCacheTest
+{
+	@CacheRange(min = 1, max = 4) @Max(3)
+	static final @Value class Level extends PureInt<Level>
+	{
+		Level(final int rawValue) { super(Level::new, rawValue); }
+	}
+
+	@CacheRange(min = 1, max = 0)
+	static final class Reversed { }
+
+	@CacheRange(min = Integer.MIN_VALUE, max = Integer.MAX_VALUE)
+	static final class TooLarge { }
+
+	@CacheRange(min = 1, max = CacheRange.MAX_SIZE)
+	static final class Largest { }
+
+	@Test public void shouldHaveEmptyRangeUnlessAnnotated()
+	{
+		assertThat(RangeCache.forClass(String.class).size(), is(0));
+		assertThat(RangeCache.forClass(String.class).getInt(0, (final int n) -> ""), is(nullValue()));
+		assertThat(RangeCache.forClass(String.class).getLong(0L, (final long n) -> ""), is(nullValue()));
+	}
+
+	@Test public void shouldDefaultToSignedByte()
+	{
+		@CacheRange final class Default { }
+		final RangeCache<Default> cache = RangeCache.forClass(Default.class);
+		assertThat(cache.size(), is(256));
+		assertThat(cache.getInt(-128, (final int n) -> new Default()), is(notNullValue()));
+		assertThat(cache.getInt(127, (final int n) -> new Default()), is(notNullValue()));
+		assertThat(cache.getInt(-129, (final int n) -> new Default()), is(nullValue()));
+		assertThat(cache.getInt(128, (final int n) -> new Default()), is(nullValue()));
+	}
+
+	@Test public void shouldBuildEachInstanceOnce()
+	{
+		final RangeCache<Level> cache = new RangeCache<>(Level.class, 1, 4);
+		final int[] built = new int[1];
+		final Level level = cache.getInt(2, (final int n) -> { built[0]++; return new Level(n); });
+		assertThat(built[0], is(3));
+		assertThat(level.getAsInt(), is(2));
+		assertThat(cache.getInt(2, (final int n) -> { built[0]++; return new Level(n); }), is(sameInstance(level)));
+		assertThat(built[0], is(3));
+	}
+
+	@Test public void shouldSkipValuesRejectedByRules()
+	{
+		final RangeCache<Level> cache = new RangeCache<>(Level.class, 1, 4);
+		assertThat(cache.getInt(4, Level::new), is(nullValue()));
+		assertThat(cache.getInt(3, Level::new).getAsInt(), is(3));
+
+		final RangeCache<Level> longCache = new RangeCache<>(Level.class, 1, 4);
+		assertThat(longCache.getLong(4L, (final long n) -> new Level((int) n)), is(nullValue()));
+		assertThat(longCache.getLong(3L, (final long n) -> new Level((int) n)).getAsInt(), is(3));
+	}
+
+	@Test public void shouldRejectReversedRange()
+	{
+		String errMsg = null;
+		try { RangeCache.forClass(Reversed.class); }
+		catch (final IllegalArgumentException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Reversed: minimum 1 exceeds maximum 0"));
+	}
+
+	@Test public void shouldRejectRangeTooLarge()
+	{
+		assertThat(RangeCache.forClass(Largest.class).size(), is(CacheRange.MAX_SIZE));
+
+		String errMsg = null;
+		try { RangeCache.forClass(TooLarge.class); }
+		catch (final IllegalArgumentException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("TooLarge: range -2147483648..2147483647 holds more than 1048576 values"));
+	}
+}
@@ -0,0 +1,87 @@
+package org.udtopia.pure;
+
+import java.util.stream.DoubleStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.UDTDoubleBuilder;
+import org.udtopia.Value;
+import org.udtopia.rules.Min;
+
+/**
+ * Compare computing the volume-weighted average price of {@value #_FILLS} fills with chained UDT arithmetic, with
+ * {@link UDTDoubleBuilder}s, and with raw {@code double}s.
+ */
+public class UDTBuilderBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _FILLS = 10_000;
+
+	@Min(0)
+	static final @Value class Price extends PureDouble<Price>
+	{
+		Price(final double raw) { super(Price::new, raw); }
+	}
+
+	@Min(0)
+	static final @Value class Quantity extends PureDouble<Quantity>
+	{
+		Quantity(final double raw) { super(Quantity::new, raw); }
+	}
+
+	@Min(0)
+	static final @Value class Notional extends PureDouble<Notional>
+	{
+		Notional(final double raw) { super(Notional::new, raw); }
+	}
+
+	private double[] _rawPrices;
+	private double[] _rawQuantities;
+	private Price[] _prices;
+	private Quantity[] _quantities;
+
+	@Setup public void generateFills()
+	{
+		_rawPrices = RAND.doubles(_FILLS, 99.0, 101.0).toArray();
+		_rawQuantities = RAND.ints(_FILLS, 1, 1000).asDoubleStream().toArray();
+		_prices = DoubleStream.of(_rawPrices).mapToObj(Price::new).toArray(Price[]::new);
+		_quantities = DoubleStream.of(_rawQuantities).mapToObj(Quantity::new).toArray(Quantity[]::new);
+	}
+
+	@Benchmark public double vwapRaw()
+	{
+		double notional = 0.0;
+		double volume = 0.0;
+		for (int i = 0; i < _FILLS; i++)
+		{
+			notional += _rawPrices[i] * _rawQuantities[i];
+			volume += _rawQuantities[i];
+		}
+		return notional / volume;
+	}
+
+	@Benchmark public Price vwapChained()
+	{
+		Notional notional = new Notional(0.0);
+		Quantity volume = new Quantity(0.0);
+		for (int i = 0; i < _FILLS; i++)
+		{
+			notional = notional.add(_prices[i].multiplyBy(_quantities[i], Notional::new));
+			volume = volume.add(_quantities[i]);
+		}
+		return notional.divideBy(volume, Price::new);
+	}
+
+	@Benchmark public Price vwapBuilder()
+	{
+		final UDTDoubleBuilder<Notional> notional = new UDTDoubleBuilder<>(Notional::new);
+		final UDTDoubleBuilder<Quantity> volume = new UDTDoubleBuilder<>(Quantity::new);
+		for (int i = 0; i < _FILLS; i++)
+		{
+			notional.add(_prices[i].getAsDouble() * _quantities[i].getAsDouble());
+			volume.add(_quantities[i]);
+		}
+		return notional.build().divideBy(volume.build(), Price::new);
+	}
+}
@@ -0,0 +1,89 @@
+package org.udtopia.recycle;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Mutable;
+
+/**
+ * Compare the hit rate of fixed-size and adaptive recycle bins, when the number of instances in use shifts between
+ * phases of light and heavy load.
+ * The {@code hits} and {@code misses} counters show how the adaptive bin converges on a high hit rate in each phase,
+ * where each fixed size suits only one of them.
+ */
+public class AdaptiveRecycleBinBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	static final @Mutable class Order implements Recyclable
+	{
+		private long _id;
+
+		Order(final long id) { _id = id; }
+
+		@Override public boolean isDiscarded() { return _id == Long.MIN_VALUE; }
+
+		@Override public void discard() { _id = Long.MIN_VALUE; }
+	}
+
+	// Instances in use during each phase, and the number of recycles before the next phase
+	private static final int _LIGHT_LOAD = 8;
+	private static final int _HEAVY_LOAD = 400;
+	private static final int _PHASE_LENGTH = 200_000;
+
+	@Param({"FIXED_16", "FIXED_512", "ADAPTIVE_16_1024"}) String binMode;
+
+	private RecycleBin<Order> _bin;
+	private final Queue<Order> _inUse = new ArrayDeque<>();
+	private long _recycles;
+
+	@Setup public void createBin()
+	{
+		switch (binMode)
+		{
+			case "FIXED_16": _bin = new RingBufferRecycleBin<>(new RingBufferSize(16)); break;
+			case "FIXED_512": _bin = new RingBufferRecycleBin<>(new RingBufferSize(512)); break;
+			default: _bin = new AdaptiveRecycleBin<>(new RingBufferSize(16), new RingBufferSize(1024)); break;
+		}
+	}
+
+	@State(Scope.Thread) @AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HitCounters
+	{
+		public long hits;
+		public long misses;
+
+		@Setup(Level.Iteration) public void clear()
+		{
+			hits = 0;
+			misses = 0;
+		}
+	}
+
+	@Benchmark public Order phaseShiftingDiscards(final HitCounters counters)
+	{
+		final long id = _recycles++;
+		final boolean heavy = id / _PHASE_LENGTH % 2 == 1;
+		final Order order = _bin.recycle(discarded ->
+		{
+			counters.hits++;
+			discarded._id = id;
+		}, () ->
+		{
+			counters.misses++;
+			return new Order(id);
+		});
+
+		// Discard the oldest instance in use, once the current load is reached
+		_inUse.add(order);
+		while (_inUse.size() > (heavy ? _HEAVY_LOAD : _LIGHT_LOAD)) { _inUse.remove().discard(); }
+		return order;
+	}
+}
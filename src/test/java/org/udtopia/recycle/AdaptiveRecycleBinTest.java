@@ -0,0 +1,159 @@
+package org.udtopia.recycle;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.udtopia.recycle.AdaptiveRecycleBin.*;
+
+public class AdaptiveRecycleBinTest
+{
+	static class Item implements Recyclable
+	{
+		private boolean _discarded;
+
+		@Override public boolean isDiscarded() { return _discarded; }
+
+		@Override public void discard() { _discarded = true; }
+	}
+
+	private static AdaptiveRecycleBin<Item> _bin(final int minSize, final int maxSize)
+	{
+		return new AdaptiveRecycleBin<>(new RingBufferSize(minSize), new RingBufferSize(maxSize));
+	}
+
+	private static Item _recycle(final RecycleBin<Item> bin)
+	{
+		return bin.recycle(item -> item._discarded = false, Item::new);
+	}
+
+	// Recycle without discarding, so every recycle misses
+	private static void _recycleWithoutDiscard(final RecycleBin<Item> bin, final int count)
+	{
+		for (int i = 0; i < count; i++) { _recycle(bin); }
+	}
+
+	// Recycle and immediately discard, so the bin only needs one instance
+	private static void _recycleAndDiscard(final RecycleBin<Item> bin, final int count)
+	{
+		for (int i = 0; i < count; i++) { _recycle(bin).discard(); }
+	}
+
+	@Test public void shouldStartAtMinimumSize() { assertThat(_bin(3, 16).size(), is(4)); }
+
+	@Test(expected = IllegalArgumentException.class) public void shouldRejectMinimumAboveMaximum() { _bin(16, 4); }
+
+	@Test public void shouldGrowWhenMissRateIsHigh()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(4, 16);
+		_recycleWithoutDiscard(bin, 4 * WINDOW_LAPS - 1);
+		assertThat(bin.size(), is(4));
+		_recycleWithoutDiscard(bin, 1);
+		assertThat(bin.size(), is(8));
+		_recycleWithoutDiscard(bin, 8 * WINDOW_LAPS);
+		assertThat(bin.size(), is(16));
+	}
+
+	@Test public void shouldNotGrowBeyondMaximumSize()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(4, 8);
+		_recycleWithoutDiscard(bin, 1000);
+		assertThat(bin.size(), is(8));
+	}
+
+	@Test public void shouldShrinkWhenMostInstancesAreDiscarded()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(4, 16);
+		_recycleWithoutDiscard(bin, 1000);
+		assertThat(bin.size(), is(16));
+		_recycleAndDiscard(bin, 1000);
+		assertThat(bin.size(), is(4));
+	}
+
+	@Test public void shouldNotShrinkWhileMostInstancesAreInUse()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(2, 8);
+		_recycleWithoutDiscard(bin, 1000);
+		assertThat(bin.size(), is(8));
+
+		// Keep 5 instances in use at all times, so a bin of 8 never misses but is never 3/4 discarded
+		final Queue<Item> inUse = new ArrayDeque<>();
+		for (int i = 0; i < 1000; i++)
+		{
+			inUse.add(_recycle(bin));
+			if (inUse.size() > 5) { inUse.remove().discard(); }
+		}
+		assertThat(bin.size(), is(8));
+	}
+
+	@Test public void shouldKeepInstancesWhenResizing()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(1, 2);
+		Item last = null;
+		for (int i = 0; i < WINDOW_LAPS; i++) { last = _recycle(bin); }
+		assertThat(bin.size(), is(2));
+		last.discard();
+		assertThat(_recycle(bin), is(sameInstance(last)));
+	}
+
+	@Test public void shouldPreferDiscardedInstancesWhenShrinking()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(2, 4);
+		_recycleWithoutDiscard(bin, 2 * WINDOW_LAPS);
+		assertThat(bin.size(), is(4));
+
+		// One window to replace the instances still in use, then one window with no misses
+		_recycleAndDiscard(bin, 4 * WINDOW_LAPS);
+		_recycleAndDiscard(bin, 4 * WINDOW_LAPS - 1);
+		assertThat(bin.size(), is(4));
+
+		// The last recycle of the window leaves one instance in use, which is dropped when shrinking
+		final Item inUse = _recycle(bin);
+		assertThat(bin.size(), is(2));
+		assertThat(bin.occupancy(), is(2));
+		assertThat(_recycle(bin), is(not(sameInstance(inUse))));
+	}
+
+	@Test public void shouldCollectStats()
+	{
+		final AdaptiveRecycleBin<Item> bin = _bin(2, 2);
+		_recycle(bin).discard();
+		_recycle(bin);
+		_recycle(bin);
+		final RecycleStats stats = bin.stats();
+		assertThat(stats.getHits(), is(1L));
+		assertThat(stats.getMisses(), is(2L));
+		assertThat(stats.getSize(), is(2));
+		assertThat(bin.toString(), startsWith("AdaptiveRecycleBin[2]: 1 / 3"));
+		bin.resetStats();
+		assertThat(bin.stats().getRecycles(), is(0L));
+	}
+
+	@Test public void shouldSelectAdaptiveBinForSingleProducer()
+	{
+		@AdaptiveBinSize(min = 2, max = 8) @SingleProducer class A extends Item { }
+		final RecycleBin<A> bin = RecycleBin.forClass(A.class);
+		assertThat(bin, is(instanceOf(AdaptiveRecycleBin.class)));
+		assertThat(((AdaptiveRecycleBin<A>) bin).size(), is(2));
+	}
+
+	@Test public void shouldSelectAdaptiveBinForEachThread()
+	{
+		@AdaptiveBinSize(min = 2) @RecycleBinSize(64) class A extends Item { }
+		final RecycleBin<A> bin = RecycleBin.forClass(A.class);
+		assertThat(bin, is(instanceOf(ThreadLocalRecycleBin.class)));
+		bin.recycle(item -> { }, A::new);
+		assertThat(bin.stats().getSize(), is(2));
+		assertThat(bin.toString(), startsWith("RecycleBin[2]"));
+	}
+
+	@Test public void shouldUseMaximumSizeForMultiProducer()
+	{
+		@AdaptiveBinSize(max = 32) @MultiProducer class A extends Item { }
+		final RecycleBin<A> bin = RecycleBin.forClass(A.class);
+		assertThat(bin, is(instanceOf(SharedRecycleBin.class)));
+		assertThat(bin.stats().getSize(), is(32));
+	}
+}
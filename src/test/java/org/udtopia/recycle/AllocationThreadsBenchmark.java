@@ -0,0 +1,71 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Mutable;
+
+/**
+ * Compare the {@link AllocationThreads} modes when instances are discarded on a different thread than the one that
+ * recycled them.
+ * Note: {@link AllocationThreads#SINGLE_THREADED} is not safe with more than one thread, and is included only as a
+ * baseline.
+ */
+public class AllocationThreadsBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	static final @Mutable class Price implements Recyclable
+	{
+		private long _raw;
+
+		Price(final long raw) { _raw = raw; }
+
+		@Override public boolean isDiscarded() { return _raw == Long.MIN_VALUE; }
+
+		@Override public void discard() { _raw = Long.MIN_VALUE; }
+	}
+
+	private static final int _IN_FLIGHT = 64;
+
+	@State(Scope.Benchmark)
+	public static class SharedBin
+	{
+		@Param({"SINGLE_THREADED", "THREAD_LOCAL", "SHARED"}) AllocationThreads allocationThreads;
+
+		RecycleBin<Price> bin;
+
+		// Instances handed between threads; each thread discards whatever another thread left in a random slot
+		AtomicReferenceArray<Price> inFlight;
+
+		@Setup public void createBin()
+		{
+			bin = allocationThreads.recycleBin(new RingBufferSize(RecycleBinSize.DEFAULT_SIZE));
+			inFlight = new AtomicReferenceArray<>(_IN_FLIGHT);
+		}
+
+		Price recycleAndHandOver()
+		{
+			final ThreadLocalRandom random = ThreadLocalRandom.current();
+			final long raw = random.nextLong(Long.MAX_VALUE);
+			final Price price = bin.recycle(discarded -> discarded._raw = raw, () -> new Price(raw));
+			final Price previous = inFlight.getAndSet(random.nextInt(_IN_FLIGHT), price);
+			if (previous != null) { previous.discard(); }
+			return price;
+		}
+	}
+
+	@Benchmark @Threads(1) public Price threads01(final SharedBin state) { return state.recycleAndHandOver(); }
+
+	@Benchmark @Threads(4) public Price threads04(final SharedBin state) { return state.recycleAndHandOver(); }
+
+	@Benchmark @Threads(16) public Price threads16(final SharedBin state) { return state.recycleAndHandOver(); }
+
+	@Benchmark @Threads(64) public Price threads64(final SharedBin state) { return state.recycleAndHandOver(); }
+}
@@ -49,4 +49,34 @@ public class AllocationThreadsTest
 		}
 		finally { thread.shutdown(); }
 	}
+
+	@Test public void sharedShouldUseOneInstancePoolAcrossThreads() throws Exception
+	{
+		final RecycleBin<A> bin = SHARED.recycleBin(_BIN_SIZE);
+		final ExecutorService thread = Executors.newSingleThreadExecutor();
+		try
+		{
+			final A a1 = bin.recycle(System.out::println, A::new);
+			assertThat(bin.recycle(System.out::println, A::new), is(sameInstance(a1)));
+
+			final A a2 = thread.submit(() -> bin.recycle(System.err::println, A::new)).get();
+			assertThat(a2, is(sameInstance(a1)));
+		}
+		finally { thread.shutdown(); }
+	}
+
+	@Test public void returnOnDiscardShouldRecycleInstancesReturnedFromOtherThreads() throws Exception
+	{
+		final RecycleBin<A> bin = RETURN_ON_DISCARD.recycleBin(_BIN_SIZE);
+		final ExecutorService thread = Executors.newSingleThreadExecutor();
+		try
+		{
+			final A a1 = bin.recycle(System.out::println, A::new);
+			assertThat(bin.recycle(System.out::println, A::new), is(not(sameInstance(a1))));
+
+			thread.submit(() -> bin.onDiscard(a1)).get();
+			assertThat(bin.recycle(System.out::println, A::new), is(sameInstance(a1)));
+		}
+		finally { thread.shutdown(); }
+	}
 }
@@ -0,0 +1,114 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+
+/**
+ * Compare the {@link AllocationThreads} modes in a two-thread pipeline, where one thread recycles instances and hands
+ * them to another, which keeps each one until a later instance replaces it in a random slot, and then discards it, so
+ * instances are discarded in a different order than they were recycled.
+ * The hit rate of each recycle bin is printed at the end of each trial.
+ */
+@State(Scope.Group)
+public class PipelineBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	// The size of the pipeline, the consumer's book, and the recycle bins
+	private static final int _IN_FLIGHT = 64;
+
+	@RecycleBinSize(_IN_FLIGHT)
+	static final @Value class ThreadLocalPrice extends RecyclableLong<ThreadLocalPrice>
+	{
+		private ThreadLocalPrice(final long raw) { super(ThreadLocalPrice::of, raw); }
+
+		static ThreadLocalPrice of(final long raw)
+		{
+			return recycle(ThreadLocalPrice.class, ThreadLocalPrice::new, raw);
+		}
+	}
+
+	@MultiProducer @RecycleBinSize(_IN_FLIGHT)
+	static final @Value class SharedPrice extends RecyclableLong<SharedPrice>
+	{
+		private SharedPrice(final long raw) { super(SharedPrice::of, raw); }
+
+		static SharedPrice of(final long raw) { return recycle(SharedPrice.class, SharedPrice::new, raw); }
+	}
+
+	@ReturnOnDiscard @RecycleBinSize(_IN_FLIGHT)
+	static final @Value class ReturnedPrice extends RecyclableLong<ReturnedPrice>
+	{
+		private ReturnedPrice(final long raw) { super(ReturnedPrice::of, raw); }
+
+		static ReturnedPrice of(final long raw) { return recycle(ReturnedPrice.class, ReturnedPrice::new, raw); }
+	}
+
+	@Param({"THREAD_LOCAL", "SHARED", "RETURN_ON_DISCARD"}) AllocationThreads allocationThreads;
+
+	private Class<? extends Recyclable> _type;
+	private LongFunction<? extends Recyclable> _factory;
+
+	// The instances on their way from the producer to the consumer
+	private final BlockingQueue<Recyclable> _pipeline = new ArrayBlockingQueue<>(_IN_FLIGHT);
+
+	// The instances the consumer has not discarded yet, only used by the consumer
+	private final Recyclable[] _book = new Recyclable[_IN_FLIGHT];
+
+	private long _raw;
+
+	@Setup public void selectClass()
+	{
+		switch (allocationThreads)
+		{
+			case SHARED:
+				_type = SharedPrice.class;
+				_factory = SharedPrice::of;
+				break;
+			case RETURN_ON_DISCARD:
+				_type = ReturnedPrice.class;
+				_factory = ReturnedPrice::of;
+				break;
+			default:
+				_type = ThreadLocalPrice.class;
+				_factory = ThreadLocalPrice::of;
+				break;
+		}
+		RecycleBin.forClass(_type).resetStats();
+	}
+
+	@TearDown(Level.Trial) public void printStats()
+	{
+		System.out.println(_type.getSimpleName() + ": " + RecycleBin.forClass(_type));
+	}
+
+	// Only the producer adds to the pipeline, so there is still room after the check
+	@Benchmark @Group("pipeline") @GroupThreads(1) public boolean produce()
+	{
+		return _pipeline.remainingCapacity() > 0 && _pipeline.offer(_factory.apply(_raw++ & Long.MAX_VALUE));
+	}
+
+	@Benchmark @Group("pipeline") @GroupThreads(1) public Recyclable consume()
+	{
+		final Recyclable instance = _pipeline.poll();
+		if (instance == null) { return null; }
+		final int slot = ThreadLocalRandom.current().nextInt(_book.length);
+		final Recyclable previous = _book[slot];
+		_book[slot] = instance;
+		if (previous != null) { previous.discard(); }
+		return previous;
+	}
+}
@@ -2,6 +2,7 @@ package org.udtopia.recycle;
 
 import org.junit.Test;
 import org.udtopia.Value;
+import org.udtopia.rules.Floor;
 
 import static java.lang.Double.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -21,6 +22,14 @@ public class RecyclableDoubleTest
 		static Height parse(final String str) { return parse(Height::new, str); }
 	}
 
+	@RecycleBinSize(1) @Floor(0)
+	static final @Value class Level extends RecyclableDouble<Level>
+	{
+		private Level(final double rawValue) { super(Level::new, rawValue); }
+
+		static Level trusted(final double rawValue) { return recycleTrusted(Level.class, Level::new, rawValue); }
+	}
+
 	@Test public void shouldParseOwnToStringOutput()
 	{
 		for (final double d: _VALUES)
@@ -82,4 +91,14 @@ public class RecyclableDoubleTest
 	{
 		new Height(NaN);
 	}
+
+	@Test public void shouldSkipRulesWhenRecyclingTrustedValue()
+	{
+		final Level created = Level.trusted(-5.0);
+		assertThat(created.getAsDouble(), is(0.0));
+		created.discard();
+		final Level recycled = Level.trusted(-5.0);
+		assertThat(recycled, is(sameInstance(created)));
+		assertThat(recycled.getAsDouble(), is(-5.0));
+	}
 }
@@ -2,6 +2,7 @@ package org.udtopia.recycle;
 
 import org.junit.Test;
 import org.udtopia.Value;
+import org.udtopia.rules.Floor;
 
 import static java.lang.Integer.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -19,6 +20,14 @@ public class RecyclableIntTest
 		static Count parse(final String str) { return parse(Count::new, str); }
 	}
 
+	@RecycleBinSize(1) @Floor(0)
+	static final @Value class Level extends RecyclableInt<Level>
+	{
+		private Level(final int rawValue) { super(Level::new, rawValue); }
+
+		static Level trusted(final int rawValue) { return recycleTrusted(Level.class, Level::new, rawValue); }
+	}
+
 	@Test public void shouldParseOwnToStringOutput()
 	{
 		for (final int n: _VALUES)
@@ -80,4 +89,14 @@ public class RecyclableIntTest
 	{
 		new Count(MIN_VALUE);
 	}
+
+	@Test public void shouldSkipRulesWhenRecyclingTrustedValue()
+	{
+		final Level created = Level.trusted(-5);
+		assertThat(created.getAsInt(), is(0));
+		created.discard();
+		final Level recycled = Level.trusted(-5);
+		assertThat(recycled, is(sameInstance(created)));
+		assertThat(recycled.getAsInt(), is(-5));
+	}
 }
@@ -1,7 +1,10 @@
 package org.udtopia.recycle;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 import org.udtopia.Value;
+import org.udtopia.rules.Floor;
 
 import static java.lang.Long.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -19,6 +22,27 @@ public class RecyclableLongTest
 		static Count parse(final String str) { return parse(Count::new, str); }
 	}
 
+	@RecycleBinSize(1) @Floor(0)
+	static final @Value class Level extends RecyclableLong<Level>
+	{
+		private Level(final long rawValue) { super(Level::new, rawValue); }
+
+		static Level trusted(final long rawValue) { return recycleTrusted(Level.class, Level::new, rawValue); }
+	}
+
+	@RecycleBinSize(1)
+	static final @Value class Quantity extends RecyclableLong<Quantity>
+	{
+		private Quantity(final long rawValue) { super(Quantity::of, rawValue); }
+
+		static Quantity of(final long rawValue) { return recycle(Quantity.class, Quantity::new, rawValue); }
+
+		static Quantity parse(final ByteBuffer bytes, final int start, final int end)
+		{
+			return parse(Quantity::of, bytes, start, end);
+		}
+	}
+
 	@Test public void shouldParseOwnToStringOutput()
 	{
 		for (final long n: _VALUES)
@@ -80,4 +104,25 @@ public class RecyclableLongTest
 	{
 		new Count(MIN_VALUE);
 	}
+
+	@Test public void shouldRecycleParsedValue()
+	{
+		final ByteBuffer bytes = ByteBuffer.wrap("38=500|38=700|".getBytes(StandardCharsets.US_ASCII));
+		final Quantity first = Quantity.parse(bytes, 3, 6);
+		assertThat(first.getAsLong(), is(500L));
+		first.discard();
+		final Quantity second = Quantity.parse(bytes, 10, 13);
+		assertThat(second, is(sameInstance(first)));
+		assertThat(second.getAsLong(), is(700L));
+	}
+
+	@Test public void shouldSkipRulesWhenRecyclingTrustedValue()
+	{
+		final Level created = Level.trusted(-5L);
+		assertThat(created.getAsLong(), is(0L));
+		created.discard();
+		final Level recycled = Level.trusted(-5L);
+		assertThat(recycled, is(sameInstance(created)));
+		assertThat(recycled.getAsLong(), is(-5L));
+	}
 }
@@ -2,6 +2,7 @@ package org.udtopia.recycle;
 
 import org.junit.Test;
 import org.udtopia.Value;
+import org.udtopia.rules.UpperCase;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -14,6 +15,14 @@ public class RecyclableStringTest
 		UserId(final String rawValue) { super(UserId::new, rawValue); }
 	}
 
+	@RecycleBinSize(1) @UpperCase
+	static final @Value class Code extends RecyclableString<Code>
+	{
+		private Code(final String rawValue) { super(Code::new, rawValue); }
+
+		static Code trusted(final String rawValue) { return recycleTrusted(Code.class, Code::new, rawValue); }
+	}
+
 	@Test public void shouldMarkDiscarded()
 	{
 		final UserId x = new UserId("y");
@@ -54,4 +63,14 @@ public class RecyclableStringTest
 		x.discard();
 		x.get();
 	}
+
+	@Test public void shouldSkipRulesWhenRecyclingTrustedValue()
+	{
+		final Code created = Code.trusted("ab");
+		assertThat(created.get(), is("AB"));
+		created.discard();
+		final Code recycled = Code.trusted("ab");
+		assertThat(recycled, is(sameInstance(created)));
+		assertThat(recycled.get(), is("ab"));
+	}
 }
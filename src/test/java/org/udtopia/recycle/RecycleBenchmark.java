@@ -1,10 +1,19 @@
 package org.udtopia.recycle;
 
+import java.util.function.DoubleFunction;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
 import org.udtopia.BaseBenchmark;
 import org.udtopia.Value;
 
+/**
+ * Compare the ring buffers of {@link SingleProducer @SingleProducer} and the default thread-local recycle bins with
+ * the stacks of {@link LastInFirstOut @LastInFirstOut}, when a random share of instances are discarded.
+ * The hit rate of each recycle bin is printed at the end of each trial.
+ */
 public class RecycleBenchmark extends BaseBenchmark
 {
 	public static void main(final String[] args) { runBenchmark(args); }
@@ -17,13 +26,61 @@ public class RecycleBenchmark extends BaseBenchmark
 		static Quantity qty(final double raw) { return recycle(Quantity.class, Quantity::new, raw); }
 	}
 
+	static final @Value class ThreadLocalQuantity extends RecyclableDouble<ThreadLocalQuantity>
+	{
+		private ThreadLocalQuantity(final double raw) { super(ThreadLocalQuantity::qty, raw); }
+
+		static ThreadLocalQuantity qty(final double raw)
+		{
+			return recycle(ThreadLocalQuantity.class, ThreadLocalQuantity::new, raw);
+		}
+	}
+
+	@LastInFirstOut
+	static final @Value class StackQuantity extends RecyclableDouble<StackQuantity>
+	{
+		private StackQuantity(final double raw) { super(StackQuantity::qty, raw); }
+
+		static StackQuantity qty(final double raw) { return recycle(StackQuantity.class, StackQuantity::new, raw); }
+	}
+
 	@Param({"0.00", "0.50", "0.95", "1.00"}) double discardRate;
-	Quantity previous = Quantity.qty(0);
+	@Param({"SINGLE_THREADED", "THREAD_LOCAL", "LAST_IN_FIRST_OUT"}) AllocationThreads allocationThreads;
+
+	private Class<? extends Recyclable> _type;
+	private DoubleFunction<? extends Recyclable> _factory;
+	Recyclable previous;
+
+	@Setup public void selectClass()
+	{
+		switch (allocationThreads)
+		{
+			case THREAD_LOCAL:
+				_type = ThreadLocalQuantity.class;
+				_factory = ThreadLocalQuantity::qty;
+				break;
+			case LAST_IN_FIRST_OUT:
+				_type = StackQuantity.class;
+				_factory = StackQuantity::qty;
+				break;
+			default:
+				_type = Quantity.class;
+				_factory = Quantity::qty;
+				break;
+		}
+		previous = _factory.apply(0);
+		RecycleBin.forClass(_type).resetStats();
+	}
+
+	@TearDown(Level.Trial) public void printStats()
+	{
+		System.out.println(_type.getSimpleName() + ": " + RecycleBin.forClass(_type));
+	}
 
-	@Benchmark public Quantity withRandomDiscard()
+	@Benchmark public Recyclable withRandomDiscard()
 	{
 		final double random = RAND.nextDouble();
-		final Quantity qty = Quantity.qty(random);
+		final Recyclable qty = _factory.apply(random);
 		if (random <= discardRate) { previous.discard(); }
 		previous = qty;
 		return qty;
@@ -0,0 +1,109 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Mutable;
+
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * Measure the latency distribution of {@link RingBufferRecycleBin} at each {@linkplain RecycleBinSize#probe() probe
+ * depth}, when instances are kept for different lengths of time.
+ * Each operation recycles one instance, and keeps it according to the {@link Lifetime}, discarding any instance it
+ * replaces.
+ * The hit rate of each recycle bin is printed at the end of each trial.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(NANOSECONDS)
+public class RecycleProbeBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _BIN_SIZE = 16;
+
+	static final @Mutable class Quantity implements Recyclable
+	{
+		private double _raw;
+
+		Quantity(final double raw) { _raw = raw; }
+
+		@Override public boolean isDiscarded() { return Double.isNaN(_raw); }
+
+		@Override public void discard() { _raw = Double.NaN; }
+	}
+
+	// Non-capturing, so that recycling allocates nothing; the raw value is set after recycling
+	private static final Recycler<Quantity> _REUSE = discarded -> { };
+	private static final Supplier<Quantity> _NEW = () -> new Quantity(0.0);
+
+	/** How long each instance is kept before it is discarded. */
+	public enum Lifetime
+	{
+		/**
+		 * Most instances are discarded by the next operation, but 1 in 16 is kept in a random one of 8 slots, for 128
+		 * operations on average, as when a few messages wait for a reply.
+		 */
+		STRAGGLERS(8, 16),
+
+		/** Every instance is kept in a random one of 16 slots, for 16 operations on average. */
+		RANDOM(16, 1);
+
+		private final int _keptSlots;
+		private final int _keepOneIn;
+
+		Lifetime(final int keptSlots, final int keepOneIn)
+		{
+			_keptSlots = keptSlots;
+			_keepOneIn = keepOneIn;
+		}
+	}
+
+	@Param({"1", "2", "4", "8"}) int probe;
+	@Param({"STRAGGLERS", "RANDOM"}) Lifetime lifetime;
+
+	private RingBufferRecycleBin<Quantity> _bin;
+
+	// The kept instances, and the instance kept until the next operation
+	private Quantity[] _kept;
+	private Quantity _previous;
+
+	@Setup public void createBin()
+	{
+		_bin = new RingBufferRecycleBin<>(new RingBufferSize(_BIN_SIZE), probe, new RecycleCounter.SingleThreaded());
+		_kept = new Quantity[lifetime._keptSlots];
+		_previous = null;
+	}
+
+	@TearDown(Level.Trial) public void printStats() { System.out.println("Probe " + probe + ": " + _bin); }
+
+	@Benchmark public Quantity recycle()
+	{
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final Quantity qty = _bin.recycle(_REUSE, _NEW);
+		qty._raw = random.nextDouble();
+
+		if (_previous != null)
+		{
+			_previous.discard();
+			_previous = null;
+		}
+		if (random.nextInt(lifetime._keepOneIn) == 0)
+		{
+			final int slot = random.nextInt(_kept.length);
+			final Quantity replaced = _kept[slot];
+			_kept[slot] = qty;
+			if (replaced != null) { replaced.discard(); }
+		}
+		else { _previous = qty; }
+		return qty;
+	}
+}
@@ -0,0 +1,49 @@
+package org.udtopia.recycle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+
+/**
+ * Compare ways to discard the intermediate values of a message handler: not at all, one by one, or all together when a
+ * {@link RecycleScope} closes.
+ */
+public class RecycleScopeBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	static final @Value class Amount extends RecyclableDouble<Amount>
+	{
+		private Amount(final double raw) { super(Amount::of, raw); }
+
+		static Amount of(final double raw) { return recycle(Amount.class, Amount::new, raw); }
+	}
+
+	// Four intermediate values, and a result
+	private static double _handle(final double price, final double qty, final Amount[] intermediates)
+	{
+		intermediates[0] = Amount.of(price);
+		intermediates[1] = Amount.of(qty);
+		intermediates[2] = Amount.of(intermediates[0].getAsDouble() * intermediates[1].getAsDouble());
+		intermediates[3] = Amount.of(intermediates[2].getAsDouble() * 1.2);
+		return intermediates[3].getAsDouble();
+	}
+
+	private final Amount[] _intermediates = new Amount[4];
+
+	@Benchmark public double noDiscard() { return _handle(RAND.nextDouble(), RAND.nextDouble(), _intermediates); }
+
+	@Benchmark public double manualDiscard()
+	{
+		final double result = _handle(RAND.nextDouble(), RAND.nextDouble(), _intermediates);
+		for (final Amount amount: _intermediates) { amount.discard(); }
+		return result;
+	}
+
+	@Benchmark public double scope()
+	{
+		final RecycleScope scope = RecycleScope.open();
+		try { return _handle(RAND.nextDouble(), RAND.nextDouble(), _intermediates); }
+		finally { scope.close(); }
+	}
+}
@@ -0,0 +1,212 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import org.udtopia.Value;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class RecycleScopeTest
+{
+	@RecycleBinSize(4)
+	static final @Value class Qty extends RecyclableLong<Qty>
+	{
+		private Qty(final long raw) { super(Qty::of, raw); }
+
+		static Qty of(final long raw) { return recycle(Qty.class, Qty::new, raw); }
+	}
+
+	@RecycleBinSize(1)
+	static final @Value class Lot extends RecyclableLong<Lot>
+	{
+		private Lot(final long raw) { super(Lot::of, raw); }
+
+		static Lot of(final long raw) { return recycle(Lot.class, Lot::new, raw); }
+	}
+
+	@Test public void shouldDiscardInstancesRecycledInScope()
+	{
+		final Qty q1, q2;
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			q1 = Qty.of(1);
+			q2 = Qty.of(2);
+			assertThat(scope.size(), is(2));
+			assertThat(q1.isDiscarded(), is(false));
+		}
+		assertThat(q1.isDiscarded(), is(true));
+		assertThat(q2.isDiscarded(), is(true));
+	}
+
+	@Test public void shouldNotDiscardInstancesRecycledOutsideScope()
+	{
+		final Qty outside = Qty.of(1);
+		try (RecycleScope scope = RecycleScope.open()) { assertThat(scope.size(), is(0)); }
+		assertThat(outside.isDiscarded(), is(false));
+		outside.discard();
+	}
+
+	@Test public void shouldNotDiscardKeptInstances()
+	{
+		final Qty kept, other;
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			kept = scope.keep(Qty.of(1));
+			other = Qty.of(2);
+		}
+		assertThat(kept.isDiscarded(), is(false));
+		assertThat(kept.getAsLong(), is(1L));
+		assertThat(other.isDiscarded(), is(true));
+		kept.discard();
+	}
+
+	@Test public void shouldSkipInstancesAlreadyDiscarded()
+	{
+		final Lot q1, q2;
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			q1 = Lot.of(1);
+			q1.discard();
+
+			// Recycles the same instance, so it is tracked twice
+			q2 = Lot.of(2);
+			assertThat(q2, is(sameInstance(q1)));
+			assertThat(scope.size(), is(2));
+		}
+		assertThat(q2.isDiscarded(), is(true));
+	}
+
+	@Test public void shouldDiscardInnerScopeSeparately()
+	{
+		final Qty outer, inner;
+		try (RecycleScope outerScope = RecycleScope.open())
+		{
+			outer = Qty.of(1);
+			try (RecycleScope innerScope = RecycleScope.open())
+			{
+				inner = Qty.of(2);
+				assertThat(innerScope.size(), is(1));
+				assertThat(outerScope.size(), is(2));
+			}
+			assertThat(inner.isDiscarded(), is(true));
+			assertThat(outer.isDiscarded(), is(false));
+			assertThat(outerScope.size(), is(1));
+		}
+		assertThat(outer.isDiscarded(), is(true));
+	}
+
+	@Test public void shouldKeepInstancesOfNestedScopesFromOuterScope()
+	{
+		final Qty inner;
+		final RecycleScope scope = RecycleScope.open();
+		try
+		{
+			final RecycleScope innerScope = RecycleScope.open();
+			try { inner = Qty.of(1); }
+			finally { innerScope.close(); }
+			assertThat(inner.isDiscarded(), is(true));
+		}
+		finally { scope.close(); }
+
+		final Qty kept;
+		try (RecycleScope outerScope = RecycleScope.open())
+		{
+			final RecycleScope innerScope = RecycleScope.open();
+			try { kept = outerScope.keep(Qty.of(2)); }
+			finally { innerScope.close(); }
+		}
+		assertThat(kept.isDiscarded(), is(false));
+		kept.discard();
+	}
+
+	@Test public void shouldTrackMoreInstancesThanDefaultCapacity()
+	{
+		final Qty[] instances = new Qty[RecycleScope.DEFAULT_CAPACITY * 2 + 1];
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			for (int i = 0; i < instances.length; i++) { instances[i] = Qty.of(i); }
+			assertThat(scope.size(), is(instances.length));
+		}
+		for (final Qty instance: instances) { assertThat(instance.isDiscarded(), is(true)); }
+	}
+
+	@Test public void shouldNotGrowInRecycleAndDiscardLoop()
+	{
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			// The array of each thread is shared by its scopes, so may have grown in earlier tests
+			final int capacity = scope.capacity();
+			for (int i = 0; i < 1_000_000; i++) { Qty.of(i).discard(); }
+			assertThat(scope.capacity(), is(capacity));
+			assertThat(scope.size(), is(lessThanOrEqualTo(capacity)));
+		}
+	}
+
+	@Test public void shouldKeepScopesApartWhenDroppingDiscardedInstances()
+	{
+		final Qty outer, inner;
+		try (RecycleScope outerScope = RecycleScope.open())
+		{
+			Qty.of(0).discard();
+			outer = Qty.of(1);
+			try (RecycleScope innerScope = RecycleScope.open())
+			{
+				inner = Qty.of(2);
+				final int capacity = innerScope.capacity();
+				for (int i = 0; i < capacity * 4; i++) { Qty.of(i).discard(); }
+				assertThat(innerScope.capacity(), is(capacity));
+			}
+			assertThat(inner.isDiscarded(), is(true));
+			assertThat(outer.isDiscarded(), is(false));
+			assertThat(outerScope.size(), is(1));
+		}
+		assertThat(outer.isDiscarded(), is(true));
+	}
+
+	@Test public void shouldReuseScopeObjects()
+	{
+		final RecycleScope first;
+		try (RecycleScope scope = RecycleScope.open()) { first = scope; }
+		try (RecycleScope scope = RecycleScope.open()) { assertThat(scope, is(sameInstance(first))); }
+	}
+
+	@Test public void shouldFailToCloseOuterScopeFirst()
+	{
+		String errMsg = null;
+		final RecycleScope outerScope = RecycleScope.open();
+		final RecycleScope innerScope = RecycleScope.open();
+		try { outerScope.close(); }
+		catch (final IllegalStateException e) { errMsg = e.getMessage(); }
+		innerScope.close();
+		outerScope.close();
+		assertThat(errMsg, is("RecycleScope must be closed in reverse order, on the thread that opened it"));
+	}
+
+	@Test public void shouldFailToCloseOnAnotherThread() throws Exception
+	{
+		String errMsg = null;
+		final ExecutorService thread = Executors.newSingleThreadExecutor();
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			try { thread.submit(scope::close).get(); }
+			catch (final ExecutionException e) { errMsg = e.getCause().getMessage(); }
+		}
+		finally { thread.shutdown(); }
+		assertThat(errMsg, is("RecycleScope must be closed in reverse order, on the thread that opened it"));
+	}
+
+	@Test public void shouldNotTrackOnOtherThreads() throws Exception
+	{
+		final ExecutorService thread = Executors.newSingleThreadExecutor();
+		try (RecycleScope scope = RecycleScope.open())
+		{
+			final Qty other = thread.submit(() -> Qty.of(1)).get();
+			assertThat(scope.size(), is(0));
+			other.discard();
+		}
+		finally { thread.shutdown(); }
+	}
+}
@@ -0,0 +1,45 @@
+package org.udtopia.recycle;
+
+import java.time.Instant;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class RecycleStatsTest
+{
+	private final Instant _resetTime = Instant.parse("2021-01-01T00:00:00Z");
+	private final RecycleStats _stats = new RecycleStats(16, 5, 3, 1, _resetTime);
+
+	@Test public void shouldReportCounts()
+	{
+		assertThat(_stats.getSize(), is(16));
+		assertThat(_stats.getOccupancy(), is(5));
+		assertThat(_stats.getHits(), is(3L));
+		assertThat(_stats.getMisses(), is(1L));
+		assertThat(_stats.getRecycles(), is(4L));
+		assertThat(_stats.getResetTime(), is(_resetTime));
+	}
+
+	@Test public void shouldCalculateHitRate()
+	{
+		assertThat(_stats.getHitRate(), is(0.75));
+	}
+
+	@Test public void shouldReportZeroHitRateBeforeFirstRecycle()
+	{
+		assertThat(RecycleStats.NONE.getHitRate(), is(0.0));
+	}
+
+	@Test public void shouldFormatStats()
+	{
+		assertThat(_stats.toString(), is("RecycleBin[16]: 3 / 4 (75.0%) recycled, 5 available, since 2021-01-01T00:00:00Z"));
+	}
+
+	@Test public void shouldReturnNoStatsForCustomRecycleBin()
+	{
+		final RecycleBin<RingBufferRecycleBinTest.Dummy> bin = (recycler, generator) -> generator.get();
+		bin.resetStats();
+		assertThat(bin.stats(), is(sameInstance(RecycleStats.NONE)));
+	}
+}
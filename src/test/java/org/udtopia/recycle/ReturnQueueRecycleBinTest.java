@@ -0,0 +1,200 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.udtopia.Value;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class ReturnQueueRecycleBinTest
+{
+	static final class Ticket implements Recyclable
+	{
+		private volatile boolean _discarded;
+		private final AtomicBoolean _inUse = new AtomicBoolean(true);
+
+		@Override public boolean isDiscarded() { return _discarded; }
+
+		@Override public void discard()
+		{
+			_inUse.set(false);
+			_discarded = true;
+		}
+
+		void reuse()
+		{
+			// Fail if two threads receive the same instance at the same time
+			if (!_inUse.compareAndSet(false, true)) { throw new IllegalStateException("Instance recycled twice"); }
+			_discarded = false;
+		}
+	}
+
+	private static Ticket _discard(final ReturnQueueRecycleBin<Ticket> bin, final Ticket ticket)
+	{
+		ticket.discard();
+		bin.onDiscard(ticket);
+		return ticket;
+	}
+
+	@Test public void shouldRecycleReturnedInstance()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final Ticket t1 = _discard(bin, bin.recycle(Ticket::reuse, Ticket::new));
+		final Ticket t2 = bin.recycle(Ticket::reuse, Ticket::new);
+		assertThat(t2, is(sameInstance(t1)));
+		assertThat(t2.isDiscarded(), is(false));
+	}
+
+	@Test public void shouldNotRecycleInstanceThatWasNotReturned()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final Ticket t1 = bin.recycle(Ticket::reuse, Ticket::new);
+		t1.discard();
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(not(sameInstance(t1))));
+	}
+
+	@Test public void shouldRecycleInOrderOfReturn()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final Ticket t1 = bin.recycle(Ticket::reuse, Ticket::new);
+		final Ticket t2 = bin.recycle(Ticket::reuse, Ticket::new);
+		_discard(bin, t2);
+		_discard(bin, t1);
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(sameInstance(t2)));
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(sameInstance(t1)));
+	}
+
+	@Test public void shouldNotGiveInstanceDiscardedTwiceToTwoOwners()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final Ticket t1 = _discard(bin, _discard(bin, new Ticket()));
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(sameInstance(t1)));
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(not(sameInstance(t1))));
+		assertThat(bin.stats().getHits(), is(1L));
+		assertThat(bin.stats().getMisses(), is(1L));
+	}
+
+	@Test public void shouldIgnoreReturnOfInstanceInUse()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final Ticket t1 = bin.recycle(Ticket::reuse, Ticket::new);
+		bin.onDiscard(t1);
+		assertThat(bin.stats().getOccupancy(), is(0));
+	}
+
+	@Test public void shouldDropReturnedInstancesWhenFull()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(2));
+		final Ticket t1 = _discard(bin, new Ticket());
+		final Ticket t2 = _discard(bin, new Ticket());
+		_discard(bin, new Ticket());
+		assertThat(bin.stats().getOccupancy(), is(2));
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(sameInstance(t1)));
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(sameInstance(t2)));
+		assertThat(bin.stats().getOccupancy(), is(0));
+		assertThat(bin.stats().getHits(), is(2L));
+		assertThat(bin.stats().getMisses(), is(0L));
+	}
+
+	@Test public void shouldReuseSlotsOnLaterLaps()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(2));
+		Ticket ticket = bin.recycle(Ticket::reuse, Ticket::new);
+		for (int i = 0; i < 10; i++)
+		{
+			final Ticket previous = _discard(bin, ticket);
+			ticket = bin.recycle(Ticket::reuse, Ticket::new);
+			assertThat(ticket, is(sameInstance(previous)));
+		}
+		assertThat(bin.stats().getHits(), is(10L));
+		assertThat(bin.stats().getMisses(), is(1L));
+	}
+
+	@Test public void shouldRetryFromCurrentPositionAfterLosingSlot()
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final Ticket t1 = _discard(bin, new Ticket());
+
+		// As if another thread added and took t1 after this thread read the tail and head
+		final Ticket t2 = new Ticket();
+		t2.discard();
+		bin.offer(t2, 0L);
+		assertThat(bin.poll(0L), is(sameInstance(t1)));
+		assertThat(bin.poll(0L), is(sameInstance(t2)));
+		assertThat(bin.poll(0L), is(nullValue()));
+	}
+
+	@Test public void shouldCloseLoopBetweenProducerAndConsumer() throws Exception
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(16));
+		final BlockingQueue<Ticket> pipeline = new ArrayBlockingQueue<>(8);
+		final int count = 100_000;
+		final ExecutorService consumer = Executors.newSingleThreadExecutor();
+		try
+		{
+			final Future<?> consumed = consumer.submit(() ->
+			{
+				for (int i = 0; i < count; i++) { _discard(bin, pipeline.take()); }
+				return null;
+			});
+			for (int i = 0; i < count; i++) { pipeline.put(bin.recycle(Ticket::reuse, Ticket::new)); }
+			consumed.get();
+		}
+		finally { consumer.shutdown(); }
+
+		// The pipeline holds at most 8 instances, and the producer at most one more, so the pool is closed
+		assertThat(bin.stats().getMisses(), is(lessThanOrEqualTo(16L)));
+		assertThat(bin.stats().getRecycles(), is((long) count));
+	}
+
+	@Test public void shouldNeverGiveSameInstanceToTwoThreads() throws Exception
+	{
+		final ReturnQueueRecycleBin<Ticket> bin = new ReturnQueueRecycleBin<>(new RingBufferSize(4));
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try
+		{
+			final Future<?>[] results = new Future<?>[8];
+			for (int thread = 0; thread < results.length; thread++)
+			{
+				results[thread] = executor.submit(() ->
+				{
+					for (int i = 0; i < 100_000; i++) { _discard(bin, bin.recycle(Ticket::reuse, Ticket::new)); }
+				});
+			}
+			for (final Future<?> result: results) { result.get(); }
+		}
+		finally { executor.shutdown(); }
+	}
+
+	@ReturnOnDiscard
+	static final @Value class Lot extends RecyclableLong<Lot>
+	{
+		private Lot(final long raw) { super(Lot::of, raw); }
+
+		static Lot of(final long raw) { return recycle(Lot.class, Lot::new, raw); }
+	}
+
+	@Test public void shouldReturnRecyclableValueWhenDiscarded() throws Exception
+	{
+		assertThat(RecycleBin.forClass(Lot.class), is(instanceOf(ReturnQueueRecycleBin.class)));
+		final Lot lot = Lot.of(1);
+		final ExecutorService consumer = Executors.newSingleThreadExecutor();
+		try { consumer.submit(lot::discard).get(); }
+		finally { consumer.shutdown(); }
+		final Lot recycled = Lot.of(2);
+		assertThat(recycled, is(sameInstance(lot)));
+		assertThat(recycled.getAsLong(), is(2L));
+	}
+
+	@Test public void shouldIncludeSizeInToString()
+	{
+		assertThat(new ReturnQueueRecycleBin<>(new RingBufferSize(5)).toString(), startsWith("ReturnQueue"));
+		assertThat(new ReturnQueueRecycleBin<>(new RingBufferSize(5)).stats().getSize(), is(8));
+	}
+}
@@ -1,5 +1,7 @@
 package org.udtopia.recycle;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -130,6 +132,20 @@ public class RingBufferRecycleBinTest
 		assertThat(bin1, is(instanceOf(RingBufferRecycleBin.class)));
 	}
 
+	@Test public void shouldUseSharedAllocation()
+	{
+		@MultiProducer class A extends Dummy { }
+		final RecycleBin<A> bin1 = RecycleBin.forClass(A.class);
+		assertThat(bin1, is(instanceOf(SharedRecycleBin.class)));
+	}
+
+	@Test public void shouldPreferSingleProducerOverMultiProducer()
+	{
+		@SingleProducer @MultiProducer class A extends Dummy { }
+		final RecycleBin<A> bin1 = RecycleBin.forClass(A.class);
+		assertThat(bin1, is(instanceOf(RingBufferRecycleBin.class)));
+	}
+
 	@Test public void dummyShouldNeverAppearDiscarded()
 	{
 		RingBufferRecycleBin.DUMMY.discard();
@@ -163,25 +179,143 @@ public class RingBufferRecycleBinTest
 		assertThat(recycleBin.toString(), containsString("50.0%"));
 	}
 
-	@Test public void shouldIncrementCountUntilMaxIntThenResetCountAndMisses()
+	@Test public void shouldWrapHeadIndexAroundIntegerOverflow()
 	{
 		final RingBufferRecycleBin<Dummy> bin = new RingBufferRecycleBin<>(new RingBufferSize(4), MAX_VALUE - 1);
-		assertThat(bin.toString(), containsString(format("%,d / %,d", MAX_VALUE - 1, MAX_VALUE - 1)));
+		for (int i = 0; i < 3; i++) { bin.recycle(dummy -> { }, Dummy::new); }
+		assertThat(bin.stats().getMisses(), is(3L));
+		assertThat(bin.stats().getRecycles(), is(3L));
+	}
 
-		bin.recycle(dummy -> { }, Dummy::new);
-		assertThat(bin.toString(), containsString(format("%,d / %,d", MAX_VALUE - 1, MAX_VALUE)));
+	@Before @After public void resetAssertions() { AssertControl.ENABLE.forClass(Assert.class); }
 
-		bin.recycle(dummy -> { }, Dummy::new);
-		assertThat(bin.toString(), not(containsString("-")));
+	@Test public void shouldCollectStatsWhenAssertionsDisabled()
+	{
+		AssertControl.DISABLE.forClass(Assert.class);
+		final RecycleBin<Phone> bin = new RingBufferRecycleBin<>(new RingBufferSize(1));
+		bin.recycle(phone -> { }, () -> new Phone("000", 123)).discard();
+		bin.recycle(phone -> { }, () -> new Phone("000", 123));
+		assertThat(bin.toString(), containsString(format("%.1f%%", 50.0)));
 	}
 
-	@Before @After public void resetAssertions() { AssertControl.ENABLE.forClass(Assert.class); }
+	@Test public void shouldCountOccupancy()
+	{
+		final RingBufferRecycleBin<Phone> bin = new RingBufferRecycleBin<>(new RingBufferSize(4));
+		bin.recycle(phone -> { }, () -> new Phone("000", 123)).discard();
+		bin.recycle(phone -> { }, () -> new Phone("000", 123));
+		bin.recycle(phone -> { }, () -> new Phone("000", 123)).discard();
+		final RecycleStats stats = bin.stats();
+		assertThat(stats.getOccupancy(), is(2));
+		assertThat(stats.getSize(), is(4));
+	}
 
-	@Test public void shouldNotCollectStatsWhenAssertionsDisabled()
+	@Test public void shouldResetStats()
 	{
 		final RecycleBin<Phone> bin = new RingBufferRecycleBin<>(new RingBufferSize(1));
-		assertThat(bin.toString(), containsString(format("%.1f%%", 0.0)));
-		AssertControl.DISABLE.forClass(Assert.class);
-		assertThat(bin.toString(), containsString("assertions"));
+		bin.recycle(phone -> { }, () -> new Phone("000", 123));
+		final RecycleStats before = bin.stats();
+		bin.resetStats();
+		final RecycleStats after = bin.stats();
+		assertThat(before.getRecycles(), is(1L));
+		assertThat(after.getRecycles(), is(0L));
+		assertThat(after.getResetTime(), is(greaterThanOrEqualTo(before.getResetTime())));
+	}
+
+	@Test public void shouldRegisterEveryBinCreatedForAClass()
+	{
+		@SingleProducer class A extends Dummy { }
+		final RecycleBin<A> bin = RecycleBin.forClass(A.class);
+		final Map<Class<?>, RecycleBin<?>> bins = new HashMap<>();
+		RecycleBin.forEach(bins::put);
+		assertThat(bins, hasEntry(A.class, bin));
+	}
+
+	private static Phone _recycle(final RecycleBin<Phone> bin)
+	{
+		return bin.recycle(
+			phone ->
+			{
+				phone._areaCode = "000";
+				phone._number = 123;
+			},
+			() -> new Phone("000", 123));
+	}
+
+	@Test public void shouldProbePastInstanceStillInUse()
+	{
+		final RingBufferRecycleBin<Phone> bin = new RingBufferRecycleBin<>(new RingBufferSize(4), 2,
+			new RecycleCounter.SingleThreaded());
+		final Phone kept = _recycle(bin);
+		final Phone p1 = _recycle(bin);
+		_recycle(bin);
+		_recycle(bin);
+		p1.discard();
+
+		// The oldest instance is still in use, so the next one is recycled, and swapped into the oldest slot
+		assertThat(_recycle(bin), is(sameInstance(p1)));
+		assertThat(kept.get(), is("000-123"));
+		assertThat(bin.stats().getHits(), is(1L));
+
+		// The recycled instance is now in the slot just passed, so the next two recycles miss it
+		p1.discard();
+		assertThat(_recycle(bin), is(not(sameInstance(p1))));
+		assertThat(_recycle(bin), is(not(sameInstance(p1))));
+		assertThat(_recycle(bin), is(sameInstance(p1)));
+	}
+
+	@Test public void shouldGiveUpAfterProbeDepth()
+	{
+		final RingBufferRecycleBin<Phone> bin = new RingBufferRecycleBin<>(new RingBufferSize(4), 2,
+			new RecycleCounter.SingleThreaded());
+		_recycle(bin);
+		_recycle(bin);
+		final Phone p2 = _recycle(bin);
+		_recycle(bin);
+		p2.discard();
+		assertThat(_recycle(bin), is(not(sameInstance(p2))));
+		assertThat(bin.stats().getMisses(), is(5L));
+	}
+
+	@Test public void shouldAllowProbeDepthBeyondSize()
+	{
+		final RingBufferRecycleBin<Phone> bin = new RingBufferRecycleBin<>(new RingBufferSize(2), 100,
+			new RecycleCounter.SingleThreaded());
+		final Phone p0 = _recycle(bin);
+		_recycle(bin);
+		_recycle(bin);
+		p0.discard();
+		assertThat(_recycle(bin), is(not(sameInstance(p0))));
+	}
+
+	@Test public void shouldRejectProbeDepthLessThanOne()
+	{
+		String errMsg = null;
+		try { new RingBufferRecycleBin<Phone>(new RingBufferSize(4), 0, new RecycleCounter.SingleThreaded()); }
+		catch (final IllegalArgumentException e) { errMsg = e.getMessage(); }
+		assertThat(errMsg, is("Probe depth 0 is less than 1"));
+	}
+
+	@RecycleBinSize(value = 4, probe = 4)
+	@SingleProducer
+	static final @Value class Extension extends RecyclableInt<Extension>
+	{
+		private Extension(final int raw) { super(Extension::of, raw); }
+
+		static Extension of(final int raw) { return recycle(Extension.class, Extension::new, raw); }
+	}
+
+	@Test public void shouldProbeToDepthFromAnnotation()
+	{
+		final Extension kept = Extension.of(1);
+		Extension.of(2).discard();
+		Extension.of(3).discard();
+		Extension.of(4).discard();
+		final Extension recycled = Extension.of(5);
+		assertThat(recycled.getAsInt(), is(5));
+		assertThat(kept.getAsInt(), is(1));
+
+		// Each recycle after the second probes past the kept instance, or the unused slots, to a discarded one
+		assertThat(RecycleBin.forClass(Extension.class).stats().getMisses(), is(2L));
+		assertThat(RecycleBin.forClass(Extension.class).stats().getHits(), is(3L));
 	}
 }
@@ -0,0 +1,114 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class SharedRecycleBinTest
+{
+	static final class Ticket implements Recyclable
+	{
+		private volatile boolean _discarded;
+		private final AtomicBoolean _inUse = new AtomicBoolean(true);
+
+		@Override public boolean isDiscarded() { return _discarded; }
+
+		@Override public void discard()
+		{
+			_inUse.set(false);
+			_discarded = true;
+		}
+
+		void reuse()
+		{
+			// Fail if two threads receive the same instance at the same time
+			if (!_inUse.compareAndSet(false, true)) { throw new IllegalStateException("Instance recycled twice"); }
+			_discarded = false;
+		}
+	}
+
+	@Test public void shouldRecycleDiscardedInstance()
+	{
+		final SharedRecycleBin<Ticket> bin = new SharedRecycleBin<>(new RingBufferSize(1));
+		final Ticket t1 = bin.recycle(Ticket::reuse, Ticket::new);
+		t1.discard();
+		final Ticket t2 = bin.recycle(Ticket::reuse, Ticket::new);
+		assertThat(t2, is(sameInstance(t1)));
+		assertThat(t2.isDiscarded(), is(false));
+	}
+
+	@Test public void shouldNotRecycleUndiscardedInstance()
+	{
+		final SharedRecycleBin<Ticket> bin = new SharedRecycleBin<>(new RingBufferSize(1));
+		final Ticket t1 = bin.recycle(Ticket::reuse, Ticket::new);
+		final Ticket t2 = bin.recycle(Ticket::reuse, Ticket::new);
+		assertThat(t2, is(not(sameInstance(t1))));
+	}
+
+	@Test public void shouldRecycleNewInstanceAfterMiss()
+	{
+		final SharedRecycleBin<Ticket> bin = new SharedRecycleBin<>(new RingBufferSize(1));
+		bin.recycle(Ticket::reuse, Ticket::new);
+		final Ticket t2 = bin.recycle(Ticket::reuse, Ticket::new);
+		t2.discard();
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(sameInstance(t2)));
+	}
+
+	static final class Fickle implements Recyclable
+	{
+		// Appears discarded only on the first check
+		private final AtomicInteger _checks = new AtomicInteger();
+
+		@Override public boolean isDiscarded() { return _checks.getAndIncrement() == 0; }
+
+		@Override public void discard() { }
+	}
+
+	@Test public void shouldNotRecycleInstanceThatIsNoLongerDiscardedOnceClaimed()
+	{
+		final SharedRecycleBin<Fickle> bin = new SharedRecycleBin<>(new RingBufferSize(1));
+		final Fickle f1 = bin.recycle(fickle -> { }, Fickle::new);
+		final AtomicInteger recycled = new AtomicInteger();
+		final Fickle f2 = bin.recycle(fickle -> recycled.incrementAndGet(), Fickle::new);
+		assertThat(f2, is(not(sameInstance(f1))));
+		assertThat(recycled.get(), is(0));
+	}
+
+	@Test public void shouldNeverGiveSameInstanceToTwoThreads() throws Exception
+	{
+		final int threads = 8;
+		final SharedRecycleBin<Ticket> bin = new SharedRecycleBin<>(new RingBufferSize(4));
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			final Iterable<Future<Integer>> results = IntStream.range(0, threads)
+				.mapToObj(thread -> executor.submit(() ->
+				{
+					int recycled = 0;
+					for (int i = 0; i < 100_000; i++)
+					{
+						final Ticket ticket = bin.recycle(Ticket::reuse, Ticket::new);
+						ticket.discard();
+						recycled++;
+					}
+					return recycled;
+				}))
+				.collect(Collectors.toList());
+			for (final Future<Integer> result: results) { assertThat(result.get(), is(100_000)); }
+		}
+		finally { executor.shutdown(); }
+	}
+
+	@Test public void shouldIncludeSizeInToString()
+	{
+		assertThat(new SharedRecycleBin<>(new RingBufferSize(5)).toString(), containsString("8"));
+	}
+}
@@ -0,0 +1,147 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import org.udtopia.Value;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class StackRecycleBinTest
+{
+	static final class Item implements Recyclable
+	{
+		private boolean _discarded;
+
+		@Override public boolean isDiscarded() { return _discarded; }
+
+		@Override public void discard() { _discarded = true; }
+	}
+
+	private static Item _discard(final StackRecycleBin<Item> bin, final Item item)
+	{
+		item.discard();
+		bin.onDiscard(item);
+		return item;
+	}
+
+	private static Item _recycle(final StackRecycleBin<Item> bin)
+	{
+		return bin.recycle(item -> item._discarded = false, Item::new);
+	}
+
+	@Test public void shouldRecycleMostRecentlyDiscardedInstance()
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(4));
+		final Item i1 = _recycle(bin);
+		final Item i2 = _recycle(bin);
+		final Item i3 = _recycle(bin);
+		_discard(bin, i1);
+		_discard(bin, i3);
+		_discard(bin, i2);
+		assertThat(_recycle(bin), is(sameInstance(i2)));
+		assertThat(_recycle(bin), is(sameInstance(i3)));
+		assertThat(_recycle(bin), is(sameInstance(i1)));
+		assertThat(i1.isDiscarded(), is(false));
+	}
+
+	@Test public void shouldHitWhileAnyInstanceIsDiscarded()
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(4));
+
+		// A ring buffer would miss here, since the oldest instance is still in use
+		final Item kept = _recycle(bin);
+		Item item = _recycle(bin);
+		for (int i = 0; i < 10; i++)
+		{
+			final Item previous = _discard(bin, item);
+			item = _recycle(bin);
+			assertThat(item, is(sameInstance(previous)));
+		}
+		assertThat(kept.isDiscarded(), is(false));
+		assertThat(bin.stats().getHits(), is(10L));
+		assertThat(bin.stats().getMisses(), is(2L));
+	}
+
+	@Test public void shouldNotRecycleInstanceThatWasNotPushed()
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(4));
+		final Item i1 = _recycle(bin);
+		i1.discard();
+		assertThat(_recycle(bin), is(not(sameInstance(i1))));
+	}
+
+	@Test public void shouldDropDiscardedInstancesWhenFull()
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(2));
+		final Item i1 = _discard(bin, new Item());
+		final Item i2 = _discard(bin, new Item());
+		_discard(bin, new Item());
+		assertThat(bin.stats().getOccupancy(), is(2));
+		assertThat(_recycle(bin), is(sameInstance(i2)));
+		assertThat(_recycle(bin), is(sameInstance(i1)));
+		assertThat(bin.stats().getOccupancy(), is(0));
+	}
+
+	@Test public void shouldSkipInstancesRecycledSinceTheyWerePushed()
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(4));
+		final Item i1 = _discard(bin, new Item());
+		bin.onDiscard(i1);
+		assertThat(_recycle(bin), is(sameInstance(i1)));
+		assertThat(_recycle(bin), is(not(sameInstance(i1))));
+		assertThat(bin.stats().getHits(), is(1L));
+		assertThat(bin.stats().getMisses(), is(1L));
+	}
+
+	@Test public void shouldKeepSeparateStackForEachThread() throws Exception
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(2));
+		final ExecutorService thread = Executors.newSingleThreadExecutor();
+		try
+		{
+			final Item i1 = _discard(bin, _recycle(bin));
+			final Item i2 = thread.submit(() -> _recycle(bin)).get();
+			assertThat(i2, is(not(sameInstance(i1))));
+
+			thread.submit(() -> _discard(bin, i2)).get();
+			assertThat(_recycle(bin), is(sameInstance(i1)));
+			assertThat(thread.submit(() -> _recycle(bin)).get(), is(sameInstance(i2)));
+
+			final RecycleStats stats = bin.stats();
+			assertThat(stats.getSize(), is(4));
+			assertThat(stats.getHits(), is(2L));
+			assertThat(stats.getMisses(), is(2L));
+		}
+		finally { thread.shutdown(); }
+	}
+
+	@LastInFirstOut @RecycleBinSize(4)
+	static final @Value class Lot extends RecyclableLong<Lot>
+	{
+		private Lot(final long raw) { super(Lot::of, raw); }
+
+		static Lot of(final long raw) { return recycle(Lot.class, Lot::new, raw); }
+	}
+
+	@Test public void shouldPushRecyclableValueWhenDiscarded()
+	{
+		assertThat(RecycleBin.forClass(Lot.class), is(instanceOf(StackRecycleBin.class)));
+		final Lot kept = Lot.of(1);
+		final Lot lot = Lot.of(2);
+		lot.discard();
+		final Lot recycled = Lot.of(3);
+		assertThat(recycled, is(sameInstance(lot)));
+		assertThat(recycled.getAsLong(), is(3L));
+		assertThat(kept.getAsLong(), is(1L));
+	}
+
+	@Test public void shouldIncludeSizeInToString()
+	{
+		final StackRecycleBin<Item> bin = new StackRecycleBin<>(new RingBufferSize(5));
+		_recycle(bin);
+		assertThat(bin.toString(), startsWith("Stack"));
+		assertThat(bin.stats().getSize(), is(8));
+	}
+}
@@ -0,0 +1,130 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class StripedRecycleBinTest
+{
+	static final class Ticket implements Recyclable
+	{
+		private volatile boolean _discarded;
+		private final AtomicBoolean _inUse = new AtomicBoolean(true);
+
+		@Override public boolean isDiscarded() { return _discarded; }
+
+		@Override public void discard()
+		{
+			_inUse.set(false);
+			_discarded = true;
+		}
+
+		void reuse()
+		{
+			// Fail if two threads receive the same instance at the same time
+			if (!_inUse.compareAndSet(false, true)) { throw new IllegalStateException("Instance recycled twice"); }
+			_discarded = false;
+		}
+	}
+
+	@Test public void shouldRecycleDiscardedInstance()
+	{
+		final StripedRecycleBin<Ticket> bin = new StripedRecycleBin<>(new RingBufferSize(4), new RingBufferSize(1));
+		final Ticket t1 = bin.recycle(Ticket::reuse, Ticket::new);
+		t1.discard();
+		final Ticket t2 = bin.recycle(Ticket::reuse, Ticket::new);
+		assertThat(t2, is(sameInstance(t1)));
+		assertThat(t2.isDiscarded(), is(false));
+	}
+
+	@Test public void shouldUseNextStripeWhenBusy()
+	{
+		final StripedRecycleBin<Ticket> bin = new StripedRecycleBin<>(new RingBufferSize(2), new RingBufferSize(1));
+		final Ticket first = bin.recycle(Ticket::reuse, Ticket::new);
+		first.discard();
+
+		// Recycle again while this thread holds its first stripe
+		final AtomicReference<Ticket> nested = new AtomicReference<>();
+		final Ticket outer = bin.recycle(ticket ->
+		{
+			ticket.reuse();
+			nested.set(bin.recycle(Ticket::reuse, Ticket::new));
+		}, Ticket::new);
+		assertThat(outer, is(sameInstance(first)));
+		assertThat(nested.get(), is(not(sameInstance(first))));
+		assertThat(bin.stats().getMisses(), is(2L));
+		assertThat(bin.stats().getHits(), is(1L));
+
+		// Each stripe now holds one instance
+		outer.discard();
+		nested.get().discard();
+		assertThat(bin.stats().getOccupancy(), is(2));
+	}
+
+	@Test public void shouldAllocateWhenStripesAreBusy()
+	{
+		final StripedRecycleBin<Ticket> bin = new StripedRecycleBin<>(new RingBufferSize(1), new RingBufferSize(1));
+		bin.recycle(Ticket::reuse, Ticket::new).discard();
+
+		// The only stripe is busy, so the nested recycle cannot pool its instance
+		final AtomicReference<Ticket> nested = new AtomicReference<>();
+		bin.recycle(ticket ->
+		{
+			ticket.reuse();
+			nested.set(bin.recycle(Ticket::reuse, Ticket::new));
+		}, Ticket::new);
+		nested.get().discard();
+		assertThat(bin.recycle(Ticket::reuse, Ticket::new), is(not(sameInstance(nested.get()))));
+		assertThat(bin.stats().getMisses(), is(3L));
+	}
+
+	@Test public void shouldNeverGiveSameInstanceToTwoThreads() throws Exception
+	{
+		final int threads = 8;
+		final StripedRecycleBin<Ticket> bin = new StripedRecycleBin<>(new RingBufferSize(2), new RingBufferSize(4));
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			final Iterable<Future<Integer>> results = IntStream.range(0, threads)
+				.mapToObj(thread -> executor.submit(() ->
+				{
+					int recycled = 0;
+					for (int i = 0; i < 100_000; i++)
+					{
+						final Ticket ticket = bin.recycle(Ticket::reuse, Ticket::new);
+						ticket.discard();
+						recycled++;
+					}
+					return recycled;
+				}))
+				.collect(Collectors.toList());
+			for (final Future<Integer> result: results) { assertThat(result.get(), is(100_000)); }
+		}
+		finally { executor.shutdown(); }
+	}
+
+	@Test public void shouldCombineStatsOfAllStripes()
+	{
+		final StripedRecycleBin<Ticket> bin = new StripedRecycleBin<>(new RingBufferSize(4), new RingBufferSize(2));
+		bin.recycle(Ticket::reuse, Ticket::new).discard();
+		final RecycleStats stats = bin.stats();
+		assertThat(stats.getSize(), is(8));
+		assertThat(stats.getOccupancy(), is(1));
+		assertThat(stats.getMisses(), is(1L));
+		assertThat(bin.toString(), startsWith("Striped"));
+	}
+
+	@Test public void shouldHaveStripeForEachProcessor()
+	{
+		assertThat(StripedRecycleBin.defaultStripeCount().getAsInt(),
+			is(greaterThanOrEqualTo(Runtime.getRuntime().availableProcessors())));
+	}
+}
@@ -0,0 +1,99 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.*;
+
+public class ThreadLocalRecycleBinTest
+{
+	static final class Item implements Recyclable
+	{
+		private boolean _discarded;
+
+		@Override public boolean isDiscarded() { return _discarded; }
+
+		@Override public void discard() { _discarded = true; }
+	}
+
+	@Test public void shouldCombineStatsOfAllThreads() throws Exception
+	{
+		final ThreadLocalRecycleBin<Item> bin = new ThreadLocalRecycleBin<>(new RingBufferSize(2));
+		final ExecutorService thread = Executors.newSingleThreadExecutor();
+		try
+		{
+			bin.recycle(item -> item._discarded = false, Item::new).discard();
+			bin.recycle(item -> item._discarded = false, Item::new);
+			thread.submit(() -> bin.recycle(item -> item._discarded = false, Item::new).discard()).get();
+
+			final RecycleStats stats = bin.stats();
+			assertThat(stats.getMisses(), is(3L));
+			assertThat(stats.getHits(), is(0L));
+			assertThat(stats.getSize(), is(4));
+			assertThat(stats.getOccupancy(), is(2));
+		}
+		finally { thread.shutdown(); }
+	}
+
+	@Test public void shouldResetStats()
+	{
+		final ThreadLocalRecycleBin<Item> bin = new ThreadLocalRecycleBin<>(new RingBufferSize(1));
+		bin.recycle(item -> item._discarded = false, Item::new).discard();
+		bin.recycle(item -> item._discarded = false, Item::new);
+		assertThat(bin.toString(), containsString("1 / 2 (50.0%)"));
+		bin.resetStats();
+		assertThat(bin.stats().getRecycles(), is(0L));
+	}
+
+	@Test public void shouldForgetRingBuffersOfDeadThreads() throws Exception
+	{
+		final ThreadLocalRecycleBin<Item> bin = new ThreadLocalRecycleBin<>(new RingBufferSize(1));
+		final Thread thread = new Thread(() -> bin.recycle(item -> { }, Item::new));
+		thread.start();
+		thread.join();
+		for (int attempt = 0; attempt < 100 && bin.stats().getSize() > 0; attempt++)
+		{
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertThat(bin.stats().getSize(), is(0));
+		assertThat(bin.stats().getMisses(), is(1L));
+	}
+
+	@Test public void shouldNotTreatPlatformThreadAsVirtual()
+	{
+		assertThat(ThreadLocalRecycleBin.isVirtual(Thread.currentThread()), is(false));
+	}
+
+	// Executors.newVirtualThreadPerTaskExecutor(), from Java 21
+	private static ExecutorService _newVirtualThreadPerTaskExecutor()
+	{
+		try { return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); }
+		catch (final ReflectiveOperationException e) { return null; }
+	}
+
+	@Test public void shouldShareStripesBetweenVirtualThreads() throws Exception
+	{
+		final ExecutorService threads = _newVirtualThreadPerTaskExecutor();
+		assumeThat(threads, is(notNullValue()));
+		final ThreadLocalRecycleBin<Item> bin = new ThreadLocalRecycleBin<>(new RingBufferSize(1));
+		try
+		{
+			assertThat(threads.submit(() -> ThreadLocalRecycleBin.isVirtual(Thread.currentThread())).get(), is(true));
+			for (int i = 0; i < 1000; i++)
+			{
+				threads.submit(() -> bin.recycle(item -> item._discarded = false, Item::new).discard()).get();
+			}
+		}
+		finally { threads.shutdown(); }
+
+		// One ring for each stripe, rather than each thread
+		final RecycleStats stats = bin.stats();
+		assertThat(stats.getSize(), is(StripedRecycleBin.defaultStripeCount().getAsInt()));
+		assertThat(stats.getHits() + stats.getMisses(), is(1000L));
+		assertThat(stats.getMisses(), is(lessThanOrEqualTo((long) stats.getSize())));
+	}
+}
@@ -0,0 +1,116 @@
+package org.udtopia.recycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Mutable;
+
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * Run the {@link RecycleBenchmark} workload on {@value #_THREADS} virtual threads, each recycling
+ * {@value #_RECYCLES_PER_THREAD} instances, to compare a ring buffer per thread with the striped recycle bin that
+ * {@link AllocationThreads#THREAD_LOCAL} gives virtual threads.
+ * Virtual threads need Java 21; on older JVMs, the tasks run on a pool of platform threads instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class VirtualThreadsBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _THREADS = 100_000;
+	private static final int _RECYCLES_PER_THREAD = 16;
+
+	static final @Mutable class Quantity implements Recyclable
+	{
+		private double _raw;
+
+		Quantity(final double raw) { _raw = raw; }
+
+		@Override public boolean isDiscarded() { return Double.isNaN(_raw); }
+
+		@Override public void discard() { _raw = Double.NaN; }
+	}
+
+	// Non-capturing, so that recycling allocates nothing; the raw value is set after recycling
+	private static final Recycler<Quantity> _REUSE = discarded -> { };
+	private static final Supplier<Quantity> _NEW = () -> new Quantity(0.0);
+
+	/** The recycle bins to compare. */
+	public enum Bin
+	{
+		/** A new instance for every recycle, as a baseline. */
+		ALLOCATE,
+
+		/** A ring buffer for every thread, virtual or not. */
+		PER_THREAD,
+
+		/** {@link AllocationThreads#THREAD_LOCAL}, with a striped recycle bin for virtual threads. */
+		THREAD_LOCAL,
+
+		/** {@link AllocationThreads#SHARED}. */
+		SHARED
+	}
+
+	@Param({"0.00", "0.50", "0.95", "1.00"}) double discardRate;
+	@Param({"ALLOCATE", "PER_THREAD", "THREAD_LOCAL", "SHARED"}) Bin bin;
+
+	private RecycleBin<Quantity> _recycleBin;
+
+	@Setup public void createBin()
+	{
+		final RingBufferSize binSize = new RingBufferSize(RecycleBinSize.DEFAULT_SIZE);
+		switch (bin)
+		{
+			case ALLOCATE: _recycleBin = (recycler, generator) -> generator.get(); break;
+			case PER_THREAD:
+				_recycleBin =
+					new ThreadLocalRecycleBin<>(counter -> new RingBufferRecycleBin<>(binSize, counter), false);
+				break;
+			case THREAD_LOCAL: _recycleBin = AllocationThreads.THREAD_LOCAL.recycleBin(binSize); break;
+			default: _recycleBin = AllocationThreads.SHARED.recycleBin(binSize); break;
+		}
+	}
+
+	// Executors.newVirtualThreadPerTaskExecutor(), from Java 21
+	private static ExecutorService _newExecutor()
+	{
+		try { return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); }
+		catch (final ReflectiveOperationException e)
+		{
+			return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		}
+	}
+
+	private void _recycleWithRandomDiscard()
+	{
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		Quantity previous = null;
+		for (int i = 0; i < _RECYCLES_PER_THREAD; i++)
+		{
+			final double raw = random.nextDouble();
+			final Quantity qty = _recycleBin.recycle(_REUSE, _NEW);
+			qty._raw = raw;
+			if (previous != null && raw <= discardRate) { previous.discard(); }
+			previous = qty;
+		}
+	}
+
+	@Benchmark public void virtualThreads() throws InterruptedException
+	{
+		final ExecutorService executor = _newExecutor();
+		for (int i = 0; i < _THREADS; i++) { executor.execute(this::_recycleWithRandomDiscard); }
+		executor.shutdown();
+		executor.awaitTermination(1, MINUTES);
+	}
+}
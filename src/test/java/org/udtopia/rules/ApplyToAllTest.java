@@ -0,0 +1,146 @@
+package org.udtopia.rules;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/** Bulk application of each rule must give the same results as applying it to one value at a time. */
+public class ApplyToAllTest
+{
+	private static final double[] _DOUBLES = {
+		Double.NEGATIVE_INFINITY, -1e18, -10.5, -10.0, -9.5, -1.0, -0.0, 0.0, 0.5, 1.0, 4.0, 9.5, 10.0, 10.5, 1e18,
+		Double.POSITIVE_INFINITY, Double.NaN,
+	};
+
+	private static final long[] _LONGS = {
+		Long.MIN_VALUE, -11L, -10L, -9L, -1L, 0L, 1L, 4L, 9L, 10L, 11L, Long.MAX_VALUE,
+	};
+
+	private static final int[] _INTS = {Integer.MIN_VALUE, -11, -10, -9, -1, 0, 1, 4, 9, 10, 11, Integer.MAX_VALUE};
+
+	private static void _assertEquivalent(final IntRule rule)
+	{
+		final int[] values = _INTS.clone();
+		final BitSet failures = new BitSet();
+		rule.applyToAll(ApplyToAllTest.class, values, values.length, failures);
+		for (int i = 0; i < _INTS.length; i++)
+		{
+			try
+			{
+				final int expected = rule.applyTo(ApplyToAllTest.class, _INTS[i]);
+				assertThat(rule + " " + _INTS[i], failures.get(i), is(false));
+				assertThat(rule + " " + _INTS[i], values[i], is(expected));
+			}
+			catch (final ValidationException e) { assertThat(rule + " " + _INTS[i], failures.get(i), is(true)); }
+		}
+	}
+
+	private static void _assertEquivalent(final LongRule rule)
+	{
+		final long[] values = _LONGS.clone();
+		final BitSet failures = new BitSet();
+		rule.applyToAll(ApplyToAllTest.class, values, values.length, failures);
+		for (int i = 0; i < _LONGS.length; i++)
+		{
+			try
+			{
+				final long expected = rule.applyTo(ApplyToAllTest.class, _LONGS[i]);
+				assertThat(rule + " " + _LONGS[i], failures.get(i), is(false));
+				assertThat(rule + " " + _LONGS[i], values[i], is(expected));
+			}
+			catch (final ValidationException e) { assertThat(rule + " " + _LONGS[i], failures.get(i), is(true)); }
+		}
+	}
+
+	private static void _assertEquivalent(final DoubleRule rule)
+	{
+		final double[] values = _DOUBLES.clone();
+		final BitSet failures = new BitSet();
+		rule.applyToAll(ApplyToAllTest.class, values, values.length, failures);
+		for (int i = 0; i < _DOUBLES.length; i++)
+		{
+			try
+			{
+				final double expected = rule.applyTo(ApplyToAllTest.class, _DOUBLES[i]);
+				assertThat(rule + " " + _DOUBLES[i], failures.get(i), is(false));
+				assertThat(rule + " " + _DOUBLES[i], values[i], is(expected));
+			}
+			catch (final ValidationException e) { assertThat(rule + " " + _DOUBLES[i], failures.get(i), is(true)); }
+		}
+	}
+
+	private static void _assertEquivalentForEachType(final Object rule)
+	{
+		if (rule instanceof IntRule) { _assertEquivalent((IntRule) rule); }
+		if (rule instanceof LongRule) { _assertEquivalent((LongRule) rule); }
+		if (rule instanceof DoubleRule) { _assertEquivalent((DoubleRule) rule); }
+	}
+
+	@Test public void shouldValidateInBulk()
+	{
+		for (final Object rule: Arrays.asList(
+			new Min.Rule(-10),
+			new Max.Rule(9.5),
+			new GreaterThan.Rule(-1),
+			new LessThan.Rule(10),
+			new MultipleOf.Rule(2)))
+		{
+			_assertEquivalentForEachType(rule);
+		}
+	}
+
+	@Test public void shouldNormalizeInBulk()
+	{
+		for (final Object rule: Arrays.asList(
+			new Floor.Rule(-9.5),
+			new Ceiling.Rule(9.5),
+			new Round.Rule(4),
+			new Clamp(-9, 10, -9L, 10L, -9.5, 10.5, "@Floor -> @Ceiling")))
+		{
+			_assertEquivalentForEachType(rule);
+		}
+	}
+
+	@Test public void shouldCheckFusedRangeInBulk()
+	{
+		_assertEquivalentForEachType(new Range(new Min.Rule(-10), new Max.Rule(10)));
+		_assertEquivalentForEachType(new Range(new GreaterThan.Rule(-1e19), new LessThan.Rule(1e19)));
+	}
+
+	@Test public void shouldApplyChainsAndCustomRulesInBulk()
+	{
+		final IntValidator even = (target, value) ->
+		{
+			if (value % 2 != 0) { throw new ValidationException(target, value + " is odd"); }
+		};
+		final IntNormalizer half = value -> value / 2;
+		_assertEquivalent(IntRule.Chain.together(new Min.Rule(-10), IntRule.Chain.together(even, half)));
+
+		final LongValidator positive = (target, value) ->
+		{
+			if (value <= 0) { throw new ValidationException(target, value + " <= 0"); }
+		};
+		final LongNormalizer twice = value -> value * 2;
+		_assertEquivalent(LongRule.Chain.together(positive, twice));
+
+		final DoubleValidator finite = (target, value) ->
+		{
+			if (Double.isInfinite(value)) { throw new ValidationException(target, value + " is infinite"); }
+		};
+		final DoubleNormalizer negate = value -> -value;
+		_assertEquivalent(DoubleRule.Chain.together(finite, negate));
+	}
+
+	@Test public void shouldSkipValuesThatAlreadyFailed()
+	{
+		final int[] values = {1, 2, 3};
+		final BitSet failures = new BitSet();
+		failures.set(1);
+		final IntValidator failAll = (target, value) -> { throw new ValidationException(target, "fail"); };
+		failAll.applyToAll(getClass(), values, 2, failures);
+		assertThat(failures.toString(), is("{0, 1}"));
+	}
+}
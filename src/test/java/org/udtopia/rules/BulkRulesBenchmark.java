@@ -0,0 +1,63 @@
+package org.udtopia.rules;
+
+import java.util.BitSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+
+/**
+ * Compare applying the rules of a UDT class to a batch of raw values one at a time, versus all at once.
+ */
+public class BulkRulesBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	@Min(1) @Max(1_000_000) @MultipleOf(1)
+	static final @Value class Quantity { }
+
+	@Floor(0) @Ceiling(1_000_000) @Round(toNearest = 0.01)
+	static final @Value class Price { }
+
+	@Param({"4096"}) int batchSize;
+
+	private int[] _quantities;
+	private int[] _quantityResults;
+	private double[] _prices;
+	private double[] _priceResults;
+
+	@Setup public void generateBatches()
+	{
+		_quantities = RAND.ints(batchSize, 1, 1_000_000).toArray();
+		_quantityResults = new int[batchSize];
+		_prices = RAND.doubles(batchSize, 0, 1_000_000).toArray();
+		_priceResults = new double[batchSize];
+	}
+
+	@Benchmark public int[] quantitiesOneAtATime()
+	{
+		final int[] quantities = _quantities;
+		final int[] results = _quantityResults;
+		for (int i = 0; i < quantities.length; i++)
+		{
+			results[i] = IntRule.applyRulesFor(Quantity.class, quantities[i]);
+		}
+		return results;
+	}
+
+	@Benchmark public BitSet quantitiesInBulk()
+	{
+		return IntRule.applyRulesFor(Quantity.class, _quantities, _quantityResults);
+	}
+
+	@Benchmark public double[] pricesOneAtATime()
+	{
+		final double[] prices = _prices;
+		final double[] results = _priceResults;
+		for (int i = 0; i < prices.length; i++) { results[i] = DoubleRule.applyRulesFor(Price.class, prices[i]); }
+		return results;
+	}
+
+	@Benchmark public BitSet pricesInBulk() { return DoubleRule.applyRulesFor(Price.class, _prices, _priceResults); }
+}
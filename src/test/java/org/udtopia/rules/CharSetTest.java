@@ -0,0 +1,66 @@
+package org.udtopia.rules;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+public class CharSetTest
+{
+	@Test public void shouldContainConsecutiveCharacters()
+	{
+		final CharSet digits = new CharSet("0123456789");
+		assertThat(digits.contains('0'), is(true));
+		assertThat(digits.contains('9'), is(true));
+		assertThat(digits.contains('/'), is(false));
+		assertThat(digits.contains(':'), is(false));
+		assertThat(digits.contains('\0'), is(false));
+		assertThat(digits.contains('\uFFFF'), is(false));
+	}
+
+	@Test public void shouldContainConsecutiveCharactersInAnyOrder()
+	{
+		final CharSet set = new CharSet("CAB");
+		assertThat(set.containsAll("ABBA"), is(true));
+		assertThat(set.containsAll("ABBAD"), is(false));
+		assertThat(set.containsAny("xyzC"), is(true));
+		assertThat(set.containsAny("xyz@D"), is(false));
+	}
+
+	@Test public void shouldContainScatteredCharacters()
+	{
+		final CharSet set = new CharSet("aeiou");
+		assertThat(set.containsAll("aiueo"), is(true));
+		assertThat(set.containsAll("abc"), is(false));
+		assertThat(set.containsAny("xyz"), is(false));
+		assertThat(set.containsAny("xyzu"), is(true));
+	}
+
+	@Test public void shouldContainNonAsciiCharacters()
+	{
+		final CharSet set = new CharSet("$\u00A3\u20AC");
+		assertThat(set.containsAll("\u20AC$\u00A3"), is(true));
+		assertThat(set.containsAll("\u20AC\u20AD"), is(false));
+		assertThat(set.containsAll("\uFFFF"), is(false));
+		assertThat(set.containsAny("abc\u00A3"), is(true));
+		assertThat(set.containsAny("abc\uFFFF"), is(false));
+	}
+
+	@Test public void shouldContainHighestCharacter()
+	{
+		final CharSet set = new CharSet("\uFFFF");
+		assertThat(set.contains('\uFFFF'), is(true));
+		assertThat(set.contains('\uFFFE'), is(false));
+		assertThat(set.contains('\0'), is(false));
+	}
+
+	@Test public void shouldContainNothingWhenEmpty()
+	{
+		final CharSet set = new CharSet("");
+		assertThat(set.contains('\0'), is(false));
+		assertThat(set.contains('a'), is(false));
+		assertThat(set.containsAll(""), is(true));
+		assertThat(set.containsAll("a"), is(false));
+		assertThat(set.containsAny("a\uFFFF"), is(false));
+	}
+}
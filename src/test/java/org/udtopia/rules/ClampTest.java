@@ -0,0 +1,74 @@
+package org.udtopia.rules;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class ClampTest
+{
+	private static final double[] _DOUBLES = {
+		Double.NEGATIVE_INFINITY, -1e18, -10.5, -5.0, -0.0, 0.0, 2.5, 5.0, 10.5, 1e18,
+		Double.POSITIVE_INFINITY, Double.NaN,
+	};
+
+	private static final long[] _LONGS = {Long.MIN_VALUE, -11L, -5L, 0L, 3L, 5L, 11L, Long.MAX_VALUE};
+
+	private static final int[] _INTS = {Integer.MIN_VALUE, -11, -5, 0, 3, 5, 11, Integer.MAX_VALUE};
+
+	// The fused clamp must give the same results as the original rules, for every value
+	private static void _assertEquivalent(final Object... rules)
+	{
+		final List<Object> ruleList = Arrays.asList(rules);
+		final Clamp clamp = ruleList.stream().map(Clamp::of).reduce(Clamp::then).orElseThrow(AssertionError::new);
+		for (final double value: _DOUBLES)
+		{
+			double expected = value;
+			for (final Object rule: ruleList) { expected = ((DoubleRule) rule).applyTo(ClampTest.class, expected); }
+			assertThat(clamp.applyTo(ClampTest.class, value), is(expected));
+		}
+		for (final long value: _LONGS)
+		{
+			long expected = value;
+			for (final Object rule: ruleList) { expected = ((LongRule) rule).applyTo(ClampTest.class, expected); }
+			assertThat(clamp.applyTo(ClampTest.class, value), is(expected));
+		}
+		for (final int value: _INTS)
+		{
+			int expected = value;
+			for (final Object rule: ruleList) { expected = ((IntRule) rule).applyTo(ClampTest.class, expected); }
+			assertThat(clamp.applyTo(ClampTest.class, value), is(expected));
+		}
+	}
+
+	@Test public void shouldFuseFloorAndCeiling() { _assertEquivalent(new Floor.Rule(-5), new Ceiling.Rule(5)); }
+
+	@Test public void shouldFuseCeilingAndFloor() { _assertEquivalent(new Ceiling.Rule(5), new Floor.Rule(-5)); }
+
+	@Test public void shouldFuseCrossedLimits()
+	{
+		_assertEquivalent(new Floor.Rule(5), new Ceiling.Rule(-5));
+		_assertEquivalent(new Ceiling.Rule(-5), new Floor.Rule(5));
+	}
+
+	@Test public void shouldFuseManyLimits()
+	{
+		_assertEquivalent(new Floor.Rule(-5), new Ceiling.Rule(5), new Floor.Rule(0), new Ceiling.Rule(2.5));
+		_assertEquivalent(new Ceiling.Rule(1e19), new Floor.Rule(-1e19), new Floor.Rule(3), new Floor.Rule(-3));
+	}
+
+	@Test public void shouldDescribeOriginalRules()
+	{
+		final Clamp clamp = Clamp.of(new Floor.Rule(-5)).then(Clamp.of(new Ceiling.Rule(5)));
+		assertThat(clamp.toString(), is("@Floor(-5.0) -> @Ceiling(5.0)"));
+	}
+
+	@Test public void shouldOnlyConvertLimits()
+	{
+		final Clamp clamp = Clamp.of(new Floor.Rule(0));
+		assertThat(Clamp.of(clamp), is(sameInstance(clamp)));
+		assertThat(Clamp.of(new Min.Rule(0)), is(nullValue()));
+	}
+}
@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -73,4 +74,29 @@ public class DoubleRuleTest
 		final DoubleRule rule = DoubleRule.RULES.get(A.class);
 		assertThat(rule.toString(), is("@Min(2.0) -> @Max(20.0) -> @Ceiling(19.0)"));
 	}
+
+	@Min(0) @Max(10) @Floor(1) static final class Digit { }
+
+	@Test public void shouldApplyRulesToArray()
+	{
+		final double[] src = {5.0, -3.0, 12.0, 7.0};
+		final double[] dst = new double[5];
+		final BitSet failures = DoubleRule.applyRulesFor(Digit.class, src, dst);
+		assertThat(failures.toString(), is("{1, 2}"));
+		assertThat(dst[0], is(src[0]));
+		assertThat(dst[3], is(src[3]));
+		assertThat(src, is(new double[] {5.0, -3.0, 12.0, 7.0}));
+	}
+
+	@Test public void shouldApplyRulesToArrayInPlace()
+	{
+		final double[] values = {0, 4, 9};
+		assertThat(DoubleRule.applyRulesFor(Digit.class, values, values).isEmpty(), is(true));
+		assertThat(values, is(new double[] {1, 4, 9}));
+	}
+
+	@Test(expected = IllegalArgumentException.class) public void shouldRejectShortDestinationArray()
+	{
+		DoubleRule.applyRulesFor(Digit.class, new double[2], new double[1]);
+	}
 }
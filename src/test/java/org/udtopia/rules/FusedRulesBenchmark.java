@@ -0,0 +1,27 @@
+package org.udtopia.rules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.rules.RulesBenchmark.FloorCeilingUDT;
+import org.udtopia.rules.RulesBenchmark.MinMaxUDT;
+import org.udtopia.rules.RulesBenchmark.Pojo;
+import org.udtopia.rules.RulesBenchmark.TrimLowerCaseUDT;
+
+/**
+ * The multi-rule UDTs of {@link RulesBenchmark}, with {@linkplain RuleFusion rule fusion} enabled.
+ * Compare with the same benchmarks in {@link RulesBenchmark}, and with {@code baselinePojoNew}.
+ */
+@Fork(value = 3, jvmArgsAppend = "-D" + RuleFusion.PROPERTY + "=true")
+public class FusedRulesBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	@Benchmark public static Pojo baselinePojoNew() { return new Pojo(RAND.nextDouble()); }
+
+	@Benchmark public static MinMaxUDT minMaxUDT() { return new MinMaxUDT(RAND.nextDouble()); }
+
+	@Benchmark public static FloorCeilingUDT floorCeilingUDT() { return new FloorCeilingUDT(RAND.nextDouble()); }
+
+	@Benchmark public static TrimLowerCaseUDT trimLowerCaseUDT() { return new TrimLowerCaseUDT(" " + RAND_STR.get()); }
+}
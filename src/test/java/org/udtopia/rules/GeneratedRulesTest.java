@@ -0,0 +1,136 @@
+package org.udtopia.rules;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import org.udtopia.assertion.AssertControl;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.udtopia.rules.ApplyRuleWhen.*;
+
+public class GeneratedRulesTest
+{
+	@Test public void shouldFindNoRulesForClassWithoutGeneratedClass()
+	{
+		assertThat(GeneratedRules.forClass(Object.class), is(Optional.empty()));
+	}
+
+	static final class NotGenerated { }
+
+	static final class NotGenerated_Rules { }
+
+	@Test public void shouldIgnoreClassThatDoesNotExtendGeneratedRules()
+	{
+		assertThat(GeneratedRules.forClass(NotGenerated.class), is(Optional.empty()));
+	}
+
+	static final class Hidden { }
+
+	public static final class Hidden_Rules extends GeneratedRules
+	{
+		private Hidden_Rules() { }
+
+		@Override protected void addRules(final Class<?> annotatedClass, final List<Object> rules) { }
+	}
+
+	@Test public void shouldIgnoreGeneratedRulesWithoutPublicConstructor()
+	{
+		assertThat(GeneratedRules.forClass(Hidden.class), is(Optional.empty()));
+	}
+
+	static final class Found { }
+
+	public static final class Found_Rules extends GeneratedRules
+	{
+		@Override protected void addRules(final Class<?> annotatedClass, final List<Object> rules) { }
+	}
+
+	@Test public void shouldFindGeneratedRules()
+	{
+		assertThat(GeneratedRules.forClass(Found.class).get(), is(instanceOf(Found_Rules.class)));
+	}
+
+	static final class Unlisted { }
+
+	public static final class Unlisted_Rules extends GeneratedRules
+	{
+		@Override protected void addRules(final Class<?> annotatedClass, final List<Object> rules) { }
+	}
+
+	@Test public void shouldIgnoreGeneratedRulesOfClassNotListedInIndex()
+	{
+		assertThat(GeneratedRules.forClass(Unlisted.class), is(Optional.empty()));
+	}
+
+	@Test public void shouldApplyCondition()
+	{
+		class Asserting { }
+		AssertControl.DISABLE.forClass(Asserting.class);
+		assertThat(GeneratedRules.applies(ASSERTS_ENABLED, Asserting.class), is(false));
+		assertThat(GeneratedRules.applies(ALWAYS, Asserting.class), is(true));
+	}
+
+	@Ceiling(1) @Floor(2) @GreaterThan(3) @LessThan(4) @Max(5) @Min(6) @MultipleOf(7) @Round(toNearest = 8)
+	static final class Numeric { }
+
+	@Test public void shouldBuildSameNumericRulesAsAnnotations()
+	{
+		assertThat(
+			GeneratedRules.ceiling(1).toString(),
+			is(new Ceiling.Rule(Numeric.class.getAnnotation(Ceiling.class)).toString()));
+		assertThat(
+			GeneratedRules.floor(2).toString(),
+			is(new Floor.Rule(Numeric.class.getAnnotation(Floor.class)).toString()));
+		assertThat(
+			GeneratedRules.greaterThan(3).toString(),
+			is(new GreaterThan.Rule(Numeric.class.getAnnotation(GreaterThan.class)).toString()));
+		assertThat(
+			GeneratedRules.lessThan(4).toString(),
+			is(new LessThan.Rule(Numeric.class.getAnnotation(LessThan.class)).toString()));
+		assertThat(
+			GeneratedRules.max(5).toString(),
+			is(new Max.Rule(Numeric.class.getAnnotation(Max.class)).toString()));
+		assertThat(
+			GeneratedRules.min(6).toString(),
+			is(new Min.Rule(Numeric.class.getAnnotation(Min.class)).toString()));
+		assertThat(
+			GeneratedRules.multipleOf(7).toString(),
+			is(new MultipleOf.Rule(Numeric.class.getAnnotation(MultipleOf.class)).toString()));
+		assertThat(
+			GeneratedRules.round(8).toString(),
+			is(new Round.Rule(Numeric.class.getAnnotation(Round.class)).toString()));
+	}
+
+	@Chars("abc") @NotChars("xyz") @Matching("a.*") @NotMatching(".*z") @Replace(pattern = "b", with = "c") @Trim
+	@LowerCase(locale = "tr") @UpperCase(locale = "en")
+	static final class Text { }
+
+	@Test public void shouldBuildSameStringRulesAsAnnotations()
+	{
+		assertThat(
+			GeneratedRules.chars("abc").toString(),
+			is(new Chars.Rule(Text.class.getAnnotation(Chars.class)).toString()));
+		assertThat(
+			GeneratedRules.notChars("xyz").toString(),
+			is(new NotChars.Rule(Text.class.getAnnotation(NotChars.class)).toString()));
+		assertThat(
+			GeneratedRules.matching("a.*").toString(),
+			is(new Matching.Rule(Text.class.getAnnotation(Matching.class)).toString()));
+		assertThat(
+			GeneratedRules.notMatching(".*z").toString(),
+			is(new NotMatching.Rule(Text.class.getAnnotation(NotMatching.class)).toString()));
+		assertThat(
+			GeneratedRules.replace("b", "c").toString(),
+			is(new Replace.Rule(Text.class.getAnnotation(Replace.class)).toString()));
+		assertThat(
+			GeneratedRules.trim().toString(),
+			is(new Trim.Rule(Text.class.getAnnotation(Trim.class)).toString()));
+		assertThat(
+			GeneratedRules.lowerCase("tr").toString(),
+			is(new LowerCase.Rule(Text.class.getAnnotation(LowerCase.class)).toString()));
+		assertThat(
+			GeneratedRules.upperCase("en").toString(),
+			is(new UpperCase.Rule(Text.class.getAnnotation(UpperCase.class)).toString()));
+	}
+}
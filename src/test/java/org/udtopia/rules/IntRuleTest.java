@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -73,4 +74,29 @@ public class IntRuleTest
 		final IntRule rule = IntRule.RULES.get(A.class);
 		assertThat(rule.toString(), is("@Min(2.0) -> @Max(20.0) -> @Ceiling(19.0)"));
 	}
+
+	@Min(0) @Max(10) @Floor(1) static final class Digit { }
+
+	@Test public void shouldApplyRulesToArray()
+	{
+		final int[] src = {5, -3, 12, 7};
+		final int[] dst = new int[5];
+		final BitSet failures = IntRule.applyRulesFor(Digit.class, src, dst);
+		assertThat(failures.toString(), is("{1, 2}"));
+		assertThat(dst[0], is(src[0]));
+		assertThat(dst[3], is(src[3]));
+		assertThat(src, is(new int[] {5, -3, 12, 7}));
+	}
+
+	@Test public void shouldApplyRulesToArrayInPlace()
+	{
+		final int[] values = {0, 4, 9};
+		assertThat(IntRule.applyRulesFor(Digit.class, values, values).isEmpty(), is(true));
+		assertThat(values, is(new int[] {1, 4, 9}));
+	}
+
+	@Test(expected = IllegalArgumentException.class) public void shouldRejectShortDestinationArray()
+	{
+		IntRule.applyRulesFor(Digit.class, new int[2], new int[1]);
+	}
 }
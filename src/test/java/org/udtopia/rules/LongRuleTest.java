@@ -1,5 +1,6 @@
 package org.udtopia.rules;
 
+import java.util.BitSet;
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -73,4 +74,29 @@ public class LongRuleTest
 		final LongRule rule = LongRule.RULES.get(A.class);
 		assertThat(rule.toString(), is("@Min(2.0) -> @Max(20.0) -> @Ceiling(19.0)"));
 	}
+
+	@Min(0) @Max(10) @Floor(1) static final class Digit { }
+
+	@Test public void shouldApplyRulesToArray()
+	{
+		final long[] src = {5L, -3L, 12L, 7L};
+		final long[] dst = new long[5];
+		final BitSet failures = LongRule.applyRulesFor(Digit.class, src, dst);
+		assertThat(failures.toString(), is("{1, 2}"));
+		assertThat(dst[0], is(src[0]));
+		assertThat(dst[3], is(src[3]));
+		assertThat(src, is(new long[] {5L, -3L, 12L, 7L}));
+	}
+
+	@Test public void shouldApplyRulesToArrayInPlace()
+	{
+		final long[] values = {0, 4, 9};
+		assertThat(LongRule.applyRulesFor(Digit.class, values, values).isEmpty(), is(true));
+		assertThat(values, is(new long[] {1, 4, 9}));
+	}
+
+	@Test(expected = IllegalArgumentException.class) public void shouldRejectShortDestinationArray()
+	{
+		LongRule.applyRulesFor(Digit.class, new long[2], new long[1]);
+	}
 }
@@ -0,0 +1,89 @@
+package org.udtopia.rules;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class RangeTest
+{
+	private static final double[] _DOUBLES = {
+		Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1e18, -10.5, -10.0, -9.5, -1.0, -0.0, 0.0, Double.MIN_VALUE,
+		0.5, 1.0, 9.5, 10.0, 10.5, 1e18, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN,
+	};
+
+	private static final long[] _LONGS = {Long.MIN_VALUE, -11L, -10L, -9L, -1L, 0L, 1L, 9L, 10L, 11L, Long.MAX_VALUE};
+
+	private static final int[] _INTS = {Integer.MIN_VALUE, -11, -10, -9, -1, 0, 1, 9, 10, 11, Integer.MAX_VALUE};
+
+	private static String _result(final DoubleRule rule, final double value)
+	{
+		try { return String.valueOf(rule.applyTo(RangeTest.class, value)); }
+		catch (final ValidationException e) { return e.getMessage(); }
+	}
+
+	private static String _result(final LongRule rule, final long value)
+	{
+		try { return String.valueOf(rule.applyTo(RangeTest.class, value)); }
+		catch (final ValidationException e) { return e.getMessage(); }
+	}
+
+	private static String _result(final IntRule rule, final int value)
+	{
+		try { return String.valueOf(rule.applyTo(RangeTest.class, value)); }
+		catch (final ValidationException e) { return e.getMessage(); }
+	}
+
+	// The fused range must give the same results and exceptions as the original rules, for every value
+	private static void _assertEquivalent(final Object rule1, final Object rule2)
+	{
+		final Range range = new Range(rule1, rule2);
+		final DoubleRule doubles = DoubleRule.Chain.together((DoubleRule) rule1, (DoubleRule) rule2);
+		final LongRule longs = LongRule.Chain.together((LongRule) rule1, (LongRule) rule2);
+		final IntRule ints = IntRule.Chain.together((IntRule) rule1, (IntRule) rule2);
+		for (final double value: _DOUBLES)
+		{
+			assertThat(_result((DoubleRule) range, value), is(_result(doubles, value)));
+		}
+		for (final long value: _LONGS) { assertThat(_result((LongRule) range, value), is(_result(longs, value))); }
+		for (final int value: _INTS) { assertThat(_result((IntRule) range, value), is(_result(ints, value))); }
+		assertThat(range.toString(), is(doubles.toString()));
+	}
+
+	@Test public void shouldFuseMinAndMax() { _assertEquivalent(new Min.Rule(-10), new Max.Rule(10)); }
+
+	@Test public void shouldFuseMaxAndMin() { _assertEquivalent(new Max.Rule(10), new Min.Rule(-10)); }
+
+	@Test public void shouldFuseGreaterThanAndLessThan()
+	{
+		_assertEquivalent(new GreaterThan.Rule(-10), new LessThan.Rule(10));
+	}
+
+	@Test public void shouldFuseFractionalBounds() { _assertEquivalent(new Min.Rule(-9.5), new LessThan.Rule(9.5)); }
+
+	@Test public void shouldFuseEmptyRange() { _assertEquivalent(new Min.Rule(10), new Max.Rule(-10)); }
+
+	@Test public void shouldFuseInfiniteBounds()
+	{
+		_assertEquivalent(new GreaterThan.Rule(Double.POSITIVE_INFINITY), new LessThan.Rule(Double.NEGATIVE_INFINITY));
+		_assertEquivalent(new GreaterThan.Rule(Double.NEGATIVE_INFINITY), new LessThan.Rule(Double.POSITIVE_INFINITY));
+	}
+
+	@Test public void shouldFuseNaNBounds() { _assertEquivalent(new Min.Rule(Double.NaN), new Max.Rule(Double.NaN)); }
+
+	@Test public void shouldFuseRangeWithAnotherBound()
+	{
+		_assertEquivalent(new Range(new Min.Rule(-10), new Max.Rule(10)), new GreaterThan.Rule(0));
+		_assertEquivalent(new LessThan.Rule(0), new Range(new Min.Rule(-10), new Max.Rule(10)));
+	}
+
+	@Test public void shouldRecogniseBounds()
+	{
+		assertThat(Range.isBound(new Min.Rule(0)), is(true));
+		assertThat(Range.isBound(new Max.Rule(0)), is(true));
+		assertThat(Range.isBound(new GreaterThan.Rule(0)), is(true));
+		assertThat(Range.isBound(new LessThan.Rule(0)), is(true));
+		assertThat(Range.isBound(new Range(new Min.Rule(0), new Max.Rule(1))), is(true));
+		assertThat(Range.isBound(new Floor.Rule(0)), is(false));
+	}
+}
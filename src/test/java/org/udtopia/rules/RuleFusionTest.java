@@ -0,0 +1,54 @@
+package org.udtopia.rules;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class RuleFusionTest
+{
+	@Test public void shouldBeDisabledByDefault() { assertThat(RuleFusion.ENABLED, is(false)); }
+
+	@Test public void shouldFuseBoundsIntoRange()
+	{
+		assertThat(RuleFusion.fuse(new Min.Rule(0), new Max.Rule(1)), is(instanceOf(Range.class)));
+	}
+
+	@Test public void shouldFuseLimitsIntoClamp()
+	{
+		assertThat(RuleFusion.fuse(new Floor.Rule(0), new Ceiling.Rule(1)), is(instanceOf(Clamp.class)));
+	}
+
+	@Test public void shouldFuseTrimAndCase()
+	{
+		assertThat(RuleFusion.fuse(new Trim.Rule(), new UpperCase.Rule("")), is(instanceOf(TrimCase.class)));
+	}
+
+	@Test public void shouldNotFuseUnrelatedRules()
+	{
+		assertThat(RuleFusion.fuse(new Min.Rule(0), new Floor.Rule(1)), is(nullValue()));
+		assertThat(RuleFusion.fuse(new Floor.Rule(0), new Min.Rule(1)), is(nullValue()));
+		assertThat(RuleFusion.fuse(new Trim.Rule(), new Min.Rule(1)), is(nullValue()));
+	}
+
+	@Test public void shouldFuseAdjacentRulesInChain()
+	{
+		final List<IntRule> rules = Arrays.asList(
+			new Min.Rule(0), new Max.Rule(100), new MultipleOf.Rule(5), new Floor.Rule(10), new Ceiling.Rule(50));
+		final List<IntRule> fused = IntRule.RULES.fuse(rules);
+		assertThat(fused, hasSize(3));
+		assertThat(fused.get(0), is(instanceOf(Range.class)));
+		assertThat(fused.get(1), is(sameInstance(rules.get(2))));
+		assertThat(fused.get(2), is(instanceOf(Clamp.class)));
+		final IntRule chain = fused.stream().reduce(IntRule.NULL, IntRule.Chain::together);
+		assertThat(chain.toString(), is(rules.stream().reduce(IntRule.NULL, IntRule.Chain::together).toString()));
+	}
+
+	@Test public void shouldNotFuseStringLengthBounds()
+	{
+		final List<StringRule> rules = Arrays.asList(new Min.Rule(1), new Max.Rule(10), new Trim.Rule());
+		assertThat(StringRule.RULES.fuse(rules), is(rules));
+	}
+}
@@ -6,10 +6,20 @@ import org.udtopia.Value;
 import org.udtopia.pure.PureDouble;
 import org.udtopia.pure.PureString;
 
+import static java.util.stream.Collectors.*;
+import static java.util.stream.Stream.*;
+
 public class RulesBenchmark extends BaseBenchmark
 {
 	public static void main(final String[] args) { runBenchmark(args); }
 
+	// Strings of 1,024 printable characters, for rules that check every character
+	private static final String[] _LONG_STRINGS =
+		generate(() -> generate(RAND_STR).limit(32).collect(joining())).limit(64).toArray(String[]::new);
+	private static int _longStringHead;
+
+	private static String _longString() { return _LONG_STRINGS[_longStringHead++ & 63]; }
+
 	static final @Value class Pojo
 	{
 		@SuppressWarnings("FieldCanBeLocal")
@@ -101,6 +111,8 @@ public class RulesBenchmark extends BaseBenchmark
 
 	@Benchmark public static CharsUDT charsUDT() { return new CharsUDT(RAND_STR.get()); }
 
+	@Benchmark public static CharsUDT charsUDTLong() { return new CharsUDT(_longString()); }
+
 	@NotChars("\u0001\u0002")
 	static final @Value class NotCharsUDT extends PureString<NotCharsUDT>
 	{
@@ -109,6 +121,8 @@ public class RulesBenchmark extends BaseBenchmark
 
 	@Benchmark public static NotCharsUDT notCharsUDT() { return new NotCharsUDT(RAND_STR.get()); }
 
+	@Benchmark public static NotCharsUDT notCharsUDTLong() { return new NotCharsUDT(_longString()); }
+
 	@LowerCase
 	static final @Value class LowerCaseUDT extends PureString<LowerCaseUDT>
 	{
@@ -156,4 +170,28 @@ public class RulesBenchmark extends BaseBenchmark
 	}
 
 	@Benchmark public static NotMatchingUDT notMatchingUDT() { return new NotMatchingUDT(RAND_STR.get()); }
+
+	@Min(-0.1) @Max(1.1)
+	static final @Value class MinMaxUDT extends PureDouble<MinMaxUDT>
+	{
+		MinMaxUDT(final double raw) { super(MinMaxUDT::new, raw); }
+	}
+
+	@Benchmark public static MinMaxUDT minMaxUDT() { return new MinMaxUDT(RAND.nextDouble()); }
+
+	@Floor(0.25) @Ceiling(0.75)
+	static final @Value class FloorCeilingUDT extends PureDouble<FloorCeilingUDT>
+	{
+		FloorCeilingUDT(final double raw) { super(FloorCeilingUDT::new, raw); }
+	}
+
+	@Benchmark public static FloorCeilingUDT floorCeilingUDT() { return new FloorCeilingUDT(RAND.nextDouble()); }
+
+	@Trim @LowerCase
+	static final @Value class TrimLowerCaseUDT extends PureString<TrimLowerCaseUDT>
+	{
+		TrimLowerCaseUDT(final String raw) { super(TrimLowerCaseUDT::new, raw); }
+	}
+
+	@Benchmark public static TrimLowerCaseUDT trimLowerCaseUDT() { return new TrimLowerCaseUDT(" " + RAND_STR.get()); }
 }
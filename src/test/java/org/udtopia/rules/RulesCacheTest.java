@@ -1,6 +1,7 @@
 package org.udtopia.rules;
 
 import java.lang.annotation.Retention;
+import java.util.List;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.udtopia.assertion.AssertControl;
@@ -125,4 +126,47 @@ public class RulesCacheTest
 		assertThat(IntRule.applyRulesFor(Child.class, 7), is(6));
 		assertThat(IntRule.applyRulesFor(Child.class, 2), is(3));
 	}
+
+	@Test public void shouldFuseRulesWhenEnabled()
+	{
+		@Min(0) @Max(9) class Digit { }
+		final RulesCache<IntRule> fused = new RulesCache<>(IntRule.class, IntRule.NULL, IntRule.Chain::together, true);
+		final IntRule rule = fused.get(Digit.class);
+		assertThat(rule, is(instanceOf(Range.class)));
+		assertThat(rule.toString(), is(IntRule.RULES.get(Digit.class).toString()));
+		assertThat(rule.applyTo(Digit.class, 5), is(5));
+	}
+
+	// Abstract, so that the rules processor leaves the hand-written rules below alone
+	abstract static class Generated { }
+
+	public static final class Generated_Rules extends GeneratedRules
+	{
+		@Override protected void addRules(final Class<?> annotatedClass, final List<Object> rules)
+		{
+			rules.add(min(3));
+			rules.add(trim());
+		}
+	}
+
+	@Test public void shouldPreferGeneratedRulesOfRuleType()
+	{
+		assertThat(IntRule.RULES.get(Generated.class), is(instanceOf(Min.Rule.class)));
+		assertThat(StringRule.RULES.get(Generated.class).toString(), is("@Min(3.0) -> @Trim"));
+	}
+
+	@Floor(2) abstract static class Faulty { }
+
+	public static final class Faulty_Rules extends GeneratedRules
+	{
+		@Override protected void addRules(final Class<?> annotatedClass, final List<Object> rules)
+		{
+			throw new IllegalStateException();
+		}
+	}
+
+	@Test public void shouldFallBackToReflectionWhenGeneratedRulesFail()
+	{
+		assertThat(IntRule.applyRulesFor(Faulty.class, 1), is(2));
+	}
 }
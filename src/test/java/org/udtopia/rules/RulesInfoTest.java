@@ -0,0 +1,70 @@
+package org.udtopia.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class RulesInfoTest
+{
+	private static RulesInfo _infoFor(final Class<?> annotatedClass, final Class<?> ruleType)
+	{
+		final List<RulesInfo> found = new ArrayList<>();
+		RulesInfo.forEach(info ->
+		{
+			if (info.getAnnotatedClass() == annotatedClass && info.getRuleType() == ruleType) { found.add(info); }
+		});
+		assertThat(found, hasSize(1));
+		return found.get(0);
+	}
+
+	@Test public void shouldDescribeIntRules()
+	{
+		@Min(0) @Max(9) class Digit { }
+		IntRule.applyRulesFor(Digit.class, 5);
+		final RulesInfo info = _infoFor(Digit.class, IntRule.class);
+		assertThat(info.getDepth(), is(2));
+		assertThat(info.getRules(), is("@Min(0.0) -> @Max(9.0)"));
+	}
+
+	@Test public void shouldDescribeLongRules()
+	{
+		@Floor(0) class Offset { }
+		LongRule.applyRulesFor(Offset.class, 5L);
+		assertThat(_infoFor(Offset.class, LongRule.class).getDepth(), is(1));
+	}
+
+	@Test public void shouldDescribeDoubleRules()
+	{
+		@Round class Whole { }
+		DoubleRule.applyRulesFor(Whole.class, 5.5);
+		assertThat(_infoFor(Whole.class, DoubleRule.class).getDepth(), is(1));
+	}
+
+	@Test public void shouldDescribeClassWithNoRules()
+	{
+		class Plain { }
+		StringRule.applyRulesFor(Plain.class, "x");
+		final RulesInfo info = _infoFor(Plain.class, StringRule.class);
+		assertThat(info.getDepth(), is(0));
+		assertThat(info.getRules(), is(""));
+	}
+
+	@Test public void shouldCountValidationFailures()
+	{
+		@Min(0) class Count { }
+		IntRule.applyRulesFor(Count.class, 1);
+		final RulesInfo info = _infoFor(Count.class, IntRule.class);
+		assertThat(info.getValidationFailures(), is(0L));
+		try
+		{
+			IntRule.applyRulesFor(Count.class, -1);
+			throw new AssertionError();
+		}
+		catch (final ValidationException expected) { }
+		assertThat(info.getValidationFailures(), is(1L));
+		assertThat(info.toString(), is("Count<IntRule>[1]: @Min(0.0) (1 failures)"));
+	}
+}
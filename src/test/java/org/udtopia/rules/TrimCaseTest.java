@@ -0,0 +1,55 @@
+package org.udtopia.rules;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class TrimCaseTest
+{
+	private static final String[] _STRINGS = {
+		"", " ", "abc", "ABC", "  Mixed Case  ", "\t\nTabs\u0000", "already lower", "ALREADY UPPER", "Ünïcödé ",
+		" İstanbul ", "inside  spaces", "x", " X ",
+	};
+
+	// The fused rule must give the same results as the original rules, for every value
+	private static void _assertEquivalent(final StringRule rule1, final StringRule rule2)
+	{
+		final TrimCase fused = new TrimCase(rule1, rule2);
+		for (final String value: _STRINGS)
+		{
+			final String expected = rule2.applyTo(TrimCaseTest.class, rule1.applyTo(TrimCaseTest.class, value));
+			assertThat(fused.applyTo(TrimCaseTest.class, value), is(expected));
+		}
+		assertThat(fused.toString(), is(rule1 + " -> " + rule2));
+	}
+
+	@Test public void shouldFuseTrimAndLowerCase() { _assertEquivalent(new Trim.Rule(), new LowerCase.Rule("en")); }
+
+	@Test public void shouldFuseLowerCaseAndTrim() { _assertEquivalent(new LowerCase.Rule("en"), new Trim.Rule()); }
+
+	@Test public void shouldFuseTrimAndUpperCase() { _assertEquivalent(new Trim.Rule(), new UpperCase.Rule("en")); }
+
+	@Test public void shouldFuseUpperCaseAndTrim() { _assertEquivalent(new UpperCase.Rule("en"), new Trim.Rule()); }
+
+	@Test public void shouldFuseSpecialCaseLocales()
+	{
+		_assertEquivalent(new Trim.Rule(), new LowerCase.Rule("tr"));
+		_assertEquivalent(new Trim.Rule(), new UpperCase.Rule("az"));
+	}
+
+	@Test public void shouldReturnSameInstanceWhenUnchanged()
+	{
+		final String value = "unchanged";
+		assertThat(new TrimCase(new Trim.Rule(), new LowerCase.Rule("en")).normalize(value), is(sameInstance(value)));
+	}
+
+	@Test public void shouldOnlyFuseTrimWithCase()
+	{
+		assertThat(TrimCase.canFuse(new Trim.Rule(), new LowerCase.Rule("")), is(true));
+		assertThat(TrimCase.canFuse(new UpperCase.Rule(""), new Trim.Rule()), is(true));
+		assertThat(TrimCase.canFuse(new Trim.Rule(), new Trim.Rule()), is(false));
+		assertThat(TrimCase.canFuse(new LowerCase.Rule(""), new UpperCase.Rule("")), is(false));
+		assertThat(TrimCase.canFuse(new Trim.Rule(), new Min.Rule(1)), is(false));
+	}
+}
@@ -0,0 +1,182 @@
+package org.udtopia.rules;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+/** Applying each rule without exceptions must give the same results and messages as applying it with exceptions. */
+public class TryApplyToTest
+{
+	private static final double[] _DOUBLES = {
+		Double.NEGATIVE_INFINITY, -1e18, -10.5, -10.0, -9.5, -1.0, -0.0, 0.0, 0.5, 1.0, 4.0, 9.5, 10.0, 10.5, 1e18,
+		Double.POSITIVE_INFINITY, Double.NaN,
+	};
+
+	private static final long[] _LONGS = {
+		Long.MIN_VALUE, -11L, -10L, -9L, -1L, 0L, 1L, 4L, 9L, 10L, 11L, Long.MAX_VALUE,
+	};
+
+	private static final int[] _INTS = {Integer.MIN_VALUE, -11, -10, -9, -1, 0, 1, 4, 9, 10, 11, Integer.MAX_VALUE};
+
+	private static final String[] _STRINGS = {
+		"", "a", "abc", "abcd", "xyz", "ABC", "a b c", "abcdefghijklmnopqrstuvwxyz",
+	};
+
+	private final ValidationResult _result = new ValidationResult();
+
+	private void _assertEquivalent(final IntRule rule)
+	{
+		for (final int value: _INTS)
+		{
+			_result.reset();
+			final int tried = rule.tryApplyTo(getClass(), value, _result);
+			try
+			{
+				assertThat(rule + " " + value, tried, is(rule.applyTo(getClass(), value)));
+				assertThat(rule + " " + value, _result.isValid(), is(true));
+			}
+			catch (final ValidationException e) { assertThat(_result.getMessage(), is(e.getMessage())); }
+		}
+	}
+
+	private void _assertEquivalent(final LongRule rule)
+	{
+		for (final long value: _LONGS)
+		{
+			_result.reset();
+			final long tried = rule.tryApplyTo(getClass(), value, _result);
+			try
+			{
+				assertThat(rule + " " + value, tried, is(rule.applyTo(getClass(), value)));
+				assertThat(rule + " " + value, _result.isValid(), is(true));
+			}
+			catch (final ValidationException e) { assertThat(_result.getMessage(), is(e.getMessage())); }
+		}
+	}
+
+	private void _assertEquivalent(final DoubleRule rule)
+	{
+		for (final double value: _DOUBLES)
+		{
+			_result.reset();
+			final double tried = rule.tryApplyTo(getClass(), value, _result);
+			try
+			{
+				assertThat(rule + " " + value, tried, is(rule.applyTo(getClass(), value)));
+				assertThat(rule + " " + value, _result.isValid(), is(true));
+			}
+			catch (final ValidationException e) { assertThat(_result.getMessage(), is(e.getMessage())); }
+		}
+	}
+
+	private void _assertEquivalent(final StringRule rule)
+	{
+		for (final String value: _STRINGS)
+		{
+			_result.reset();
+			final String tried = rule.tryApplyTo(getClass(), value, _result);
+			try
+			{
+				assertThat(rule + " " + value, tried, is(rule.applyTo(getClass(), value)));
+				assertThat(rule + " " + value, _result.isValid(), is(true));
+			}
+			catch (final ValidationException e) { assertThat(_result.getMessage(), is(e.getMessage())); }
+		}
+	}
+
+	private void _assertEquivalentForEachType(final Object rule)
+	{
+		if (rule instanceof IntRule) { _assertEquivalent((IntRule) rule); }
+		if (rule instanceof LongRule) { _assertEquivalent((LongRule) rule); }
+		if (rule instanceof DoubleRule) { _assertEquivalent((DoubleRule) rule); }
+		if (rule instanceof StringRule) { _assertEquivalent((StringRule) rule); }
+	}
+
+	@Test public void shouldValidateWithoutExceptions()
+	{
+		for (final Object rule: Arrays.asList(
+			new Min.Rule(3),
+			new Max.Rule(3),
+			new GreaterThan.Rule(-1),
+			new LessThan.Rule(10),
+			new MultipleOf.Rule(2),
+			new Chars.Rule("abc"),
+			new NotChars.Rule("xyz"),
+			new Matching.Rule("a.*"),
+			new NotMatching.Rule(".*c")))
+		{
+			_assertEquivalentForEachType(rule);
+		}
+	}
+
+	@Test public void shouldCheckFusedRangeWithoutExceptions()
+	{
+		_assertEquivalentForEachType(new Range(new Min.Rule(-10), new Max.Rule(10)));
+		_assertEquivalentForEachType(new Range(new GreaterThan.Rule(-1e19), new LessThan.Rule(1e19)));
+	}
+
+	@Test public void shouldNotBuildExceptionsForBuiltInRules()
+	{
+		@Min(0) @Max(10) class Digit { }
+		final long failures = ValidationException.FAILURES.get(Digit.class).sum();
+		assertThat(IntRule.tryApplyRulesFor(Digit.class, 11, _result), is(11));
+		assertThat(_result.isValid(), is(false));
+		assertThat(_result.getTarget(), is(sameInstance(Digit.class)));
+		assertThat(ValidationException.FAILURES.get(Digit.class).sum(), is(failures));
+
+		// The message is built lazily, from an exception that is not counted as another failure
+		assertThat(_result.getMessage(), is("Digit: 11.0 > 10.0"));
+		assertThat(ValidationException.FAILURES.get(Digit.class).sum(), is(failures));
+	}
+
+	@Test public void shouldStopAtFirstFailure()
+	{
+		@Min(0) @Max(-1) @Floor(5) class Impossible { }
+		assertThat(LongRule.tryApplyRulesFor(Impossible.class, -3L, _result), is(-3L));
+		assertThat(_result.getMessage(), is("Impossible: -3.0 < 0.0"));
+		assertThat(DoubleRule.tryApplyRulesFor(Impossible.class, 3.0, _result), is(3.0));
+		assertThat(_result.getMessage(), is("Impossible: 3.0 > -1.0"));
+	}
+
+	@Test public void shouldNormalizeValidValues()
+	{
+		@Trim @LowerCase @Chars("abc") class Letters { }
+		assertThat(StringRule.tryApplyRulesFor(Letters.class, " ABC ", _result), is("abc"));
+		assertThat(_result.isValid(), is(true));
+		assertThat(_result.getMessage(), is(nullValue()));
+	}
+
+	@Test public void shouldApplyCustomRulesWithoutExceptions()
+	{
+		final IntValidator even = (target, value) ->
+		{
+			if (value % 2 != 0) { throw new ValidationException(target, value + " is odd"); }
+		};
+		final IntNormalizer half = value -> value / 2;
+		_assertEquivalent(IntRule.Chain.together(new Min.Rule(-10), IntRule.Chain.together(even, half)));
+
+		final LongRule positive = (target, value) ->
+		{
+			if (value <= 0) { throw new ValidationException(target, value + " <= 0"); }
+			return value;
+		};
+		final LongNormalizer twice = value -> value * 2;
+		_assertEquivalent(LongRule.Chain.together(positive, twice));
+
+		final DoubleValidator finite = (target, value) ->
+		{
+			if (Double.isInfinite(value)) { throw new ValidationException(target, value + " is infinite"); }
+		};
+		final DoubleNormalizer negate = value -> -value;
+		_assertEquivalent(DoubleRule.Chain.together(finite, negate));
+
+		final StringValidator notEmpty = (target, value) ->
+		{
+			if (value.isEmpty()) { throw new ValidationException(target, "empty"); }
+		};
+		final StringNormalizer upper = String::toUpperCase;
+		_assertEquivalent(StringRule.Chain.together(notEmpty, upper));
+	}
+}
@@ -13,4 +13,53 @@ public class ValidationExceptionTest
 		final ValidationException x = new ValidationException(X.class, "test");
 		assertThat(x.getMessage(), is("X: test"));
 	}
+
+	@Test public void shouldCountFailuresForEachClass()
+	{
+		@Min(0) class Y { }
+		assertThat(ValidationException.FAILURES.get(Y.class).sum(), is(0L));
+		for (int i = 0; i < 2; i++)
+		{
+			try { IntRule.applyRulesFor(Y.class, -1); }
+			catch (final ValidationException expected) { }
+		}
+		assertThat(ValidationException.FAILURES.get(Y.class).sum(), is(2L));
+	}
+
+	@Test public void shouldNotCountExceptionsThatDoNotLeaveTheRules()
+	{
+		class Y { }
+		new ValidationException(Y.class, "test");
+		assertThat(ValidationException.FAILURES.get(Y.class).sum(), is(0L));
+	}
+
+	@Test public void shouldHaveStackTraceByDefault()
+	{
+		class Z { }
+		assertThat(new ValidationException(Z.class, "test").getStackTrace().length, is(not(0)));
+	}
+
+	@Test public void shouldSkipStackTraceWhenStackless()
+	{
+		class Z { }
+		final ValidationException x = new ValidationException(Z.class, "test", false);
+		assertThat(x.getStackTrace().length, is(0));
+		assertThat(x.getMessage(), is("Z: test"));
+	}
+
+	@Test public void shouldNoteInnermostRuleThatRejectedValue()
+	{
+		class W { }
+		final IntRule any = (target, value) -> value;
+		final IntRule even = (target, value) ->
+		{
+			if (value % 2 != 0) { throw new ValidationException(target, value + " is odd", false); }
+			return value;
+		};
+		final IntRule chain = IntRule.Chain.together(any, IntRule.Chain.together(even, any));
+		ValidationException failure = null;
+		try { chain.applyTo(W.class, 3); }
+		catch (final ValidationException e) { failure = e; }
+		assertThat(failure.rule(), is(sameInstance(even)));
+	}
 }
@@ -0,0 +1,54 @@
+package org.udtopia.rules;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.Value;
+
+/**
+ * Compare the cost of rejecting invalid values by catching {@link ValidationException}, versus
+ * {@linkplain ValidationResult without exceptions}.
+ */
+public class ValidationFailureBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	@Min(0) @Max(100)
+	static final @Value class Percent { }
+
+	@Chars("0123456789abcdef")
+	static final @Value class Hex { }
+
+	private final ValidationResult _result = new ValidationResult();
+
+	@Benchmark public boolean invalidIntCaught()
+	{
+		try
+		{
+			IntRule.applyRulesFor(Percent.class, -RAND.nextInt(100) - 1);
+			return true;
+		}
+		catch (final ValidationException e) { return false; }
+	}
+
+	@Benchmark public boolean invalidIntTried()
+	{
+		IntRule.tryApplyRulesFor(Percent.class, -RAND.nextInt(100) - 1, _result);
+		return _result.isValid();
+	}
+
+	@Benchmark public boolean invalidStringCaught()
+	{
+		try
+		{
+			StringRule.applyRulesFor(Hex.class, RAND_STR.get());
+			return true;
+		}
+		catch (final ValidationException e) { return false; }
+	}
+
+	@Benchmark public boolean invalidStringTried()
+	{
+		StringRule.tryApplyRulesFor(Hex.class, RAND_STR.get(), _result);
+		return _result.isValid();
+	}
+}
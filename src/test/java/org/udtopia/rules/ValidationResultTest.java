@@ -0,0 +1,63 @@
+package org.udtopia.rules;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+public class ValidationResultTest
+{
+	private final ValidationResult _result = new ValidationResult();
+
+	@Test public void shouldBeValidWhenCreated()
+	{
+		assertThat(_result.isValid(), is(true));
+		assertThat(_result.getTarget(), is(nullValue()));
+		assertThat(_result.getMessage(), is(nullValue()));
+		assertThat(_result.toString(), is("valid"));
+	}
+
+	@Test public void shouldDescribeRejectedInt()
+	{
+		_result.rejectInt(getClass(), new Min.Rule(5), 4);
+		assertThat(_result.getMessage(), is("ValidationResultTest: 4.0 < 5.0"));
+		assertThat(_result.toString(), is("invalid: @Min(5.0)"));
+	}
+
+	@Test public void shouldDescribeRejectedLong()
+	{
+		_result.rejectLong(getClass(), new MultipleOf.Rule(3), 4L);
+		assertThat(_result.getMessage(), is("ValidationResultTest: 4 is not a multiple of 3"));
+		assertThat(_result.toString(), is("invalid: @MultipleOf(3)"));
+	}
+
+	@Test public void shouldDescribeRejectedDouble()
+	{
+		_result.rejectDouble(getClass(), new LessThan.Rule(1), 1.5);
+		assertThat(_result.getMessage(), is("ValidationResultTest: 1.5 >= 1.0"));
+		assertThat(_result.toString(), is("invalid: @LessThan(1.0)"));
+	}
+
+	@Test public void shouldDescribeRejectedString()
+	{
+		_result.rejectString(getClass(), new Matching.Rule("a+"), "b");
+		assertThat(_result.getMessage(), is("ValidationResultTest: \"b\" does not match pattern: a+"));
+		assertThat(_result.toString(), is("invalid: @Matching(a+)"));
+	}
+
+	@Test public void shouldDescribeRuleThatNoLongerRejectsValue()
+	{
+		final StringRule flaky = (target, value) -> value;
+		_result.rejectString(getClass(), flaky, "b");
+		assertThat(_result.getMessage(), startsWith("ValidationResultTest: rejected by "));
+	}
+
+	@Test public void shouldBeValidAfterReset()
+	{
+		_result.rejectInt(getClass(), new Min.Rule(5), 4);
+		assertThat(_result.isValid(), is(false));
+		_result.reset();
+		assertThat(_result.isValid(), is(true));
+		assertThat(_result.getMessage(), is(nullValue()));
+	}
+}
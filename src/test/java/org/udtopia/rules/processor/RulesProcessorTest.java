@@ -0,0 +1,188 @@
+package org.udtopia.rules.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.udtopia.rules.GeneratedRules;
+import org.udtopia.rules.IntRule;
+import org.udtopia.rules.Min;
+import org.udtopia.rules.RulesInfo;
+import org.udtopia.rules.StringRule;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Arrays.*;
+import static java.util.stream.Collectors.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+public class RulesProcessorTest
+{
+	@Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final DiagnosticCollector<JavaFileObject> _diagnostics = new DiagnosticCollector<>();
+
+	private void _source(final String path, final String... lines) throws IOException
+	{
+		final Path file = folder.getRoot().toPath().resolve("src").resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, asList(lines), UTF_8);
+	}
+
+	// Compile all sources, with or without the rules processor, and return the output directory
+	private File _compile(final boolean generateRules) throws IOException
+	{
+		final File out = new File(folder.getRoot(), generateRules ? "generated" : "reflected");
+		assertThat(out.mkdir(), is(true));
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(_diagnostics, null, UTF_8);
+			Stream<Path> paths = Files.walk(folder.getRoot().toPath().resolve("src")))
+		{
+			final List<File> sources = paths.filter(Files::isRegularFile).map(Path::toFile).collect(toList());
+			final List<String> options = new ArrayList<>(asList(
+				"-d", out.getPath(),
+				"-classpath", System.getProperty("java.class.path")));
+			if (!generateRules) { options.add("-proc:none"); }
+			final JavaCompiler.CompilationTask task = compiler.getTask(
+				null, files, _diagnostics, options, null, files.getJavaFileObjectsFromFiles(sources));
+			if (generateRules) { task.setProcessors(asList(new RulesProcessor())); }
+			assertThat(_diagnostics.getDiagnostics().toString(), task.call(), is(true));
+		}
+		return out;
+	}
+
+	private static String _read(final File out, final String path) throws IOException
+	{
+		return new String(Files.readAllBytes(new File(out, path).toPath()), UTF_8);
+	}
+
+	private static Class<?> _load(final File out, final String className) throws Exception
+	{
+		final ClassLoader loader = new URLClassLoader(
+			new URL[] { out.toURI().toURL() },
+			RulesProcessorTest.class.getClassLoader());
+		return Class.forName(className, true, loader);
+	}
+
+	private static String _describe(final Class<?> annotatedClass, final Class<?> ruleType)
+	{
+		final List<String> rules = new ArrayList<>();
+		RulesInfo.forEach(info ->
+		{
+			if (info.getAnnotatedClass() == annotatedClass && info.getRuleType() == ruleType)
+			{
+				rules.add(info.getRules());
+			}
+		});
+		return rules.toString();
+	}
+
+	@Test public void shouldGenerateBuiltInRules() throws IOException
+	{
+		_source("p/Score.java",
+			"package p;",
+			"import org.udtopia.rules.*;",
+			"@Min(0) @Max(value = 100, when = ApplyRuleWhen.ASSERTS_ENABLED) @Round(toNearest = 0.5) @Deprecated",
+			"public final class Score",
+			"{",
+			"	@Trim @Replace(pattern = \"\\\\s+\", with = \" \") @Chars(\"ab\\\"c\") @LowerCase(locale = \"tr\")",
+			"	public static final class Name { }",
+			"}");
+		final File out = _compile(true);
+		assertThat(_read(out, "p/Score_Rules.java"), allOf(
+			containsString("package p;"),
+			containsString("public final class Score_Rules extends GeneratedRules"),
+			containsString("rules.add(min(0.0));"),
+			containsString("if (applies(ApplyRuleWhen.ASSERTS_ENABLED, annotatedClass)) { rules.add(max(100.0)); }"),
+			containsString("rules.add(round(0.5));")));
+		assertThat(_read(out, "p/Score$Name_Rules.java"), allOf(
+			containsString("public final class Score$Name_Rules extends GeneratedRules"),
+			containsString("rules.add(trim());"),
+			containsString("rules.add(replace(\"\\\\s+\", \" \"));"),
+			containsString("rules.add(chars(\"ab\\\"c\"));"),
+			containsString("rules.add(lowerCase(\"tr\"));")));
+		assertThat(_read(out, GeneratedRules.INDEX_RESOURCE), is("p.Score\np.Score$Name\n"));
+	}
+
+	@Test public void shouldBuildSameRulesAsReflection() throws Exception
+	{
+		_source("p/Parent.java",
+			"package p;",
+			"import org.udtopia.rules.*;",
+			"@Deprecated @Min(1) @Max(9) @Trim",
+			"public class Parent { }");
+		_source("p/Child.java",
+			"package p;",
+			"import org.udtopia.rules.*;",
+			"@UpperCase @Max(5) @NotMatching(\"x\") @MultipleOf(2)",
+			"public final class Child extends Parent { }");
+		final Class<?> generated = _load(_compile(true), "p.Child");
+		final Class<?> reflected = _load(_compile(false), "p.Child");
+		final Class<?> rules = Class.forName("p.Child_Rules", false, generated.getClassLoader());
+		assertThat(GeneratedRules.class.isAssignableFrom(rules), is(true));
+
+		for (final Class<?> child: asList(generated, reflected))
+		{
+			assertThat(IntRule.applyRulesFor(child, 4), is(4));
+			assertThat(StringRule.applyRulesFor(child, " ab "), is("AB"));
+		}
+		assertThat(_describe(generated, IntRule.class), is(_describe(reflected, IntRule.class)));
+		assertThat(_describe(generated, StringRule.class), is(_describe(reflected, StringRule.class)));
+		assertThat(_describe(generated, IntRule.class), is("[@Min(1.0) -> @Max(5.0) -> @MultipleOf(2)]"));
+	}
+
+	@Test public void shouldSkipClassesWithoutBuiltInRulesOnConcreteClasses() throws IOException
+	{
+		_source("p/Plain.java", "package p;", "@Deprecated public class Plain { }");
+		_source("p/Base.java", "package p;", "@org.udtopia.rules.Min(1) public abstract class Base { }");
+		_source("p/Shape.java", "package p;", "@org.udtopia.rules.Min(1) public interface Shape { }");
+		_source("p/Custom.java",
+			"package p;",
+			"@org.udtopia.rules.Trim @org.udtopia.example.custom.Kewl public final class Custom { }");
+		final File out = _compile(true);
+		assertThat(new File(out, "p/Plain.class").exists(), is(true));
+		for (final String name: asList("Plain", "Base", "Shape", "Custom"))
+		{
+			assertThat(name, new File(out, "p/" + name + "_Rules.java").exists(), is(false));
+		}
+	}
+
+	@Test public void shouldGenerateRulesInDefaultPackage() throws IOException
+	{
+		_source("Slug.java", "@org.udtopia.rules.Trim public final class Slug { }");
+		assertThat(_read(_compile(true), "Slug_Rules.java"), startsWith("import java.util.List;"));
+	}
+
+	@Test public void shouldWarnWhenRulesCannotBeGenerated() throws IOException
+	{
+		_source("p/Clash.java", "package p;", "@org.udtopia.rules.Trim public final class Clash { }");
+		_source("p/Clash_Rules.java", "package p;", "public final class Clash_Rules { }");
+		_compile(true);
+		assertThat(_diagnostics.getDiagnostics().stream()
+			.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.WARNING)
+			.map(diagnostic -> diagnostic.getMessage(null))
+			.collect(joining()), containsString("Cannot generate rules"));
+	}
+
+	@Test public void shouldOnlySupportBuiltInRuleAnnotations()
+	{
+		final Set<String> supported = new RulesProcessor().getSupportedAnnotationTypes();
+		assertThat(supported, hasItem(Min.class.getCanonicalName()));
+		assertThat(supported, not(hasItem("*")));
+	}
+}
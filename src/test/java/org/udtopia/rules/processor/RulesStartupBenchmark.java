@@ -0,0 +1,118 @@
+package org.udtopia.rules.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.udtopia.BaseBenchmark;
+import org.udtopia.rules.GeneratedRules;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Arrays.*;
+import static java.util.stream.Collectors.*;
+
+/**
+ * Compare the time to construct the first instance of each of {@value #_CLASS_COUNT} UDT classes, when their rules
+ * are generated at compile time by {@link RulesProcessor}, or found by reflection.
+ * Each fork measures a single invocation without warmup, as on a cold start.
+ * <p>
+ * Without generated classes, rules are found by reflection either with no {@linkplain GeneratedRules#INDEX_RESOURCE
+ * index} on the classpath, as when the processor is not used, or with an index that lists other classes, as when
+ * only some libraries use it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class RulesStartupBenchmark extends BaseBenchmark
+{
+	public static void main(final String[] args) { runBenchmark(args); }
+
+	private static final int _CLASS_COUNT = 500;
+
+	@Param({"GENERATED", "REFLECTION", "INDEXED_ELSEWHERE"}) String rulesSource;
+
+	private Path _classes;
+
+	@Setup public void compileClasses() throws IOException
+	{
+		_classes = Files.createTempDirectory(getClass().getSimpleName());
+		final Path sources = Files.createDirectories(_classes.resolve("startup"));
+		for (int i = 0; i < _CLASS_COUNT; i++)
+		{
+			Files.write(sources.resolve("Udt" + i + ".java"), asList(
+				"package startup;",
+				"import org.udtopia.pure.PureDouble;",
+				"import org.udtopia.rules.*;",
+				"@Min(" + -i + ") @Max(" + i + ") @Round(toNearest = 0.5)",
+				"public final class Udt" + i + " extends PureDouble<Udt" + i + ">",
+				"{",
+				"	public Udt" + i + "(final double raw) { super(Udt" + i + "::new, raw); }",
+				"}"), UTF_8);
+		}
+
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, UTF_8);
+			Stream<Path> paths = Files.list(sources))
+		{
+			final List<File> sourceFiles = paths.map(Path::toFile).collect(toList());
+			final List<String> options = new ArrayList<>(asList(
+				"-d", _classes.toString(),
+				"-classpath", System.getProperty("java.class.path")));
+			if (!rulesSource.equals("GENERATED")) { options.add("-proc:none"); }
+			final JavaCompiler.CompilationTask task = compiler.getTask(
+				null, files, null, options, null, files.getJavaFileObjectsFromFiles(sourceFiles));
+			task.setProcessors(asList(new RulesProcessor()));
+			if (!task.call()) { throw new IllegalStateException("Cannot compile benchmark classes"); }
+		}
+		if (rulesSource.equals("INDEXED_ELSEWHERE"))
+		{
+			final Path index = _classes.resolve(GeneratedRules.INDEX_RESOURCE);
+			Files.createDirectories(index.getParent());
+			Files.write(index, asList("elsewhere.Udt"), UTF_8);
+		}
+	}
+
+	@TearDown public void deleteClasses() throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(_classes))
+		{
+			for (final Path path: paths.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) { Files.delete(path); }
+		}
+	}
+
+	@Benchmark public Object constructFirstInstances() throws Exception
+	{
+		Object last = null;
+		final URL[] classpath = { _classes.toUri().toURL() };
+		try (URLClassLoader loader = new URLClassLoader(classpath, getClass().getClassLoader()))
+		{
+			for (int i = 0; i < _CLASS_COUNT; i++)
+			{
+				last = Class.forName("startup.Udt" + i, true, loader).getConstructor(double.class).newInstance(0.0);
+			}
+		}
+		return last;
+	}
+}